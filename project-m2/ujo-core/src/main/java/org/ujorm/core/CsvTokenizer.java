@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A buffered CSV tokenizer reading rows directly from a Reader.
+ * A quoted value can contain the separator, a doubled quotation and line breaks,
+ * the line break inside a quoted value is normalized to the {@code '\n'} character.
+ * Rows are separated by the sequences {@code "\n"}, {@code "\r\n"} or {@code "\r"}.
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+final class CsvTokenizer {
+
+    /** An empty line */
+    static final String[] EMPTY_LINE = new String[0];
+    /** End of the input */
+    private static final int EOF = -1;
+
+    /** Data source */
+    @NotNull
+    private final Reader reader;
+    /** Value separator */
+    private final char separator;
+    /** Quotation character */
+    private final char quotation;
+    /** Input buffer */
+    @NotNull
+    private final char[] buffer;
+    /** Current cell value */
+    @NotNull
+    private final StringBuilder value = new StringBuilder(32);
+    /** Values of the current row */
+    @NotNull
+    private final List<String> cells = new ArrayList<>();
+    /** A raw content of the current row, if required */
+    @Nullable
+    private StringBuilder raw;
+    /** Position in the buffer */
+    private int position;
+    /** Count of valid characters in the buffer */
+    private int limit;
+    /** Number of the last line */
+    private int lineNumber;
+
+    CsvTokenizer(@NotNull final Reader reader, final char separator, final char quotation) {
+        this.reader = reader;
+        this.separator = separator;
+        this.quotation = quotation;
+        this.buffer = new char[8192];
+    }
+
+    /** Capture a raw content of the next row, see the method {@link #getRawRow()} */
+    void captureRawRow() {
+        raw = new StringBuilder(64);
+    }
+
+    /** Returns a raw content of the last row captured by the method {@link #captureRawRow()} */
+    @NotNull
+    String getRawRow() {
+        final String result = raw != null ? raw.toString() : "";
+        raw = null;
+        return result;
+    }
+
+    /** Returns a number of the last line, the first line has the number 1 */
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /** Read values of the next row.
+     * @return Values of the row, the {@link #EMPTY_LINE} for an empty line
+     * or the {@code null} value at the end of the input.
+     */
+    @Nullable
+    String[] nextRow() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        ++lineNumber;
+        if (c == '\n' || c == '\r') {
+            skipLineFeed(c);
+            return EMPTY_LINE;
+        }
+
+        boolean inside = false;
+        for (; c != EOF; c = read()) {
+            if (inside) { // Inside a cell value:
+                if (c == quotation) {
+                    final int next = peek();
+                    if (next == quotation) {
+                        read();
+                    } else {
+                        inside = false;
+                        continue;
+                    }
+                } else if (c == '\r' || c == '\n') {
+                    skipLineFeed(c);
+                    ++lineNumber;
+                    c = '\n';
+                }
+                value.append((char) c);
+            } else if (c == separator) {
+                addCell();
+            } else if (c == quotation) {
+                inside = true;
+            } else if (c == '\n' || c == '\r') {
+                skipLineFeed(c);
+                break;
+            } else {
+                value.append((char) c);
+            }
+        }
+        addCell();
+
+        final String[] result = cells.toArray(new String[cells.size()]);
+        cells.clear();
+        return result;
+    }
+
+    /** Add the current value to the row */
+    private void addCell() {
+        cells.add(value.toString());
+        value.setLength(0);
+    }
+
+    /** Skip the line feed of the sequence CR LF */
+    private void skipLineFeed(final int c) throws IOException {
+        if (c == '\r' && peek() == '\n') {
+            read();
+        }
+    }
+
+    /** Read a next character */
+    private int read() throws IOException {
+        if (position >= limit && !fill()) {
+            return EOF;
+        }
+        final char result = buffer[position++];
+        if (raw != null && result != '\n' && result != '\r') {
+            raw.append(result);
+        }
+        return result;
+    }
+
+    /** Get a next character without moving the position */
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position];
+    }
+
+    /** Fill the buffer */
+    private boolean fill() throws IOException {
+        final int count = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+}
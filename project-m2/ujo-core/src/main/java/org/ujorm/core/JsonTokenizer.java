@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A buffered pull tokenizer of the JSON format reading tokens directly from a Reader.
+ * The separators {@code ','} and {@code ':'} are not returned as tokens,
+ * but their positions are checked by a state of the current object or array.
+ * A missing or an extra separator throws an exception.
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+final class JsonTokenizer {
+
+    /** End of the input */
+    private static final int EOF = -1;
+
+    /** The state: a first value (or a member name) or the end of the container is expected */
+    private static final byte FIRST = 0;
+    /** The state: a separator {@code ','} or the end of the container is expected */
+    private static final byte AFTER_VALUE = 1;
+    /** The state: a value (or a member name) is expected after the separator {@code ','} */
+    private static final byte AFTER_COMMA = 2;
+    /** The state: a separator {@code ':'} is expected after the member name */
+    private static final byte AFTER_NAME = 3;
+    /** The state: a member value is expected after the separator {@code ':'} */
+    private static final byte AFTER_COLON = 4;
+
+    /** JSON tokens */
+    enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        STRING,
+        NUMBER,
+        TRUE,
+        FALSE,
+        NULL,
+        EOF;
+
+        /** Is the token a scalar value? */
+        boolean isScalar() {
+            return this == STRING || this == NUMBER || this == TRUE || this == FALSE;
+        }
+    }
+
+    /** Data source */
+    @NotNull
+    private final Reader reader;
+    /** Input buffer */
+    @NotNull
+    private final char[] buffer;
+    /** A text of the last token */
+    @NotNull
+    private final StringBuilder text = new StringBuilder(32);
+    /** Position in the buffer */
+    private int position;
+    /** Count of valid characters in the buffer */
+    private int limit;
+    /** Open containers, where the {@code true} value means an object */
+    @NotNull
+    private boolean[] objects = new boolean[16];
+    /** Count of the open containers */
+    private int depth;
+    /** State of the current container */
+    private byte state = FIRST;
+
+    JsonTokenizer(@NotNull final Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[8192];
+    }
+
+    /** Read the next token */
+    @NotNull
+    Token next() throws IOException {
+        int c = readSignificant();
+        if (c == ',') {
+            if (state != AFTER_VALUE || depth == 0) {
+                throw new IllegalUjormException("Unexpected separator ','");
+            }
+            state = AFTER_COMMA;
+            c = readSignificant();
+        } else if (c == ':') {
+            if (state != AFTER_NAME) {
+                throw new IllegalUjormException("Unexpected separator ':'");
+            }
+            state = AFTER_COLON;
+            c = readSignificant();
+        } else if (state == AFTER_NAME) {
+            throw new IllegalUjormException("A separator ':' is expected");
+        }
+        switch (c) {
+            case EOF:
+                if (depth > 0) {
+                    throw new IllegalUjormException("Unexpected end of the JSON");
+                }
+                return Token.EOF;
+            case '}':
+            case ']':
+                final boolean object = c == '}';
+                if (depth == 0 || objects[depth - 1] != object || (state != FIRST && state != AFTER_VALUE)) {
+                    throw new IllegalUjormException("Unexpected character '" + (char) c + "'");
+                }
+                --depth;
+                state = AFTER_VALUE;
+                return object ? Token.END_OBJECT : Token.END_ARRAY;
+            default:
+                if (state == AFTER_VALUE) {
+                    throw new IllegalUjormException(depth > 0
+                            ? "A separator ',' is expected"
+                            : "Unexpected character '" + (char) c + "' after the JSON value");
+                }
+                final Token result = readValue(c);
+                if (depth > 0 && objects[depth - 1] && state != AFTER_COLON) {
+                    if (result != Token.STRING) {
+                        throw new IllegalUjormException("A member name is expected instead of the " + result);
+                    }
+                    state = AFTER_NAME;
+                } else if (result == Token.BEGIN_OBJECT || result == Token.BEGIN_ARRAY) {
+                    if (depth == objects.length) {
+                        objects = Arrays.copyOf(objects, depth << 1);
+                    }
+                    objects[depth++] = result == Token.BEGIN_OBJECT;
+                    state = FIRST;
+                } else {
+                    state = AFTER_VALUE;
+                }
+                return result;
+        }
+    }
+
+    /** Read a value token or a member name starting by the character */
+    @NotNull
+    private Token readValue(final int c) throws IOException {
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                readString();
+                return Token.STRING;
+            case 't':
+                readLiteral("true");
+                return Token.TRUE;
+            case 'f':
+                readLiteral("false");
+                return Token.FALSE;
+            case 'n':
+                readLiteral("null");
+                return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber(c);
+                    return Token.NUMBER;
+                }
+                throw new IllegalUjormException("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    /** Read a next character without white spaces */
+    private int readSignificant() throws IOException {
+        int c = read();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            c = read();
+        }
+        return c;
+    }
+
+    /** Returns a text of the last scalar token */
+    @NotNull
+    String getText() {
+        return text.toString();
+    }
+
+    /** Skip a value of the token including nested objects and arrays */
+    void skipValue(@NotNull final Token token) throws IOException {
+        int level = 0;
+        for (Token t = token; ; t = next()) {
+            switch (t) {
+                case BEGIN_OBJECT:
+                case BEGIN_ARRAY:
+                    ++level;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    --level;
+                    break;
+                case EOF:
+                    throw new IllegalUjormException("Unexpected end of the JSON");
+                default:
+                    break;
+            }
+            if (level <= 0) {
+                return;
+            }
+        }
+    }
+
+    /** Read a string value without the first quotation */
+    private void readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            if (position >= limit && !fill()) {
+                throw new IllegalUjormException("Unterminated string: " + text);
+            }
+            // Append the run of characters without escaping:
+            final int start = position;
+            char c = 0;
+            while (position < limit && (c = buffer[position]) != '"' && c != '\\') {
+                ++position;
+            }
+            text.append(buffer, start, position - start);
+            if (position < limit) {
+                ++position;
+                if (c == '"') {
+                    return;
+                }
+                text.append(readEscape());
+            }
+        }
+    }
+
+    /** Read an escaped character */
+    private char readEscape() throws IOException {
+        final int c = read();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int result = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw new IllegalUjormException("Wrong unicode escape in: " + text);
+                    }
+                    result = (result << 4) + digit;
+                }
+                return (char) result;
+            default:
+                throw new IllegalUjormException("Wrong escape character '" + (char) c + "' in: " + text);
+        }
+    }
+
+    /** Read a number */
+    private void readNumber(int c) throws IOException {
+        text.setLength(0);
+        text.append((char) c);
+        for (c = peek(); (c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '-' || c == '+'; c = peek()) {
+            text.append((char) c);
+            ++position;
+        }
+    }
+
+    /** Read the rest of a literal where the first character is consumed */
+    private void readLiteral(@NotNull final String literal) throws IOException {
+        for (int i = 1; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw new IllegalUjormException("Wrong literal, expected: " + literal);
+            }
+        }
+        text.setLength(0);
+        text.append(literal);
+    }
+
+    /** Read a next character */
+    private int read() throws IOException {
+        if (position >= limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position++];
+    }
+
+    /** Get a next character without moving the position */
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position];
+    }
+
+    /** Fill the buffer */
+    private boolean fill() throws IOException {
+        final int count = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+}
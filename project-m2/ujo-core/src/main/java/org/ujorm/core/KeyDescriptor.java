@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable metadata of a direct Key registered by the {@link UjoManager}.
+ * The descriptor contains flags of the annotations
+ * {@link org.ujorm.core.annot.Transient Transient},
+ * {@link org.ujorm.core.annot.XmlAttribute XmlAttribute} and
+ * {@link org.ujorm.core.annot.XmlElementBody XmlElementBody}
+ * and a lazily resolved value codec of the Key.
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+public final class KeyDescriptor {
+
+    /** A descriptor of the Key without any flag */
+    public static final KeyDescriptor DEFAULT = new KeyDescriptor(false, false, false, null);
+    /** A descriptor of the transient Key */
+    public static final KeyDescriptor TRANSIENT = new KeyDescriptor(true, false, false, null);
+    /** A descriptor of the XML attribute */
+    public static final KeyDescriptor XML_ATTRIBUTE = new KeyDescriptor(false, true, false, null);
+    /** A descriptor of the XML element body */
+    public static final KeyDescriptor XML_ELEMENT_BODY = new KeyDescriptor(false, false, true, null);
+
+    /** Is the key transient? */
+    private final boolean transientKey;
+    /** Is the key an XML attribute? */
+    private final boolean xmlAttribute;
+    /** Is the key an XML element body? */
+    private final boolean xmlElementBody;
+    /** A text codec of the key value */
+    @Nullable
+    private final ValueCodec<?> codec;
+
+    private KeyDescriptor
+            ( final boolean transientKey
+            , final boolean xmlAttribute
+            , final boolean xmlElementBody
+            , @Nullable final ValueCodec<?> codec) {
+        this.transientKey = transientKey;
+        this.xmlAttribute = xmlAttribute;
+        this.xmlElementBody = xmlElementBody;
+        this.codec = codec;
+    }
+
+    /** Is the key transient? */
+    public boolean isTransient() {
+        return transientKey;
+    }
+
+    /** Is the key an XML attribute? */
+    public boolean isXmlAttribute() {
+        return xmlAttribute;
+    }
+
+    /** Is the key an XML element body candidate? */
+    public boolean isXmlElementBody() {
+        return xmlElementBody;
+    }
+
+    /** Returns a text codec of the key value or the {@code null} if it is not resolved yet.
+     * @see UjoManager#getCodec(org.ujorm.Key)
+     */
+    @Nullable
+    public ValueCodec<?> getCodec() {
+        return codec;
+    }
+
+    /** Returns a copy of the descriptor with a new codec */
+    @NotNull
+    public KeyDescriptor withCodec(@Nullable final ValueCodec<?> codec) {
+        return new KeyDescriptor(transientKey, xmlAttribute, xmlElementBody, codec);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "transient=" + transientKey
+            + ", xmlAttribute=" + xmlAttribute
+            + ", xmlElementBody=" + xmlElementBody;
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
@@ -63,6 +64,14 @@ public class KeyRing<U extends Ujo> implements KeyList<U>, Serializable {
     transient protected Key<U, ?>[] keys;
     /** Default hash code. */
     transient private int hashCode;
+    /** An open-addressing index of the key names,
+     * where each item contains a key position increased by one (zero means an empty slot).
+     * @see #findPosition(String) */
+    transient private volatile int[] nameIndex;
+    /** A cache of resolved composite keys, where the map key is a path of names */
+    transient private volatile ConcurrentHashMap<String, Key<U, ?>> pathCache;
+    /** Maximal size of the composite key cache */
+    protected static final int PATH_CACHE_LIMIT = 1024;
 
     /**
      * Constructor
@@ -104,21 +113,58 @@ public class KeyRing<U extends Ujo> implements KeyList<U>, Serializable {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Key<U, T> findDirectKey(final String name, final boolean throwException) throws IllegalArgumentException {
-        int nameHash = name.hashCode();
-
-        for (Key prop : keys) {
-            if (prop.getName().hashCode() == nameHash // speed up
-                    && prop.getName().equals(name)) {
-                return prop;
-            }
+        final int position = findPosition(name);
+        if (position >= 0) {
+            return (Key<U, T>) keys[position];
         }
-
         if (throwException) {
             throwException(name, type, null);
         }
         return null;
     }
 
+    /** Returns a position of the first key with the required name or {@code -1} if no key was found. */
+    private int findPosition(@NotNull final String name) {
+        final int[] index = getNameIndex();
+        final int mask = index.length - 1;
+        for (int i = spread(name.hashCode()) & mask; ; i = (i + 1) & mask) {
+            final int position = index[i] - 1;
+            if (position < 0) {
+                return position;
+            }
+            if (keys[position].getName().equals(name)) {
+                return position;
+            }
+        }
+    }
+
+    /** Returns an open-addressing index of key names, the first key wins for the same names. */
+    private int[] getNameIndex() {
+        int[] result = nameIndex;
+        if (result == null) {
+            result = new int[Integer.highestOneBit(Math.max(keys.length, 1) * 2) << 1];
+            final int mask = result.length - 1;
+            main:
+            for (int position = 0; position < keys.length; position++) {
+                final String name = keys[position].getName();
+                int i = spread(name.hashCode()) & mask;
+                for (; result[i] != 0; i = (i + 1) & mask) {
+                    if (keys[result[i] - 1].getName().equals(name)) {
+                        continue main;
+                    }
+                }
+                result[i] = position + 1;
+            }
+            nameIndex = result;
+        }
+        return result;
+    }
+
+    /** Spread bits of the hash code */
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
     @Override
     public final <T> Key<U, T> findDirectKey(final Ujo ujo, final String name, final boolean throwException) throws IllegalArgumentException {
         return findDirectKey(ujo, name, UjoAction.DUMMY, true, throwException);
@@ -138,13 +184,18 @@ public class KeyRing<U extends Ujo> implements KeyList<U>, Serializable {
         if (ujo == null) {
             return null;
         }
-        int nameHash = name.hashCode();
-
-        for (final Key prop : keys) {
-            if (prop.getName().hashCode() == nameHash // speed up
-            &&  prop.getName().equals(name)
-            && (getUjoManager().isXmlAttribute(prop) != result)) {
-                return prop;
+        final int position = findPosition(name);
+        if (position >= 0) {
+            if (getUjoManager().isXmlAttribute(keys[position]) != result) {
+                return (Key<U, T>) keys[position];
+            }
+            // Look for the next key with the same name:
+            for (int i = position + 1; i < keys.length; i++) {
+                final Key prop = keys[i];
+                if (prop.getName().equals(name)
+                && (getUjoManager().isXmlAttribute(prop) != result)) {
+                    return prop;
+                }
             }
         }
 
@@ -166,7 +217,24 @@ public class KeyRing<U extends Ujo> implements KeyList<U>, Serializable {
         if (names.indexOf(KeyRing.PROPERTY_SEPARATOR) < 0) {
             return findDirectKey(names, throwException);
         }
+        ConcurrentHashMap<String, Key<U, ?>> cache = pathCache;
+        if (cache == null) {
+            pathCache = cache = new ConcurrentHashMap<>();
+        }
+        final Key<U, ?> result = cache.get(names);
+        if (result != null) {
+            return (Key<U,T>) result;
+        }
+        final Key<U, T> newKey = findNoCache(names, throwException);
+        if (newKey != null && cache.size() < PATH_CACHE_LIMIT) {
+            cache.put(names, newKey);
+        }
+        return newKey;
+    }
 
+    /** Find <strong>indirect</strong> key by the name with no cache. */
+    @SuppressWarnings("unchecked")
+    private <T> Key<U,T> findNoCache(String names, boolean throwException) {
         Class ujoType = getType();
         int j, i = 0;
         List<Key> props = new ArrayList<>(8);
@@ -20,21 +20,35 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Rectangle;
 import java.io.File;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.ujorm.Key;
@@ -48,27 +62,70 @@ import org.ujorm.tools.msg.MsgFormatter;
 
 /**
  * Ujorm converter to a String format and back.
+ * A value codec is resolved once for each value type (and for each Key by the {@link UjoManager}),
+ * so the conversion of a value needs no type testing.
  * @author Pavel Ponec
+ * @see ValueCodec
  */
 public class UjoCoder {
 
     /** Date formatter and parser with second precision.
      * @see <a href="http://www.javacodegeeks.com/2010/07/java-best-practices-dateformat-in.html">Performacce tip</a>
+     * @deprecated The thread-safe formatter {@link #DATE_FORMAT} is used instead of
      */
+    @Deprecated
     public static final ThreadLocal<SimpleDateFormat> FORMAT_DATE = new ThreadLocal<SimpleDateFormat>() {
        @Override protected SimpleDateFormat initialValue() { return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS", Locale.ENGLISH); }
     };
 
     /** Date formatter and parser with daily accuracy.
      * @see <a href="http://www.javacodegeeks.com/2010/07/java-best-practices-dateformat-in.html">Performacce tip</a>
+     * @deprecated The thread-safe formatter {@link #DAY_FORMAT} is used instead of
      */
+    @Deprecated
     public static final ThreadLocal<SimpleDateFormat> FORMAT_DAY = new ThreadLocal<SimpleDateFormat>() {
        @Override protected SimpleDateFormat initialValue() { return new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH); }
     };
 
-    /** Constructor type */
+    /** A thread-safe formatter and parser of the {@link Date} with millisecond precision in the default time zone.
+     * @since 2.30 */
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS", Locale.ENGLISH);
+
+    /** A thread-safe formatter and parser of the {@link java.sql.Date} with daily accuracy.
+     * @since 2.30 */
+    public static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
+
+    /** A lenient parser of the {@link #DAY_FORMAT}, which accepts the same texts as the original {@link SimpleDateFormat}:
+     * numeric fields can have fewer digits and field values out of range are rolled over. */
+    private static final DateTimeFormatter DAY_PARSER = dayParser()
+            .toFormatter(Locale.ENGLISH)
+            .withResolverStyle(ResolverStyle.LENIENT);
+
+    /** A lenient parser of the {@link #DATE_FORMAT}, the milliseconds have one to three digits. */
+    private static final DateTimeFormatter DATE_PARSER = dayParser()
+            .appendLiteral('T')
+            .appendValue(ChronoField.HOUR_OF_DAY, 1, 2, SignStyle.NORMAL)
+            .appendLiteral(':')
+            .appendValue(ChronoField.MINUTE_OF_HOUR, 1, 2, SignStyle.NORMAL)
+            .appendLiteral(':')
+            .appendValue(ChronoField.SECOND_OF_MINUTE, 1, 2, SignStyle.NORMAL)
+            .appendLiteral('.')
+            .appendValue(ChronoField.MILLI_OF_SECOND, 1, 3, SignStyle.NORMAL)
+            .toFormatter(Locale.ENGLISH)
+            .withResolverStyle(ResolverStyle.LENIENT);
+
+    /** Constructor type
+     * @deprecated Constructors are called by a cached {@link MethodHandle}
+     */
+    @Deprecated
     public static final Class[] CONSTRUCTOR_TYPE = new Class[]{String.class};
 
+    /** A type of the String constructor */
+    private static final MethodType STRING_CONSTRUCTOR = MethodType.methodType(void.class, String.class);
+
+    /** Codecs by a value type */
+    private final Map<Class<?>, ValueCodec<?>> codecs = new ConcurrentHashMap<>();
+
     // === CONVERTING VALUES ===
 
     /** Returns a list separator */
@@ -81,90 +138,38 @@ public class UjoCoder {
      * @param value The value
      * @param regenerationTest Perform a decoding for an unknown data types.
      */
+    @SuppressWarnings("unchecked")
     public String encodeValue(Object value, final boolean regenerationTest) {
-        String result;
         if (value == null) {
-            result = null;
-        } else if (String.class==value.getClass()) {
-            result = (String) value;
-        } else if (value instanceof Number) {
-            result = String.valueOf(value);
-        } else if (byte[].class==value.getClass()) {
-            result = encodeBytes((byte[]) value);
-        } else if (char[].class==value.getClass()) {
-            result = new String((char[]) value);
-        } else if (Character.class==value.getClass()) {
-            result = Integer.toString(((Character) value).charValue());
-        } else if (Locale.class==value.getClass()) {
-            Locale locale = (Locale) value;
-            StringBuilder sb = new StringBuilder(10);
-            sb.append(locale.getLanguage());
-            String p = locale.getCountry();
-            if (Check.hasLength(p)) {
-                sb.append('-').append(p);
-                p = locale.getVariant();
-                if (Check.hasLength(p)) {
-                    sb.append('-').append(p);
-                }
-            }
-            result = sb.toString();
-        } else if (value instanceof Date) {
-            result = value instanceof java.sql.Date
-                    ? FORMAT_DAY.get().format((java.sql.Date) value)
-                    : FORMAT_DATE.get().format((Date) value)
-                    ;
-        } else if (value instanceof Temporal) {
-            result = value.toString();
-        } else if (value instanceof Color) {
-            result = Integer.toHexString(((Color) value).getRGB() & 0xffffff | 0x1000000).substring(1).toUpperCase();
-        } else if (value instanceof File) {
-            result = ((File) value).getPath();
-        } else if (value instanceof Dimension) {
-            result = ((Dimension) value).width + "," + ((Dimension) value).height;
-        } else if (value instanceof ValueWrapper) {
-            result = encodeValue(((ValueWrapper) value).readPersistentValue(), false);
-        } else if (value instanceof StringWrapper) {
-            result = ((StringWrapper) value).exportToString();
-        } else if (value instanceof Enum) {
-            result = ((Enum) value).name();
-        } else if (value instanceof Rectangle r) {
-            result = String.valueOf(r.x) +
-                    ',' +
-                    r.y +
-                    ',' +
-                    r.width +
-                    ',' +
-                    r.height
-                ;
-        } else if (value instanceof Class) {
-            result = ((Class) value).getName();
-        } else if (value instanceof Charset) {
-            result = ((Charset) value).name();
-        } else if (value instanceof List lvalue) {
-            StringBuilder lresult = new StringBuilder(64);
-            char separator = getSeparator();
-            int size = lvalue.size();
-            for (int i=0; i<size; i++) {
-                if (i>0) { lresult.append(separator); }
-                final String txt = encodeValue(lvalue.get(i), regenerationTest);
-                Assert.isFalse(regenerationTest && txt.indexOf(separator) >= 0
-                        , "The item of list '{}' must not contain the separator character '{}'"
-                        , txt
-                        , separator);
-                lresult.append(txt);
+            return null;
+        }
+        if (regenerationTest) {
+            if (value instanceof List) {
+                return encodeList((List) value, true);
             }
-            result = lresult.toString();
-        } else {
-            if (regenerationTest) {
-                try { // Testing of a regeneration:
-                    Constructor c = value.getClass().getConstructor(CONSTRUCTOR_TYPE);
-                } catch (RuntimeException | ReflectiveOperationException | OutOfMemoryError e) {
-                    throw new IllegalUjormException("Unsupported type: " + value.getClass().getName(), e);
-                }
+            final Class<?> type = value.getClass();
+            if (createCodec(type) == null && findConstructor(type) == null) {
+                throw new IllegalUjormException("Unsupported type: " + type.getName());
             }
-            result = String.valueOf(value);
         }
-        return result;
+        return ((ValueCodec<Object>) getCodec(value.getClass())).encode(value);
+    }
+
+    /** Convert list items to a String representation separated by the {@link #getSeparator() separator}. */
+    protected String encodeList(@NotNull final List<?> values, final boolean regenerationTest) {
+        final StringBuilder result = new StringBuilder(64);
+        final char separator = getSeparator();
+        final int size = values.size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) { result.append(separator); }
+            final String txt = encodeValue(values.get(i), regenerationTest);
+            Assert.isFalse(regenerationTest && txt.indexOf(separator) >= 0
+                    , "The item of list '{}' must not contain the separator character '{}'"
+                    , txt
+                    , separator);
+            result.append(txt);
+        }
+        return result.toString();
     }
 
     /** Restore an Object value from a String representation and write it into ujo.
@@ -175,206 +180,379 @@ public class UjoCoder {
             @NotNull final Key<?,T> key,
             @Nullable final String value,
             @Nullable final Class type) throws IllegalArgumentException {
-        if (key instanceof ListKey propertyList) {
-            if (Check.isEmpty(value)) {
-                return null;
-            }
-            List result = new ArrayList();
-            String separator = String.valueOf(getSeparator());
-            StringTokenizer st = new StringTokenizer(value, separator);
-            while (st.hasMoreTokens()) {
-                final String text = st.nextToken();
-                final Object val = decodeValue(propertyList.getItemType(), text);
-                result.add(val);
-            }
-            return (T) result;
+        if (key instanceof ListKey) {
+            return (T) decodeList(((ListKey<?,?>) key).getItemType(), value);
         } else {
-            final Object result = decodeValue(type != null ? type : key.getType(), value);
-            return (T) result;
+            return (T) getCodec(type != null ? type : key.getType()).decode(value);
         }
     }
 
+    /** Restore list items from a String representation separated by the {@link #getSeparator() separator}. */
+    @Nullable
+    protected List<Object> decodeList(@NotNull final Class<?> itemType, @Nullable final String value) {
+        if (Check.isEmpty(value)) {
+            return null;
+        }
+        final ValueCodec<?> codec = getCodec(itemType);
+        final List<Object> result = new ArrayList<>();
+        final StringTokenizer st = new StringTokenizer(value, String.valueOf(getSeparator()));
+        while (st.hasMoreTokens()) {
+            result.add(codec.decode(st.nextToken()));
+        }
+        return result;
+    }
 
     /** Restore an Object value from a String representation.
      * <br>If value can't be decoded, an IllegalArgumentException is throwed.
      */
-    @SuppressWarnings("unchecked")
     @Nullable
     public Object decodeValue(final Class type, final String aValue) throws IllegalArgumentException {
+        return getCodec(type).decode(aValue);
+    }
 
-        try {
-            if (aValue == null
-            ||  String.class==type) {
-                return aValue;
+    // === VALUE CODECS ===
+
+    /** Returns a cached codec of the value type
+     * @since 2.30
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> ValueCodec<T> getCodec(@NotNull final Class<T> type) {
+        ValueCodec<T> result = (ValueCodec<T>) codecs.get(type);
+        if (result == null) {
+            result = createCodec(type);
+            if (result == null) {
+                result = createConstructorCodec(type);
             }
-            if (aValue.isEmpty()) {
-                return null;
+            final ValueCodec<T> old = (ValueCodec<T>) codecs.putIfAbsent(type, result);
+            if (old != null) {
+                result = old;
             }
-            if (Integer.class==type) {
+        }
+        return result;
+    }
+
+    /** Create a new codec of the Key. A list key has got a codec of items
+     * separated by the {@link #getSeparator() separator},
+     * a value of a key subtype is encoded by a runtime class of the value.
+     * @since 2.30
+     * @see UjoManager#getCodec(org.ujorm.Key)
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> ValueCodec<T> createCodec(@NotNull final Key<?,T> key) {
+        if (key instanceof ListKey) {
+            final Class<?> itemType = ((ListKey<?,?>) key).getItemType();
+            getCodec(itemType); // Resolve the item codec
+            return new ValueCodec<>(key.getType()
+                    , v -> encodeList((List) v, false)
+                    , t -> (T) decodeList(itemType, t)
+                    , true);
+        }
+        final Class<T> type = key.getType();
+        final ValueCodec<T> result = getCodec(type);
+        return result.withEncoder(v -> v.getClass() == type
+                ? result.encode(v)
+                : encodeValue(v, false));
+    }
+
+    /** Create a new codec of the value type.
+     * @return The {@code null} value for an unknown type.
+     * @since 2.30
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected <T> ValueCodec<T> createCodec(@NotNull final Class<T> type) {
+        if (String.class == type) {
+            return codec(type, v -> (String) v, t -> (T) t, false);
+        }
+        if (Number.class.isAssignableFrom(type)) {
+            if (Integer.class == type) {
                 // Memory optimalization: returns the same instances in interval from -128 to 127, inclusive.
-                final int result = Integer.parseInt(aValue);
-                return result;
+                return codec(type, String::valueOf, t -> (T) Integer.valueOf(t));
             }
-            if (Number.class.isAssignableFrom(type)) {
-                if (Short.class==type) {
-                    final short result = Short.parseShort(aValue);
-                    return result;
-                }
-                if (Long.class==type) {
-                    final Long result = Long.valueOf(aValue);
-                    return result;
-                }
-                if (Float.class==type) {
-                    final Float result = new Float(aValue);
-                    return 0f==result ? 0F : result;
-                }
-                if (Double.class==type) {
-                    final Double result = new Double(aValue);
-                    return 0d==result ? 0D : result;
-                }
-                if (BigDecimal.class==type) {
-                    final BigDecimal result = new BigDecimal(aValue);
-                    return result;
-                }
-                if (true) {
-                    final Constructor constructor = type.getConstructor(CONSTRUCTOR_TYPE);
-                    final Object result = constructor.newInstance(aValue);
-                    return result;
-                }
+            if (Long.class == type) {
+                return codec(type, String::valueOf, t -> (T) Long.valueOf(t));
             }
-            if (Boolean.class==type) {
-                final Boolean result = Boolean.valueOf(aValue)
-                        || (aValue.length() == 1 && aValue.charAt(0) == '1');
-                return result;
+            if (Short.class == type) {
+                return codec(type, String::valueOf, t -> (T) Short.valueOf(t));
             }
-            if (Character.class==type) {
-                final char result = (char) Integer.parseInt(aValue);
-                return result;
+            if (Byte.class == type) {
+                return codec(type, String::valueOf, t -> (T) Byte.valueOf(t));
             }
-            if (byte[].class==type) {
-                final byte[] result = decodeBytes(aValue);
-                return result;
+            if (Float.class == type) {
+                return codec(type, String::valueOf, t -> {
+                    final Float result = Float.valueOf(t);
+                    return (T) (0f == result ? (Float) 0F : result);
+                });
             }
-            if (char[].class==type) {
-                final char[] result = aValue.toCharArray();
-                return result;
+            if (Double.class == type) {
+                return codec(type, String::valueOf, t -> {
+                    final Double result = Double.valueOf(t);
+                    return (T) (0d == result ? (Double) 0D : result);
+                });
             }
-            if (Locale.class==type) {
-                final StringTokenizer sTok = new StringTokenizer(aValue, "-");
+            if (BigDecimal.class == type) {
+                return codec(type, String::valueOf, t -> (T) new BigDecimal(t));
+            }
+            return createConstructorCodec(type);
+        }
+        if (Boolean.class == type) {
+            return codec(type, String::valueOf, t -> (T) (Boolean) (Boolean.parseBoolean(t)
+                    || (t.length() == 1 && t.charAt(0) == '1')));
+        }
+        if (Character.class == type) {
+            return codec(type, v -> Integer.toString((Character) v), t -> (T) (Character) (char) Integer.parseInt(t));
+        }
+        if (byte[].class == type) {
+            return codec(type, v -> encodeBytes((byte[]) v), t -> (T) decodeBytes(t));
+        }
+        if (char[].class == type) {
+            return codec(type, v -> new String((char[]) v), t -> (T) t.toCharArray());
+        }
+        if (Locale.class == type) {
+            return codec(type, v -> encodeLocale((Locale) v), t -> {
+                final StringTokenizer sTok = new StringTokenizer(t, "-");
                 final String p1 = sTok.hasMoreTokens() ? sTok.nextToken() : "";
                 final String p2 = sTok.hasMoreTokens() ? sTok.nextToken() : "";
                 final String p3 = sTok.hasMoreTokens() ? sTok.nextToken() : "";
-                final Locale result = new Locale(p1, p2, p3);
-                return result;
+                return (T) new Locale(p1, p2, p3);
+            });
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            if (java.sql.Date.class.isAssignableFrom(type)) {
+                return codec(type
+                        , v -> DAY_FORMAT.format(((java.sql.Date) v).toLocalDate())
+                        , t -> (T) java.sql.Date.valueOf(LocalDate.from(DAY_PARSER.parse(t, new ParsePosition(0)))));
             }
-            if (Class.class==type) {
-                final Class result = Class.forName(aValue);
-                return result;
+            return codec(type
+                    , v -> DATE_FORMAT.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(((Date) v).getTime()), ZoneId.systemDefault()))
+                    , t -> (T) Date.from(LocalDateTime.from(DATE_PARSER.parse(t, new ParsePosition(0))).atZone(ZoneId.systemDefault()).toInstant()));
+        }
+        if (Temporal.class.isAssignableFrom(type)) {
+            if (LocalDateTime.class == type) {
+                return codec(type, String::valueOf, t -> (T) LocalDateTime.parse(t));
             }
-            if (type.isEnum()) {
-                if (StringWrapper.class.isAssignableFrom(type)) {
-                    final int hash = aValue.hashCode();
-                    for (Object en : type.getEnumConstants()) {
-                        final String exportedTxt = ((StringWrapper)en).exportToString();
-                        if (hash == exportedTxt.hashCode()
-                        && aValue.equals(exportedTxt)) {
-                            return en;
-                        }
-                    }
-                    final String msg = MsgFormatter.format
-                            ( "I have found no item for value '{}' in the {}"
-                            , aValue
-                            , type);
-                    throw new IllegalUjormException(msg);
-                }
-                else if (ValueWrapper.class.isAssignableFrom(type)) {
-                    final int hash = aValue.hashCode();
-                    for (Object en : type.getEnumConstants()) {
-                        final String exportedTxt = ((ValueWrapper)en).readPersistentValue().toString();
-                        if (hash == exportedTxt.hashCode()
-                        && aValue.equals(exportedTxt)) {
-                            return en;
-                        }
-                    }
-                    final String msg = MsgFormatter.format
-                            ( "I have found no item for value '{}' in the {}"
-                            , aValue
-                            , type);
-                    throw new IllegalUjormException(msg);
-                }
-                else {
-                    return Enum.valueOf(type, aValue);
-                }
+            if (LocalDate.class == type) {
+                return codec(type, String::valueOf, t -> (T) LocalDate.parse(t));
+            }
+            if (LocalTime.class == type) {
+                return codec(type, String::valueOf, t -> (T) LocalTime.parse(t));
             }
-            if (Dimension.class.isAssignableFrom(type)) {
-                final StringTokenizer st = new StringTokenizer(aValue, ",");
+            if (ZonedDateTime.class == type) {
+                return codec(type, String::valueOf, t -> (T) ZonedDateTime.parse(t));
+            }
+            final MethodHandle parser = findParser(type);
+            return parser != null
+                    ? codec(type, String::valueOf, t -> (T) invoke(parser, t))
+                    : createConstructorCodec(type);
+        }
+        if (Color.class.isAssignableFrom(type)) {
+            return codec(type
+                    , v -> Integer.toHexString(((Color) v).getRGB() & 0xffffff | 0x1000000).substring(1).toUpperCase()
+                    , t -> (T) new Color(Integer.parseInt(t, 16)));
+        }
+        if (File.class.isAssignableFrom(type)) {
+            return codec(type, v -> ((File) v).getPath(), t -> (T) new File(t));
+        }
+        if (Dimension.class.isAssignableFrom(type)) {
+            return codec(type, v -> ((Dimension) v).width + "," + ((Dimension) v).height, t -> {
+                final StringTokenizer st = new StringTokenizer(t, ",");
                 final int w = Integer.parseInt(st.nextToken());
                 final int h = Integer.parseInt(st.nextToken());
-                final Dimension result = new Dimension(w, h);
-                return result;
-            }
-            if (Rectangle.class.isAssignableFrom(type)) {
-                final StringTokenizer st = new StringTokenizer(aValue, ",");
+                return (T) new Dimension(w, h);
+            });
+        }
+        if (Rectangle.class.isAssignableFrom(type)) {
+            return codec(type, v -> {
+                final Rectangle r = (Rectangle) v;
+                return String.valueOf(r.x) + ',' + r.y + ',' + r.width + ',' + r.height;
+            }, t -> {
+                final StringTokenizer st = new StringTokenizer(t, ",");
                 final int x = Integer.parseInt(st.nextToken());
                 final int y = Integer.parseInt(st.nextToken());
                 final int w = Integer.parseInt(st.nextToken());
                 final int h = Integer.parseInt(st.nextToken());
-                final Rectangle result = new Rectangle(x, y, w, h);
-                return result;
-            }
-            if (Date.class.isAssignableFrom(type)) {
-                try {
-                    final Date result = java.sql.Date.class.isAssignableFrom(type)
-                            ?  new java.sql.Date(FORMAT_DAY.get().parse(aValue).getTime())
-                            :  FORMAT_DATE.get().parse(aValue)
-                            ;
-                    return result;
-                } catch (ParseException ex) {
-                    throw new IllegalUjormException("\"" + aValue + "\" " + type, ex);
-                }
-            }
-            if (LocalDateTime.class.isAssignableFrom(type)) {
-                final LocalDateTime result = LocalDateTime.parse(aValue);
-                return result;
-            }
-            if (LocalDate.class.isAssignableFrom(type)) {
-                final LocalDate result = LocalDate.parse(aValue);
-                return result;
-            }
-            if (LocalTime.class.isAssignableFrom(type)) {
-                final LocalTime result = LocalTime.parse(aValue);
-                return result;
-            }
-            if (ZonedDateTime.class.isAssignableFrom(type)) {
-                final ZonedDateTime result = ZonedDateTime.parse(aValue);
-                return result;
-            }
-            if (Color.class.isAssignableFrom(type)) {
-                final Color result = new java.awt.Color(Integer.parseInt(aValue, 16));
-                return result;
-            }
-            if (File.class.isAssignableFrom(type)) {
-                final File result = new File(aValue);
-                return result;
-            }
-            if (Charset.class.isAssignableFrom(type)) {
-                final Charset result = Charset.forName(aValue);
-                return result;
+                return (T) new Rectangle(x, y, w, h);
+            });
+        }
+        if (Enum.class.isAssignableFrom(type)) {
+            return createEnumCodec((Class) (type.isEnum() ? type : type.getSuperclass()));
+        }
+        if (ValueWrapper.class.isAssignableFrom(type)) {
+            // The decoder is resolved lazily, so an incorrect wrapper class is reported by the first decoding
+            final ValueCodec.Decoder<?>[] decoder = new ValueCodec.Decoder<?>[1];
+            return codec(type
+                    , v -> encodeValue(((ValueWrapper) v).readPersistentValue(), false)
+                    , t -> {
+                        ValueCodec.Decoder<?> result = decoder[0];
+                        if (result == null) {
+                            decoder[0] = result = createWrapperDecoder((Class<ValueWrapper>) type);
+                        }
+                        return (T) result.decode(t);
+                    });
+        }
+        if (StringWrapper.class.isAssignableFrom(type)) {
+            return createConstructorCodec(type).withEncoder(v -> ((StringWrapper) v).exportToString());
+        }
+        if (Class.class == type) {
+            return codec(type, v -> ((Class) v).getName(), t -> (T) Class.forName(t));
+        }
+        if (Charset.class.isAssignableFrom(type)) {
+            return codec(type, v -> ((Charset) v).name(), t -> (T) Charset.forName(t));
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return createConstructorCodec(type).withEncoder(v -> encodeList((List) v, false));
+        }
+        return null;
+    }
+
+    /** Create a codec of an enum, the wrapped enums are decoded by a cached map. */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private <T extends Enum<T>> ValueCodec<T> createEnumCodec(@NotNull final Class<T> type) {
+        final Function<T, String> encoder;
+        if (ValueWrapper.class.isAssignableFrom(type)) {
+            encoder = v -> encodeValue(((ValueWrapper) v).readPersistentValue(), false);
+        } else if (StringWrapper.class.isAssignableFrom(type)) {
+            encoder = v -> ((StringWrapper) v).exportToString();
+        } else {
+            return codec(type, Enum::name, t -> Enum.valueOf(type, t), true);
+        }
+        final Map<String, T> items = new HashMap<>();
+        for (T item : type.getEnumConstants()) {
+            items.putIfAbsent(ValueWrapper.class.isAssignableFrom(type)
+                    ? ((ValueWrapper) item).readPersistentValue().toString()
+                    : encoder.apply(item), item);
+        }
+        return codec(type, encoder, (ValueCodec.Decoder<T>) t -> {
+            final T result = items.get(t);
+            if (result == null) {
+                throw new IllegalUjormException(MsgFormatter.format
+                        ( "I have found no item for value '{}' in the {}"
+                        , t
+                        , type));
             }
-            if (ValueWrapper.class.isAssignableFrom(type)) {
-                final Object val = decodeValue(ValueWrapper.getInstance(type).readPersistentClass(), aValue);
-                final ValueWrapper result = ValueWrapper.getInstance(type, val);
-                return result;
+            return result;
+        }, true);
+    }
+
+    /** Create a decoder of the ValueWrapper by a cached constructor and a codec of the persistent type */
+    @NotNull
+    private ValueCodec.Decoder<?> createWrapperDecoder(@NotNull final Class<ValueWrapper> type) {
+        final Class<?> persistentType = ValueWrapper.getInstance(type).readPersistentClass();
+        final MethodHandle constructor = findConstructor(type, getField(type, ValueWrapper._PERSISTENT_DEFAULT_VALUE_NAME).getType());
+        final ValueCodec<?> persistentCodec = getCodec(persistentType);
+        return t -> invoke(constructor, persistentCodec.decode(t));
+    }
+
+    /** Create a codec of an unknown type where the String constructor is required for decoding */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    protected <T> ValueCodec<T> createConstructorCodec(@NotNull final Class<T> type) {
+        final MethodHandle constructor = findConstructor(type);
+        return codec(type, String::valueOf, t -> {
+            if (constructor == null) {
+                throw new NoSuchMethodException(type.getName() + ".<init>(java.lang.String)");
             }
-            if (true) {
-                    final Constructor constructor = type.getConstructor(CONSTRUCTOR_TYPE);
-                    final Object result = constructor.newInstance(aValue);
-                    return result;
+            return (T) invoke(constructor, t);
+        });
+    }
+
+    /** Create a new codec where an empty text is decoded to the {@code null} value */
+    @NotNull
+    private static <T> ValueCodec<T> codec
+            ( @NotNull final Class<T> type
+            , @NotNull final Function<Object, String> encoder
+            , @NotNull final ValueCodec.Decoder<T> decoder) {
+        return codec(type, encoder, decoder, true);
+    }
+
+    /** Create a new codec */
+    @NotNull
+    private static <T> ValueCodec<T> codec
+            ( @NotNull final Class<T> type
+            , @NotNull final Function<? super T, String> encoder
+            , @NotNull final ValueCodec.Decoder<T> decoder
+            , final boolean emptyToNull) {
+        return new ValueCodec<>(type, encoder, decoder, emptyToNull);
+    }
+
+    /** Create a lenient builder of a day parser in the format {@code yyyy-MM-dd} */
+    @NotNull
+    private static DateTimeFormatterBuilder dayParser() {
+        return new DateTimeFormatterBuilder()
+                .appendValue(ChronoField.YEAR, 1, 10, SignStyle.NORMAL)
+                .appendLiteral('-')
+                .appendValue(ChronoField.MONTH_OF_YEAR, 1, 2, SignStyle.NORMAL)
+                .appendLiteral('-')
+                .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NORMAL);
+    }
+
+    /** Find a public constructor with the one String argument */
+    @Nullable
+    private static MethodHandle findConstructor(@NotNull final Class<?> type) {
+        return findConstructor(type, String.class);
+    }
+
+    /** Find a public constructor with the one argument */
+    @Nullable
+    private static MethodHandle findConstructor(@NotNull final Class<?> type, @NotNull final Class<?> argumentType) {
+        try {
+            return MethodHandles.publicLookup().findConstructor(type, STRING_CONSTRUCTOR.changeParameterType(0, argumentType));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Get a public field of the type */
+    @NotNull
+    private static Field getField(@NotNull final Class<?> type, @NotNull final String name) {
+        try {
+            return type.getField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalUjormException(MsgFormatter.format
+                    ( "The class {} has not implemented {} interface correctly."
+                    , type
+                    , ValueWrapper.class.getSimpleName()), e);
+        }
+    }
+
+    /** Find a public static method {@code parse(CharSequence)} of the type */
+    @Nullable
+    private static MethodHandle findParser(@NotNull final Class<?> type) {
+        try {
+            return MethodHandles.publicLookup().findStatic(type, "parse", MethodType.methodType(type, CharSequence.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Invoke the method handle with the one argument */
+    private static Object invoke(@NotNull final MethodHandle handle, @Nullable final Object argument) throws Exception {
+        try {
+            return handle.invoke(argument);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalUjormException(e.getMessage(), e);
+        }
+    }
+
+    /** Convert a locale to a String */
+    @NotNull
+    private static String encodeLocale(@NotNull final Locale locale) {
+        final StringBuilder sb = new StringBuilder(10);
+        sb.append(locale.getLanguage());
+        String p = locale.getCountry();
+        if (Check.hasLength(p)) {
+            sb.append('-').append(p);
+            p = locale.getVariant();
+            if (Check.hasLength(p)) {
+                sb.append('-').append(p);
             }
-        } catch ( RuntimeException | ReflectiveOperationException | OutOfMemoryError e) {
-            throw new IllegalUjormException("Can't decode \"" + aValue + "\" to " + type, e);
         }
-        return null;
+        return sb.toString();
     }
 
     /**
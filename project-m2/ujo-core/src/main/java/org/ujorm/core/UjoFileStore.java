@@ -0,0 +1,596 @@
+/*
+ *  Copyright 2026-2026 Pavel Ponec
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.CompositeKey;
+import org.ujorm.Key;
+import org.ujorm.KeyList;
+import org.ujorm.Ujo;
+import org.ujorm.UjoAction;
+import org.ujorm.criterion.Criterion;
+import org.ujorm.tools.Assert;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A persistent store of Ujo rows located outside the heap memory.
+ * Each row has got a fixed binary layout derived from the {@link KeyList},
+ * the rows are saved into a memory-mapped file and they are read by a flyweight {@link Row} view.
+ * Primitive wrappers and the {@code LocalDate} are stored in the row directly and they are read from the mapped file,
+ * other values are encoded by the {@link UjoCoder} into a text of a separate file with the suffix {@code .var}.
+ * The text is read by the file channel into a new heap buffer and it is decoded on each reading.
+ * <br>The variable data file is append-only: a new value of an existing cell reuses the old record
+ * if the new encoding is not longer, otherwise the value is appended and the old bytes are left unused.
+ * So frequent updates by longer values increase the file size.
+ * <br>The store supports an append, a random access by the row id, a sequential scan with a {@link Criterion}
+ * and a reopening of the file without a parsing. A layout of the keys is checked on the reopening.
+ * The object is not thread safe.
+ * <h3>Sample of usage</h3>
+ * <pre class="pre">
+ *  try (UjoFileStore&lt;Person&gt; store = UjoFileStore.of(file, KeyRing.of(Person.class))) {
+ *      long id = store.add(person);
+ *      String name = store.getRow(id).get(Person.NAME);
+ *  }
+ * </pre>
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+public class UjoFileStore<U extends Ujo> implements Closeable, Iterable<UjoFileStore<U>.Row> {
+
+    /** A file identifier */
+    protected static final int MAGIC = 0x556A6F53;
+    /** Version of the file format */
+    protected static final int VERSION = 1;
+    /** Header size in bytes */
+    protected static final int HEADER_SIZE = 32;
+    /** Header position of the row count */
+    private static final int ROW_COUNT_POSITION = 24;
+    /** Maximal size of one mapped segment in bytes */
+    protected static final int SEGMENT_SIZE = 1 << 24;
+    /** Suffix of the variable data file */
+    public static final String VAR_SUFFIX = ".var";
+
+    /** Direct keys of the store */
+    private final Key<U, ?>[] keys;
+    /** Shared key list */
+    private final KeyList<U> keyList;
+    /** Slot types in the order of keys */
+    private final Slot[] slots;
+    /** Slot offsets in a row */
+    private final int[] offsets;
+    /** Column index where the array index is a key index */
+    private final int[] columnIndex;
+    /** Size of the null bitmap in bytes */
+    private final int nullBytes;
+    /** Row size in bytes */
+    private final int rowSize;
+    /** Row count of one segment */
+    private final int segmentRows;
+    /** Row file */
+    private final FileChannel rowChannel;
+    /** Variable data file */
+    private final FileChannel varChannel;
+    /** Mapped file header */
+    private final MappedByteBuffer header;
+    /** Mapped row segments */
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    /** Row count */
+    private long size;
+    /** Size of the variable data */
+    private long varSize;
+    /** A shared row view */
+    private Row sharedRow;
+
+    /** Open or create the store
+     * @param file A row file, variable values are saved into a file with the suffix {@link #VAR_SUFFIX}.
+     * @param keys Direct keys or composite keys with one direct key only (an alias key).
+     */
+    @SuppressWarnings("unchecked")
+    public UjoFileStore(@NotNull final File file, @NotNull final KeyList<U> keys) throws IllegalStateException {
+        this.keys = new Key[keys.size()];
+        this.slots = new Slot[keys.size()];
+        this.offsets = new int[keys.size()];
+        this.nullBytes = (keys.size() + 7) >> 3;
+        int offset = nullBytes;
+        int maxIndex = -1;
+        for (int i = 0; i < this.keys.length; i++) {
+            Key<U, ?> key = keys.get(i);
+            if (key.isComposite()) {
+                final CompositeKey<U, ?> cKey = (CompositeKey<U, ?>) key;
+                Assert.isTrue(cKey.getKeyCount() == 1, "The composite key '{}' is not supported", key);
+                key = cKey.getKey(0);
+            }
+            Assert.isFalse(key.isTypeOf(Ujo.class), "The relation key '{}' is not supported", key);
+            this.keys[i] = key;
+            this.slots[i] = Slot.of(key.getType());
+            this.offsets[i] = offset;
+            offset += slots[i].size;
+            maxIndex = Math.max(maxIndex, key.getIndex());
+        }
+        this.rowSize = Math.max(offset, 1);
+        this.segmentRows = Math.max(1, SEGMENT_SIZE / rowSize);
+        this.columnIndex = new int[maxIndex + 1];
+        Arrays.fill(columnIndex, -1);
+        for (int i = 0; i < this.keys.length; i++) {
+            columnIndex[this.keys[i].getIndex()] = i;
+        }
+        this.keyList = KeyRing.of(keys.getType(), this.keys);
+
+        FileChannel rows = null, vars = null;
+        try {
+            rows = FileChannel.open(file.toPath()
+                    , StandardOpenOption.CREATE
+                    , StandardOpenOption.READ
+                    , StandardOpenOption.WRITE);
+            vars = FileChannel.open(new File(file.getPath() + VAR_SUFFIX).toPath()
+                    , StandardOpenOption.CREATE
+                    , StandardOpenOption.READ
+                    , StandardOpenOption.WRITE);
+            final boolean newFile = rows.size() < HEADER_SIZE;
+            this.header = rows.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (newFile) {
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putLong(8, layoutHash());
+                header.putInt(16, rowSize);
+                header.putLong(ROW_COUNT_POSITION, 0L);
+            } else {
+                Assert.isTrue(header.getInt(0) == MAGIC, "Unsupported file format: {}", file);
+                Assert.isTrue(header.getInt(4) == VERSION, "Unsupported file version: {}", header.getInt(4));
+                Assert.isTrue(header.getLong(8) == layoutHash() && header.getInt(16) == rowSize
+                        , "The key layout of the file {} is different from: {}", file, keyList);
+            }
+            this.size = header.getLong(ROW_COUNT_POSITION);
+            this.varSize = vars.size();
+            this.rowChannel = rows;
+            this.varChannel = vars;
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(rows);
+            closeQuietly(vars);
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new IllegalUjormException("Can't open the file: " + file, e);
+        }
+    }
+
+    /** Close the channel and ignore any exception */
+    private static void closeQuietly(@Nullable final Closeable closeable) {
+        try {
+            if (closeable != null) {
+                closeable.close();
+            }
+        } catch (IOException e) {
+            // The original exception is more important
+        }
+    }
+
+    /** Calculate a hash of the row layout */
+    private long layoutHash() {
+        long result = 0xcbf29ce484222325L;
+        for (int i = 0; i < keys.length; i++) {
+            final String text = keys[i].getName() + ':' + keys[i].getType().getName() + ';';
+            for (int j = 0; j < text.length(); j++) {
+                result = (result ^ text.charAt(j)) * 0x100000001b3L;
+            }
+        }
+        return result;
+    }
+
+    /** Returns the column position of the key or throws an exception */
+    protected final int getColumn(@NotNull final Key<?, ?> key) {
+        final int index = key.getIndex();
+        final int result = index >= 0 && index < columnIndex.length
+                ? columnIndex[index]
+                : -1;
+        if (result < 0 || keys[result] != key) {
+            if (key.isComposite() && ((CompositeKey) key).getKeyCount() == 1) {
+                return getColumn(((CompositeKey) key).getKey(0));
+            }
+            throw new IllegalUjormException("The key is not supported: " + key.getFullName());
+        }
+        return result;
+    }
+
+    /** Returns a mapped segment of the row */
+    private MappedByteBuffer getSegment(final long rowId) {
+        final int segment = (int) (rowId / segmentRows);
+        try {
+            while (segments.size() <= segment) {
+                final long position = HEADER_SIZE + (long) segments.size() * segmentRows * rowSize;
+                segments.add(rowChannel.map(FileChannel.MapMode.READ_WRITE, position, (long) segmentRows * rowSize));
+            }
+        } catch (IOException e) {
+            throw new IllegalUjormException("Can't map the segment: " + segment, e);
+        }
+        return segments.get(segment);
+    }
+
+    /** Returns a row position inside its segment */
+    private int getRowPosition(final long rowId) {
+        return (int) (rowId % segmentRows) * rowSize;
+    }
+
+    /** Returns the direct keys of the store */
+    public KeyList<U> getKeys() {
+        return keyList;
+    }
+
+    /** Returns a row count */
+    public long size() {
+        return size;
+    }
+
+    /** Is the store empty? */
+    public boolean isEmpty() {
+        return size == 0L;
+    }
+
+    /** Append a new row and return its id. */
+    public long add(@NotNull final U ujo) {
+        final long rowId = size;
+        final MappedByteBuffer buffer = getSegment(rowId);
+        final int position = getRowPosition(rowId);
+        for (int i = 0; i < keys.length; i++) {
+            writeCell(buffer, position, i, keys[i].of(ujo), false);
+        }
+        header.putLong(ROW_COUNT_POSITION, ++size);
+        return rowId;
+    }
+
+    /** Append all items to the store. */
+    public UjoFileStore<U> addAll(@NotNull final Iterable<? extends U> ujos) {
+        for (U ujo : ujos) {
+            add(ujo);
+        }
+        return this;
+    }
+
+    /** Returns a value of the cell */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <V> V get(final long rowId, @NotNull final Key<? super U, V> key) {
+        checkRow(rowId);
+        return (V) readCell(getSegment(rowId), getRowPosition(rowId), getColumn(key));
+    }
+
+    /** Assign a value to the cell */
+    public <V> void set(final long rowId, @NotNull final Key<? super U, V> key, @Nullable final V value) {
+        checkRow(rowId);
+        writeCell(getSegment(rowId), getRowPosition(rowId), getColumn(key), value, true);
+    }
+
+    /** Returns a shared row view moved to the required row.
+     * The result is a shared instance which is changed by the next call.
+     */
+    @NotNull
+    public Row getRow(final long rowId) {
+        checkRow(rowId);
+        if (sharedRow == null) {
+            sharedRow = new Row();
+        }
+        return sharedRow.moveTo(rowId);
+    }
+
+    /** Create a domain object of the row */
+    @NotNull
+    public U toUjo(final long rowId) {
+        checkRow(rowId);
+        final U result = keyList.newBaseUjo();
+        final MappedByteBuffer buffer = getSegment(rowId);
+        final int position = getRowPosition(rowId);
+        for (int i = 0; i < keys.length; i++) {
+            ((Key) keys[i]).setValue(result, readCell(buffer, position, i));
+        }
+        return result;
+    }
+
+    /** Check the row id */
+    private void checkRow(final long rowId) {
+        if (rowId < 0L || rowId >= size) {
+            throw new IndexOutOfBoundsException("Row: " + rowId + ", size: " + size);
+        }
+    }
+
+    /** Visit all rows that meet the criterion using one row view */
+    @SuppressWarnings("unchecked")
+    public void forEach(@NotNull final Criterion<? super U> criterion, @NotNull final Consumer<? super Row> consumer) {
+        final Criterion crn = criterion;
+        final Row row = new Row();
+        for (long i = 0; i < size; i++) {
+            if (crn.evaluate(row.moveTo(i))) {
+                consumer.accept(row);
+            }
+        }
+    }
+
+    /** Visit all rows using one row view */
+    @Override
+    public void forEach(@NotNull final Consumer<? super Row> consumer) {
+        final Row row = new Row();
+        for (long i = 0; i < size; i++) {
+            consumer.accept(row.moveTo(i));
+        }
+    }
+
+    /** Iterate all rows using one row view */
+    @Override
+    public Iterator<Row> iterator() {
+        final Row row = new Row();
+        return new Iterator<Row>() {
+            private long i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            public Row next() {
+                if (i >= size) {
+                    throw new NoSuchElementException();
+                }
+                return row.moveTo(i++);
+            }
+        };
+    }
+
+    /** Read a cell value */
+    @Nullable
+    private Object readCell(final ByteBuffer buffer, final int rowPosition, final int column) {
+        if ((buffer.get(rowPosition + (column >> 3)) & (1 << (column & 7))) != 0) {
+            return null;
+        }
+        final int position = rowPosition + offsets[column];
+        switch (slots[column]) {
+            case BYTE: return buffer.get(position);
+            case SHORT: return buffer.getShort(position);
+            case INT: return buffer.getInt(position);
+            case LONG: return buffer.getLong(position);
+            case FLOAT: return buffer.getFloat(position);
+            case DOUBLE: return buffer.getDouble(position);
+            case BOOLEAN: return buffer.get(position) != 0;
+            case CHAR: return buffer.getChar(position);
+            case LOCAL_DATE: return LocalDate.ofEpochDay(buffer.getLong(position));
+            default:
+                final String text = readText(buffer.getLong(position), buffer.getInt(position + 8));
+                return UjoManager.getInstance().decodeValue(keys[column], text);
+        }
+    }
+
+    /** Write a cell value
+     * @param update The cell of an existing row can reuse its text record
+     */
+    private void writeCell(final ByteBuffer buffer, final int rowPosition, final int column, @Nullable final Object value, final boolean update) {
+        final int nullPosition = rowPosition + (column >> 3);
+        final int nullMask = 1 << (column & 7);
+        final byte nullBits = buffer.get(nullPosition);
+        if (value == null) {
+            buffer.put(nullPosition, (byte) (nullBits | nullMask));
+            return;
+        }
+        buffer.put(nullPosition, (byte) (nullBits & ~nullMask));
+        final int position = rowPosition + offsets[column];
+        switch (slots[column]) {
+            case BYTE: buffer.put(position, (Byte) value); break;
+            case SHORT: buffer.putShort(position, (Short) value); break;
+            case INT: buffer.putInt(position, (Integer) value); break;
+            case LONG: buffer.putLong(position, (Long) value); break;
+            case FLOAT: buffer.putFloat(position, (Float) value); break;
+            case DOUBLE: buffer.putDouble(position, (Double) value); break;
+            case BOOLEAN: buffer.put(position, (byte) ((Boolean) value ? 1 : 0)); break;
+            case CHAR: buffer.putChar(position, (Character) value); break;
+            case LOCAL_DATE: buffer.putLong(position, ((LocalDate) value).toEpochDay()); break;
+            default:
+                final byte[] bytes = UjoManager.getInstance().encodeValue(value, false).getBytes(UTF_8);
+                final boolean reuse = update
+                        && (nullBits & nullMask) == 0
+                        && bytes.length <= buffer.getInt(position + 8);
+                buffer.putLong(position, writeText(bytes, reuse ? buffer.getLong(position) : varSize));
+                buffer.putInt(position + 8, bytes.length);
+        }
+    }
+
+    /** Read a text from the variable data file */
+    private String readText(final long position, final int length) {
+        final ByteBuffer result = ByteBuffer.allocate(length);
+        try {
+            while (result.hasRemaining()) {
+                if (varChannel.read(result, position + result.position()) < 0) {
+                    throw new IOException("Unexpected end of the file");
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalUjormException("Can't read the position: " + position, e);
+        }
+        return new String(result.array(), UTF_8);
+    }
+
+    /** Write bytes to the variable data file at the position (an end of the file or a reused record)
+     * and return the position */
+    private long writeText(final byte[] bytes, final long position) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            while (buffer.hasRemaining()) {
+                varChannel.write(buffer, position + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new IllegalUjormException("Can't write the position: " + position, e);
+        }
+        varSize = Math.max(varSize, position + bytes.length);
+        return position;
+    }
+
+    /** Write all changes to the storage device */
+    public void flush() throws IllegalStateException {
+        try {
+            varChannel.force(false);
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+            header.force();
+        } catch (IOException e) {
+            throw new IllegalUjormException("Flush failed", e);
+        }
+    }
+
+    /** Flush and close the store */
+    @Override
+    public void close() throws IllegalStateException {
+        try {
+            flush();
+            segments.clear();
+            rowChannel.close();
+            varChannel.close();
+        } catch (IOException e) {
+            throw new IllegalUjormException("Close failed", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size + ", keys=" + keyList + "]";
+    }
+
+    // ----- STATIC -----
+
+    /** Open or create a store for the required keys */
+    public static <U extends Ujo> UjoFileStore<U> of(@NotNull final File file, @NotNull final KeyList<U> keys) {
+        return new UjoFileStore<>(file, keys);
+    }
+
+    // ----- ROW VIEW -----
+
+    /** A flyweight view of one stored row */
+    public final class Row implements Ujo {
+
+        /** Current row id */
+        private long rowId;
+        /** Segment of the row */
+        private MappedByteBuffer buffer;
+        /** Row position inside the segment */
+        private int position;
+
+        /** Move the view to another row */
+        @NotNull
+        public Row moveTo(final long rowId) {
+            this.rowId = rowId;
+            this.buffer = getSegment(rowId);
+            this.position = getRowPosition(rowId);
+            return this;
+        }
+
+        /** Returns the current row id */
+        public long getRowId() {
+            return rowId;
+        }
+
+        /** Returns a cell value of the current row */
+        @SuppressWarnings("unchecked")
+        public <V> V get(@NotNull final Key<? super U, V> key) {
+            return (V) readCell(buffer, position, getColumn(key));
+        }
+
+        /** Assign a cell value of the current row */
+        public <V> Row set(@NotNull final Key<? super U, V> key, @Nullable final V value) {
+            writeCell(buffer, position, getColumn(key), value, true);
+            return this;
+        }
+
+        @Override
+        public Object readValue(@NotNull final Key<?, ?> key) {
+            return readCell(buffer, position, getColumn(key));
+        }
+
+        @Override
+        public void writeValue(@NotNull final Key<?, ?> key, @Nullable final Object value) {
+            assert UjoManager.assertAssign(key, value);
+            writeCell(buffer, position, getColumn(key), value, true);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends Ujo> KeyList<T> readKeys() {
+            return (KeyList<T>) keyList;
+        }
+
+        @Override
+        public boolean readAuthorization(@NotNull final UjoAction action, @NotNull final Key<?, ?> key, @Nullable final Object value) {
+            return true;
+        }
+
+        /** Create a domain object of the row */
+        public U toUjo() {
+            return UjoFileStore.this.toUjo(rowId);
+        }
+
+        @Override
+        public String toString() {
+            return UjoManager.getInstance().toString(this);
+        }
+    }
+
+    /** Slot type of a value in the row */
+    protected enum Slot {
+        BYTE(1),
+        SHORT(2),
+        INT(4),
+        LONG(8),
+        FLOAT(4),
+        DOUBLE(8),
+        BOOLEAN(1),
+        CHAR(2),
+        LOCAL_DATE(8),
+        /** A position (long) and a length (int) of the text in the variable data file */
+        TEXT(12);
+
+        /** Slot size in bytes */
+        final int size;
+
+        Slot(final int size) {
+            this.size = size;
+        }
+
+        /** Returns a slot for the value type */
+        static Slot of(@NotNull final Class<?> type) {
+            if (type == Integer.class) return INT;
+            if (type == Long.class) return LONG;
+            if (type == Double.class) return DOUBLE;
+            if (type == Boolean.class) return BOOLEAN;
+            if (type == Short.class) return SHORT;
+            if (type == Byte.class) return BYTE;
+            if (type == Float.class) return FLOAT;
+            if (type == Character.class) return CHAR;
+            if (type == LocalDate.class) return LOCAL_DATE;
+            return TEXT;
+        }
+    }
+}
@@ -18,10 +18,25 @@ package org.ujorm.core;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.ujorm.Key;
 import org.ujorm.ListKey;
 import org.ujorm.Ujo;
@@ -29,6 +44,7 @@ import org.ujorm.UjoAction;
 import org.ujorm.extensions.UjoTextable;
 import org.ujorm.tools.Assert;
 import org.xml.sax.*;
+import org.xml.sax.helpers.AttributesImpl;
 import org.xml.sax.helpers.DefaultHandler;
 
 /** Use an subclass on your own risk.
@@ -50,6 +66,15 @@ final class UjoHandlerXML extends DefaultHandler {
     /** Ignore missing key related to an ELEMENT or ATTRIBUTE during XML import. */
     private boolean ignoreMissingProp = false;
 
+    /** Keys of elements resolved by the Ujo class and the element name */
+    private final Map<Class, Map<String, Key>> elementKeys = new HashMap<>();
+    /** Keys of attributes resolved by the Ujo class and the attribute name */
+    private final Map<Class, Map<String, Key>> attributeKeys = new HashMap<>();
+    /** A list key of the root whose items are passed to the consumer */
+    private ListKey itemKey;
+    /** A consumer of the list items */
+    private Consumer<Object> itemConsumer;
+
     // -- Temporary fields --
     private String  $elementName  = null;
     private Class   $elementType  = null;
@@ -107,7 +132,7 @@ final class UjoHandlerXML extends DefaultHandler {
         $elementName = localName.length()!=0 ? localName : qualifiedName ;
         $parentObj   = lastElement<0 ? new Element() : getLastElement() ;
         $key    = $parentObj.isUjo()
-                     ? $parentObj.ujo.readKeys().findDirectKey($parentObj.ujo, $elementName, actionImport, true, !ignoreMissingProp)
+                     ? findKey(elementKeys, $parentObj.ujo, $elementName, true, !ignoreMissingProp)
                      : null ;
         $propertyList = $key instanceof ListKey ? (ListKey) $key : null;
         $elementType = $parentObj.isRoot() ? rootType : null ;
@@ -162,6 +187,7 @@ final class UjoHandlerXML extends DefaultHandler {
 
                 if (isUJO) newElement().init((Ujo)container);
                 else       newElement().init((List)container, $itemType);
+                getLastElement().key = $key;
 
                 if (isUJO && !$attributes.isEmpty()) {
                     addAttributes((UjoTextable) container, ignoreMissingProp || $parentObj.isRoot());
@@ -211,6 +237,9 @@ final class UjoHandlerXML extends DefaultHandler {
             addBodyText($value);
             getLastElement().saveBody();
 
+            if (lastElement == 1 && itemKey != null && getLastElement().key == itemKey) {
+                consumeItems();
+            }
             if (lastElement>0) {
                 lastElement--;
             }
@@ -227,6 +256,9 @@ final class UjoHandlerXML extends DefaultHandler {
             } else {
                ((UjoTextable) $parentObj.ujo).writeValueString($key, $value.toString(), $elementType, actionImport);
             }
+            if (lastElement == 0 && itemKey != null && $key == itemKey) {
+                consumeItems();
+            }
             $value.setLength(0);
             $elementCont = true;
         } else if ($parentObj.isList()) {
@@ -246,7 +278,7 @@ final class UjoHandlerXML extends DefaultHandler {
     // === UTILITIES ==============================
 
     /** Returns true, if text in not empty. */
-    private boolean isEmpty(final CharSequence text) {
+    private static boolean isEmpty(final CharSequence text) {
         return text==null || text.length()==0;
     }
 
@@ -275,11 +307,149 @@ final class UjoHandlerXML extends DefaultHandler {
         return (T) handler.getRoot();
     }
 
+    /** Parse items of the list key of the root one by one.
+     * Each item is removed from the root after the consumer call, so the items can't be retained by the root.
+     * @return The root object without items of the list key
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends UjoTextable> T parseXML
+        ( final InputStream inputStream
+        , final Class<T> classType
+        , final ListKey<? super T, ?> listKey
+        , final Consumer<Object> consumer
+        , final boolean validate
+        , final Object context
+        , final UjoManager ujoManager)
+        throws IllegalStateException {
+
+        final SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setValidating(validate);
+
+        final UjoHandlerXML handler = new UjoHandlerXML(classType, context, ujoManager);
+        handler.itemKey = listKey;
+        handler.itemConsumer = consumer;
+        try {
+            factory.newSAXParser().parse(inputStream, handler);
+        } catch (RuntimeException | ParserConfigurationException | SAXException | IOException e) {
+            throw new IllegalUjormException("Parser exception with context: " + context, e);
+        }
+        return (T) handler.getRoot();
+    }
+
+    /** Returns a lazy stream of items of the list key of the root, the input is read by a StAX parser.
+     * Only the current item is kept in the memory, a DTD is not supported.
+     * Closing the stream closes the StAX parser, but not the input stream.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends UjoTextable, I> Stream<I> stream
+        ( final InputStream inputStream
+        , final Class<T> classType
+        , final ListKey<? super T, I> listKey
+        , final Object context
+        , final UjoManager ujoManager)
+        throws IllegalStateException {
+
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        final Queue<Object> items = new LinkedList<>(); // Items can be null
+        final UjoHandlerXML handler = new UjoHandlerXML(classType, context, ujoManager);
+        handler.itemKey = listKey;
+        handler.itemConsumer = items::add;
+        final XMLStreamReader reader;
+        try {
+            reader = factory.createXMLStreamReader(inputStream);
+        } catch (RuntimeException | XMLStreamException e) {
+            throw new IllegalUjormException("Parser exception with context: " + context, e);
+        }
+        final Iterator<I> iterator = new Iterator<I>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (items.isEmpty() && reader.hasNext()) {
+                        handler.pull(reader);
+                    }
+                } catch (RuntimeException | XMLStreamException | SAXException e) {
+                    throw new IllegalUjormException("Parser exception with context: " + context, e);
+                }
+                return !items.isEmpty();
+            }
+
+            @Override
+            public I next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (I) items.poll();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (XMLStreamException e) {
+                        throw new IllegalUjormException("Can't close the parser with context: " + context, e);
+                    }
+                });
+    }
+
+    /** Read the next StAX event and call the related SAX method */
+    private void pull(final XMLStreamReader reader) throws XMLStreamException, SAXException {
+        switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                final AttributesImpl attribs = new AttributesImpl();
+                for (int i = 0, max = reader.getAttributeCount(); i < max; i++) {
+                    attribs.addAttribute("", "", getQName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i))
+                            , "CDATA", reader.getAttributeValue(i));
+                }
+                startElement("", "", getQName(reader.getPrefix(), reader.getLocalName()), attribs);
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+                characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                endElement("", "", getQName(reader.getPrefix(), reader.getLocalName()));
+                break;
+            default:
+                // Other events are ignored
+        }
+    }
+
+    /** Returns a qualified name */
+    private static String getQName(final String prefix, final String localName) {
+        return isEmpty(prefix) ? localName : prefix + ':' + localName;
+    }
+
+    /** Pass all items of the list key of the root to the consumer and remove them from the root */
+    private void consumeItems() {
+        final List list = (List) itemKey.of(elementList[0].ujo);
+        if (list != null) {
+            while (!list.isEmpty()) {
+                itemConsumer.accept(list.remove(0));
+            }
+        }
+    }
+
+    /** Find a key by the Ujo class and the name, the resolved keys are cached for the current parsing.
+     * @param cache Cache of the element or attribute keys
+     * @param element Find a key of the element or attribute
+     */
+    private Key findKey(final Map<Class, Map<String, Key>> cache, final Ujo ujo, final String name, final boolean element, final boolean throwException) {
+        final Map<String, Key> keys = cache.computeIfAbsent(ujo.getClass(), c -> new HashMap<>());
+        Key result = keys.get(name);
+        if (result == null && (throwException || !keys.containsKey(name))) {
+            result = ujo.readKeys().findDirectKey(ujo, name, actionImport, element, throwException);
+            keys.put(name, result);
+        }
+        return result;
+    }
+
     /** Add all XML attributes from internal buffer to UJO. */
     private void addAttributes(final UjoTextable ujo, boolean ignoreMissingProp) {
         for (String[] attrib : $attributes) {
-            final Key key = ujo.readKeys().findDirectKey
-                    (ujo, attrib[0], actionImport, false, !ignoreMissingProp);
+            final Key key = findKey(attributeKeys, ujo, attrib[0], false, !ignoreMissingProp);
             if (key != null){
                 ujo.writeValueString(key, attrib[1], null, actionImport);
             }
@@ -334,6 +504,8 @@ final class UjoHandlerXML extends DefaultHandler {
         List<Object> list;
         Class itemType;
         Ujo ujo;
+        /** A key of the parent, where the element was saved */
+        Key key;
         Key bodyProperty;
         StringBuilder body;
 
@@ -341,6 +513,7 @@ final class UjoHandlerXML extends DefaultHandler {
             this.list     = list;
             this.itemType = itemType;
             this.ujo      = ujo;
+            this.key      = null;
             //
             this.bodyProperty = ujo!=null ? ujoManager.getXmlElementBody(ujo.getClass()) : null ;
             this.body = bodyProperty!=null ? new StringBuilder() : null ;
@@ -24,9 +24,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.ujorm.CompositeKey;
@@ -61,17 +61,22 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
     /** UjoManager instance */
     protected static UjoManager instance = new UjoManager();
 
+    /** Private locks of the Ujo classes for the key initialization. */
+    private static final ClassValue<Object> TYPE_LOCKS = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(final Class<?> type) {
+            return new Object();
+        }
+    };
+
     /** A keys cache. */
-    final private HashMap<Class, KeyList> propertiesCache;
+    final private ConcurrentHashMap<Class, KeyList> propertiesCache;
 
     /** A XML <strong>element body</strong> cache */
-    private HashMap<Class, Key> xmlBodyCache;
+    final private ConcurrentHashMap<Class, Key> xmlBodyCache;
 
-    /** A XML <strong>attribute</strong> cache. */
-    private HashSet<Key> attributesCache = null;
-
-    /** A transient <strong>attribute</strong> cache. */
-    private HashSet<Key> transientCache = null;
+    /** Immutable descriptors of the keys with some annotation or with a resolved value codec. */
+    final private ConcurrentHashMap<Key, KeyDescriptor> descriptorCache;
 
     /** Are keys reversed? */
     private Boolean arePropertiesReversed = null;
@@ -80,7 +85,9 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
 
     /** Constructor. */
     public UjoManager() {
-        this.propertiesCache = new HashMap<>();
+        this.propertiesCache = new ConcurrentHashMap<>();
+        this.xmlBodyCache = new ConcurrentHashMap<>(4);
+        this.descriptorCache = new ConcurrentHashMap<>();
         this.coder = new UjoCoder();
     }
 
@@ -104,7 +111,9 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
         return result;
     }
 
-    /** Read an KeyList instance. The first result is cached. */
+    /** Read an KeyList instance. The first result is cached.
+     * The reading of the cached result takes no lock.
+     */
     @SuppressWarnings("unchecked")
     public <T extends Ujo> KeyList<T> readKeys(Class<T> type) {
         KeyList<T> result = propertiesCache.get(type);
@@ -114,8 +123,11 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
                     ? KeyRing.of(type, ps)
                     : KeyRing.of(ps);
 
-            // Save the result into buffer:
-            propertiesCache.put(type, result);
+            // Save the result into buffer, the first stored instance wins:
+            final KeyList<T> old = propertiesCache.putIfAbsent(type, result);
+            if (old != null) {
+                result = old;
+            }
         }
         return result;
     }
@@ -132,7 +144,7 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
         ArrayList<Key> keyList = new ArrayList<>(32);
         Field field = null;
 
-        synchronized(type) {
+        synchronized(TYPE_LOCKS.get(type)) {
             try {
                 final Field[] fields = type.getFields();
                 for (int j=0; j<fields.length; j++) {
@@ -206,8 +218,6 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
 
     /** Register new Property list to the internal cache. */
     @PackagePrivate void register (KeyList list, KeyFactory.InnerDataStore data) {
-        this.propertiesCache.put(data.getDomainType(), list);
-
         final Iterable<Key<?,?>> it = data.getKeys();
         for (Key ujoProp : it) {
 
@@ -222,6 +232,8 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
             else if (xa!=null) { cacheXmlAttribute(ujoProp)        ; }
             else if (xb!=null) { cacheXmlElementBody(data.getDomainType(), ujoProp); }
         }
+        // Publish the key list after the descriptors:
+        this.propertiesCache.put(data.getDomainType(), list);
     }
 
     /** Compare Ujo keys by index. An undefined key indexes (-1 are sorted to the end. */
@@ -477,26 +489,48 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
             readKeys(type); // Load cache;
         }
 
-        final Key result
-            = xmlBodyCache!=null
-            ? xmlBodyCache.get(type)
-            : null
-            ;
+        final Key result = xmlBodyCache.get(type);
         return result;
     }
 
+    /** Returns an immutable descriptor of the direct key.
+     * The method returns the {@link KeyDescriptor#DEFAULT} for a key without any flag.
+     * @since 2.30
+     */
+    @NotNull
+    public final KeyDescriptor getDescriptor(@NotNull final Key<?,?> key) {
+        final KeyDescriptor result = descriptorCache.get(key);
+        return result != null ? result : KeyDescriptor.DEFAULT;
+    }
+
     /** Is the key an XML attribute? */
     public final boolean isXmlAttribute(final Key key) {
-        final boolean result
-            =  attributesCache!=null
-            && attributesCache.contains(key)
-            ;
-        return result;
+        return getDescriptor(key).isXmlAttribute();
     }
 
     /** Is the key an Transient? */
     public final boolean isTransient(final Key<?,?> key) {
-        final boolean result = transientCache!=null && transientCache.contains(key);
+        return getDescriptor(key).isTransient();
+    }
+
+    /** Returns a text codec of the direct key.
+     * The codec is created by the {@link UjoCoder} for the first call and it is cached in the {@link KeyDescriptor}.
+     * @since 2.30
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public final <T> ValueCodec<T> getCodec(@NotNull final Key<?,T> key) {
+        if (key.isComposite()) {
+            return getCodec(((CompositeKey<?,T>) key).getLastKey());
+        }
+        final KeyDescriptor descriptor = descriptorCache.get(key);
+        ValueCodec<T> result = descriptor != null ? (ValueCodec<T>) descriptor.getCodec() : null;
+        if (result == null) {
+            final ValueCodec<T> codec = coder.createCodec(key);
+            result = (ValueCodec<T>) descriptorCache.compute(key, (k, old) -> old == null
+                    ? KeyDescriptor.DEFAULT.withCodec(codec)
+                    : old.getCodec() == null ? old.withCodec(codec) : old).getCodec();
+        }
         return result;
     }
 
@@ -511,7 +545,9 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
             @Nullable final Key<?,T> key,
             @Nullable final String aValue,
             @Nullable final Class type) {
-        return coder.decodeValue(key, aValue, type);
+        return type == null || key == null || type == key.getType()
+                ? getCodec(key).decode(aValue)
+                : coder.decodeValue(key, aValue, type);
     }
 
     /**
@@ -523,7 +559,7 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
     public final <T> T decodeValue(
             @NotNull final Key<?,T> key,
             @Nullable final String aValue) {
-        return coder.decodeValue(key, aValue, null);
+        return getCodec(key).decode(aValue);
     }
 
     /**
@@ -549,10 +585,7 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
         ){
             return;
         }
-        if (attributesCache==null) {
-            attributesCache = new HashSet<>();
-        }
-        attributesCache.add(attribute);
+        descriptorCache.put(attribute, KeyDescriptor.XML_ATTRIBUTE);
     }
 
     /** Mark a key to XML element in a cache. */
@@ -564,21 +597,13 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
         ){
             return;
         }
-        if (xmlBodyCache==null) {
-            xmlBodyCache = new HashMap<>(4);
-        }
-        Key old = xmlBodyCache.get(type);
-        if (old==null || old.getIndex()<key.getIndex()) {
-            xmlBodyCache.put(type, key);
-        }
+        descriptorCache.put(key, KeyDescriptor.XML_ELEMENT_BODY);
+        xmlBodyCache.merge(type, key, (old, k) -> old.getIndex()<k.getIndex() ? k : old);
     }
 
     /** Mark a key to transient attribute in a cache. */
     private void cacheTransientAttribute(final Key attribute) {
-        if (transientCache==null) {
-            transientCache = new HashSet<>();
-        }
-        transientCache.add(attribute);
+        descriptorCache.put(attribute, KeyDescriptor.TRANSIENT);
     }
 
     /** An assignable test. */
@@ -681,6 +706,7 @@ public class UjoManager extends UjoTools implements Comparator<Key> {
     /** UjoCoder */
     public void setCoder(UjoCoder ujoCoder) {
          coder = ujoCoder;
+         descriptorCache.replaceAll((k, d) -> d.withCodec(null));
     }
 
     /** Get a text value from key */
@@ -0,0 +1,825 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.Key;
+import org.ujorm.KeyList;
+import org.ujorm.ListKey;
+import org.ujorm.Ujo;
+import org.ujorm.extensions.ValueWrapper;
+
+/**
+ * A Manager for a compact binary serialization of Ujo object graphs.
+ * The format is driven by the {@link KeyList} of each object: values are written
+ * in order of the key index behind a bitmap of null values, so key names are not written.
+ * Values are encoded by the declared type of the Key: integers as variable-length
+ * numbers, texts as references of a string table of the stream (for short texts),
+ * nested Ujo objects and lists recursively and unknown types as a text by the {@link UjoCoder}.
+ * If a class of a nested Ujo differs from the declared type, the class name is written.
+ * Transient keys are skipped.
+ * <br>Both sides must use the same version of the Ujo classes.
+ * <h3>Sample of usage</h3>
+ * <pre class="pre">
+ *  UjoManagerBinary&lt;Person&gt; manager = UjoManagerBinary.of(Person.<span class="java-keywords">class</span>);
+ *
+ *  <span class="java-block-comment">// Save objects:</span>
+ *  try (var encoder = manager.createEncoder(outputStream)) {
+ *      people.forEach(encoder::write);
+ *  }
+ *
+ *  <span class="java-block-comment">// Load objects:</span>
+ *  try (var decoder = manager.createDecoder(inputStream)) {
+ *      decoder.stream().forEach(System.out::println);
+ *  }
+ * </pre>
+ * The manager is thread safe, but its encoders and decoders are not.
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+public class UjoManagerBinary<U extends Ujo> extends UjoService<U> {
+
+    /** The stream header: a magic byte and a format version */
+    private static final byte[] HEADER = {'U', 1};
+    /** A maximal count of interned strings of one stream */
+    private static final int STRING_TABLE_LIMIT = 4096;
+    /** A maximal length of an interned string */
+    private static final int STRING_INTERN_LENGTH = 64;
+    /** A size of the buffer */
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /** Value types by a declared class */
+    private final Map<Class<?>, ValueType> valueTypes = new ConcurrentHashMap<>();
+    /** Persistent types of a ValueWrapper class */
+    private final Map<Class<?>, Class<?>> persistentTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of UjoManagerBinary
+     * @param ujoClass A root Ujo Class
+     */
+    public UjoManagerBinary(@NotNull final Class<U> ujoClass) {
+        super(ujoClass);
+    }
+
+    /** Create a streaming encoder, the encoder closes the stream. */
+    @NotNull
+    public Encoder createEncoder(@NotNull final OutputStream out) {
+        return new Encoder(out);
+    }
+
+    /** Create a streaming decoder, the decoder closes the stream. */
+    @NotNull
+    public Decoder createDecoder(@NotNull final InputStream in) {
+        return new Decoder(in, null);
+    }
+
+    /** Create a decoder of the buffer content from its position,
+     * the buffer position is moved behind each read object. */
+    @NotNull
+    public Decoder createDecoder(@NotNull final ByteBuffer buffer) {
+        return new Decoder(null, buffer);
+    }
+
+    /** Encode the Ujo object to a new ByteBuffer */
+    @NotNull
+    public ByteBuffer encode(@NotNull final U ujo) {
+        final Encoder encoder = new Encoder(null);
+        encoder.write(ujo);
+        return ByteBuffer.wrap(encoder.buffer, 0, encoder.position);
+    }
+
+    /** Decode one Ujo object from the ByteBuffer */
+    @NotNull
+    public U decode(@NotNull final ByteBuffer buffer) {
+        final U result = createDecoder(buffer).read();
+        if (result == null) {
+            throw new IllegalUjormException("No object found");
+        }
+        return result;
+    }
+
+    /** Returns a value type of the declared class */
+    @NotNull
+    protected ValueType getValueType(@NotNull final Class<?> type) {
+        return valueTypes.computeIfAbsent(type, ValueType::of);
+    }
+
+    /** Returns a persistent class of the ValueWrapper class */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    protected Class<?> getPersistentType(@NotNull final Class<?> wrapperType) {
+        return persistentTypes.computeIfAbsent(wrapperType,
+                t -> ValueWrapper.getInstance((Class<ValueWrapper>) t).readPersistentClass());
+    }
+
+    /** Returns an item type of the key */
+    @NotNull
+    private static Class<?> getItemType(@NotNull final Key<?,?> key) {
+        return key instanceof ListKey ? ((ListKey<?,?>) key).getItemType() : Object.class;
+    }
+
+    // -------------- STATIC ----------------
+
+    /** Create new instance */
+    public static <U extends Ujo> UjoManagerBinary<U> of(@NotNull final Class<U> ujoClass) {
+        return new UjoManagerBinary<>(ujoClass);
+    }
+
+    // -------------- CLASSES ----------------
+
+    /** Supported value types */
+    protected enum ValueType {
+        STRING,
+        INTEGER,
+        LONG,
+        SHORT,
+        BYTE,
+        BOOLEAN,
+        CHARACTER,
+        FLOAT,
+        DOUBLE,
+        BIG_DECIMAL,
+        BIG_INTEGER,
+        ENUM,
+        DATE,
+        SQL_DATE,
+        LOCAL_DATE,
+        LOCAL_DATE_TIME,
+        LOCAL_TIME,
+        INSTANT,
+        BYTES,
+        UJO,
+        LIST,
+        WRAPPER,
+        /** A text of the UjoCoder */
+        TEXT;
+
+        /** Returns a value type of the declared class */
+        @NotNull
+        static ValueType of(@NotNull final Class<?> type) {
+            if (type == String.class) {
+                return STRING;
+            } else if (type == Integer.class) {
+                return INTEGER;
+            } else if (type == Long.class) {
+                return LONG;
+            } else if (type == Short.class) {
+                return SHORT;
+            } else if (type == Byte.class) {
+                return BYTE;
+            } else if (type == Boolean.class) {
+                return BOOLEAN;
+            } else if (type == Character.class) {
+                return CHARACTER;
+            } else if (type == Float.class) {
+                return FLOAT;
+            } else if (type == Double.class) {
+                return DOUBLE;
+            } else if (type == BigDecimal.class) {
+                return BIG_DECIMAL;
+            } else if (type == BigInteger.class) {
+                return BIG_INTEGER;
+            } else if (type.isEnum()) {
+                return ENUM;
+            } else if (type == Date.class) {
+                return DATE;
+            } else if (type == java.sql.Date.class) {
+                return SQL_DATE;
+            } else if (type == LocalDate.class) {
+                return LOCAL_DATE;
+            } else if (type == LocalDateTime.class) {
+                return LOCAL_DATE_TIME;
+            } else if (type == LocalTime.class) {
+                return LOCAL_TIME;
+            } else if (type == Instant.class) {
+                return INSTANT;
+            } else if (type == byte[].class) {
+                return BYTES;
+            } else if (Ujo.class.isAssignableFrom(type)) {
+                return UJO;
+            } else if (List.class.isAssignableFrom(type)) {
+                return LIST;
+            } else if (ValueWrapper.class.isAssignableFrom(type)) {
+                return WRAPPER;
+            } else {
+                return TEXT;
+            }
+        }
+    }
+
+    /** A streaming encoder of Ujo objects with its own string table */
+    public final class Encoder implements Closeable, Flushable {
+
+        /** An optional output stream */
+        @Nullable
+        private final OutputStream out;
+        /** Interned strings */
+        private final Map<String, Integer> strings = new HashMap<>();
+        /** A byte buffer */
+        @NotNull
+        private byte[] buffer = new byte[BUFFER_SIZE];
+        /** A position in the buffer */
+        private int position = 0;
+
+        private Encoder(@Nullable final OutputStream out) {
+            this.out = out;
+            System.arraycopy(HEADER, 0, buffer, 0, HEADER.length);
+            position = HEADER.length;
+        }
+
+        /** Write a Ujo object of the root type */
+        public Encoder write(@NotNull final U ujo) throws IllegalUjormException {
+            try {
+                writeObject(ujo, getUjoClass());
+                if (out != null && position >= BUFFER_SIZE) {
+                    drain();
+                }
+                return this;
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalUjormException("Encoding failed for the " + ujo.getClass(), e);
+            }
+        }
+
+        /** Write the object including its class reference */
+        @SuppressWarnings("unchecked")
+        private void writeObject(@NotNull final Ujo ujo, @NotNull final Class<?> type) throws IOException {
+            if (ujo.getClass() == type) {
+                writeByte(0);
+            } else {
+                writeByte(1);
+                writeString(ujo.getClass().getName());
+            }
+            final KeyList<?> keys = ujo.readKeys();
+            final int size = keys.size();
+            final Object[] values = new Object[size];
+            final byte[] bitmap = new byte[(size + 7) >> 3];
+            for (int i = 0; i < size; i++) {
+                final Key key = keys.get(i);
+                final Object value = getUjoManager().isTransient(key) ? null : key.of(ujo);
+                if (value != null) {
+                    values[i] = value;
+                    bitmap[i >> 3] |= 1 << (i & 7);
+                }
+            }
+            writeBytes(bitmap, bitmap.length);
+            for (int i = 0; i < size; i++) {
+                if (values[i] != null) {
+                    final Key<?,?> key = keys.get(i);
+                    writeValue(key.getType(), values[i], key);
+                }
+            }
+        }
+
+        /** Write a not null value by the declared type */
+        private void writeValue(@NotNull final Class<?> type, @NotNull final Object value, @Nullable final Key<?,?> key) throws IOException {
+            switch (getValueType(type)) {
+                case STRING:
+                    writeString((String) value);
+                    break;
+                case INTEGER:
+                case SHORT:
+                case BYTE:
+                    writeVarLong(zigZag(((Number) value).longValue()));
+                    break;
+                case LONG:
+                    writeVarLong(zigZag((Long) value));
+                    break;
+                case BOOLEAN:
+                    writeByte((Boolean) value ? 1 : 0);
+                    break;
+                case CHARACTER:
+                    writeVarLong((Character) value);
+                    break;
+                case FLOAT:
+                    writeFixed(Float.floatToIntBits((Float) value), 4);
+                    break;
+                case DOUBLE:
+                    writeFixed(Double.doubleToLongBits((Double) value), 8);
+                    break;
+                case BIG_DECIMAL:
+                    final BigDecimal decimal = (BigDecimal) value;
+                    writeVarLong(zigZag(decimal.scale()));
+                    writeBigInteger(decimal.unscaledValue());
+                    break;
+                case BIG_INTEGER:
+                    writeBigInteger((BigInteger) value);
+                    break;
+                case ENUM:
+                    writeVarLong(((Enum<?>) value).ordinal());
+                    break;
+                case DATE:
+                case SQL_DATE:
+                    writeVarLong(zigZag(((Date) value).getTime()));
+                    break;
+                case LOCAL_DATE:
+                    writeVarLong(zigZag(((LocalDate) value).toEpochDay()));
+                    break;
+                case LOCAL_DATE_TIME:
+                    final LocalDateTime dateTime = (LocalDateTime) value;
+                    writeVarLong(zigZag(dateTime.toEpochSecond(ZoneOffset.UTC)));
+                    writeVarLong(dateTime.getNano());
+                    break;
+                case LOCAL_TIME:
+                    writeVarLong(((LocalTime) value).toNanoOfDay());
+                    break;
+                case INSTANT:
+                    final Instant instant = (Instant) value;
+                    writeVarLong(zigZag(instant.getEpochSecond()));
+                    writeVarLong(instant.getNano());
+                    break;
+                case BYTES:
+                    final byte[] bytes = (byte[]) value;
+                    writeVarLong(bytes.length);
+                    writeBytes(bytes, bytes.length);
+                    break;
+                case UJO:
+                    writeObject((Ujo) value, type);
+                    break;
+                case LIST:
+                    writeList((List<?>) value, key != null ? getItemType(key) : Object.class);
+                    break;
+                case WRAPPER:
+                    writeValue(getPersistentType(type), ((ValueWrapper<?,?>) value).readPersistentValue(), null);
+                    break;
+                default:
+                    writeString(getUjoManager().encodeValue(value, false));
+            }
+        }
+
+        /** Write a list including a bitmap of null items */
+        private void writeList(@NotNull final List<?> items, @NotNull final Class<?> itemType) throws IOException {
+            final int size = items.size();
+            writeVarLong(size);
+            final byte[] bitmap = new byte[(size + 7) >> 3];
+            for (int i = 0; i < size; i++) {
+                if (items.get(i) != null) {
+                    bitmap[i >> 3] |= 1 << (i & 7);
+                }
+            }
+            writeBytes(bitmap, bitmap.length);
+            for (int i = 0; i < size; i++) {
+                final Object item = items.get(i);
+                if (item != null) {
+                    writeValue(itemType, item, null);
+                }
+            }
+        }
+
+        /** Write a string: a reference to the string table or a new string */
+        private void writeString(@NotNull final String text) throws IOException {
+            final Integer index = strings.get(text);
+            if (index != null) {
+                writeVarLong(index + 1);
+                return;
+            }
+            if (text.length() <= STRING_INTERN_LENGTH && strings.size() < STRING_TABLE_LIMIT) {
+                strings.put(text, strings.size());
+            }
+            final int length = text.length();
+            writeByte(0);
+            writeVarLong(length);
+            ensure(3 * length);
+            for (int i = 0; i < length; i++) {
+                final char c = text.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else {
+                    writeVarLong(c);
+                }
+            }
+        }
+
+        /** Write a big integer */
+        private void writeBigInteger(@NotNull final BigInteger value) throws IOException {
+            if (value.bitLength() < 64) {
+                writeByte(0);
+                writeVarLong(zigZag(value.longValue()));
+            } else {
+                final byte[] bytes = value.toByteArray();
+                writeVarLong(bytes.length);
+                writeBytes(bytes, bytes.length);
+            }
+        }
+
+        /** Write a number in the Little Endian order */
+        private void writeFixed(final long value, final int bytes) throws IOException {
+            ensure(bytes);
+            for (int i = 0; i < bytes; i++) {
+                buffer[position++] = (byte) (value >>> (i << 3));
+            }
+        }
+
+        /** Write an unsigned variable-length number */
+        private void writeVarLong(long value) throws IOException {
+            ensure(10);
+            while ((value & ~0x7FL) != 0L) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        /** Write one byte */
+        private void writeByte(final int value) throws IOException {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        /** Write bytes */
+        private void writeBytes(@NotNull final byte[] bytes, final int length) throws IOException {
+            ensure(length);
+            System.arraycopy(bytes, 0, buffer, position, length);
+            position += length;
+        }
+
+        /** Ensure a free space in the buffer */
+        private void ensure(final int length) throws IOException {
+            if (position + length > buffer.length) {
+                if (out != null) {
+                    drain();
+                }
+                if (position + length > buffer.length) {
+                    buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, position + length));
+                }
+            }
+        }
+
+        /** Write the buffer to the stream */
+        private void drain() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (out != null) {
+                drain();
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) {
+                flush();
+                out.close();
+            }
+        }
+    }
+
+    /** A streaming decoder of Ujo objects with its own string table */
+    public final class Decoder implements Closeable {
+
+        /** An optional input stream */
+        @Nullable
+        private final InputStream in;
+        /** An optional source buffer */
+        @Nullable
+        private final ByteBuffer source;
+        /** An offset of the source buffer */
+        private final int offset;
+        /** Interned strings */
+        private final List<String> strings = new ArrayList<>();
+        /** Classes by a name */
+        private final Map<String, Class<?>> classes = new HashMap<>();
+        /** A byte buffer */
+        @NotNull
+        private byte[] buffer;
+        /** A position in the buffer */
+        private int position;
+        /** Count of valid bytes in the buffer */
+        private int limit;
+        /** Was the header read? */
+        private boolean started = false;
+
+        private Decoder(@Nullable final InputStream in, @Nullable final ByteBuffer source) {
+            this.in = in;
+            this.source = source;
+            if (source == null) {
+                this.buffer = new byte[BUFFER_SIZE];
+                this.offset = 0;
+            } else if (source.hasArray()) {
+                this.buffer = source.array();
+                this.offset = source.arrayOffset();
+                this.position = offset + source.position();
+                this.limit = offset + source.limit();
+            } else {
+                this.buffer = new byte[source.remaining()];
+                this.offset = -source.position();
+                source.duplicate().get(buffer);
+                this.limit = buffer.length;
+            }
+        }
+
+        /** Read the next object or returns the {@code null} value at the end of the input */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public U read() throws IllegalUjormException {
+            try {
+                if (!started) {
+                    started = true;
+                    for (byte b : HEADER) {
+                        if (!available(1) || buffer[position++] != b) {
+                            throw new IllegalUjormException("Unsupported format of the input");
+                        }
+                    }
+                }
+                if (!available(1)) {
+                    return null;
+                }
+                final U result = (U) readObject(getUjoClass());
+                if (source != null) {
+                    source.position(position - offset);
+                }
+                return result;
+            } catch (IOException | ReflectiveOperationException | RuntimeException e) {
+                throw new IllegalUjormException("Decoding failed for the " + getUjoClass(), e);
+            }
+        }
+
+        /** Returns a lazy stream of the rest objects */
+        @NotNull
+        public Stream<U> stream() {
+            final Spliterator<U> items = new Spliterators.AbstractSpliterator<U>
+                    (Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(final Consumer<? super U> consumer) {
+                    final U item = read();
+                    if (item != null) {
+                        consumer.accept(item);
+                    }
+                    return item != null;
+                }
+            };
+            return StreamSupport.stream(items, false);
+        }
+
+        /** Read an object including its class reference */
+        @NotNull
+        private Ujo readObject(@NotNull Class<?> type) throws IOException, ReflectiveOperationException {
+            if (readByte() != 0) {
+                type = getClass(readString(), type);
+            }
+            final Ujo result = (Ujo) type.getDeclaredConstructor().newInstance();
+            final KeyList<?> keys = result.readKeys();
+            final int size = keys.size();
+            final byte[] bitmap = readBitmap(size);
+            for (int i = 0; i < size; i++) {
+                if ((bitmap[i >> 3] & (1 << (i & 7))) != 0) {
+                    final Key<?,?> key = keys.get(i);
+                    UjoManager.setValue(result, key, readValue(key.getType(), key));
+                }
+            }
+            return result;
+        }
+
+        /** Read a not null value by the declared type */
+        @NotNull
+        @SuppressWarnings("unchecked")
+        private Object readValue(@NotNull final Class<?> type, @Nullable final Key<?,?> key) throws IOException, ReflectiveOperationException {
+            switch (getValueType(type)) {
+                case STRING:
+                    return readString();
+                case INTEGER:
+                    return (int) unZigZag(readVarLong());
+                case LONG:
+                    return unZigZag(readVarLong());
+                case SHORT:
+                    return (short) unZigZag(readVarLong());
+                case BYTE:
+                    return (byte) unZigZag(readVarLong());
+                case BOOLEAN:
+                    return readByte() != 0;
+                case CHARACTER:
+                    return (char) readVarLong();
+                case FLOAT:
+                    return Float.intBitsToFloat((int) readFixed(4));
+                case DOUBLE:
+                    return Double.longBitsToDouble(readFixed(8));
+                case BIG_DECIMAL:
+                    final int scale = (int) unZigZag(readVarLong());
+                    return new BigDecimal(readBigInteger(), scale);
+                case BIG_INTEGER:
+                    return readBigInteger();
+                case ENUM:
+                    return type.getEnumConstants()[(int) readVarLong()];
+                case DATE:
+                    return new Date(unZigZag(readVarLong()));
+                case SQL_DATE:
+                    return new java.sql.Date(unZigZag(readVarLong()));
+                case LOCAL_DATE:
+                    return LocalDate.ofEpochDay(unZigZag(readVarLong()));
+                case LOCAL_DATE_TIME:
+                    final long seconds = unZigZag(readVarLong());
+                    return LocalDateTime.ofEpochSecond(seconds, (int) readVarLong(), ZoneOffset.UTC);
+                case LOCAL_TIME:
+                    return LocalTime.ofNanoOfDay(readVarLong());
+                case INSTANT:
+                    final long epochSeconds = unZigZag(readVarLong());
+                    return Instant.ofEpochSecond(epochSeconds, readVarLong());
+                case BYTES:
+                    final int length = (int) readVarLong();
+                    require(length);
+                    position += length;
+                    return Arrays.copyOfRange(buffer, position - length, position);
+                case UJO:
+                    return readObject(type);
+                case LIST:
+                    return readList(key != null ? getItemType(key) : Object.class);
+                case WRAPPER:
+                    return ValueWrapper.getInstance((Class<ValueWrapper>) type, readValue(getPersistentType(type), null));
+                default:
+                    return getUjoManager().decodeValue(type, readString());
+            }
+        }
+
+        /** Read a list including a bitmap of null items */
+        @NotNull
+        private List<Object> readList(@NotNull final Class<?> itemType) throws IOException, ReflectiveOperationException {
+            final int size = (int) readVarLong();
+            final byte[] bitmap = readBitmap(size);
+            final List<Object> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add((bitmap[i >> 3] & (1 << (i & 7))) != 0
+                        ? readValue(itemType, null)
+                        : null);
+            }
+            return result;
+        }
+
+        /** Read a bitmap of not null values */
+        @NotNull
+        private byte[] readBitmap(final int size) throws IOException {
+            final int length = (size + 7) >> 3;
+            require(length);
+            position += length;
+            return Arrays.copyOfRange(buffer, position - length, position);
+        }
+
+        /** Read a string: a reference to the string table or a new string */
+        @NotNull
+        private String readString() throws IOException {
+            final int index = (int) readVarLong();
+            if (index > 0) {
+                return strings.get(index - 1);
+            }
+            final int length = (int) readVarLong();
+            final char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                if (position < limit && buffer[position] >= 0) {
+                    chars[i] = (char) buffer[position++];
+                } else {
+                    chars[i] = (char) readVarLong();
+                }
+            }
+            final String result = new String(chars);
+            if (length <= STRING_INTERN_LENGTH && strings.size() < STRING_TABLE_LIMIT) {
+                strings.add(result);
+            }
+            return result;
+        }
+
+        /** Read a big integer */
+        @NotNull
+        private BigInteger readBigInteger() throws IOException {
+            final int length = (int) readVarLong();
+            if (length == 0) {
+                return BigInteger.valueOf(unZigZag(readVarLong()));
+            }
+            require(length);
+            position += length;
+            return new BigInteger(buffer, position - length, length);
+        }
+
+        /** Read a number in the Little Endian order */
+        private long readFixed(final int bytes) throws IOException {
+            require(bytes);
+            long result = 0L;
+            for (int i = 0; i < bytes; i++) {
+                result |= (buffer[position++] & 0xFFL) << (i << 3);
+            }
+            return result;
+        }
+
+        /** Read an unsigned variable-length number */
+        private long readVarLong() throws IOException {
+            long result = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalUjormException("Malformed number");
+        }
+
+        /** Read one byte */
+        private int readByte() throws IOException {
+            require(1);
+            return buffer[position++];
+        }
+
+        /** Require the count of bytes in the buffer */
+        private void require(final int length) throws IOException {
+            if (!available(length)) {
+                throw new IllegalUjormException("Unexpected end of the input");
+            }
+        }
+
+        /** Are the bytes available in the buffer? The method reads more data from the stream if required. */
+        private boolean available(final int length) throws IOException {
+            if (position + length <= limit) {
+                return true;
+            }
+            if (in == null) {
+                return false;
+            }
+            final int rest = limit - position;
+            if (length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, length));
+            }
+            System.arraycopy(buffer, position, buffer, 0, rest);
+            position = 0;
+            limit = rest;
+            while (limit < length) {
+                final int count = in.read(buffer, limit, buffer.length - limit);
+                if (count < 0) {
+                    return false;
+                }
+                limit += count;
+            }
+            return true;
+        }
+
+        /** Returns a class of the name, the class must be a subtype of the declared type */
+        @NotNull
+        private Class<?> getClass(@NotNull final String className, @NotNull final Class<?> type) throws ClassNotFoundException {
+            Class<?> result = classes.get(className);
+            if (result == null) {
+                result = Class.forName(className, false, type.getClassLoader());
+                classes.put(className, result);
+            }
+            if (!type.isAssignableFrom(result)) {
+                throw new IllegalUjormException("The " + result + " is not a subtype of the " + type);
+            }
+            return result;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (in != null) {
+                in.close();
+            }
+        }
+    }
+
+    /** ZigZag encoding of a signed number */
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /** ZigZag decoding of a signed number */
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
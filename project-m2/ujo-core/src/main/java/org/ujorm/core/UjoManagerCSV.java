@@ -25,13 +25,23 @@ import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.Nullable;
 import org.ujorm.Key;
 import org.ujorm.KeyList;
+import org.ujorm.ListKey;
 import org.ujorm.Ujo;
 import org.ujorm.UjoAction;
+import org.ujorm.extensions.UjoTextable;
 import org.ujorm.tools.Check;
 import org.ujorm.tools.msg.MsgFormatter;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -139,22 +149,48 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
     }
 
     /** Save Ujo into CSV format */
-    @SuppressWarnings("unchecked")
     public void saveCSV(Writer out, List<U> ujoList, Object context)
             throws IllegalStateException {
+        saveCSV(out, ujoList.iterator(), context);
+    }
+
+    /** Save a stream of Ujo objects into CSV format, the rows are not collected.
+     * @param out Output writer, the writer is not closed
+     * @param rows Rows to export
+     * @param context Context of saving
+     * @since 2.30
+     */
+    public void saveCSV(Writer out, Stream<U> rows, Object context)
+            throws IllegalStateException {
+        saveCSV(out, rows.iterator(), context);
+    }
+
+    /** Save Ujo rows into CSV format one by one */
+    @SuppressWarnings("unchecked")
+    protected void saveCSV(Writer out, Iterator<U> rows, Object context)
+            throws IllegalStateException {
         try {
+            final UjoAction action = new UjoActionImpl(UjoAction.ACTION_CSV_EXPORT, context);
+            final Key[] keys = getKeys().toArray();
+            final boolean[] transients = new boolean[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                transients[i] = getUjoManager().isTransient(keys[i]);
+            }
+            U first = rows.hasNext() ? rows.next() : null;
+
             if (printHeader) {
                 if (isHeaderFilled()) {
                     printHeaders(out);
                 } else {
-                    final U ujo = ujoList.size() > 0
-                            ? ujoList.get(0)
+                    final U ujo = first != null
+                            ? first
                             : getUjoClass().newInstance();
                     boolean printSepar = false;
-                    for (Key p : getKeys()) {
-                        if (!getUjoManager().isTransient(p)
+                    for (int i = 0; i < keys.length; i++) {
+                        final Key p = keys[i];
+                        if (!transients[i]
                                 && (ujo == null
-                                || ujo.readAuthorization(new UjoActionImpl(UjoAction.ACTION_CSV_EXPORT, context), p, null))
+                                || ujo.readAuthorization(action, p, null))
                         ){
                             if (printSepar) {
                                 out.write(separator);
@@ -168,13 +204,13 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
                 out.write(newLine);
             }
 
-            for (U ujo : ujoList) {
+            for (U ujo = first; ujo != null; ujo = rows.hasNext() ? rows.next() : null) {
                 boolean printSepar = false;
-                for (Key p : getKeys()) {
-                    UjoAction action = new UjoActionImpl(UjoAction.ACTION_CSV_EXPORT, context);
+                for (int i = 0; i < keys.length; i++) {
+                    final Key p = keys[i];
                     final String value = getText(ujo, p, UNDEFINED, action);
                     if (ujo.readAuthorization(action, p, value)
-                            && !getUjoManager().isTransient(p)
+                            && !transients[i]
                     ){
                         if (printSepar) {
                             out.write(separator);
@@ -232,6 +268,35 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
      */
     public List<U> loadCSV(Scanner inp, Object context) throws IllegalStateException {
         final List<U> result = new ArrayList<>(128);
+        loadCSV(inp, () -> {
+            final U ujo = newUjo(context);
+            result.add(ujo);
+            return ujo;
+        }, context);
+        return result;
+    }
+
+    /** Load rows from CSV format into a columnar table.
+     * @param inp An input data
+     * @param table A target table, the table keys must contain all keys of the current manager.
+     * @param context Context of loading will be passed to the method
+     * {@link Ujo#readAuthorization(org.ujorm.UjoAction, org.ujorm.Key, java.lang.Object)}
+     * inside an UjoAction
+     * @return The table from the argument
+     * @throws IllegalStateException can be throwed in case the header check failed
+     */
+    public UjoTable<U> loadCSV(Scanner inp, UjoTable<U> table, Object context) throws IllegalStateException {
+        loadCSV(inp, table::addRow, this::writeValue, context);
+        return table;
+    }
+
+    /** Load rows from the CSV format where each row is created by the rowFactory. */
+    protected void loadCSV(Scanner inp, Supplier<U> rowFactory, Object context) throws IllegalStateException {
+        loadCSV(inp, rowFactory, this::writeValue, context);
+    }
+
+    /** Load rows from the CSV format where each row is created by the rowFactory and each cell is written by the cellWriter. */
+    private <R extends Ujo> void loadCSV(Scanner inp, Supplier<R> rowFactory, CellWriter<R> cellWriter, Object context) throws IllegalStateException {
         final StringBuilder value = new StringBuilder(32);
         final UjoAction action = new UjoActionImpl(context);
         boolean readHeader = printHeader;
@@ -255,8 +320,7 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
                     readHeader = false;
                     continue;
                 }
-                final U ujo = getUjoClass().newInstance();
-                result.add(ujo);
+                final R ujo = rowFactory.get();
                 int keyPointer = 0;  // Key pointer
 
                 for (int i = 0, max = line.length(); i < max; i++) {
@@ -276,7 +340,7 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
 
                     } else { // Outside a quotation
                         if (c == separator) {
-                            writeValue(ujo, value, keyPointer++, lineCounter, action);
+                            cellWriter.write(ujo, value, keyPointer++, lineCounter, action);
                             value.setLength(0);
                         } else if (c == QUOTATION) {
                             inside = true;
@@ -294,13 +358,91 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
                         ++lineCounter;
                     }
                 }
-                writeValue(ujo, value, keyPointer++, lineCounter, action);
+                cellWriter.write(ujo, value, keyPointer++, lineCounter, action);
                 value.setLength(0);
             }
-        } catch (RuntimeException | ReflectiveOperationException e) {
+        } catch (RuntimeException e) {
             throwsCsvFailed(e, context);
         }
-        return result;
+    }
+
+    /** Load rows from the CSV format one by one, the rows are not collected.
+     * The rows are read by the streaming tokenizer of the method {@link #stream(Reader, Object)},
+     * the original methods {@code loadCSV(File ...)} and {@code loadCSV(Scanner ...)} keep their parser.
+     * @param reader An input data, the reader is not closed
+     * @param consumer A consumer of the rows in the original order
+     * @param context Context of loading will be passed to the method
+     * {@link Ujo#readAuthorization(org.ujorm.UjoAction, org.ujorm.Key, java.lang.Object)}
+     * inside an UjoAction
+     * @throws IllegalStateException can be throwed in case the header check failed
+     * @since 2.30
+     */
+    public void loadCSV(Reader reader, Consumer<? super U> consumer, Object context) throws IllegalStateException {
+        stream(reader, context).forEachOrdered(consumer);
+    }
+
+    /** Returns a lazy stream of rows from the CSV format.
+     * The input is tokenized sequentially (including quoted values with line breaks),
+     * the rows of a parallel stream are decoded in chunks by more threads.
+     * Use the method {@link Stream#forEachOrdered(java.util.function.Consumer) forEachOrdered()}
+     * to keep the original order of the parallel stream.
+     * @param reader An input data, the reader is not closed
+     * @param context Context of loading will be passed to the method
+     * {@link Ujo#readAuthorization(org.ujorm.UjoAction, org.ujorm.Key, java.lang.Object)}
+     * inside an UjoAction
+     * @since 2.30
+     */
+    public Stream<U> stream(Reader reader, Object context) throws IllegalStateException {
+        final CsvTokenizer tokenizer = new CsvTokenizer(reader, separator, QUOTATION);
+        final RowDecoder decoder = new RowDecoder(context);
+        final Spliterator<CsvRow> rows = new Spliterators.AbstractSpliterator<CsvRow>
+                (Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean readHeader = printHeader;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super CsvRow> action) {
+                try {
+                    while (true) {
+                        if (readHeader && isHeaderFilled()) {
+                            tokenizer.captureRawRow();
+                        }
+                        String[] cells = tokenizer.nextRow();
+                        if (cells == null) {
+                            return false;
+                        }
+                        if (cells == CsvTokenizer.EMPTY_LINE) {
+                            if (skipEmptyLines) {
+                                continue;
+                            }
+                            cells = new String[] {""};
+                        }
+                        if (readHeader) {
+                            if (isHeaderFilled()
+                            && !tokenizer.getRawRow().startsWith(getHeaderContent())) {
+                                throw new IllegalUjormException("The import header must start with the: " + getHeaders());
+                            }
+                            readHeader = false;
+                            continue;
+                        }
+                        action.accept(new CsvRow(cells, tokenizer.getLineNumber()));
+                        return true;
+                    }
+                } catch (RuntimeException | IOException e) {
+                    throwsCsvFailed(e, context);
+                    return false;
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false).map(decoder::decode);
+    }
+
+    /** Create a new instance of the domain class */
+    private U newUjo(Object context) throws IllegalStateException {
+        try {
+            return getUjoClass().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalUjormException("New instance failed for a context: " + context, e);
+        }
     }
 
     /** Write value to U. */
@@ -311,10 +453,33 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
     , final int lineCounter
     , final UjoAction action
     ) throws IllegalArgumentException {
+        final Key<U, ?> key = getKey(value, keyPointer, lineCounter);
+        if (key != null) {
+            setText(ujo, key, null, value.toString(), action);
+        }
+    }
+
+    /** Write a value to the table row */
+    private void writeValue
+    ( final UjoTable<U>.Row row
+    , final StringBuilder value
+    , final int keyPointer
+    , final int lineCounter
+    , final UjoAction action
+    ) throws IllegalArgumentException {
+        final Key<U, ?> key = getKey(value, keyPointer, lineCounter);
+        if (key != null) {
+            row.writeValue(key, getUjoManager().decodeValue(key, value.toString(), null));
+        }
+    }
+
+    /** Returns a key of the column or {@code null} if the last column can be skipped */
+    @Nullable
+    private Key<U, ?> getKey(final StringBuilder value, final int keyPointer, final int lineCounter) {
         final KeyList<U> keys = getKeys();
         if (keyPointer >= keys.size()) {
             if (skipLastColumns || value.length() == 0) {
-                return;
+                return null;
             }
             String msg = MsgFormatter.format("Too many columns on the row {} with value '{}'."
                     + " Try to modify the attribute: {}."
@@ -323,7 +488,7 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
                     , "skipLastColumns");
             throw new IllegalStateException(msg);
         }
-        setText(ujo, keys.get(keyPointer), null, value.toString(), action);
+        return keys.get(keyPointer);
     }
 
     /** Print Text */
@@ -335,13 +500,13 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
         ){
             out.write(QUOTATION);
 
-            for (int i = 0, max = value.length(); i < max; i++) {
-                final char c = value.charAt(i);
-                out.write(c);
-                if (c == QUOTATION) {
-                    out.write(c); // Print second quotation
-                }
+            int start = 0;
+            for (int i = value.indexOf(QUOTATION); i >= 0; i = value.indexOf(QUOTATION, start)) {
+                out.write(value, start, i + 1 - start);
+                out.write(QUOTATION); // Print second quotation
+                start = i + 1;
             }
+            out.write(value, start, value.length() - start);
             out.write(QUOTATION);
         } else {
             out.write(value);
@@ -491,6 +656,68 @@ public class UjoManagerCSV<U extends Ujo> extends UjoService<U> {
         throw new IllegalUjormException("CSV failed for a context: " + context, e);
     }
 
+    /** Tokenized values of a CSV row */
+    private record CsvRow(String[] cells, int line) {}
+
+    /** A writer of a cell value to the row */
+    @FunctionalInterface
+    private interface CellWriter<R extends Ujo> {
+        void write(R row, StringBuilder value, int keyPointer, int lineCounter, UjoAction action);
+    }
+
+    /** A decoder of the CSV rows with writers resolved for each key */
+    private final class RowDecoder {
+        /** Context of loading */
+        private final Object context;
+        /** Writers of the cell values by the key index */
+        private final List<BiConsumer<U, String>> writers;
+
+        RowDecoder(final Object context) {
+            final UjoAction action = new UjoActionImpl(context);
+            final UjoManager manager = getUjoManager();
+            this.context = context;
+            this.writers = new ArrayList<>();
+            for (Key key : getKeys()) {
+                final BiConsumer<U, String> writer;
+                if (isTextable() && !key.isComposite()) {
+                    writer = (ujo, text) -> ((UjoTextable) ujo).writeValueString(key, text, null, action);
+                } else if (key.getType() == String.class && !key.isComposite()) {
+                    writer = (ujo, text) -> ujo.writeValue(key, text);
+                } else {
+                    final ValueCodec<?> codec = manager.getCodec(key);
+                    writer = key.isComposite() || key instanceof ListKey
+                            ? (ujo, text) -> UjoManager.setValue(ujo, key, codec.decode(text))
+                            : (ujo, text) -> ujo.writeValue(key, codec.decode(text));
+                }
+                writers.add(writer);
+            }
+        }
+
+        /** Create a new row */
+        U decode(final CsvRow row) throws IllegalStateException {
+            try {
+                final U result = newUjo(context);
+                final String[] cells = row.cells();
+                for (int i = 0; i < cells.length; i++) {
+                    if (i < writers.size()) {
+                        writers.get(i).accept(result, cells[i]);
+                    } else if (!skipLastColumns && !cells[i].isEmpty()) {
+                        String msg = MsgFormatter.format("Too many columns on the row {} with value '{}'."
+                                + " Try to modify the attribute: {}."
+                                , row.line()
+                                , cells[i]
+                                , "skipLastColumns");
+                        throw new IllegalStateException(msg);
+                    }
+                }
+                return result;
+            } catch (RuntimeException e) {
+                throwsCsvFailed(e, context);
+                return null;
+            }
+        }
+    }
+
     // -------------- STATIC ----------------
 
     /** Create new instance */
@@ -0,0 +1,507 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.Key;
+import org.ujorm.ListKey;
+import org.ujorm.Ujo;
+import org.ujorm.UjoAction;
+import org.ujorm.core.JsonTokenizer.Token;
+import org.ujorm.extensions.UjoTextable;
+import org.ujorm.extensions.ValueWrapper;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A Manager for a streaming JSON import / export of Ujo objects.
+ * The objects are written and read by keys of the method {@link Ujo#readKeys()}
+ * without an intermediate document model. A nested Ujo is written as a JSON object,
+ * a List as a JSON array, Boolean and Number values (including a ValueWrapper
+ * of a number) as JSON literals and other values as text by the {@link UjoCoder}.
+ * The null values and transient keys are skipped.
+ * If a class of a nested Ujo differs from the type of its Key, the class name is written
+ * by the first member called {@code javaClass}.
+ * <h3>Sample of usage</h3>
+ * <pre class="pre">
+ *  UjoManagerJSON&lt;Person&gt; manager = UjoManagerJSON.of(Person.<span class="java-keywords">class</span>);
+ *
+ *  <span class="java-block-comment">// Save JSON:</span>
+ *  manager.<span class="java-layer-method">saveJSON</span>(writer, person, <span class="java-string-literal">"SaveContext"</span>);
+ *
+ *  <span class="java-block-comment">// Load JSON:</span>
+ *  person = manager.<span class="java-layer-method">parseJSON</span>(reader, <span class="java-string-literal">"LoadContext"</span>);
+ * </pre>
+ * The instance is thread safe.
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+public class UjoManagerJSON<U extends Ujo> extends UjoService<U> {
+
+    /** A name of Java Class of a JSON member. */
+    public static final String ATTR_CLASS = UjoManagerXML.ATTR_CLASS;
+
+    /** Readable keys by a name for a Ujo class */
+    private final Map<Class<?>, Map<String, Key>> keyMaps = new ConcurrentHashMap<>();
+    /** Default constructors of the Ujo classes */
+    private final Map<Class<?>, MethodHandle> constructors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of UjoManagerJSON
+     * @param ujoClass A root Ujo Class
+     */
+    public UjoManagerJSON(@NotNull final Class<U> ujoClass) {
+        super(ujoClass);
+    }
+
+    // ---- EXPORT ----
+
+    /** Write the Ujo object to the JSON format by code page UTF-8, the stream is not closed. */
+    public void saveJSON(@NotNull final OutputStream out, @Nullable final U ujo, Object context) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+        saveJSON(writer, ujo, context);
+        writer.flush();
+    }
+
+    /** Write the Ujo object to the JSON format.
+     * @param out An output
+     * @param ujo The Ujo object or the {@code null} value
+     * @param context Context of saving will be passed to the method
+     * {@link Ujo#readAuthorization(org.ujorm.UjoAction, org.ujorm.Key, java.lang.Object)}
+     * inside an UjoAction
+     */
+    public void saveJSON(@NotNull final Appendable out, @Nullable final U ujo, Object context) throws IOException {
+        final UjoAction action = new UjoActionImpl(UjoAction.ACTION_JSON_EXPORT, context);
+        printObject(out, ujo, null, action);
+    }
+
+    /** Write Ujo objects to a JSON array by code page UTF-8, the stream is not closed. */
+    public void saveJSON(@NotNull final OutputStream out, @NotNull final Stream<? extends U> ujos, Object context) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+        saveJSON(writer, ujos, context);
+        writer.flush();
+    }
+
+    /** Write Ujo objects to a JSON array one by one, the objects are not collected.
+     * @param out An output
+     * @param ujos The Ujo objects
+     * @param context Context of saving will be passed to the method
+     * {@link Ujo#readAuthorization(org.ujorm.UjoAction, org.ujorm.Key, java.lang.Object)}
+     * inside an UjoAction
+     */
+    public void saveJSON(@NotNull final Appendable out, @NotNull final Stream<? extends U> ujos, Object context) throws IOException {
+        final UjoAction action = new UjoActionImpl(UjoAction.ACTION_JSON_EXPORT, context);
+        final Iterator<? extends U> it = ujos.iterator();
+        out.append('[');
+        for (boolean first = true; it.hasNext(); first = false) {
+            if (!first) {
+                out.append(',');
+            }
+            printObject(out, it.next(), null, action);
+        }
+        out.append(']');
+    }
+
+    /** Print the Ujo object
+     * @param out An output
+     * @param ujo The Ujo object or the {@code null} value
+     * @param type A declared type or the {@code null} value to skip the class name
+     * @param action An action
+     */
+    @SuppressWarnings("unchecked")
+    protected void printObject
+            ( @NotNull final Appendable out
+            , @Nullable final Ujo ujo
+            , @Nullable final Class<?> type
+            , @NotNull final UjoAction action
+            ) throws IOException {
+        if (ujo == null) {
+            out.append("null");
+            return;
+        }
+        boolean first = true;
+        out.append('{');
+        if (type != null && type != ujo.getClass()) {
+            printString(out, ATTR_CLASS);
+            out.append(':');
+            printString(out, ujo.getClass().getName());
+            first = false;
+        }
+        for (Key key : ujo.readKeys()) {
+            if (getUjoManager().isTransient(key)) {
+                continue;
+            }
+            final Object value = key.of(ujo);
+            if (value == null
+            || !ujo.readAuthorization(action, key, value)) {
+                continue;
+            }
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            printString(out, key.getName());
+            out.append(':');
+
+            if (value instanceof Ujo) {
+                printObject(out, (Ujo) value, key.getType(), action);
+            } else if (value instanceof List) {
+                final Class<?> itemType = key instanceof ListKey ? ((ListKey) key).getItemType() : null;
+                printArray(out, (List<?>) value, itemType, action);
+            } else if (isLiteral(value)) {
+                out.append(getUjoManager().encodeValue(value, false));
+            } else {
+                printString(out, ujo instanceof UjoTextable
+                        ? ((UjoTextable) ujo).readValueString(key, action)
+                        : getUjoManager().encodeValue(value, false));
+            }
+        }
+        out.append('}');
+    }
+
+    /** Print items of the list */
+    protected void printArray
+            ( @NotNull final Appendable out
+            , @NotNull final List<?> items
+            , @Nullable final Class<?> itemType
+            , @NotNull final UjoAction action
+            ) throws IOException {
+        out.append('[');
+        for (int i = 0, max = items.size(); i < max; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            final Object item = items.get(i);
+            if (item == null || item instanceof Ujo) {
+                printObject(out, (Ujo) item, itemType, action);
+            } else if (isLiteral(item)) {
+                out.append(getUjoManager().encodeValue(item, false));
+            } else {
+                printString(out, getUjoManager().encodeValue(item, false));
+            }
+        }
+        out.append(']');
+    }
+
+    /** Can be the value written as a JSON literal? */
+    protected boolean isLiteral(@NotNull final Object value) {
+        if (value instanceof Integer
+        ||  value instanceof Long
+        ||  value instanceof Boolean
+        ||  value instanceof BigDecimal
+        ||  value instanceof Short
+        ||  value instanceof Byte
+        ||  value instanceof BigInteger) {
+            return true;
+        } else if (value instanceof Double || value instanceof Float) {
+            return Double.isFinite(((Number) value).doubleValue());
+        } else if (value instanceof ValueWrapper) {
+            return isLiteral(((ValueWrapper) value).readPersistentValue());
+        } else {
+            return false;
+        }
+    }
+
+    /** Print an escaped JSON string including the quotation marks */
+    protected void printString(@NotNull final Appendable out, @NotNull final CharSequence text) throws IOException {
+        out.append('"');
+        int start = 0;
+        for (int i = 0, max = text.length(); i < max; i++) {
+            final char c = text.charAt(i);
+            if (c >= ' ' && c != '"' && c != '\\') {
+                continue;
+            }
+            out.append(text, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    out.append("\\u00");
+                    out.append(Character.forDigit(c >> 4, 16));
+                    out.append(Character.forDigit(c & 0xF, 16));
+            }
+        }
+        out.append(text, start, text.length());
+        out.append('"');
+    }
+
+    // ---- IMPORT ----
+
+    /** Read one Ujo object from the JSON format by code page UTF-8, the stream is not closed. */
+    @Nullable
+    public U parseJSON(@NotNull final InputStream inputStream, Object context) throws IllegalStateException {
+        return parseJSON(new InputStreamReader(inputStream, UTF_8), context);
+    }
+
+    /** Read one Ujo object from the JSON format.
+     * @param reader An input data, the reader is not closed
+     * @param context Context of loading will be passed to the method
+     * {@link UjoTextable#writeValueString(org.ujorm.Key, java.lang.String, java.lang.Class, org.ujorm.UjoAction)}
+     * inside an UjoAction
+     * @return A root object or the {@code null} value
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public U parseJSON(@NotNull final Reader reader, Object context) throws IllegalStateException {
+        final UjoAction action = new UjoActionImpl(UjoAction.ACTION_JSON_IMPORT, context);
+        final JsonTokenizer tokenizer = new JsonTokenizer(reader);
+        try {
+            final Token token = tokenizer.next();
+            switch (token) {
+                case NULL:
+                    return null;
+                case BEGIN_OBJECT:
+                    return (U) readObject(tokenizer, getUjoClass(), action);
+                default:
+                    throw new IllegalUjormException("An object is expected instead of the " + token);
+            }
+        } catch (RuntimeException | IOException e) {
+            throw new IllegalUjormException("JSON failed for a context: " + context, e);
+        }
+    }
+
+    /** Read Ujo objects of a JSON array into a List.
+     * @param reader An input data, the reader is not closed
+     * @param context Context of loading
+     */
+    @NotNull
+    public List<U> parseList(@NotNull final Reader reader, Object context) throws IllegalStateException {
+        final List<U> result = new ArrayList<>();
+        stream(reader, context).forEachOrdered(result::add);
+        return result;
+    }
+
+    /** Returns a lazy stream of Ujo objects from a JSON array,
+     * each object is read when it is required.
+     * @param reader An input data, the reader is not closed
+     * @param context Context of loading
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public Stream<U> stream(@NotNull final Reader reader, Object context) throws IllegalStateException {
+        final UjoAction action = new UjoActionImpl(UjoAction.ACTION_JSON_IMPORT, context);
+        final JsonTokenizer tokenizer = new JsonTokenizer(reader);
+        final Spliterator<U> items = new Spliterators.AbstractSpliterator<U>
+                (Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean started = false;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super U> consumer) {
+                try {
+                    if (!started) {
+                        started = true;
+                        final Token token = tokenizer.next();
+                        if (token != Token.BEGIN_ARRAY) {
+                            throw new IllegalUjormException("An array is expected instead of the " + token);
+                        }
+                    }
+                    final Token token = tokenizer.next();
+                    switch (token) {
+                        case END_ARRAY:
+                            return false;
+                        case BEGIN_OBJECT:
+                            consumer.accept((U) readObject(tokenizer, getUjoClass(), action));
+                            return true;
+                        default:
+                            throw new IllegalUjormException("An object is expected instead of the " + token);
+                    }
+                } catch (RuntimeException | IOException e) {
+                    throw new IllegalUjormException("JSON failed for a context: " + action.getContext(), e);
+                }
+            }
+        };
+        return StreamSupport.stream(items, false);
+    }
+
+    /** Read a JSON object where the starting token is consumed
+     * @param tokenizer A tokenizer
+     * @param type A declared type of the object
+     * @param action An action
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private Ujo readObject
+            ( @NotNull final JsonTokenizer tokenizer
+            , @NotNull Class<?> type
+            , @NotNull final UjoAction action
+            ) throws IOException {
+        Ujo result = null;
+        Map<String, Key> keys = Collections.emptyMap();
+        for (Token token = tokenizer.next(); token != Token.END_OBJECT; token = tokenizer.next()) {
+            if (token != Token.STRING) {
+                throw new IllegalUjormException("A member name is expected instead of the " + token);
+            }
+            final String name = tokenizer.getText();
+            if (result == null) {
+                if (ATTR_CLASS.equals(name)) {
+                    final Token classToken = tokenizer.next();
+                    if (classToken != Token.STRING) {
+                        throw new IllegalUjormException("A class name is expected instead of the " + classToken);
+                    }
+                    type = getClass(tokenizer.getText(), type);
+                    continue;
+                }
+                result = newInstance(type);
+                keys = getKeyMap(result);
+            }
+            final Key key = keys.get(name);
+            final Token valueToken = tokenizer.next();
+            if (key == null
+            || !result.readAuthorization(action, key, null)) {
+                tokenizer.skipValue(valueToken);
+            } else if (valueToken.isScalar()) {
+                final String text = tokenizer.getText();
+                if (result instanceof UjoTextable) {
+                    ((UjoTextable) result).writeValueString(key, text, null, action);
+                } else {
+                    UjoManager.setValue(result, key, getUjoManager().decodeValue(key, text));
+                }
+            } else if (valueToken == Token.BEGIN_OBJECT) {
+                UjoManager.setValue(result, key, readObject(tokenizer, key.getType(), action));
+            } else if (valueToken == Token.BEGIN_ARRAY) {
+                final Class<?> itemType = key instanceof ListKey ? ((ListKey) key).getItemType() : Object.class;
+                UjoManager.setValue(result, key, readArray(tokenizer, itemType, action));
+            } else if (valueToken != Token.NULL) {
+                throw new IllegalUjormException("Unexpected token " + valueToken + " of the key: " + key);
+            }
+        }
+        return result != null ? result : newInstance(type);
+    }
+
+    /** Read a JSON array where the starting token is consumed */
+    @NotNull
+    private List<Object> readArray
+            ( @NotNull final JsonTokenizer tokenizer
+            , @NotNull final Class<?> itemType
+            , @NotNull final UjoAction action
+            ) throws IOException {
+        final List<Object> result = new ArrayList<>();
+        for (Token token = tokenizer.next(); token != Token.END_ARRAY; token = tokenizer.next()) {
+            if (token.isScalar()) {
+                result.add(getUjoManager().decodeValue(itemType, tokenizer.getText()));
+            } else if (token == Token.BEGIN_OBJECT) {
+                result.add(readObject(tokenizer, itemType, action));
+            } else if (token == Token.NULL) {
+                result.add(null);
+            } else {
+                throw new IllegalUjormException("Unexpected token " + token + " of the type: " + itemType);
+            }
+        }
+        return result;
+    }
+
+    /** Returns readable keys of the Ujo by a name */
+    @NotNull
+    protected Map<String, Key> getKeyMap(@NotNull final Ujo ujo) {
+        return keyMaps.computeIfAbsent(ujo.getClass(), c -> {
+            final Map<String, Key> result = new HashMap<>();
+            for (Key key : ujo.readKeys()) {
+                if (!getUjoManager().isTransient(key)) {
+                    result.put(key.getName(), key);
+                }
+            }
+            return result;
+        });
+    }
+
+    /** Returns a class of the name, the class must be a subtype of the declared type */
+    @NotNull
+    private Class<?> getClass(@NotNull final String className, @NotNull final Class<?> type) {
+        try {
+            final Class<?> result = Class.forName(className, false, type.getClassLoader());
+            if (!type.isAssignableFrom(result)) {
+                throw new IllegalUjormException("The " + result + " is not a subtype of the " + type);
+            }
+            return result;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalUjormException("Class not found: " + className, e);
+        }
+    }
+
+    /** Create a new instance of the Ujo class by a cached constructor */
+    @NotNull
+    private Ujo newInstance(@NotNull final Class<?> type) {
+        final MethodHandle constructor = constructors.computeIfAbsent(type, UjoManagerJSON::findConstructor);
+        try {
+            return (Ujo) constructor.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalUjormException("New instance failed for the " + type, e);
+        }
+    }
+
+    /** Find a public default constructor of the Ujo class */
+    @NotNull
+    private static MethodHandle findConstructor(@NotNull final Class<?> type) {
+        if (!Ujo.class.isAssignableFrom(type)) {
+            throw new IllegalUjormException("The " + type + " is not type of Ujo");
+        }
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalUjormException("Can't create instance for " + type, e);
+        }
+    }
+
+    // -------------- STATIC ----------------
+
+    /** Create new instance */
+    public static <U extends Ujo> UjoManagerJSON<U> of(@NotNull final Class<U> ujoClass) {
+        return new UjoManagerJSON<>(ujoClass);
+    }
+}
@@ -25,6 +25,8 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.ujorm.Key;
@@ -122,6 +124,48 @@ public class UjoManagerXML extends UjoService<UjoTextable> {
         return UjoHandlerXML.parseXML(inputStream, classType, validate, context, getUjoManager());
     }
 
+    /**
+     * Parse items of the list key of the root one by one, so only the current item is kept in the memory.
+     * Each item is removed from the root after the consumer call.
+     * @param inputStream XML data
+     * @param classType Type of the root
+     * @param listKey A list key of the root
+     * @param consumer Consumer of the list items
+     * @param context Context of the parsing
+     * @return The root object without items of the list key
+     * @since 2.30
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends UjoTextable, I> T parseXML
+        ( @NotNull final InputStream inputStream
+        , @NotNull final Class<T> classType
+        , @NotNull final ListKey<? super T, I> listKey
+        , @NotNull final Consumer<? super I> consumer
+        , @Nullable final Object context)
+        throws IllegalStateException {
+        return UjoHandlerXML.parseXML(inputStream, classType, listKey, (Consumer<Object>) consumer, false, context, getUjoManager());
+    }
+
+    /**
+     * Returns a lazy stream of items of the list key of the root, so only the current item is kept in the memory.
+     * The XML is read by a StAX parser, other values of the root are not available.
+     * Close the stream to release the parser, the input stream must be closed by the caller.
+     * @param inputStream XML data
+     * @param classType Type of the root
+     * @param listKey A list key of the root
+     * @param context Context of the parsing
+     * @since 2.30
+     */
+    @NotNull
+    public <T extends UjoTextable, I> Stream<I> streamXML
+        ( @NotNull final InputStream inputStream
+        , @NotNull final Class<T> classType
+        , @NotNull final ListKey<? super T, I> listKey
+        , @Nullable final Object context)
+        throws IllegalStateException {
+        return UjoHandlerXML.stream(inputStream, classType, listKey, context, getUjoManager());
+    }
+
 
     /** Write keys to XML including a XML header. A root tag is "body" by default. */
     public void saveXML(File xmlFile, UjoTextable ujo, XmlHeader xmlHeader, Object context) throws IOException {
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.Key;
+import org.ujorm.ListKey;
+import org.ujorm.Ujo;
+import org.ujorm.extensions.StringWrapper;
+import org.ujorm.extensions.ValueWrapper;
+import org.ujorm.tools.jdbc.ColumnReader;
+import org.ujorm.tools.jdbc.RowMapper;
+import org.ujorm.tools.jdbc.SqlFunction;
+
+/**
+ * A row mapper to the Ujo objects by column labels of the ResultSet.
+ * A column label is compared to the key name without underscores and case-insensitive,
+ * a key type of Ujo is mapped as a nested object, where the key name is a prefix of the column label.
+ * Values of the types unknown to JDBC are decoded from a text by the codec of the {@link UjoManager}.
+ * <h4>Usage</h4>
+ * <pre class="pre">
+ *     List&lt;Person&gt; persons = builder.sql("SELECT id, name, mother_id, mother_name FROM person")
+ *         .streamMap(UjoRowMapper.of(Person.class))
+ *         .toList();
+ * </pre>
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see RowMapper
+ */
+public final class UjoRowMapper<U extends Ujo> extends RowMapper<U> {
+
+    /** Value types supported by the {@link ColumnReader} or by a JDBC driver, enums are tested separately */
+    private static final Set<Class<?>> JDBC_TYPES = Set.of
+            ( String.class, Boolean.class, byte[].class, UUID.class, Date.class
+            , Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class
+            , BigDecimal.class, BigInteger.class);
+
+    /** Ujo manager */
+    @NotNull
+    private final UjoManager manager;
+
+    private UjoRowMapper(@NotNull final Class<U> type, @NotNull final UjoManager manager) {
+        super(type);
+        this.manager = manager;
+    }
+
+    @NotNull
+    @Override
+    protected SqlFunction<ResultSet, U> compile(@NotNull final Map<String, Integer> columns) {
+        return compile(type, "", columns, false);
+    }
+
+    /** Compile a row function where the result is {@code null} for a nested object without any column */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T extends Ujo> UjoFunction<T> compile(
+            @NotNull final Class<T> ujoType,
+            @NotNull final String prefix,
+            @NotNull final Map<String, Integer> columns,
+            final boolean nested) {
+        final List<Key<T, Object>> keys = new ArrayList<>();
+        final List<SqlFunction<ResultSet, ?>> readers = new ArrayList<>();
+        for (Key<T, Object> key : manager.readKeys(ujoType)) {
+            if (key instanceof ListKey || manager.isTransient(key)) {
+                continue;
+            }
+            final String path = prefix + key.getName();
+            final SqlFunction<ResultSet, ?> reader;
+            if (key.isTypeOf(Ujo.class)) {
+                reader = hasPrefix(columns, path)
+                        ? compile((Class<Ujo>) (Class) key.getType(), path, columns, true)
+                        : null;
+            } else {
+                final Integer index = columns.get(normalize(path));
+                reader = index != null ? createReader(key, index) : null;
+            }
+            if (reader != null) {
+                keys.add(key);
+                readers.add(reader);
+            }
+        }
+        return !keys.isEmpty() || !nested
+                ? new UjoFunction<>(constructor(ujoType), keys.toArray(new Key[keys.size()]), readers.toArray(new SqlFunction[readers.size()]), nested)
+                : null;
+    }
+
+    /** Create a typed reader of the key */
+    @NotNull
+    private SqlFunction<ResultSet, ?> createReader(@NotNull final Key<?, ?> key, final int column) {
+        final Class<?> type = key.getType();
+        if (isJdbcType(type)) {
+            final ColumnReader<?> reader = ColumnReader.of(type);
+            return rs -> reader.read(rs, column);
+        } else {
+            final ValueCodec<?> codec = manager.getCodec(key);
+            return rs -> codec.decode(rs.getString(column));
+        }
+    }
+
+    /** Is the type supported by a JDBC driver? Other types are decoded by the codec of the key. */
+    private static boolean isJdbcType(@NotNull final Class<?> type) {
+        if (type.isEnum()) {
+            return !StringWrapper.class.isAssignableFrom(type)
+                && !ValueWrapper.class.isAssignableFrom(type);
+        }
+        return type.isPrimitive()
+            || JDBC_TYPES.contains(type)
+            || "java.sql".equals(type.getPackageName())
+            || "java.time".equals(type.getPackageName());
+    }
+
+    /** Returns a default constructor */
+    @NotNull
+    private static MethodHandle constructor(@NotNull final Class<?> type) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalUjormException("Can't create instance for " + type, e);
+        }
+    }
+
+    /** A compiled row function of an Ujo object */
+    private static final class UjoFunction<T extends Ujo> implements SqlFunction<ResultSet, T> {
+        @NotNull
+        private final MethodHandle constructor;
+        @NotNull
+        private final Key<T, Object>[] keys;
+        @NotNull
+        private final SqlFunction<ResultSet, ?>[] readers;
+        /** Returns the {@code null} value if all values are {@code null} */
+        private final boolean nullable;
+
+        UjoFunction(
+                @NotNull final MethodHandle constructor,
+                @NotNull final Key<T, Object>[] keys,
+                @NotNull final SqlFunction<ResultSet, ?>[] readers,
+                final boolean nullable) {
+            this.constructor = constructor;
+            this.keys = keys;
+            this.readers = readers;
+            this.nullable = nullable;
+        }
+
+        @Nullable
+        @Override
+        @SuppressWarnings("unchecked")
+        public T applyRs(@NotNull final ResultSet rs) throws SQLException {
+            T result = null;
+            for (int i = 0; i < keys.length; i++) {
+                final Object value = readers[i].applyRs(rs);
+                if (value != null || !nullable) {
+                    if (result == null) {
+                        result = newInstance();
+                    }
+                    result.writeValue(keys[i], value);
+                }
+            }
+            return result != null || nullable ? result : newInstance();
+        }
+
+        /** Create a new instance */
+        @NotNull
+        @SuppressWarnings("unchecked")
+        private T newInstance() {
+            try {
+                return (T) (Object) constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalUjormException(e.getMessage(), e);
+            }
+        }
+    }
+
+    // --- STATIC FACTORIES ---
+
+    /** Create a new mapper of the Ujo type */
+    @NotNull
+    public static <U extends Ujo> UjoRowMapper<U> of(@NotNull final Class<U> type) {
+        return new UjoRowMapper<>(type, UjoManager.getInstance());
+    }
+
+    /** Returns a mapper of the Ujo type cached by the SQL statement */
+    @NotNull
+    public static <U extends Ujo> UjoRowMapper<U> of(@NotNull final String sql, @NotNull final Class<U> type) {
+        return cached(sql, type, () -> of(type));
+    }
+}
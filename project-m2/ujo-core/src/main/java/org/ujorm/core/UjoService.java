@@ -115,7 +115,7 @@ abstract public class UjoService<UJO extends Ujo> {
     public String getText(final UJO ujo, final Key<? super Ujo, ?> prop, final Object value, final UjoAction action) {
         final String result = textable && !prop.isComposite()
                 ? ((UjoTextable) ujo).readValueString(prop, action)
-                : ujoManager.encodeValue(value != UNDEFINED ? value : prop.of(ujo), false);
+                : ujoManager.getCodec((Key) prop).encode(value != UNDEFINED ? value : prop.of(ujo));
         return result;
     }
 
@@ -0,0 +1,744 @@
+/*
+ *  Copyright 2026-2026 Pavel Ponec
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.CompositeKey;
+import org.ujorm.Key;
+import org.ujorm.KeyList;
+import org.ujorm.Ujo;
+import org.ujorm.UjoAction;
+import org.ujorm.criterion.Criterion;
+import org.ujorm.extensions.UjoTextable;
+import org.ujorm.tools.Assert;
+
+/**
+ * A columnar (struct-of-arrays) container of Ujo rows.
+ * Each direct {@link Key} is stored in its own column:
+ * <ul>
+ *   <li>numbers and booleans in primitive arrays,</li>
+ *   <li>strings and enums in a dictionary-encoded {@code int} array (up to {@link #DICTIONARY_LIMIT} distinct values),</li>
+ *   <li>other values in an {@code Object} array,</li>
+ * </ul>
+ * where {@code null} values are tracked by a bitmap of each column.
+ * Rows are available by a reusable flyweight {@link Row} view, which implements the {@link Ujo} interface,
+ * so the {@link Key#of(org.ujorm.Ujo)}, {@link Criterion} or {@link UjoComparator} can be used as usual.
+ * <br>Note: the row view is mutable and it is shared, do not store its reference.
+ * The object is not thread safe.
+ * <h3>Sample of usage</h3>
+ * <pre class="pre">
+ *  UjoTable&lt;Person&gt; table = UjoTable.of(Person.class);
+ *  table.addAll(session.createQuery(criterion).iterator());
+ *  int[] rows = table.select(Person.CASH.whereGt(100.0));
+ *  double cash = table.sum(Person.CASH);
+ * </pre>
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+public class UjoTable<U extends Ujo> implements Iterable<UjoTable<U>.Row> {
+
+    /** Default row capacity */
+    protected static final int DEFAULT_CAPACITY = 64;
+    /** Maximal size of a column dictionary, a column with more distinct values stores the values in an {@code Object} array */
+    protected static final int DICTIONARY_LIMIT = 1024;
+
+    /** Direct keys of the table */
+    private final Key<U, ?>[] keys;
+    /** Columns, the order is the same as the {@link #keys} */
+    private final Column[] columns;
+    /** Column index where the array index is a key index */
+    private final int[] columnIndex;
+    /** Shared key list */
+    private final KeyList<U> keyList;
+    /** Row count */
+    private int size;
+    /** Row capacity */
+    private int capacity;
+    /** A shared row view */
+    private Row sharedRow;
+
+    /** Create a new table for required keys
+     * @param keys Direct keys or composite keys with one direct key only (an alias key).
+     * @param capacity Initial row capacity.
+     */
+    @SuppressWarnings("unchecked")
+    public UjoTable(@NotNull final KeyList<U> keys, final int capacity) {
+        this.keys = new Key[keys.size()];
+        this.columns = new Column[keys.size()];
+        this.capacity = Math.max(capacity, 1);
+        int maxIndex = -1;
+        for (int i = 0; i < this.keys.length; i++) {
+            Key<U, ?> key = keys.get(i);
+            if (key.isComposite()) {
+                final CompositeKey<U, ?> cKey = (CompositeKey<U, ?>) key;
+                Assert.isTrue(cKey.getKeyCount() == 1, "The composite key '{}' is not supported", key);
+                key = cKey.getKey(0);
+            }
+            Assert.isTrue(key.getIndex() >= 0, "The key '{}' has no index", key);
+            this.keys[i] = key;
+            this.columns[i] = createColumn(key.getType(), this.capacity);
+            maxIndex = Math.max(maxIndex, key.getIndex());
+        }
+        this.columnIndex = new int[maxIndex + 1];
+        Arrays.fill(columnIndex, -1);
+        for (int i = 0; i < this.keys.length; i++) {
+            columnIndex[this.keys[i].getIndex()] = i;
+        }
+        this.keyList = KeyRing.of(keys.getType(), this.keys);
+    }
+
+    /** Create a column for the required value type. */
+    protected Column createColumn(@NotNull final Class<?> type, final int capacity) {
+        if (type == Integer.class || type == Short.class || type == Byte.class) {
+            return new IntColumn(type, capacity);
+        } else if (type == Long.class) {
+            return new LongColumn(capacity);
+        } else if (type == Double.class || type == Float.class) {
+            return new DoubleColumn(type, capacity);
+        } else if (type == Boolean.class) {
+            return new BooleanColumn();
+        } else if (type == String.class || type.isEnum()) {
+            return new DictionaryColumn(capacity);
+        } else {
+            return new ObjectColumn(capacity);
+        }
+    }
+
+    /** Returns the column position of the key or throws an exception */
+    protected final int getColumn(@NotNull final Key<?, ?> key) {
+        final int index = key.getIndex();
+        final int result = index >= 0 && index < columnIndex.length
+                ? columnIndex[index]
+                : -1;
+        if (result < 0 || keys[result] != key) {
+            if (key.isComposite() && ((CompositeKey) key).getKeyCount() == 1) {
+                return getColumn(((CompositeKey) key).getKey(0));
+            }
+            throw new IllegalUjormException("The key is not supported: " + key.getFullName());
+        }
+        return result;
+    }
+
+    /** Returns the direct keys of the table */
+    public KeyList<U> getKeys() {
+        return keyList;
+    }
+
+    /** Returns a row count */
+    public int size() {
+        return size;
+    }
+
+    /** Is the table empty? */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Append a new empty row and return its view, all cells of the row are {@code null}.
+     * The result is a shared instance which is changed by the next call.
+     */
+    @NotNull
+    public Row addRow() {
+        if (size == capacity) {
+            capacity = capacity + (capacity >> 1) + 1;
+            for (Column column : columns) {
+                column.ensureCapacity(capacity);
+            }
+        }
+        for (Column column : columns) {
+            column.nulls.set(size);
+        }
+        return getSharedRow().moveTo(size++);
+    }
+
+    /** Copy values of all table keys from the domain object to a new row.
+     * @return A row id.
+     */
+    public int add(@NotNull final U ujo) {
+        final Row row = addRow();
+        for (int i = 0; i < keys.length; i++) {
+            columns[i].set(row.rowId, keys[i].of(ujo));
+        }
+        return row.rowId;
+    }
+
+    /** Copy all items to the table.
+     * The argument can be the {@code ResultSetIterator} of the ORM module, for example.
+     * If the argument is an instance of the {@link AutoCloseable}, it is closed.
+     */
+    public UjoTable<U> addAll(@NotNull final Iterable<? extends U> ujos) {
+        try {
+            for (U ujo : ujos) {
+                add(ujo);
+            }
+        } finally {
+            if (ujos instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) ujos).close();
+                } catch (Exception e) {
+                    throw new IllegalUjormException("Can't close the source", e);
+                }
+            }
+        }
+        return this;
+    }
+
+    /** Returns a value of the cell */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <V> V get(final int rowId, @NotNull final Key<? super U, V> key) {
+        checkRow(rowId);
+        return (V) columns[getColumn(key)].get(rowId);
+    }
+
+    /** Assign a value to the cell */
+    public <V> void set(final int rowId, @NotNull final Key<? super U, V> key, @Nullable final V value) {
+        checkRow(rowId);
+        columns[getColumn(key)].set(rowId, value);
+    }
+
+    /** Returns a shared row view moved to the required row.
+     * The result is a shared instance which is changed by the next call.
+     */
+    @NotNull
+    public Row getRow(final int rowId) {
+        checkRow(rowId);
+        return getSharedRow().moveTo(rowId);
+    }
+
+    /** Create a new (not shared) row view */
+    @NotNull
+    public Row createRow(final int rowId) {
+        checkRow(rowId);
+        return new Row().moveTo(rowId);
+    }
+
+    /** Returns a shared row instance */
+    private Row getSharedRow() {
+        if (sharedRow == null) {
+            sharedRow = new Row();
+        }
+        return sharedRow;
+    }
+
+    /** Check the row id */
+    private void checkRow(final int rowId) {
+        if (rowId < 0 || rowId >= size) {
+            throw new IndexOutOfBoundsException("Row: " + rowId + ", size: " + size);
+        }
+    }
+
+    /** Create a domain object of the row */
+    @NotNull
+    public U toUjo(final int rowId) {
+        checkRow(rowId);
+        final U result = keyList.newBaseUjo();
+        for (int i = 0; i < keys.length; i++) {
+            ((Key) keys[i]).setValue(result, columns[i].get(rowId));
+        }
+        return result;
+    }
+
+    /** Create a list of domain objects */
+    @NotNull
+    public List<U> toList() {
+        final List<U> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(toUjo(i));
+        }
+        return result;
+    }
+
+    // ----- BULK OPERATIONS -----
+
+    /** Returns row ids of rows that meet the criterion */
+    @SuppressWarnings("unchecked")
+    public int[] select(@NotNull final Criterion<? super U> criterion) {
+        final Row row = new Row();
+        final Criterion crn = criterion;
+        return IntStream.range(0, size)
+                .filter(i -> crn.evaluate(row.moveTo(i)))
+                .toArray();
+    }
+
+    /** Returns row ids sorted by the comparator */
+    @SuppressWarnings("unchecked")
+    public int[] sort(@NotNull final UjoComparator<? super U> comparator) {
+        final Row row1 = new Row();
+        final Row row2 = new Row();
+        final UjoComparator cmp = comparator;
+        return IntStream.range(0, size)
+                .boxed()
+                .sorted((i1, i2) -> cmp.compare(row1.moveTo(i1), row2.moveTo(i2)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /** Visit all rows using the shared row view */
+    @Override
+    public void forEach(@NotNull final Consumer<? super Row> consumer) {
+        final Row row = new Row();
+        for (int i = 0; i < size; i++) {
+            consumer.accept(row.moveTo(i));
+        }
+    }
+
+    /** Iterate all rows using one row view */
+    @Override
+    public Iterator<Row> iterator() {
+        final Row row = new Row();
+        return new Iterator<Row>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            public Row next() {
+                if (i >= size) {
+                    throw new NoSuchElementException();
+                }
+                return row.moveTo(i++);
+            }
+        };
+    }
+
+    /** Scan all not-null values of a numeric column,
+     * the method is the fastest for {@code Long} and {@code Integer} types.
+     */
+    public void scanLong(@NotNull final Key<? super U, ? extends Number> key, @NotNull final LongConsumer consumer) {
+        final Column column = columns[getColumn(key)];
+        if (column instanceof IntColumn) {
+            final IntColumn c = (IntColumn) column;
+            for (int i = 0; i < size; i++) {
+                if (!c.nulls.get(i)) {
+                    consumer.accept(c.values[i]);
+                }
+            }
+        } else if (column instanceof LongColumn) {
+            final LongColumn c = (LongColumn) column;
+            for (int i = 0; i < size; i++) {
+                if (!c.nulls.get(i)) {
+                    consumer.accept(c.values[i]);
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                final Number value = (Number) column.get(i);
+                if (value != null) {
+                    consumer.accept(value.longValue());
+                }
+            }
+        }
+    }
+
+    /** Scan all not-null values of a numeric column,
+     * the method is the fastest for {@code Double} and {@code Float} types.
+     */
+    public void scanDouble(@NotNull final Key<? super U, ? extends Number> key, @NotNull final DoubleConsumer consumer) {
+        final Column column = columns[getColumn(key)];
+        if (column instanceof DoubleColumn) {
+            final DoubleColumn c = (DoubleColumn) column;
+            for (int i = 0; i < size; i++) {
+                if (!c.nulls.get(i)) {
+                    consumer.accept(c.values[i]);
+                }
+            }
+        } else if (column instanceof IntColumn || column instanceof LongColumn) {
+            scanLong(key, consumer::accept);
+        } else {
+            for (int i = 0; i < size; i++) {
+                final Number value = (Number) column.get(i);
+                if (value != null) {
+                    consumer.accept(value.doubleValue());
+                }
+            }
+        }
+    }
+
+    /** Returns a sum of all not-null values of the numeric column */
+    public double sum(@NotNull final Key<? super U, ? extends Number> key) {
+        final double[] result = {0d};
+        scanDouble(key, v -> result[0] += v);
+        return result[0];
+    }
+
+    /** Returns a count of the {@code null} values in the column */
+    public int countNulls(@NotNull final Key<? super U, ?> key) {
+        final BitSet nulls = columns[getColumn(key)].nulls;
+        return nulls.get(0, size).cardinality();
+    }
+
+    /** Remove all rows, the allocated memory is kept */
+    public void clear() {
+        for (Column column : columns) {
+            column.clear();
+        }
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size + ", keys=" + keyList + "]";
+    }
+
+    // ----- STATIC -----
+
+    /** Create a table for all direct keys of the domain class */
+    public static <U extends Ujo> UjoTable<U> of(@NotNull final Class<U> domainClass) {
+        return new UjoTable<>(KeyRing.of(domainClass), DEFAULT_CAPACITY);
+    }
+
+    /** Create a table for the required keys */
+    public static <U extends Ujo> UjoTable<U> of(@NotNull final KeyList<U> keys) {
+        return new UjoTable<>(keys, DEFAULT_CAPACITY);
+    }
+
+    // ----- ROW VIEW -----
+
+    /** A flyweight view of one row of the table */
+    public final class Row implements Ujo, UjoTextable {
+
+        /** Current row id */
+        private int rowId;
+
+        /** Move the view to another row */
+        @NotNull
+        public Row moveTo(final int rowId) {
+            this.rowId = rowId;
+            return this;
+        }
+
+        /** Returns the current row id */
+        public int getRowId() {
+            return rowId;
+        }
+
+        /** Returns a cell value of the current row */
+        @SuppressWarnings("unchecked")
+        public <V> V get(@NotNull final Key<? super U, V> key) {
+            return (V) columns[getColumn(key)].get(rowId);
+        }
+
+        /** Assign a cell value of the current row */
+        public <V> Row set(@NotNull final Key<? super U, V> key, @Nullable final V value) {
+            columns[getColumn(key)].set(rowId, value);
+            return this;
+        }
+
+        @Override
+        public Object readValue(@NotNull final Key<?, ?> key) {
+            return columns[getColumn(key)].get(rowId);
+        }
+
+        @Override
+        public void writeValue(@NotNull final Key<?, ?> key, @Nullable final Object value) {
+            assert UjoManager.assertAssign(key, value);
+            columns[getColumn(key)].set(rowId, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends Ujo> KeyList<T> readKeys() {
+            return (KeyList<T>) keyList;
+        }
+
+        @Override
+        public boolean readAuthorization(@NotNull final UjoAction action, @NotNull final Key<?, ?> key, @Nullable final Object value) {
+            return true;
+        }
+
+        @Override
+        public String readValueString(final Key key, final UjoAction action) {
+            return UjoManager.getInstance().encodeValue(readValue(key), false);
+        }
+
+        @Override
+        public void writeValueString(final Key key, final String value, final Class type, final UjoAction action) {
+            writeValue(key, UjoManager.getInstance().decodeValue(key, value, type));
+        }
+
+        /** Create a domain object of the row */
+        public U toUjo() {
+            return UjoTable.this.toUjo(rowId);
+        }
+
+        @Override
+        public String toString() {
+            return UjoManager.getInstance().toString(this);
+        }
+    }
+
+    // ----- COLUMNS -----
+
+    /** An abstract column of the table */
+    protected static abstract class Column {
+        /** A bitmap of {@code null} values */
+        protected final BitSet nulls = new BitSet();
+
+        /** Returns a value of the row */
+        @Nullable
+        public final Object get(final int row) {
+            return nulls.get(row) ? null : getValue(row);
+        }
+
+        /** Assign a value of the row */
+        public final void set(final int row, @Nullable final Object value) {
+            if (value == null) {
+                nulls.set(row);
+            } else {
+                nulls.clear(row);
+                setValue(row, value);
+            }
+        }
+
+        /** Returns a not-null value of the row */
+        protected abstract Object getValue(int row);
+
+        /** Assign a not-null value of the row */
+        protected abstract void setValue(int row, Object value);
+
+        /** Enlarge the column */
+        protected abstract void ensureCapacity(int capacity);
+
+        /** Remove all values */
+        protected void clear() {
+            nulls.clear();
+        }
+    }
+
+    /** A column for the {@code Integer}, {@code Short} and {@code Byte} types */
+    protected static final class IntColumn extends Column {
+        private final Class<?> type;
+        private int[] values;
+
+        IntColumn(final Class<?> type, final int capacity) {
+            this.type = type;
+            this.values = new int[capacity];
+        }
+
+        @Override
+        protected Object getValue(final int row) {
+            final int value = values[row];
+            return type == Integer.class ? (Object) value
+                 : type == Short.class ? (Object) (short) value
+                 : (Object) (byte) value;
+        }
+
+        @Override
+        protected void setValue(final int row, final Object value) {
+            values[row] = ((Number) value).intValue();
+        }
+
+        @Override
+        protected void ensureCapacity(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    /** A column for the {@code Long} type */
+    protected static final class LongColumn extends Column {
+        private long[] values;
+
+        LongColumn(final int capacity) {
+            this.values = new long[capacity];
+        }
+
+        @Override
+        protected Object getValue(final int row) {
+            return values[row];
+        }
+
+        @Override
+        protected void setValue(final int row, final Object value) {
+            values[row] = (Long) value;
+        }
+
+        @Override
+        protected void ensureCapacity(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    /** A column for the {@code Double} and {@code Float} types */
+    protected static final class DoubleColumn extends Column {
+        private final boolean isFloat;
+        private double[] values;
+
+        DoubleColumn(final Class<?> type, final int capacity) {
+            this.isFloat = type == Float.class;
+            this.values = new double[capacity];
+        }
+
+        @Override
+        protected Object getValue(final int row) {
+            return isFloat ? (Object) (float) values[row] : (Object) values[row];
+        }
+
+        @Override
+        protected void setValue(final int row, final Object value) {
+            values[row] = ((Number) value).doubleValue();
+        }
+
+        @Override
+        protected void ensureCapacity(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    /** A column for the {@code Boolean} type */
+    protected static final class BooleanColumn extends Column {
+        private final BitSet values = new BitSet();
+
+        @Override
+        protected Object getValue(final int row) {
+            return values.get(row);
+        }
+
+        @Override
+        protected void setValue(final int row, final Object value) {
+            values.set(row, (Boolean) value);
+        }
+
+        @Override
+        protected void ensureCapacity(final int capacity) {
+        }
+
+        @Override
+        protected void clear() {
+            super.clear();
+            values.clear();
+        }
+    }
+
+    /** A dictionary encoded column for the {@code String} and {@code Enum} types.
+     * If the dictionary size reaches the {@link #DICTIONARY_LIMIT}, the values are moved to an {@code Object} array.
+     */
+    protected static final class DictionaryColumn extends Column {
+        private final HashMap<Object, Integer> codes = new HashMap<>();
+        private final List<Object> dictionary = new ArrayList<>();
+        private int[] values;
+        /** Values of a column with a high cardinality, the {@code null} value means a dictionary column */
+        @Nullable
+        private Object[] objects;
+
+        DictionaryColumn(final int capacity) {
+            this.values = new int[capacity];
+        }
+
+        @Override
+        protected Object getValue(final int row) {
+            return objects != null ? objects[row] : dictionary.get(values[row]);
+        }
+
+        @Override
+        protected void setValue(final int row, final Object value) {
+            if (objects != null) {
+                objects[row] = value;
+                return;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                if (dictionary.size() >= DICTIONARY_LIMIT) {
+                    toObjects();
+                    objects[row] = value;
+                    return;
+                }
+                code = dictionary.size();
+                dictionary.add(value);
+                codes.put(value, code);
+            }
+            values[row] = code;
+        }
+
+        /** Move all values from the dictionary to the Object array */
+        private void toObjects() {
+            objects = new Object[values.length];
+            for (int i = nulls.nextClearBit(0); i < values.length; i = nulls.nextClearBit(i + 1)) {
+                objects[i] = dictionary.get(values[i]);
+            }
+            codes.clear();
+            dictionary.clear();
+            values = null;
+        }
+
+        @Override
+        protected void ensureCapacity(final int capacity) {
+            if (objects != null) {
+                objects = Arrays.copyOf(objects, capacity);
+            } else {
+                values = Arrays.copyOf(values, capacity);
+            }
+        }
+
+        @Override
+        protected void clear() {
+            super.clear();
+            codes.clear();
+            dictionary.clear();
+            if (objects != null) {
+                values = new int[objects.length];
+                objects = null;
+            } else {
+                Arrays.fill(values, 0);
+            }
+        }
+    }
+
+    /** A column for other types */
+    protected static final class ObjectColumn extends Column {
+        private Object[] values;
+
+        ObjectColumn(final int capacity) {
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        protected Object getValue(final int row) {
+            return values[row];
+        }
+
+        @Override
+        protected void setValue(final int row, final Object value) {
+            values[row] = value;
+        }
+
+        @Override
+        protected void ensureCapacity(final int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected void clear() {
+            super.clear();
+            Arrays.fill(values, null);
+        }
+    }
+}
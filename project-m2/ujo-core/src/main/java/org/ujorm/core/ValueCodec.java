@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable pair of a text encoder and decoder of one value type.
+ * The codec is resolved once by the {@link UjoCoder} for a value type or for a Key,
+ * so the conversion does not need to test the value type for each call.
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see UjoManager#getCodec(org.ujorm.Key)
+ */
+public final class ValueCodec<T> {
+
+    /** A value type */
+    @NotNull
+    private final Class<T> type;
+    /** Encoder of a not null value */
+    @NotNull
+    private final Function<? super T, String> encoder;
+    /** Decoder of a not empty text */
+    @NotNull
+    private final Decoder<? extends T> decoder;
+    /** Decode an empty text to the {@code null} value */
+    private final boolean emptyToNull;
+
+    /**
+     * Create a new codec
+     * @param type A value type
+     * @param encoder Encoder of a not null value
+     * @param decoder Decoder of a not null text
+     * @param emptyToNull Decode an empty text to the {@code null} value
+     */
+    public ValueCodec
+            ( @NotNull final Class<T> type
+            , @NotNull final Function<? super T, String> encoder
+            , @NotNull final Decoder<? extends T> decoder
+            , final boolean emptyToNull) {
+        this.type = type;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.emptyToNull = emptyToNull;
+    }
+
+    /** Returns the value type */
+    @NotNull
+    public Class<T> getType() {
+        return type;
+    }
+
+    /** Convert the value to a String representation */
+    @Nullable
+    public String encode(@Nullable final T value) {
+        return value != null ? encoder.apply(value) : null;
+    }
+
+    /** Restore a value from the String representation.
+     * @throws IllegalUjormException If the text can't be decoded.
+     */
+    @Nullable
+    public T decode(@Nullable final String text) throws IllegalUjormException {
+        if (text == null || emptyToNull && text.isEmpty()) {
+            return null;
+        }
+        try {
+            return decoder.decode(text);
+        } catch (Exception | OutOfMemoryError e) {
+            throw new IllegalUjormException("Can't decode \"" + text + "\" to " + type, e);
+        }
+    }
+
+    /** Returns a codec with the new encoder */
+    @NotNull
+    public ValueCodec<T> withEncoder(@NotNull final Function<? super T, String> encoder) {
+        return new ValueCodec<>(type, encoder, decoder, emptyToNull);
+    }
+
+    @Override
+    public String toString() {
+        return "ValueCodec[" + type.getName() + "]";
+    }
+
+    /** A decoder of a text value */
+    @FunctionalInterface
+    public interface Decoder<T> {
+
+        /** Decode a not null text */
+        T decode(@NotNull String text) throws Exception;
+    }
+}
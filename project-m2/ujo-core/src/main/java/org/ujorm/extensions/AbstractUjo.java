@@ -96,6 +96,15 @@ public abstract class AbstractUjo extends SuperAbstractUjo implements Serializab
         return data[key.getIndex()];
     }
 
+    /** Read a raw value from the data slot without any listener or convertor.
+     * The method is used by the {@link KeyChainAccessor} for classes
+     * that do not override the method {@link #readValue(Key)}.
+     * @since 2.30
+     */
+    final Object readSlot(final int index) {
+        return data[index];
+    }
+
     // ===== STATIC METHODS =====
 
     /** Create a factory with a camel-case Key name generator with the off validator.
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.extensions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.Key;
+import org.ujorm.Ujo;
+
+/**
+ * A compiled reader of a chain of direct keys.
+ * The key indexes are resolved in advance, so that a value of a segment is read directly
+ * from the {@code Object[]} slot of the {@link AbstractUjo} (for example {@code QuickUjo})
+ * in case the Ujo class does not override the method {@code readValue()}
+ * and the key does not override the method {@code of()}.
+ * Other segments (e.g. keys with a lazy loading) are read by the generic method {@link Key#of(Ujo)}.
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+final class KeyChainAccessor {
+
+    /** Is the method {@code readValue(Key)} of the Ujo class implemented by the {@link AbstractUjo}? */
+    private static final ClassValue<Boolean> DIRECT_UJO = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return AbstractUjo.class.isAssignableFrom(type)
+                && isDeclaredBy(type, AbstractUjo.class, "readValue", Key.class);
+        }
+    };
+
+    /** Is the method {@code of(Ujo)} of the Key class implemented by the {@link Property}? */
+    private static final ClassValue<Boolean> DIRECT_KEY = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return Property.class.isAssignableFrom(type)
+                && isDeclaredBy(type, Property.class, "of", Ujo.class);
+        }
+    };
+
+    /** Direct keys of the chain */
+    private final Key[] keys;
+    /** Slot indexes of the keys or the {@code -1} value for a generic reading */
+    private final int[] slots;
+
+    private KeyChainAccessor(@NotNull final Key[] keys, @NotNull final int[] slots) {
+        this.keys = keys;
+        this.slots = slots;
+    }
+
+    /** Read the last value of the chain.
+     * If any value (not the last one) is null, then the result is null.
+     */
+    @Nullable
+    public Object of(@Nullable final Ujo ujo) {
+        final int last = keys.length - 1;
+        final Ujo u = getSemiValue(ujo, last);
+        return u != null ? read(u, last) : null;
+    }
+
+    /** Get a penultimate value of the chain.
+     * If any value (not the last one) is null, then the result is null.
+     */
+    @Nullable
+    public Ujo getSemiValue(@Nullable final Ujo ujo) {
+        return getSemiValue(ujo, keys.length - 1);
+    }
+
+    /** Read the value of the chain to the required level (exclusive) */
+    @Nullable
+    private Ujo getSemiValue(@Nullable final Ujo ujo, final int level) {
+        Ujo result = ujo;
+        for (int i = 0; i < level && result != null; i++) {
+            result = (Ujo) read(result, i);
+        }
+        return result;
+    }
+
+    /** Read a value of one segment including the default value replacement */
+    @Nullable
+    private Object read(@NotNull final Ujo ujo, final int i) {
+        final int slot = slots[i];
+        if (slot >= 0 && DIRECT_UJO.get(ujo.getClass())) {
+            final Object result = ((AbstractUjo) ujo).readSlot(slot);
+            return result != null ? result : keys[i].getDefault();
+        } else {
+            return keys[i].of(ujo);
+        }
+    }
+
+    /** Is the public method declared by the required class? */
+    private static boolean isDeclaredBy(final Class<?> type, final Class<?> declaringClass, final String method, final Class<?> parameter) {
+        try {
+            return type.getMethod(method, parameter).getDeclaringClass() == declaringClass;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /** Compile a chain of direct keys.
+     * @return The accessor or the {@code null} value if some key index is not initialized yet.
+     */
+    @Nullable
+    public static KeyChainAccessor of(@NotNull final Key[] keys) {
+        final int[] slots = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final Key key = keys[i];
+            final int index = key.getIndex();
+            if (DIRECT_KEY.get(key.getClass())) {
+                if (index < 0) {
+                    return null;
+                }
+                slots[i] = index;
+            } else {
+                slots[i] = -1;
+            }
+        }
+        return new KeyChainAccessor(keys, slots);
+    }
+}
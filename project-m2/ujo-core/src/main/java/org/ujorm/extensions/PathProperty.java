@@ -58,6 +58,8 @@ public class PathProperty<U extends Ujo, VALUE> implements CompositeKey<U, VALUE
     /** Is key ascending / descending */
     private final boolean ascending;
     private String name;
+    /** A compiled reader of the key chain, it is created lazily */
+    private transient KeyChainAccessor accessor;
 
     public PathProperty(String lastAliasName, List<Key> keys) {
         this(lastAliasName, keys.toArray(new Key[keys.size()]));
@@ -273,6 +275,12 @@ public class PathProperty<U extends Ujo, VALUE> implements CompositeKey<U, VALUE
         if (ujo == null) {
             return ujo;
         }
+        if (!create) {
+            final KeyChainAccessor reader = getAccessor();
+            if (reader != null) {
+                return reader.getSemiValue(ujo);
+            }
+        }
         Ujo result = ujo;
         for (int i = 0, max = keys.length - 1; i < max; i++) {
             Ujo value = (Ujo) keys[i].of(result);
@@ -323,11 +331,29 @@ public class PathProperty<U extends Ujo, VALUE> implements CompositeKey<U, VALUE
      * If a value  (not getLastPartialProperty) is null, then the result is null.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public final VALUE of(final U ujo) {
+        final KeyChainAccessor reader = getAccessor();
+        if (reader != null) {
+            return (VALUE) reader.of(ujo);
+        }
         final Ujo u = getSemiValue(ujo, false);
         return  u!=null ? getLastPartialProperty().of(u) : null ;
     }
 
+    /** Returns a compiled reader of the key chain or the {@code null} value
+     * if the keys are not fully initialized yet.
+     * @since 2.30
+     */
+    @Nullable
+    private KeyChainAccessor getAccessor() {
+        KeyChainAccessor result = accessor;
+        if (result == null) {
+            accessor = result = KeyChainAccessor.of(keys);
+        }
+        return result;
+    }
+
     @Override
     public final int getIndex() {
         return -1;
@@ -148,7 +148,7 @@ public abstract class SuperAbstractUjo implements Ujo, UjoTextable, UjoCloneable
     @Override
     public String readValueString(final Key key, final UjoAction action) {
         final Object value  = key.of(this);
-        final String result = readUjoManager().encodeValue(value, false);
+        final String result = readUjoManager().getCodec(key).encode(value);
         return result;
     }
 
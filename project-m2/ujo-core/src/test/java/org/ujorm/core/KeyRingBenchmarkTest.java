@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ujorm.Key;
+import org.ujorm.KeyList;
+import org.ujorm.criterion.Person;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A benchmark of the key lookup by a name.
+ * Assign the {@code true} value to the constant {@link #RUN_BENCHMARK} to run a long test.
+ * @author Pavel Ponec
+ */
+public class KeyRingBenchmarkTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyRingBenchmarkTest.class);
+
+    private static final boolean RUN_BENCHMARK = false;
+
+    /** Names of all keys */
+    private static final String[] NAMES = {"name", "male", "cash", "mother", "address", "born"};
+
+    @Test
+    public void runBenchmark() {
+        final int loops = RUN_BENCHMARK ? 5_000_000 : 1_000;
+        final KeyRing<Person> ring = KeyRing.of(Person.class);
+
+        run("Warming", loops, () -> linearLookup(ring) + ring.findDirectKey("born", true).getIndex());
+        run("Linear", loops, () -> linearLookup(ring));
+        run("Index", loops, () -> {
+            int result = 0;
+            for (String name : NAMES) {
+                result += ring.findDirectKey(name, true).getIndex();
+            }
+            return result;
+        });
+        run("PathNew", loops, () -> new KeyRing<>(ring.keys).find("mother.mother.name").hashCode());
+        run("PathCache", loops, () -> ring.find("mother.mother.name").hashCode());
+
+        assertSame(ring.find("mother.mother.name"), ring.find("mother.mother.name"));
+    }
+
+    /** The original lookup algorithm */
+    private static int linearLookup(final KeyList<Person> ring) {
+        int result = 0;
+        for (String name : NAMES) {
+            final int nameHash = name.hashCode();
+            for (Key<Person, ?> key : ring) {
+                if (key.getName().hashCode() == nameHash
+                        && key.getName().equals(name)) {
+                    result += key.getIndex();
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Run the benchmark */
+    private static void run(final String title, final int loops, final IntSupplier supplier) {
+        int result = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < loops; i++) {
+            result += supplier.getAsInt();
+        }
+        final long time = (System.nanoTime() - start) / 1_000_000L;
+        LOGGER.info("%-10s: %s ms (hash: %s)".formatted(title, time, result));
+    }
+}
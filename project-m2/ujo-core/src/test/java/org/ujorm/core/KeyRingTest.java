@@ -24,6 +24,8 @@ import java.io.Serializable;
 
 import org.junit.jupiter.api.Test;
 import org.ujorm.CompositeKey;
+import org.ujorm.Key;
+import org.ujorm.criterion.Person;
 import org.ujorm.core.ujos.UjoCSV;
 import org.ujorm.core.ujos.UjoName;
 import static org.ujorm.core.ujos.UjoName.*;
@@ -249,6 +251,21 @@ public class KeyRingTest extends org.junit.jupiter.api.Assertions {
         assertEquals("A2", cKey.getAlias(1));
     }
 
+    /** Test of the key lookup by a name */
+    @Test
+    public void testFindKey() {
+        KeyRing<Person> ring = KeyRing.of(Person.class);
+        assertSame(Person.NAME, ring.findDirectKey("name", true));
+        assertSame(Person.BORN, ring.findDirectKey("born", true));
+        assertNull(ring.findDirectKey("undefined", false));
+        assertThrows(IllegalUjormException.class, () -> ring.findDirectKey("undefined", true));
+
+        Key<Person, String> motherName = ring.find("mother.name");
+        assertEquals(Person.MOTHER.add(Person.NAME), motherName);
+        assertSame(motherName, ring.find("mother.name"));
+        assertNull(ring.find("mother.undefined", false));
+    }
+
     // ------------ HELP ------------
 
     private UjoCSV createUjoInstance() {
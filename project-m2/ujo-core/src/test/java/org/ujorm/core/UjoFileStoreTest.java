@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ujorm.KeyList;
+import org.ujorm.criterion.Person;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the memory-mapped store
+ * @author Pavel Ponec
+ */
+public class UjoFileStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    /** Keys of the stored person */
+    private final KeyList<Person> keys = KeyRing.of(Person.class
+            , Person.NAME
+            , Person.MALE
+            , Person.CASH
+            , Person.ADDRESS
+            , Person.BORN);
+
+    /** Write, read and reopen the store */
+    @Test
+    public void testStore() {
+        File file = tempDir.resolve("person.bin").toFile();
+
+        try (UjoFileStore<Person> store = UjoFileStore.of(file, keys)) {
+            assertTrue(store.isEmpty());
+            for (int i = 0; i < 10; i++) {
+                Person person = new Person();
+                person.set(Person.NAME, "Name-" + i);
+                person.set(Person.MALE, i % 2 == 0);
+                person.set(Person.CASH, i * 10.0);
+                person.set(Person.ADDRESS, i == 3 ? null : "Street " + i);
+                person.set(Person.BORN, LocalDate.of(2000, 1, 1).plusDays(i));
+                store.add(person);
+            }
+            assertEquals(10L, store.size());
+            assertEquals("Name-5", store.get(5L, Person.NAME));
+            assertNull(store.get(3L, Person.ADDRESS));
+        }
+
+        try (UjoFileStore<Person> store = UjoFileStore.of(file, keys)) {
+            assertEquals(10L, store.size());
+            assertEquals("Name-7", store.getRow(7L).get(Person.NAME));
+            assertEquals(70.0, store.get(7L, Person.CASH));
+            assertEquals(Boolean.FALSE, store.get(7L, Person.MALE));
+            assertEquals(LocalDate.of(2000, 1, 8), store.get(7L, Person.BORN));
+            assertNull(store.get(3L, Person.ADDRESS));
+
+            List<String> names = new ArrayList<>();
+            store.forEach(Person.CASH.whereGe(80.0), row -> names.add(row.get(Person.NAME)));
+            assertEquals(List.of("Name-8", "Name-9"), names);
+
+            store.set(8L, Person.ADDRESS, "Changed");
+            assertEquals("Changed", store.toUjo(8L).get(Person.ADDRESS));
+        }
+    }
+
+    /** An update of a text cell reuses its record if the new value is not longer */
+    @Test
+    public void testTextUpdate() {
+        File file = tempDir.resolve("update.bin").toFile();
+        File varFile = new File(file.getPath() + UjoFileStore.VAR_SUFFIX);
+
+        try (UjoFileStore<Person> store = UjoFileStore.of(file, keys)) {
+            Person person = new Person();
+            person.set(Person.NAME, "Name-0");
+            store.add(person);
+            store.flush();
+            long varSize = varFile.length();
+
+            for (int i = 0; i < 10; i++) {
+                store.set(0L, Person.NAME, "Name-" + i);
+                assertEquals("Name-" + i, store.get(0L, Person.NAME));
+            }
+            store.set(0L, Person.NAME, "N");
+            assertEquals("N", store.get(0L, Person.NAME));
+            store.flush();
+            assertEquals(varSize, varFile.length());
+
+            store.set(0L, Person.NAME, null);
+            store.set(0L, Person.NAME, "X");
+            store.set(0L, Person.NAME, "Longer name");
+            assertEquals("Longer name", store.get(0L, Person.NAME));
+            store.flush();
+            assertTrue(varFile.length() > varSize);
+        }
+    }
+
+    /** A different key layout is refused */
+    @Test
+    public void testLayout() {
+        File file = tempDir.resolve("layout.bin").toFile();
+        UjoFileStore.of(file, keys).close();
+
+        KeyList<Person> otherKeys = KeyRing.of(Person.class, Person.NAME, Person.CASH);
+        assertThrows(IllegalArgumentException.class, () -> UjoFileStore.of(file, otherKeys));
+    }
+}
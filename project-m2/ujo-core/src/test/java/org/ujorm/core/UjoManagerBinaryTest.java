@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ujorm.core.ujos.UjoJSON;
+import org.ujorm.extensions.types.UnsignedShort;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ujorm.core.ujos.UjoJSON.*;
+
+/**
+ * Tests and a benchmark of the UjoManagerBinary.
+ * Assign the {@code true} value to the constant {@link #RUN_BENCHMARK} to run a long test.
+ * @author Pavel Ponec
+ */
+public class UjoManagerBinaryTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UjoManagerBinaryTest.class);
+
+    private static final boolean RUN_BENCHMARK = false;
+
+    private final UjoManagerBinary<UjoJSON> manager = UjoManagerBinary.of(UjoJSON.class);
+
+    /** Encode and decode one object graph */
+    @Test
+    public void testEncodeDecode() {
+        final UjoJSON ujo = createUjo(1);
+        final ByteBuffer buffer = manager.encode(ujo);
+        final int size = buffer.remaining();
+        final UjoJSON result = manager.decode(buffer);
+
+        assertEquals(toJson(ujo), toJson(result));
+        assertEquals(ujo.get(CREATED), result.get(CREATED));
+        assertEquals(ujo.get(WRAPPER), result.get(WRAPPER));
+        assertEquals(0, buffer.remaining());
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(size + 2);
+        direct.put((byte) 7).put(manager.encode(ujo)).put((byte) 8).flip().get();
+        assertEquals(toJson(ujo), toJson(manager.decode(direct)));
+        assertEquals(8, direct.get());
+
+        assertThrows(IllegalUjormException.class, () -> manager.decode(ByteBuffer.wrap(new byte[]{'X', 1})));
+        assertThrows(IllegalUjormException.class, () -> manager.decode(ByteBuffer.wrap(new byte[]{'U', 1, 0})));
+    }
+
+    /** Encode and decode a stream of objects over more buffers */
+    @Test
+    public void testStream() throws IOException {
+        final List<UjoJSON> ujos = createUjos(500);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (var encoder = manager.createEncoder(out)) {
+            ujos.forEach(encoder::write);
+        }
+
+        try (var decoder = manager.createDecoder(new ByteArrayInputStream(out.toByteArray()))) {
+            final List<UjoJSON> result = decoder.stream().collect(Collectors.toList());
+            assertEquals(ujos.size(), result.size());
+            for (int i = 0; i < ujos.size(); i++) {
+                assertEquals(toJson(ujos.get(i)), toJson(result.get(i)));
+            }
+            assertNull(decoder.read());
+        }
+    }
+
+    /** Compare sizes and speed with the Java serialization and the XML format */
+    @Test
+    public void runBenchmark() throws Exception {
+        final int loops = RUN_BENCHMARK ? 200 : 1;
+        final UjoJSON root = new UjoJSON();
+        root.set(CHILDREN, createUjos(RUN_BENCHMARK ? 1_000 : 10));
+        final UjoManagerXML managerXML = UjoManagerXML.getInstance();
+
+        for (int warming = RUN_BENCHMARK ? 2 : 1; warming > 0; warming--) {
+            long start = System.nanoTime();
+            ByteArrayOutputStream out = null;
+            for (int i = 0; i < loops; i++) {
+                out = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+                    oos.writeObject(root);
+                }
+            }
+            final byte[] java = out.toByteArray();
+            for (int i = 0; i < loops; i++) {
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(java))) {
+                    ois.readObject();
+                }
+            }
+            final long javaTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < loops; i++) {
+                out = new ByteArrayOutputStream();
+                managerXML.saveXML(out, root, null, "XML");
+            }
+            final byte[] xml = out.toByteArray();
+            for (int i = 0; i < loops; i++) {
+                managerXML.parseXML(new ByteArrayInputStream(xml), UjoJSON.class, "XML");
+            }
+            final long xmlTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ByteBuffer binary = null;
+            UjoJSON result = null;
+            for (int i = 0; i < loops; i++) {
+                binary = manager.encode(root);
+                result = manager.decode(binary.duplicate());
+            }
+            final long binaryTime = System.nanoTime() - start;
+
+            assertEquals(toJson(root), toJson(result));
+            assertTrue(binary.remaining() < java.length);
+            LOGGER.info("Write and read: Java {} ms, {} bytes; XML {} ms, {} bytes; Binary {} ms, {} bytes"
+                    , javaTime / 1_000_000, java.length
+                    , xmlTime / 1_000_000, xml.length
+                    , binaryTime / 1_000_000, binary.remaining());
+        }
+    }
+
+    /** Serialize the object to a JSON for a comparison */
+    private static String toJson(final UjoJSON ujo) {
+        final StringBuilder result = new StringBuilder();
+        try {
+            UjoManagerJSON.of(UjoJSON.class).saveJSON(result, ujo, null);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return result.toString();
+    }
+
+    /** Create a list of objects */
+    private static List<UjoJSON> createUjos(final int count) {
+        final List<UjoJSON> result = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            result.add(createUjo(i));
+        }
+        return result;
+    }
+
+    /** Create an object graph */
+    private static UjoJSON createUjo(final int id) {
+        final UjoJSON result = new UjoJSON();
+        result.set(NAME, "Name \"" + id + "\" Příliš žluťoučký kůň 😀");
+        result.set(COUNT, -id);
+        result.set(PRICE, new BigDecimal("10.50").multiply(BigDecimal.valueOf(id)));
+        result.set(ACTIVE, id % 2 == 0);
+        result.set(DAY, LocalDate.of(2026, 1, 1 + id % 28));
+        result.set(CREATED, new Date(1_700_000_000_000L + id));
+        result.set(STATE, SampleEnum.values()[id % 3]);
+        result.set(LEVEL, SampleEnumWrapper.TWO);
+        result.set(WRAPPER, new UnsignedShort((short) (Short.MIN_VALUE + id % 4)));
+        result.set(TAGS, new ArrayList<>(Arrays.asList("a", null, "b")));
+
+        final UjoJSON parent = new UjoJSON();
+        parent.set(NAME, "Parent");
+        result.set(PARENT, parent);
+
+        final List<UjoJSON> children = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            final UjoJSON child = new UjoJSON();
+            child.set(NAME, "Child " + i);
+            child.set(COUNT, i);
+            children.add(child);
+        }
+        result.set(CHILDREN, children);
+        return result;
+    }
+}
@@ -9,10 +9,16 @@ package org.ujorm.core;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -210,6 +216,72 @@ public class UjoManagerCSVTest extends AbstractTest {
         // System.out.print("-----\n" + out.toString("utf-8") + "\n-----\n");
     }
 
+    /** Test of the streaming reader with quoted values */
+    @Test
+    public void testStream() throws Exception {
+        UjoCSV.P1.setValue(ujo, "A;B");
+        UjoCSV.P2.setValue(ujo, "\"quoted\"");
+        UjoCSV.P3.setValue(ujo, "C\nD");
+
+        StringWriter out = new StringWriter();
+        manager.saveCSV(out, Stream.of(ujo, ujo), context);
+        String text = out.toString().replace("\n", "\r\n");
+
+        List<UjoCSV> result = manager.stream(new StringReader(text), context)
+                .collect(Collectors.toList());
+        assertEquals(2, result.size());
+        assertEquals(ujo, result.get(0));
+        assertEquals(ujo, result.get(1));
+    }
+
+    /** The parallel stream must keep the order of rows */
+    @Test
+    public void testStreamParallel() throws Exception {
+        final int count = 5_000;
+        StringBuilder text = new StringBuilder("P1;P2;P3\n");
+        for (int i = 0; i < count; i++) {
+            text.append(i).append(";\"x;").append(i).append("\";\n");
+        }
+
+        List<String> result = new ArrayList<>(count);
+        manager.stream(new StringReader(text.toString()), context)
+                .parallel()
+                .forEachOrdered(u -> result.add(u.get(P1)));
+        assertEquals(count, result.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(String.valueOf(i), result.get(i));
+        }
+    }
+
+    /** Test of the consumer with a wrong header */
+    @Test
+    public void testLoadConsumer() throws Exception {
+        List<UjoCSV> result = new ArrayList<>();
+        manager.loadCSV(new StringReader("P1;P2;P3\n\nA;B;C\n"), result::add, context);
+        assertEquals(1, result.size());
+        assertEquals("C", result.get(0).get(P3));
+
+        manager.setHeaderContent("X1;X2");
+        assertThrows(IllegalUjormException.class, ()
+                -> manager.loadCSV(new StringReader("P1;P2;P3\nA;B;C\n"), result::add, context));
+    }
+
+    /** The file loading keeps the original parser */
+    @Test
+    public void testLoadFile() throws Exception {
+        String csv = "P1;P2;P3\n\" A \";B ; C\n\"x\"\"y\";\"\";z\n";
+        File file = File.createTempFile("ujorm", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), csv.getBytes(UTF_8));
+
+        List<UjoCSV> expected = manager.loadCSV(new Scanner(csv), context);
+        List<UjoCSV> result = manager.loadCSV(file, context);
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), result.get(i));
+        }
+    }
+
     // -- UTILS ---
 
     ByteArrayOutputStream createOutputStream() {
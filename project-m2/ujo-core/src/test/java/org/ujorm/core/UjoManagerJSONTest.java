@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ujorm.core.ujos.UjoJSON;
+import org.ujorm.extensions.types.UnsignedShort;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ujorm.core.ujos.UjoJSON.*;
+
+/**
+ * Tests and a benchmark of the UjoManagerJSON.
+ * Assign the {@code true} value to the constant {@link #RUN_BENCHMARK} to run a long test.
+ * @author Pavel Ponec
+ */
+public class UjoManagerJSONTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UjoManagerJSONTest.class);
+
+    private static final boolean RUN_BENCHMARK = false;
+
+    private final UjoManagerJSON<UjoJSON> manager = UjoManagerJSON.of(UjoJSON.class);
+
+    /** Write and read an object graph */
+    @Test
+    public void testSaveParse() throws IOException {
+        final UjoJSON ujo = createUjo(1);
+        final StringBuilder json = new StringBuilder();
+        manager.saveJSON(json, ujo, "JSON-Context");
+
+        assertTrue(json.toString().startsWith("{\"NAME\":\"Name \\\"1\\\"\\n\",\"COUNT\":1,\"PRICE\":10.50,\"ACTIVE\":true,"));
+        assertTrue(json.toString().contains("\"STATE\":\"ONE\",\"LEVEL\":\"T\",\"WRAPPER\":-32765,\"TAGS\":[\"a\",\"b\"]"));
+
+        final UjoJSON result = manager.parseJSON(new StringReader(json.toString()), "JSON-Context");
+        assertEquals(ujo.get(NAME), result.get(NAME));
+        assertEquals(ujo.get(COUNT), result.get(COUNT));
+        assertEquals(ujo.get(PRICE), result.get(PRICE));
+        assertEquals(ujo.get(ACTIVE), result.get(ACTIVE));
+        assertEquals(ujo.get(DAY), result.get(DAY));
+        assertEquals(ujo.get(CREATED), result.get(CREATED));
+        assertEquals(ujo.get(STATE), result.get(STATE));
+        assertEquals(ujo.get(LEVEL), result.get(LEVEL));
+        assertEquals(ujo.get(WRAPPER), result.get(WRAPPER));
+        assertEquals(ujo.get(TAGS), result.get(TAGS));
+        assertEquals("Parent", result.get(PARENT).get(NAME));
+        assertEquals(2, result.get(CHILDREN).size());
+        assertEquals("Child 2", result.get(CHILDREN).get(1).get(NAME));
+
+        final StringBuilder json2 = new StringBuilder();
+        manager.saveJSON(json2, result, "JSON-Context");
+        assertEquals(json.toString(), json2.toString());
+    }
+
+    /** Unknown members are skipped */
+    @Test
+    public void testUnknownMembers() {
+        final String json = " { \"x\" : {\"a\":[1, {\"b\":null}]}, \"NAME\" : \"A\\u0042\\/\", \"y\": [], \"COUNT\": null } ";
+        final UjoJSON result = manager.parseJSON(new StringReader(json), null);
+        assertEquals("AB/", result.get(NAME));
+        assertNull(result.get(COUNT));
+        assertNull(manager.parseJSON(new StringReader("null"), null));
+        assertThrows(IllegalUjormException.class, () -> manager.parseJSON(new StringReader("{\"javaClass\":\"java.lang.String\"}"), null));
+        assertThrows(IllegalUjormException.class, () -> manager.parseJSON(new StringReader("{\"NAME\":\"A}"), null));
+    }
+
+    /** A missing or an extra separator is refused */
+    @Test
+    public void testSeparators() {
+        assertEquals("A", manager.parseJSON(new StringReader("{\"NAME\":\"A\",\"TAGS\":[\"a\",\"b\"]}"), null).get(NAME));
+        for (String json : new String[]
+                { "{\"NAME\" \"A\"}"
+                , "{\"NAME\":\"A\" \"COUNT\":1}"
+                , "{\"NAME\":\"A\",}"
+                , "{,\"NAME\":\"A\"}"
+                , "{\"NAME\"::\"A\"}"
+                , "{\"NAME\",\"A\"}"
+                , "{\"TAGS\":[\"a\" \"b\"]}"
+                , "{\"TAGS\":[\"a\",,\"b\"]}"
+                , "{\"TAGS\":[\"a\":\"b\"]}"
+                , "{\"x\":[1 2], \"NAME\":\"A\"}"
+                , "{\"NAME\":\"A\"]"
+                }) {
+            assertThrows(IllegalUjormException.class, () -> manager.parseJSON(new StringReader(json), null), json);
+        }
+        assertThrows(IllegalUjormException.class, () -> manager.parseList(new StringReader("[{} {}]"), null));
+    }
+
+    /** Write and read a stream of objects */
+    @Test
+    public void testStream() throws IOException {
+        final List<UjoJSON> ujos = createUjos(20);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        manager.saveJSON(out, ujos.stream(), "JSON-Context");
+
+        final List<String> names = manager.stream(new StringReader(out.toString(UTF_8)), "JSON-Context")
+                .map(u -> u.get(NAME))
+                .collect(Collectors.toList());
+        assertEquals(ujos.stream().map(u -> u.get(NAME)).collect(Collectors.toList()), names);
+        assertEquals(0, manager.parseList(new StringReader(" [ ] "), null).size());
+    }
+
+    /** Compare the JSON format with the XML format of the UjoManagerXML */
+    @Test
+    public void runBenchmark() throws IOException {
+        final int loops = RUN_BENCHMARK ? 200 : 1;
+        final UjoJSON root = new UjoJSON();
+        root.set(CHILDREN, createUjos(RUN_BENCHMARK ? 1_000 : 10));
+        final UjoManagerXML managerXML = UjoManagerXML.getInstance();
+
+        for (int warming = RUN_BENCHMARK ? 2 : 1; warming > 0; warming--) {
+            long start = System.nanoTime();
+            ByteArrayOutputStream out = null;
+            for (int i = 0; i < loops; i++) {
+                out = new ByteArrayOutputStream();
+                managerXML.saveXML(out, root, null, "XML");
+            }
+            final long xmlWrite = System.nanoTime() - start;
+            final byte[] xml = out.toByteArray();
+
+            start = System.nanoTime();
+            for (int i = 0; i < loops; i++) {
+                managerXML.parseXML(new ByteArrayInputStream(xml), UjoJSON.class, "XML");
+            }
+            final long xmlRead = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < loops; i++) {
+                out = new ByteArrayOutputStream();
+                manager.saveJSON(out, root, "JSON");
+            }
+            final long jsonWrite = System.nanoTime() - start;
+            final byte[] json = out.toByteArray();
+
+            start = System.nanoTime();
+            UjoJSON result = null;
+            for (int i = 0; i < loops; i++) {
+                result = manager.parseJSON(new ByteArrayInputStream(json), "JSON");
+            }
+            final long jsonRead = System.nanoTime() - start;
+
+            assertEquals(root.get(CHILDREN).size(), result.get(CHILDREN).size());
+            LOGGER.info("XML: write {} ms, read {} ms, {} bytes; JSON: write {} ms, read {} ms, {} bytes"
+                    , xmlWrite / 1_000_000, xmlRead / 1_000_000, xml.length
+                    , jsonWrite / 1_000_000, jsonRead / 1_000_000, json.length);
+        }
+    }
+
+    /** Create a list of objects */
+    private static List<UjoJSON> createUjos(final int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(UjoManagerJSONTest::createUjo)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /** Create an object graph */
+    private static UjoJSON createUjo(final int id) {
+        final UjoJSON result = new UjoJSON();
+        result.set(NAME, "Name \"" + id + "\"\n");
+        result.set(COUNT, id);
+        result.set(PRICE, new BigDecimal("10.50"));
+        result.set(ACTIVE, true);
+        result.set(DAY, LocalDate.of(2026, 1, 1 + id % 28));
+        result.set(CREATED, new Date(1_700_000_000_000L + id));
+        result.set(STATE, SampleEnum.ONE);
+        result.set(LEVEL, SampleEnumWrapper.TWO);
+        result.set(WRAPPER, new UnsignedShort((short) (Short.MIN_VALUE + 3)));
+        result.set(TAGS, new ArrayList<>(Arrays.asList("a", "b")));
+
+        final UjoJSON parent = new UjoJSON();
+        parent.set(NAME, "Parent");
+        result.set(PARENT, parent);
+
+        final List<UjoJSON> children = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            final UjoJSON child = new UjoJSON();
+            child.set(NAME, "Child " + i);
+            child.set(COUNT, i);
+            children.add(child);
+        }
+        result.set(CHILDREN, children);
+        return result;
+    }
+}
@@ -16,11 +16,21 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.ujorm.AbstractTest;
+import org.ujorm.KeyList;
+import org.ujorm.core.ujos.UjoJSON;
+import org.ujorm.extensions.types.UnsignedShort;
+import org.ujorm.implementation.xml.t005_attrib2.AtrPersonArray;
 
 /**
  *
@@ -450,6 +460,78 @@ public class UjoManagerTest extends AbstractTest {
         assertEquals(expected, result, "1");
     }
 
+    /** Test of the key descriptors */
+    @Test
+    public void testDescriptor() {
+        UjoManager manager = new UjoManager();
+        manager.readKeys(AtrPersonArray.class);
+
+        assertTrue(manager.getDescriptor(AtrPersonArray.NAME_ATTR).isXmlAttribute());
+        assertTrue(manager.isXmlAttribute(AtrPersonArray.NAME_ATTR));
+        assertFalse(manager.isXmlAttribute(AtrPersonArray.NAME_ELEM));
+        assertFalse(manager.isTransient(AtrPersonArray.NAME_ATTR));
+        assertSame(KeyDescriptor.DEFAULT, manager.getDescriptor(AtrPersonArray.CHILDREN));
+        assertNull(manager.getXmlElementBody(AtrPersonArray.class));
+    }
 
+    /** Test of the value codecs cached by the key */
+    @Test
+    public void testCodec() {
+        UjoManager manager = new UjoManager();
+        java.util.Date created = new java.util.Date(1_000_000_000_123L);
+        java.sql.Date day = java.sql.Date.valueOf("2026-02-28");
+
+        ValueCodec<java.util.Date> dateCodec = manager.getCodec(UjoJSON.CREATED);
+        assertSame(dateCodec, manager.getCodec(UjoJSON.CREATED));
+        assertEquals(created, dateCodec.decode(dateCodec.encode(created)));
+        assertEquals("2026-02-28", dateCodec.encode(day));
+        assertEquals(day, manager.decodeValue(java.sql.Date.class, "2026-02-28"));
+        assertNull(dateCodec.decode(""));
+
+        // Lenient parsing of dates:
+        assertEquals(java.sql.Date.valueOf("2020-01-05"), manager.decodeValue(java.sql.Date.class, "2020-1-5"));
+        assertEquals(java.sql.Date.valueOf("2021-01-01"), manager.decodeValue(java.sql.Date.class, "2020-13-01"));
+        assertEquals(java.util.Date.from(java.time.LocalDateTime.of(2020, 1, 5, 8, 30, 0, 5_000_000).atZone(java.time.ZoneId.systemDefault()).toInstant())
+                , manager.decodeValue(java.util.Date.class, "2020-1-5T8:30:00.5"));
+
+        ValueCodec<SampleEnumWrapper> levelCodec = manager.getCodec(UjoJSON.LEVEL);
+        assertEquals(SampleEnumWrapper.ONE, levelCodec.decode(levelCodec.encode(SampleEnumWrapper.ONE)));
+        assertEquals(SampleEnum.TWO, manager.getCodec(UjoJSON.STATE).decode("TWO"));
+
+        ValueCodec<List<String>> tagsCodec = manager.getCodec(UjoJSON.TAGS);
+        assertEquals("a,b", tagsCodec.encode(Arrays.asList("a", "b")));
+        assertEquals(Arrays.asList("a", "b"), tagsCodec.decode("a,b"));
+        assertNull(tagsCodec.decode(""));
+
+        ValueCodec<UnsignedShort> wrapperCodec = manager.getCodec(UjoJSON.WRAPPER);
+        assertEquals(UnsignedShort.of(12), wrapperCodec.decode(wrapperCodec.encode(UnsignedShort.of(12))));
+        assertEquals("2.50", manager.encodeValue(manager.decodeValue(SampleNumberWrapper.class, "2.50"), false));
+        assertEquals("abc", manager.decodeValue(StringBuilder.class, "abc").toString());
+        assertThrows(IllegalUjormException.class, () -> manager.decodeValue(UjoJSON.COUNT, "x"));
+    }
 
+    /** Concurrent first reading of the keys must return the same instance */
+    @Test
+    public void testConcurrentReadKeys() throws Exception {
+        final int threads = 8;
+        final UjoManager manager = new UjoManager();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<KeyList<AtrPersonArray>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return manager.readKeys(AtrPersonArray.class);
+                }));
+            }
+            start.countDown();
+            final KeyList<AtrPersonArray> first = futures.get(0).get();
+            for (Future<KeyList<AtrPersonArray>> future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
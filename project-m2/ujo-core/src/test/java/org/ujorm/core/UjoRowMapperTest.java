@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.ujorm.core.ujos.UjoJSON;
+import org.ujorm.extensions.types.UnsignedShort;
+import org.ujorm.tools.sql.SqlParamBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ujorm.core.ujos.UjoJSON.*;
+
+/**
+ * Tests of the UjoRowMapper
+ * @author Pavel Ponec
+ */
+public class UjoRowMapperTest {
+
+    private static final String SQL = String.join("\n"
+            , "SELECT 'A' AS name, 3 AS \"COUNT\", 1.50 AS price, TRUE AS active"
+            , ", DATE '2026-01-02' AS \"DAY\", 'TWO' AS state, 'O' AS \"LEVEL\", '7' AS wrapper"
+            , ", 'cs-CZ' AS locale, 'B' AS parent_name, 4 AS parent_count"
+            , "UNION ALL"
+            , "SELECT 'C', NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL");
+
+    /** Test mapping of Ujo objects with a nested Ujo object */
+    @Test
+    public void testUjoRowMapper() throws Exception {
+        try (Connection dbConnection = DriverManager.getConnection("jdbc:h2:mem:ujoRowMapper");
+             SqlParamBuilder builder = new SqlParamBuilder(dbConnection)) {
+            final List<UjoJSON> ujos = builder.sql(SQL)
+                    .streamMap(UjoRowMapper.of(SQL, UjoJSON.class))
+                    .toList();
+            assertEquals(2, ujos.size());
+
+            final UjoJSON first = ujos.get(0);
+            assertEquals("A", first.get(NAME));
+            assertEquals(3, first.get(COUNT));
+            assertEquals(new BigDecimal("1.50"), first.get(PRICE));
+            assertEquals(Boolean.TRUE, first.get(ACTIVE));
+            assertEquals(LocalDate.parse("2026-01-02"), first.get(DAY));
+            assertEquals(SampleEnum.TWO, first.get(STATE));
+            assertEquals(SampleEnumWrapper.ONE, first.get(LEVEL));
+            assertEquals(new UnsignedShort((short) 7), first.get(WRAPPER)); // A persistent value
+            assertEquals(new Locale("cs", "CZ"), first.get(LOCALE)); // A value decoded by the codec
+            assertEquals("B", first.get(PARENT).get(NAME));
+            assertEquals(4, first.get(PARENT).get(COUNT));
+
+            final UjoJSON second = ujos.get(1);
+            assertEquals("C", second.get(NAME));
+            assertNull(second.get(COUNT));
+            assertNull(second.get(PARENT));
+            assertSame(UjoRowMapper.of(SQL, UjoJSON.class), UjoRowMapper.of(SQL, UjoJSON.class));
+        }
+    }
+}
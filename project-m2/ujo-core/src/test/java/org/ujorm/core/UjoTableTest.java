@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+import org.junit.jupiter.api.Test;
+import org.ujorm.Key;
+import org.ujorm.core.ujos.UjoCSV;
+import org.ujorm.criterion.Person;
+import org.ujorm.implementation.xml.t003_list.UItemBean;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the columnar table
+ * @author Pavel Ponec
+ */
+public class UjoTableTest {
+
+    /** Test of the values */
+    @Test
+    public void testValues() {
+        UjoTable<Person> table = UjoTable.of(Person.class);
+        table.addAll(createPersons());
+
+        assertEquals(3, table.size());
+        assertEquals("Lucy", table.get(1, Person.NAME));
+        assertEquals(20.0, table.get(1, Person.CASH));
+        assertEquals(Boolean.TRUE, table.get(2, Person.MALE));
+        assertNull(table.get(2, Person.ADDRESS));
+        assertEquals(LocalDate.parse("1999-12-31"), table.get(0, Person.BORN));
+        assertEquals(1, table.countNulls(Person.ADDRESS));
+
+        UjoTable<Person>.Row row = table.getRow(0);
+        assertEquals("Jack", ((Key) Person.NAME).of(row));
+        assertEquals("Jack", row.get(Person.NAME));
+
+        row.set(Person.NAME, "John");
+        assertEquals("John", table.get(0, Person.NAME));
+        assertEquals(createPersons().size(), table.toList().size());
+        assertEquals("John", table.toUjo(0).get(Person.NAME));
+    }
+
+    /** Test of the bulk operations */
+    @Test
+    public void testBulkOperations() {
+        UjoTable<Person> table = UjoTable.of(Person.class);
+        table.addAll(createPersons());
+
+        assertEquals(60.0, table.sum(Person.CASH));
+        assertArrayEquals(new int[]{1, 2}, table.select(Person.CASH.whereGt(10.0)));
+        assertArrayEquals(new int[]{2, 1, 0}, table.sort(UjoComparator.of(Person.CASH.descending())));
+        assertArrayEquals(new int[]{0, 2, 1}, table.sort(UjoComparator.of(Person.NAME)));
+
+        int[] counter = {0};
+        table.forEach(r -> counter[0]++);
+        assertEquals(3, counter[0]);
+
+        table.clear();
+        assertTrue(table.isEmpty());
+    }
+
+    /** Test of the empty cells of a new row */
+    @Test
+    public void testEmptyRow() {
+        UjoTable<Person> table = UjoTable.of(Person.class);
+        table.addAll(createPersons());
+        table.clear();
+
+        int rowId = table.addRow().set(Person.CASH, 5.0).getRowId();
+        assertNull(table.get(rowId, Person.NAME));
+        assertNull(table.get(rowId, Person.MALE));
+        assertNull(table.get(rowId, Person.BORN));
+        assertEquals(5.0, table.get(rowId, Person.CASH));
+        assertEquals(1, table.countNulls(Person.NAME));
+        assertEquals(0, table.countNulls(Person.CASH));
+        assertEquals("Jack", table.getRow(rowId).set(Person.NAME, "Jack").get(Person.NAME));
+    }
+
+    /** Test a sum of decimal values */
+    @Test
+    public void testDecimalSum() {
+        UjoTable<UItemBean> table = UjoTable.of(UItemBean.class);
+        table.addRow().set(UItemBean.P9_BIG_DECI, new BigDecimal("1.25")).set(UItemBean.P6_FLOAT, 0.5f);
+        table.addRow().set(UItemBean.P9_BIG_DECI, new BigDecimal("2.50")).set(UItemBean.P4_INTE, 3);
+        table.addRow();
+
+        assertEquals(3.75, table.sum(UItemBean.P9_BIG_DECI), 0.0001);
+        assertEquals(0.5, table.sum(UItemBean.P6_FLOAT), 0.0001);
+        assertEquals(3.0, table.sum(UItemBean.P4_INTE), 0.0001);
+        assertEquals(1, table.countNulls(UItemBean.P9_BIG_DECI));
+    }
+
+    /** Load a table from the CSV */
+    @Test
+    public void testLoadCSV() {
+        String csv = "P1;P2;P3\nA;B;C\nD;\"E;F\";G\n";
+        UjoManagerCSV<UjoCSV> manager = UjoManagerCSV.of(UjoCSV.class);
+        UjoTable<UjoCSV> table = manager.loadCSV(new Scanner(new StringReader(csv))
+                , UjoTable.of(UjoCSV.class)
+                , "CSV-Context");
+
+        assertEquals(2, table.size());
+        assertEquals("A", table.get(0, UjoCSV.P1));
+        assertEquals("E;F", table.get(1, UjoCSV.P2));
+        assertEquals("G", table.get(1, UjoCSV.P3));
+    }
+
+    /** A column with many distinct strings */
+    @Test
+    public void testHighCardinality() {
+        UjoTable<Person> table = UjoTable.of(Person.class);
+        int count = 2 * UjoTable.DICTIONARY_LIMIT + 10;
+        for (int i = 0; i < count; i++) {
+            table.addRow().set(Person.NAME, i % 2 == 0 ? "name-" + i : null);
+        }
+
+        assertEquals(count, table.size());
+        assertEquals("name-0", table.get(0, Person.NAME));
+        assertNull(table.get(1, Person.NAME));
+        assertEquals("name-" + (count - 2), table.get(count - 2, Person.NAME));
+        assertEquals(count / 2, table.countNulls(Person.NAME));
+
+        table.getRow(1).set(Person.NAME, "name-1");
+        assertEquals("name-1", table.get(1, Person.NAME));
+    }
+
+    /** Create sample persons */
+    private List<Person> createPersons() {
+        Person p1 = new Person();
+        p1.set(Person.NAME, "Jack");
+        p1.set(Person.CASH, 10.0);
+        p1.set(Person.ADDRESS, "Prague");
+        p1.set(Person.BORN, LocalDate.parse("1999-12-31"));
+
+        Person p2 = new Person();
+        p2.set(Person.NAME, "Lucy");
+        p2.set(Person.CASH, 20.0);
+        p2.set(Person.ADDRESS, "Brno");
+
+        Person p3 = new Person();
+        p3.set(Person.NAME, "John");
+        p3.set(Person.CASH, 30.0);
+        p3.set(Person.MALE, true);
+        return Arrays.asList(p1, p2, p3);
+    }
+}
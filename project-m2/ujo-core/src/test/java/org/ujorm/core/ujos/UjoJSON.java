@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.core.ujos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Locale;
+import org.ujorm.Key;
+import org.ujorm.ListKey;
+import org.ujorm.core.KeyFactory;
+import org.ujorm.core.SampleEnum;
+import org.ujorm.core.SampleEnumWrapper;
+import org.ujorm.extensions.types.UnsignedShort;
+import org.ujorm.implementation.quick.SmartUjo;
+
+/**
+ * A sample object for the JSON and binary format tests
+ * @author Pavel Ponec
+ */
+public class UjoJSON extends SmartUjo<UjoJSON> {
+
+    private static final KeyFactory<UjoJSON> f = newFactory(UjoJSON.class);
+
+    public static final Key<UjoJSON, String> NAME = f.newKey();
+    public static final Key<UjoJSON, Integer> COUNT = f.newKey();
+    public static final Key<UjoJSON, BigDecimal> PRICE = f.newKey();
+    public static final Key<UjoJSON, Boolean> ACTIVE = f.newKey();
+    public static final Key<UjoJSON, LocalDate> DAY = f.newKey();
+    public static final Key<UjoJSON, Date> CREATED = f.newKey();
+    public static final Key<UjoJSON, SampleEnum> STATE = f.newKey();
+    public static final Key<UjoJSON, SampleEnumWrapper> LEVEL = f.newKey();
+    public static final Key<UjoJSON, UnsignedShort> WRAPPER = f.newKey();
+    public static final Key<UjoJSON, Locale> LOCALE = f.newKey();
+    public static final ListKey<UjoJSON, String> TAGS = f.newListKey();
+    public static final Key<UjoJSON, UjoJSON> PARENT = f.newKey();
+    public static final ListKey<UjoJSON, UjoJSON> CHILDREN = f.newListKey();
+
+    static {
+        f.lock();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.extensions;
+
+import org.junit.jupiter.api.Test;
+import org.ujorm.Key;
+import org.ujorm.criterion.Person;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the compiled key chain accessor
+ * @author Pavel Ponec
+ */
+public class KeyChainAccessorTest {
+
+    /** Test of the direct slot reading */
+    @Test
+    public void testDirectRead() {
+        final Key<Person, String> motherName = Person.MOTHER.add(Person.NAME);
+        final Key<Person, Double> grandMotherCash = Person.MOTHER.add(Person.MOTHER).add(Person.CASH);
+        final Person person = createPerson(new Person());
+
+        assertEquals("Lucy", motherName.of(person));
+        assertEquals(7.0, grandMotherCash.of(person));
+        final Person grandMother = grandMotherKey().of(person);
+        assertNull(motherName.of(grandMother));
+        assertNull(motherName.of(null));
+
+        grandMother.set(Person.CASH, null);
+        assertEquals(Person.CASH.getDefault(), grandMotherCash.of(person));
+
+        final KeyChainAccessor accessor = KeyChainAccessor.of(new Key[]{Person.MOTHER, Person.MOTHER, Person.NAME});
+        assertNotNull(accessor);
+        assertEquals("Julia", accessor.of(person));
+        assertSame(grandMother, accessor.getSemiValue(person));
+    }
+
+    /** The Ujo with an overridden reading must use the generic method */
+    @Test
+    public void testGenericRead() {
+        final Key<Person, String> motherName = Person.MOTHER.add(Person.NAME);
+        final Person person = new Person();
+        final UpperPerson mother = new UpperPerson();
+        mother.set(Person.NAME, "Lucy");
+        person.set(Person.MOTHER, mother);
+
+        assertEquals("LUCY", motherName.of(person));
+    }
+
+    /** Create a composite key of a grandmother */
+    private static Key<Person, Person> grandMotherKey() {
+        return Person.MOTHER.add(Person.MOTHER);
+    }
+
+    /** Create a person with two ancestors */
+    private static Person createPerson(final Person person) {
+        final Person mother = new Person();
+        final Person grandMother = new Person();
+        person.set(Person.NAME, "Jack");
+        person.set(Person.MOTHER, mother);
+        mother.set(Person.NAME, "Lucy");
+        mother.set(Person.MOTHER, grandMother);
+        grandMother.set(Person.NAME, "Julia");
+        grandMother.set(Person.CASH, 7.0);
+        return person;
+    }
+
+    /** A person with an upper case name */
+    static class UpperPerson extends Person<UpperPerson> {
+        @Override
+        public Object readValue(final Key key) {
+            final Object result = super.readValue(key);
+            return key == NAME && result != null ? result.toString().toUpperCase() : result;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.extensions;
+
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ujorm.Key;
+import org.ujorm.criterion.Person;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A benchmark of the composite key reading.
+ * Assign the {@code true} value to the constant {@link #RUN_BENCHMARK} to run a long test.
+ * @author Pavel Ponec
+ */
+public class PathPropertyBenchmarkTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PathPropertyBenchmarkTest.class);
+
+    private static final boolean RUN_BENCHMARK = false;
+
+    @Test
+    public void runBenchmark() {
+        final int loops = RUN_BENCHMARK ? 20_000_000 : 1_000;
+        final Key<Person, String> path = Person.MOTHER.add(Person.MOTHER).add(Person.NAME);
+        final Person person = new Person();
+        final Person mother = new Person();
+        final Person grandMother = new Person();
+        grandMother.set(Person.NAME, "Julia");
+        mother.set(Person.MOTHER, grandMother);
+        person.set(Person.MOTHER, mother);
+        assertEquals("Julia", genericRead(person));
+
+        run("Warming", loops, () -> genericRead(person).length() + path.of(person).length());
+        run("Generic", loops, () -> genericRead(person).length());
+        run("Compiled", loops, () -> path.of(person).length());
+    }
+
+    /** The original generic traversal */
+    private static String genericRead(final Person person) {
+        final Person mother = Person.MOTHER.of(person);
+        final Person grandMother = mother != null ? Person.MOTHER.of(mother) : null;
+        return grandMother != null ? Person.NAME.of(grandMother) : null;
+    }
+
+    /** Run the benchmark */
+    private static void run(final String title, final int loops, final IntSupplier supplier) {
+        int result = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < loops; i++) {
+            result += supplier.getAsInt();
+        }
+        final long time = (System.nanoTime() - start) / 1_000_000L;
+        LOGGER.info("%-10s: %s ms (hash: %s)".formatted(title, time, result));
+    }
+}
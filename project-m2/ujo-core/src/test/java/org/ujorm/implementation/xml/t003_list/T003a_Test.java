@@ -11,7 +11,11 @@ import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.ujorm.AbstractTest;
 import org.ujorm.core.UjoManagerXML;
@@ -60,6 +64,30 @@ public class T003a_Test extends AbstractTest {
     }
 
 
+    /**
+     * Test of the streaming XML import of the list items.
+     */
+    @Test
+    public void testStreamXML() throws Exception {
+        StringBuilder writer = new StringBuilder(256);
+        UMasterBean master = createMaster();
+        UjoManagerXML.getInstance().saveXML(writer, master, null, "TEST");
+        byte[] xml = writer.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<UItemBean> items;
+        try (Stream<UItemBean> stream = UjoManagerXML.getInstance()
+                .streamXML(new ByteArrayInputStream(xml), UMasterBean.class, UMasterBean.P0_L1ST, "TEST")) {
+            items = stream.collect(Collectors.toList());
+        }
+        assertEquals(UMasterBean.P0_L1ST.getList(master), items);
+
+        List<UItemBean> items2 = new ArrayList<>();
+        UMasterBean master2 = UjoManagerXML.getInstance()
+                .parseXML(new ByteArrayInputStream(xml), UMasterBean.class, UMasterBean.P0_L1ST, items2::add, "TEST");
+        assertEquals(UMasterBean.P0_L1ST.getList(master), items2);
+        assertEquals(0, UMasterBean.P0_L1ST.getItemCount(master2));
+    }
+
     protected UMasterBean createMaster() {
         UMasterBean masterBean = new UMasterBean();
         //
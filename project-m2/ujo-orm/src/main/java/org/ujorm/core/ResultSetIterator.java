@@ -20,23 +20,31 @@ import java.io.Closeable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.ujorm.CompositeKey;
 import org.ujorm.Ujo;
+import org.ujorm.extensions.ValueWrapper;
 import org.ujorm.logger.UjoLogger;
 import org.ujorm.logger.UjoLoggerFactory;
 import org.ujorm.orm.ColumnWrapper;
+import org.ujorm.orm.LazyValue;
 import org.ujorm.orm.OrmUjo;
 import org.ujorm.orm.Query;
+import org.ujorm.orm.metaModel.CompiledTable;
 import org.ujorm.orm.metaModel.MetaColumn;
 
 /**
  * ResultSet iterator. It is not a thread safe implementation.
+ * The iterator creates the business objects of the query table,
+ * or it maps the column values by an optional projection without any entity and session.
  * @author Pavel Ponec
  */
-final class ResultSetIterator<T extends OrmUjo> extends UjoIterator<T> implements Closeable {
+final class ResultSetIterator<T> extends UjoIterator<T> implements Closeable {
     /** Logger */
     private static final UjoLogger LOGGER = UjoLoggerFactory.getLogger(ResultSetIterator.class);
 
@@ -54,6 +62,18 @@ final class ResultSetIterator<T extends OrmUjo> extends UjoIterator<T> implement
     private PreparedStatement statement;
     /** Is the query a view? */
     private final boolean view;
+    /** The table model of the query */
+    @NotNull
+    private final CompiledTable table;
+    /** Lazy columns out of the query, where the value is loaded by the first reading of the key */
+    @NotNull
+    private final MetaColumn[] lazyColumns;
+    /** An optional projection of the column values, where the index of the value is the index of the query column */
+    @Nullable
+    private final Function<Object[], T> projection;
+    /** Indexes of the result set columns, the value is resolved by the first row */
+    @Nullable
+    private int[] columnIndexes;
     /** A count of the item count, the negative value means the undefined value. */
     private long count = -1L;
     /** A state before the first reading a BO. An auxiliary variable.*/
@@ -64,12 +84,26 @@ final class ResultSetIterator<T extends OrmUjo> extends UjoIterator<T> implement
     private boolean hasNext = true;
 
     public ResultSetIterator(@NotNull Query query) throws IllegalUjormException {
+        this(query, null);
+    }
+
+    /**
+     * Create a new iterator
+     * @param query A query
+     * @param projection An optional projection of the column values, the business object is created for the {@code null} value.
+     */
+    public ResultSetIterator(@NotNull Query query, @Nullable Function<Object[], T> projection) throws IllegalUjormException {
         try {
             this.query = query;
+            this.projection = projection;
             this.queryColumns = query.getColumnArray();
             this.statement = query.getStatement();
             this.rs = statement.executeQuery();
             this.view = query.getTableModel().isSelectModel();
+            this.table = query.getTableModel().getCompiled();
+            this.lazyColumns = view || projection != null
+                    ? new MetaColumn[0]
+                    : findLazyColumns(table, queryColumns);
         } catch (SQLException e) {
             throw newException(e);
         }
@@ -147,7 +181,7 @@ final class ResultSetIterator<T extends OrmUjo> extends UjoIterator<T> implement
 
     /** Returns a next table row. */
     @Override
-    @SuppressWarnings("fallthrough")
+    @SuppressWarnings({"fallthrough", "unchecked"})
     public T next() throws NoSuchElementException, IllegalUjormException {
 
         if (!hasNext()) {
@@ -155,13 +189,17 @@ final class ResultSetIterator<T extends OrmUjo> extends UjoIterator<T> implement
         }
         try {
             cursorReady = false; // switch off the cursor flag.
-            @SuppressWarnings("unchecked")
-            final T row = (T) query.getTableModel().createBO();
+            final int[] indexes = getColumnIndexes();
+            if (projection != null) {
+                initState = false;
+                return projection.apply(readValues(indexes));
+            }
+            final OrmUjo row = table.createBO();
 
             for (int i=0, max=queryColumns.length; i<max; i++) {
                 final ColumnWrapper colWrap = queryColumns[i];
                 final MetaColumn column = colWrap.getModel();
-                final int iCol = view ? rs.findColumn(MetaColumn.NAME.of(column)) : (i+1);
+                final int iCol = indexes[i];
                 final Object value = column.getConverter().getValue(column, rs, iCol);
 
                 if (colWrap.isCompositeKey()) {
@@ -172,16 +210,75 @@ final class ResultSetIterator<T extends OrmUjo> extends UjoIterator<T> implement
                     column.setValueRaw(row, value);
                 }
             }
+            for (MetaColumn column : lazyColumns) {
+                row.writeValue(column.getKey(), LazyValue.INSTANCE);
+            }
             row.writeSession(query.getSession());
             if (initState) {
                 initState = false;
             }
-            return row;
+            return (T) row;
         } catch (RuntimeException | SQLException | ReflectiveOperationException | OutOfMemoryError e) {
              throw newException(e);
         }
     }
 
+    /** Read values of the query columns from the current row, where a foreign key value is not wrapped */
+    @NotNull
+    private Object[] readValues(@NotNull final int[] indexes) throws SQLException {
+        final Object[] result = new Object[queryColumns.length];
+        for (int i = 0; i < result.length; i++) {
+            final MetaColumn column = queryColumns[i].getModel();
+            final Object value = column.getConverter().getValue(column, rs, indexes[i]);
+            result[i] = column.isValueWrapper()
+                    ? ValueWrapper.getInstance(column.getType(), value)
+                    : value;
+        }
+        return result;
+    }
+
+    /** Returns lazy columns of the table out of the query columns.
+     * No column is returned if the primary key is missing in the query columns. */
+    @NotNull
+    private static MetaColumn[] findLazyColumns(@NotNull final CompiledTable table, @NotNull final ColumnWrapper[] queryColumns) {
+        final MetaColumn[] lazyColumns = table.getLazyColumns();
+        if (lazyColumns.length == 0 || !contains(queryColumns, table.getFirstPK())) {
+            return new MetaColumn[0];
+        }
+        final List<MetaColumn> result = new ArrayList<>(lazyColumns.length);
+        for (MetaColumn column : lazyColumns) {
+            if (!contains(queryColumns, column)) {
+                result.add(column);
+            }
+        }
+        return result.toArray(new MetaColumn[result.size()]);
+    }
+
+    /** Contains the query columns a direct column? */
+    private static boolean contains(@NotNull final ColumnWrapper[] queryColumns, @Nullable final MetaColumn column) {
+        for (ColumnWrapper queryColumn : queryColumns) {
+            if (!queryColumn.isCompositeKey() && queryColumn.getModel() == column) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns indexes of the result set columns */
+    @NotNull
+    private int[] getColumnIndexes() throws SQLException {
+        if (columnIndexes == null) {
+            final int[] result = new int[queryColumns.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = view
+                        ? rs.findColumn(queryColumns[i].getModel().getName())
+                        : (i + 1);
+            }
+            columnIndexes = result;
+        }
+        return columnIndexes;
+    }
+
     /** Returns the count if items.
      * The fist call can perform a new SQL statement.
      * This additional SQL calling is skipped if the result is zero.
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 import org.ujorm.orm.OrmUjo;
 import org.ujorm.orm.Query;
 import org.ujorm.tools.set.LoopingIterator;
@@ -124,6 +125,15 @@ abstract public class UjoIterator<T> implements LoopingIterator<T> {
         return new ResultSetIterator(query);
     }
 
+    /** Create an iterator of the query column values mapped by a projection without any entity and session.
+     * @param query A query
+     * @param projection A function of the column values, where the value index is the index of the query column
+     */
+    @SuppressWarnings("unchecked")
+    public static final <T> UjoIterator<T> of(final Query<?> query, final Function<Object[], T> projection) {
+        return new ResultSetIterator<>(query, projection);
+    }
+
     /** Create an instance
      * @deprecated Use the method {@link #of(java.util.Iterator) } rather
      */
@@ -23,6 +23,7 @@ import org.ujorm.extensions.Property;
 import org.ujorm.logger.UjoLogger;
 import org.ujorm.logger.UjoLoggerFactory;
 import org.ujorm.orm.ForeignKey;
+import org.ujorm.orm.LazyValue;
 import org.ujorm.orm.OrmUjo;
 import org.ujorm.orm.Session;
 import org.ujorm.orm.metaModel.MetaColumn;
@@ -68,7 +69,11 @@ public class OrmProperty<U extends OrmUjo, VALUE> extends Property<U, VALUE> {
         final Session mySession = ujo.readSession();
         Object result = ujo.readValue(this);
 
-        if (isTypeOf(OrmUjo.class)) {
+        if (result instanceof LazyValue) {
+            result = mySession != null
+                    ? loadLazyValue(mySession, ujo)
+                    : null;
+        } else if (isTypeOf(OrmUjo.class)) {
             if (result instanceof ForeignKey) {
                 if (mySession == null) {
                     return null;
@@ -138,6 +143,53 @@ public class OrmProperty<U extends OrmUjo, VALUE> extends Property<U, VALUE> {
                 : getDefault();
     }
 
+    /**
+     * Load a value of the lazy column and write it to the object.
+     * @param session A required session
+     * @param ujo An object with a lazy value
+     * @return The loaded value
+     * @see LazyValue
+     */
+    @Nullable
+    protected Object loadLazyValue(@NotNull final Session session, @NotNull final U ujo) {
+        final Object result;
+        if (DISABLED.equalsTo(session.getLoadingPolicy())) {
+            throw new IllegalUjormException("The lazy loading is disabled in the current Session.");
+        }
+        if (session.isClosed()) {
+            IllegalStateException e = null;
+            switch (session.getLoadingPolicy()) {
+                case ALLOWED_ANYWHERE_WITH_STACKTRACE:
+                    if (LOGGER.isLoggable(UjoLogger.INFO)) {
+                        e = new IllegalUjormException(session.getLoadingPolicy().name());
+                    }
+                case ALLOWED_ANYWHERE_WITH_WARNING:
+                    if (LOGGER.isLoggable(UjoLogger.INFO)) {
+                        LOGGER.log(UjoLogger.WARN, "The lazy loading on closed session on the key {}", getFullName(), e);
+                    }
+                case ALLOWED_ANYWHERE:
+                    final Session tempSession = session.getHandler().createSession();
+                    try {
+                        result = tempSession.loadLazyValue(ujo, this);
+                    } finally {
+                        tempSession.close();
+                    }
+                    break;
+                default:
+                    final String msg = MsgFormatter.format
+                           ( "The lazy loading of the key '{}' is disabled due the closed Session"
+                            , getFullName());
+                    throw new IllegalUjormException(msg);
+            }
+        } else {
+            result = session.loadLazyValue(ujo, this);
+        }
+        ujo.writeSession(null); // Replacing of the lazy value is not a key change
+        ujo.writeValue(this, result);
+        ujo.writeSession(session); // Restore the Session
+        return result;
+    }
+
     /**
      * Load OrmUjo
      * @param session A required session
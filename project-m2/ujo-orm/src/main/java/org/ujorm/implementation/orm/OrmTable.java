@@ -25,12 +25,14 @@ import org.ujorm.Key;
 import org.ujorm.KeyList;
 import org.ujorm.Ujo;
 import org.ujorm.UjoAction;
+import org.ujorm.core.IllegalUjormException;
 import org.ujorm.core.KeyFactory;
 import org.ujorm.core.UjoManager;
 import org.ujorm.extensions.Property;
 import org.ujorm.implementation.quick.QuickUjo;
 import org.ujorm.orm.ExtendedOrmUjo;
 import org.ujorm.orm.ForeignKey;
+import org.ujorm.orm.LazyValue;
 import org.ujorm.orm.LowerCaseKeyFactory;
 import org.ujorm.orm.OrmKeyFactory;
 import org.ujorm.orm.OrmUjo;
@@ -94,6 +96,9 @@ public abstract class OrmTable<U extends OrmTable> extends QuickUjo implements E
     @Override
     public void writeValue(@NotNull final Key<?,?> key, final Object value) {
         if (session != null) {
+            if (session.isStateless()) {
+                throw new IllegalUjormException("The object of a stateless session is read-only: " + key.getFullName());
+            }
             if (changes == null) {
                 changes = new BitSet();
             }
@@ -167,7 +172,8 @@ public abstract class OrmTable<U extends OrmTable> extends QuickUjo implements E
     @Override
     public boolean readAuthorization(@NotNull final UjoAction action, @NotNull final Key key, @Nullable final Object value) {
         if (action.getType() == UjoAction.ACTION_TO_STRING) {
-            return !(key instanceof RelationToMany);
+            return !(key instanceof RelationToMany)
+                && !(super.readValue(key) instanceof LazyValue);
         }
         return super.readAuthorization(action, key, value);
     }
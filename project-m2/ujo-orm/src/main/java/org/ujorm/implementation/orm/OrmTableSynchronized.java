@@ -24,12 +24,14 @@ import org.ujorm.Key;
 import org.ujorm.KeyList;
 import org.ujorm.Ujo;
 import org.ujorm.UjoAction;
+import org.ujorm.core.IllegalUjormException;
 import org.ujorm.core.KeyFactory;
 import org.ujorm.core.UjoManager;
 import org.ujorm.extensions.Property;
 import org.ujorm.implementation.quick.QuickUjo;
 import org.ujorm.orm.ExtendedOrmUjo;
 import org.ujorm.orm.ForeignKey;
+import org.ujorm.orm.LazyValue;
 import org.ujorm.orm.OrmKeyFactory;
 import org.ujorm.orm.OrmUjo;
 import org.ujorm.orm.Session;
@@ -74,7 +76,11 @@ public abstract class OrmTableSynchronized<U extends OrmTableSynchronized> exten
     /** A method for an internal use only. */
     @Override
     synchronized public void writeValue(Key key, Object value) {
-        if (readSession() != null) {
+        final Session session = readSession();
+        if (session != null) {
+            if (session.isStateless()) {
+                throw new IllegalUjormException("The object of a stateless session is read-only: " + key.getFullName());
+            }
             if (changes == null) {
                 changes = new BitSet();
             }
@@ -154,7 +160,8 @@ public abstract class OrmTableSynchronized<U extends OrmTableSynchronized> exten
     @Override
     public boolean readAuthorization(UjoAction action, Key key, Object value) {
         if (action.getType() == UjoAction.ACTION_TO_STRING) {
-            return !(key instanceof RelationToMany);
+            return !(key instanceof RelationToMany)
+                && !(super.readValue(key) instanceof LazyValue);
         }
         return super.readAuthorization(action, key, value);
     }
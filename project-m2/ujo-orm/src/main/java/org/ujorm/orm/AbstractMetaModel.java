@@ -39,6 +39,8 @@ abstract public class AbstractMetaModel extends AbstractUjo implements UjoLockab
 
     /** Read-only state */
     private boolean readOnly = false;
+    /** The model was restored from a metamodel snapshot */
+    private boolean snapshot = false;
 
     /** Property values are locked to read-only. */
     @Override
@@ -58,6 +60,24 @@ abstract public class AbstractMetaModel extends AbstractUjo implements UjoLockab
         }
     }
 
+    /** Was the model restored from a valid metamodel snapshot?
+     * In that case the model values can replace the annotations of the keys.
+     * @see org.ujorm.orm.metaModel.MetaSnapshot
+     * @since 2.30
+     */
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    /** Mark the model restored from a valid metamodel snapshot.
+     * @see org.ujorm.orm.metaModel.MetaSnapshot
+     * @since 2.30
+     */
+    public void setSnapshot(final boolean snapshot) {
+        checkReadOnly(true);
+        this.snapshot = snapshot;
+    }
+
     /** Lock the class and all other relations */
     @Override public void lock() {
         setReadOnly(true);
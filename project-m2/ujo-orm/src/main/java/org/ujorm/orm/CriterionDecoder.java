@@ -139,6 +139,11 @@ public class CriterionDecoder {
         }
     }
 
+    /** Returns a SQL dialect of the base table */
+    public SqlDialect getDialect() {
+        return dialect;
+    }
+
     /** Returns a column count */
     public int getColumnCount() {
         return values.size();
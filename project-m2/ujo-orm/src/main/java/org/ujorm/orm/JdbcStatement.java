@@ -16,11 +16,15 @@
 
 package org.ujorm.orm;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Array;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -30,6 +34,7 @@ import org.ujorm.UjoAction;
 import org.ujorm.core.IllegalUjormException;
 import org.ujorm.core.UjoManager;
 import org.ujorm.core.annot.PackagePrivate;
+import org.ujorm.criterion.Operator;
 import org.ujorm.extensions.Property;
 import org.ujorm.logger.UjoLogger;
 import org.ujorm.logger.UjoLoggerFactory;
@@ -116,7 +121,7 @@ public class JdbcStatement /*implements Closeable*/ {
     @SuppressWarnings("unchecked")
     public void assignValues(@NotNull OrmUjo bo) throws SQLException {
         final MetaTable dbTable = bo.readSession().getHandler().findTableModel(bo.getClass());
-        final List<MetaColumn> columns = MetaTable.COLUMNS.getList(dbTable);
+        final List<MetaColumn> columns = dbTable.getCompiled().getColumns();
         assignValues(bo, columns);
     }
 
@@ -125,7 +130,7 @@ public class JdbcStatement /*implements Closeable*/ {
     public void assignValues(@NotNull List<? extends OrmUjo> bos, int idxFrom, int idxTo) throws SQLException {
         final OrmUjo bo = bos.get(idxFrom);
         final MetaTable dbTable = bo.readSession().getHandler().findTableModel(bo.getClass());
-        final List<MetaColumn> columns = MetaTable.COLUMNS.getList(dbTable);
+        final List<MetaColumn> columns = dbTable.getCompiled().getColumns();
 
         for (int i = idxFrom; i < idxTo; i++) {
             assignValues(bos.get(i), columns);
@@ -193,10 +198,13 @@ public class JdbcStatement /*implements Closeable*/ {
 
     /** Assign values into the prepared statement */
     public void assignValues(CriterionDecoder decoder) throws SQLException {
+        final SqlDialect dialect = decoder.getDialect();
         int columnCount = decoder.getColumnCount();
         for (int i=0; i<columnCount; ++i) {
             final MetaColumn column = decoder.getColumn(i);
             final Object value = decoder.getValueExtended(i);
+            final Operator operator = decoder.getOperator(i);
+            final boolean inOperator = operator == Operator.IN || operator == Operator.NOT_IN;
 
             if (column.isForeignKey()) {
                 List<MetaColumn> fc = column.getForeignColumns();
@@ -219,8 +227,11 @@ public class JdbcStatement /*implements Closeable*/ {
                             rValues[j] = ujoValue;
                         }
                     }
-                    assignValue(rColumn, rValues, null);
-
+                    if (inOperator) {
+                        assignInValues(rColumn, rValues, dialect, dialect.isArrayParameter(column, operator));
+                    } else {
+                        assignValue(rColumn, rValues, null);
+                    }
                 } else if (value instanceof OrmUjo bo) {
                     for (MetaColumn rColumn : fc) {
                         Object rValue = rColumn.getValue(bo);
@@ -230,12 +241,44 @@ public class JdbcStatement /*implements Closeable*/ {
                     assert column.getKey().getType().isInstance(value);
                     assignValue(column, value, null);
                 }
+            } else if (inOperator && value instanceof Object[] values) {
+                assignInValues(column, values, dialect, dialect.isArrayParameter(column, operator));
             } else {
                 assignValue(column, value, null);
             }
         }
     }
 
+    /** Add values of the operators IN and NOT_IN to a SQL prepared statement
+     * as the one array parameter, or as a list of parameters completed to the count by the dialect.
+     * @param array Assign the values as the one array parameter
+     * @see SqlDialect#isArrayParameter(MetaColumn, Operator)
+     * @see SqlDialect#getInParameterCount(int)
+     */
+    protected void assignInValues
+        ( @NotNull final MetaColumn column
+        , @NotNull final Object[] values
+        , @NotNull final SqlDialect dialect
+        , final boolean array
+        ) throws SQLException {
+        if (array) {
+            if (logValues) {
+                logValue(arrayToString(values), column.getKey());
+            }
+            final Array sqlArray = ps.getConnection().createArrayOf(dialect.getArrayTypeName(column), values);
+            ps.setArray(++parameterPointer, sqlArray);
+        } else {
+            final int count = dialect.getInParameterCount(values.length);
+            if (count > values.length) {
+                final Object[] completed = Arrays.copyOf(values, count);
+                Arrays.fill(completed, values.length, count, values[values.length - 1]);
+                assignValue(column, completed, null);
+            } else {
+                assignValue(column, values, null);
+            }
+        }
+    }
+
 
     /** Add a next value to a SQL prepared statement. */
     @SuppressWarnings("unchecked")
@@ -293,6 +336,50 @@ public class JdbcStatement /*implements Closeable*/ {
         }
     }
 
+    /** Add a next binary stream to a SQL prepared statement, the stream is read by the JDBC driver
+     * without a full materialization.
+     * @param length A count of bytes, where a negative value means an unknown length.
+     */
+    public void assignStream
+        ( @NotNull final MetaColumn column
+        , @Nullable final InputStream value
+        , final long length
+        ) throws SQLException {
+        if (logValues) {
+            logValue(value != null ? "[stream]" : null, column.getKey());
+        }
+        ++parameterPointer;
+        if (value == null) {
+            ps.setNull(parameterPointer, MetaColumn.DB_TYPE.of(column).getSqlType());
+        } else if (length < 0L) {
+            ps.setBinaryStream(parameterPointer, value);
+        } else {
+            ps.setBinaryStream(parameterPointer, value, length);
+        }
+    }
+
+    /** Add a next character stream to a SQL prepared statement, the stream is read by the JDBC driver
+     * without a full materialization.
+     * @param length A count of characters, where a negative value means an unknown length.
+     */
+    public void assignStream
+        ( @NotNull final MetaColumn column
+        , @Nullable final Reader value
+        , final long length
+        ) throws SQLException {
+        if (logValues) {
+            logValue(value != null ? "[reader]" : null, column.getKey());
+        }
+        ++parameterPointer;
+        if (value == null) {
+            ps.setNull(parameterPointer, MetaColumn.DB_TYPE.of(column).getSqlType());
+        } else if (length < 0L) {
+            ps.setCharacterStream(parameterPointer, value);
+        } else {
+            ps.setCharacterStream(parameterPointer, value, length);
+        }
+    }
+
     /** Assign procedure parameters */
     @SuppressWarnings("unchecked")
     public void assignValues(DbProcedure bo) {
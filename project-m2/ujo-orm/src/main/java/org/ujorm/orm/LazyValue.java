@@ -0,0 +1,47 @@
+/*
+ *  Copyright 2026-2026 Pavel Ponec
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ujorm.orm;
+
+import java.io.Serializable;
+import org.ujorm.core.NoCheck;
+
+/**
+ * A mark of the lazy column value which was not loaded from the database yet.
+ * The value is loaded by the first reading of the key, similar to the {@link ForeignKey}.
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see org.ujorm.orm.annot.Column#lazy()
+ */
+public final class LazyValue implements NoCheck, Serializable {
+    /** There is strongly recommended that all serializable classes explicitly declare serialVersionUID value */
+    private static final long serialVersionUID = 1L;
+
+    /** The only instance */
+    public static final LazyValue INSTANCE = new LazyValue();
+
+    private LazyValue() {
+    }
+
+    /** Keep the only instance */
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+        return "[lazy]";
+    }
+}
@@ -23,8 +23,13 @@ import java.lang.annotation.Annotation;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -44,8 +49,10 @@ import org.ujorm.orm.metaModel.MetaParams;
 import org.ujorm.orm.metaModel.MetaProcedure;
 import org.ujorm.orm.metaModel.MetaRelation2Many;
 import org.ujorm.orm.metaModel.MetaRoot;
+import org.ujorm.orm.metaModel.MetaSnapshot;
 import org.ujorm.orm.metaModel.MetaTable;
 import org.ujorm.orm.template.AliasTable;
+import org.ujorm.orm.utility.OrmTools;
 import org.ujorm.tools.Assert;
 import org.ujorm.tools.Check;
 
@@ -70,11 +77,11 @@ public class OrmHandler implements OrmHandlerProvider {
     private Session defaultSession;
 
     /** Map a <strong>key</strong> to a database <strong>column</strong> model */
-    private final HashMap<Key,MetaRelation2Many> propertyMap = new HashMap<>();
+    private final Map<Key,MetaRelation2Many> propertyMap = new ConcurrentHashMap<>();
     /** Map a Java class to a database table model */
-    private final HashMap<Class,MetaTable> entityMap = new HashMap<>();
+    private final Map<Class,MetaTable> entityMap = new ConcurrentHashMap<>();
     /** Map a Java class to a procedure model */
-    private final HashMap<Class,MetaProcedure> procedureMap = new HashMap<>();
+    private final Map<Class,MetaProcedure> procedureMap = new ConcurrentHashMap<>();
 
     /** The constructor */
     public OrmHandler() {
@@ -125,6 +132,21 @@ public class OrmHandler implements OrmHandlerProvider {
         return new Session(this);
     }
 
+    /** Create new read-only stateless session for bulk reads
+     * @see StatelessSession
+     */
+    public StatelessSession createStatelessSession() {
+        return createStatelessSession(true);
+    }
+
+    /** Create new stateless session
+     * @param readOnly Read-only database connections
+     * @see StatelessSession
+     */
+    public StatelessSession createStatelessSession(final boolean readOnly) {
+        return new StatelessSession(this, readOnly);
+    }
+
     /** Load parameters from an external XML file.
      * The initialization must be finished before an ORM definition loading.
      * <br>Note: in case the parameter starts by the character tilde '~' than the symbol is replaced by a local home directory.
@@ -202,12 +224,12 @@ public class OrmHandler implements OrmHandlerProvider {
     }
 
     /** LoadInternal a database model from parameter */
-    private <UJO extends OrmUjo> MetaDatabase loadDatabaseInternal(UjoDecorator<UJO> dbConfig) {
+    private <UJO extends OrmUjo> MetaDatabase loadDatabaseInternal(UjoDecorator<UJO> dbConfig, @Nullable ExecutorService executor) {
 
         // Create the ORM DB model:
         String databaseId = dbConfig.getDomain().getClass().getSimpleName();
         MetaDatabase paramDb = configuration!=null ? configuration.removeDb(databaseId) : null;
-        MetaDatabase dbModel = new MetaDatabase(this, dbConfig, paramDb, databases.getDatabaseCount());
+        MetaDatabase dbModel = new MetaDatabase(this, dbConfig, paramDb, databases.getDatabaseCount(), executor);
         databases.add(dbModel);
 
         return dbModel;
@@ -239,27 +261,66 @@ public class OrmHandler implements OrmHandlerProvider {
     public final synchronized <UJO extends OrmUjo> void loadDatabase(final UjoDecorator<UJO> ... databaseModel) {
         Assert.isFalse(isReadOnly(), "The metamodel is locked and can´t be changed.");
         Assert.hasLength(databaseModel, "databaseModel is required");
+        MetaParams params = getParameters();
+
+        // Restore a metamodel snapshot:
+        final File snapshotFile = MetaParams.METAMODEL_SNAPSHOT_FILE.of(params);
+        final MetaSnapshot snapshot = snapshotFile != null && configuration == null
+                ? new MetaSnapshot(snapshotFile, params, databaseModel)
+                : null;
+        if (snapshot != null) {
+            configuration = snapshot.read();
+        }
+        final boolean restored = snapshot != null && configuration != null;
 
         // Load metamodel:
-        for (UjoDecorator<UJO> db : databaseModel) {
-            loadDatabaseInternal(db);
+        final ExecutorService executor = createLoadingExecutor(params);
+        try {
+            for (UjoDecorator<UJO> db : databaseModel) {
+                loadDatabaseInternal(db, executor);
+            }
+            if (restored) {
+                configuration = null;
+            }
+            loadDatabaseFinish(params, snapshot, restored, executor);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
+    }
+
+    /** Complete the metamodel, check the database structures and lock the metamodel. */
+    private void loadDatabaseFinish
+            ( @NotNull final MetaParams params
+            , @Nullable final MetaSnapshot snapshot
+            , final boolean restored
+            , @Nullable final ExecutorService executor) {
 
         // Initialize Column Type codes:
-        MetaParams params = getParameters();
         for (MetaRelation2Many r : propertyMap.values()) {
             if (r.isColumn()) {
                 ((MetaColumn)r).initTypeCode();
             }
         }
 
-        // Log the metamodel:
-        final Level level = MetaParams.LOG_METAMODEL_INFO.of(params)
+        // Log the metamodel, the restored snapshot is logged in the DEBUG level only:
+        final File snapshotFile = MetaParams.METAMODEL_SNAPSHOT_FILE.of(params);
+        final Level level = MetaParams.LOG_METAMODEL_INFO.of(params) && !restored
             ? UjoLogger.INFO
             : UjoLogger.DEBUG;
         if (LOGGER.isLoggable(level)) {
             final String msg = "DATABASE META-MODEL:\n" + getConfig();
            LOGGER.log(level, msg);
+        } else if (restored) {
+            LOGGER.log(UjoLogger.INFO, "The metamodel was restored from the snapshot: {}", snapshotFile);
+        }
+
+        // Save a new metamodel snapshot:
+        if (snapshot != null && !restored) try {
+            snapshot.write(databases);
+        } catch (IOException e) {
+            throw new IllegalUjormException("Can't create a metamodel snapshot " + snapshotFile, e);
         }
 
         // Export the metamodel into a XML file:
@@ -271,8 +332,24 @@ public class OrmHandler implements OrmHandlerProvider {
         }
 
         try {
-            for (MetaDatabase dbModel : getDatabases()) {
-                dbModel.create(getDefaultSession());
+            if (executor != null && getDatabases().size() > 1) {
+                // Check each database by its own session:
+                final List<Future<Void>> tasks = new ArrayList<>();
+                for (MetaDatabase dbModel : getDatabases()) {
+                    tasks.add(executor.submit(() -> {
+                        try (Session session = createSession()) {
+                            dbModel.create(session);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<Void> task : tasks) {
+                    OrmTools.getResult(task);
+                }
+            } else {
+                for (MetaDatabase dbModel : getDatabases()) {
+                    dbModel.create(getDefaultSession());
+                }
             }
 
             // Run an initializaton batch:
@@ -300,6 +377,23 @@ public class OrmHandler implements OrmHandlerProvider {
 
     }
 
+    /** Create a bounded executor for the metamodel loading by the parameter {@link MetaParams#LOADING_THREADS}.
+     * @return The {@code null} value means a sequential loading in the current thread.
+     */
+    @Nullable
+    protected ExecutorService createLoadingExecutor(@NotNull final MetaParams params) {
+        final int threads = MetaParams.LOADING_THREADS.of(params);
+        if (threads <= 1) {
+            return null;
+        }
+        final AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            final Thread result = new Thread(task, "ujorm-loader-" + counter.incrementAndGet());
+            result.setDaemon(true);
+            return result;
+        });
+    }
+
     /** Do the handler have a read-only state? */
     public boolean isReadOnly() {
         final List<MetaDatabase> dbs = getDatabases();
@@ -328,20 +422,14 @@ public class OrmHandler implements OrmHandlerProvider {
     /** Map a key to the table */
     @SuppressWarnings("unchecked")
     public void addColumnModel(@NotNull MetaRelation2Many column) {
-        Key key = column.getKey();
-        MetaRelation2Many oldColumn = findColumnModel(key);
-
-        if (oldColumn == null) {
-            propertyMap.put(key, column);
-        } else {
+        final Key key = column.getKey();
+        propertyMap.merge(key, column, (oldColumn, newColumn) -> {
             final Class oldType = oldColumn.getTableClass();
-            final Class newType = column.getTableClass();
+            final Class newType = newColumn.getTableClass();
 
-            if (newType.isAssignableFrom(oldType)) {
-                // Only a parent can be assigned:
-                propertyMap.put(key, column);
-            }
-        }
+            // Only a parent can be assigned:
+            return newType.isAssignableFrom(oldType) ? newColumn : oldColumn;
+        });
     }
 
     /**
@@ -380,7 +468,7 @@ public class OrmHandler implements OrmHandlerProvider {
         if (compositeKey!=null && compositeKey.isComposite()) {
             compositeKey = ((CompositeKey)compositeKey).getLastKey();
         }
-        final MetaRelation2Many result = propertyMap.get(compositeKey);
+        final MetaRelation2Many result = compositeKey != null ? propertyMap.get(compositeKey) : null;
         if (throwException && result == null) {
             String propertyName = compositeKey != null ? compositeKey.getFullName() : String.valueOf(compositeKey);
             throw new IllegalUjormException("The key " + propertyName + " have got no metamodel.");
@@ -414,7 +502,7 @@ public class OrmHandler implements OrmHandlerProvider {
      */
     @NotNull
     public MetaTable findTableModel(final Class<? extends OrmUjo> dbClass, final boolean throwException) throws IllegalUjormException {
-        final MetaTable result = entityMap.get(dbClass);
+        final MetaTable result = dbClass != null ? entityMap.get(dbClass) : null;
         Assert.isFalse(result==null && throwException
                 , "An entity mapping bug: the {} is not mapped to the Database."
                 , dbClass);
@@ -427,7 +515,7 @@ public class OrmHandler implements OrmHandlerProvider {
      */
     @NotNull
     public MetaProcedure findProcedureModel(Class<? extends DbProcedure> procedureClass) throws IllegalUjormException {
-        final MetaProcedure result = procedureMap.get(procedureClass);
+        final MetaProcedure result = procedureClass != null ? procedureMap.get(procedureClass) : null;
         return Assert.notNull(result
                 , "An procedure mapping bug: the {} is not mapped to the Database."
                 , procedureClass);
@@ -30,6 +30,11 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.ujorm.CompositeKey;
@@ -42,12 +47,14 @@ import org.ujorm.implementation.orm.OrmTable;
 import org.ujorm.logger.UjoLogger;
 import org.ujorm.logger.UjoLoggerFactory;
 import org.ujorm.orm.impl.ColumnWrapperImpl;
+import org.ujorm.orm.impl.RecordProjection;
 import org.ujorm.orm.metaModel.MetaColumn;
 import org.ujorm.orm.metaModel.MetaDatabase;
 import org.ujorm.orm.metaModel.MetaRelation2Many;
 import org.ujorm.orm.metaModel.MetaTable;
 import org.ujorm.orm.utility.OrmTools;
 import org.ujorm.tools.Assert;
+import org.ujorm.tools.jdbc.RowMapper;
 import static org.ujorm.logger.UjoLogger.WARN;
 
 /**
@@ -272,10 +279,12 @@ public class Query<UJO extends OrmUjo> implements Iterable<UJO> {
                 : getDefaultColumns();
     }
 
-    /** Returns all direct columns of the base table. */
+    /** Returns all direct columns of the base table excluding the lazy columns.
+     * @see MetaColumn#isLazy()
+     */
     @NotNull
     protected List<ColumnWrapper> getDefaultColumns() {
-        return (List<ColumnWrapper>) (List) MetaTable.COLUMNS.getList(table);
+        return (List<ColumnWrapper>) (List) table.getCompiled().getDefaultColumns();
     }
 
     /** Create a new column List. */
@@ -409,6 +418,91 @@ public class Query<UJO extends OrmUjo> implements Iterable<UJO> {
         }
     }
 
+    /** Create a stream of the column values without any business object and session.
+     * The value index is the index of the key, a foreign key column returns a value of the related primary key.
+     * <br>NOTE: The method replaces the selected columns of the query, all columns of the table
+     * excluding lazy ones are selected for the empty keys.
+     * The result stream must be closed if it is not fully consumed.
+     * @param keys Direct or composite keys of the base table
+     * @see #project(Class, Key[])
+     */
+    @NotNull
+    @SafeVarargs
+    public final Stream<Object[]> stream(@NotNull final Key<UJO,?>... keys) {
+        if (keys.length > 0) {
+            setProjection(keys);
+        }
+        return stream(UjoIterator.of(this, Function.identity()));
+    }
+
+    /** Create a stream of immutable records without any business object and session.
+     * Values of the keys are assigned to the record components along their order.
+     * If no key is specified, a component is assigned by a direct column of the base table,
+     * where the key name is the component name (underscores and letter case are ignored).
+     * <br>NOTE: The method replaces the selected columns of the query.
+     * The result stream must be closed if it is not fully consumed.
+     * <h4>Usage</h4>
+     * <pre class="pre">
+     *   record ItemRow(Long id, String note, Long orderId) {}
+     *   Stream&lt;ItemRow&gt; rows = session.createQuery(Item.NOTE.like("a%"))
+     *       .project(ItemRow.class, Item.ID, Item.NOTE, Item.ORDER);
+     * </pre>
+     * @param type A record type
+     * @param keys Direct or composite keys of the base table, the count must be equal to the count of the record components.
+     * @see #stream(Key[])
+     */
+    @NotNull
+    @SafeVarargs
+    public final <R extends Record> Stream<R> project(@NotNull final Class<R> type, @NotNull final Key<UJO,?>... keys)
+            throws IllegalArgumentException {
+        final RecordProjection<R> projection = new RecordProjection<>(type);
+        if (keys.length > 0) {
+            Assert.isTrue(keys.length == projection.size(), "The key count must be {} for the {}", projection.size(), type);
+            setProjection(keys);
+        } else {
+            setProjection(findKeys(projection.getComponentNames()));
+        }
+        return stream(UjoIterator.of(this, projection));
+    }
+
+    /** Set columns of the keys in the original order */
+    private void setProjection(@NotNull final Key<UJO,?>[] keys) {
+        clearDecoder();
+        this.columns = new ArrayList<>(keys.length);
+        final OrmHandler handler = getHandler();
+        for (Key key : keys) {
+            final MetaColumn mc = handler.findColumnModel(getLastProperty(key), true);
+            final ColumnWrapper column = key.isComposite()
+                    ? new ColumnWrapperImpl(mc, key)
+                    : mc;
+            addMissingColumn(column, false, false, mc.isOptionalRelation());
+        }
+    }
+
+    /** Find direct keys of the base table by names */
+    @NotNull
+    private Key<UJO,?>[] findKeys(@NotNull final String[] names) throws IllegalArgumentException {
+        final Key<UJO,?>[] result = new Key[names.length];
+        for (int i = 0; i < names.length; i++) {
+            final String name = RowMapper.normalize(names[i]);
+            for (MetaColumn column : table.getCompiled().getColumns()) {
+                if (name.equals(RowMapper.normalize(column.getKey().getName()))) {
+                    result[i] = column.getKey();
+                    break;
+                }
+            }
+            Assert.notNull(result[i], "No column for the component {} of the {}", names[i], table);
+        }
+        return result;
+    }
+
+    /** Create a sequential stream of the iterator */
+    @NotNull
+    private <T> Stream<T> stream(@NotNull final UjoIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
     /** Get the order item list. The method returns a not null result always. */
     public final List<Key<UJO,?>> getOrderBy() {
         return orderBy;
@@ -466,7 +560,7 @@ public class Query<UJO extends OrmUjo> implements Iterable<UJO> {
     }
 
     /** Fetch all columns including all direct relations.
-     * Method cleans all columns assigned before.
+     * Method cleans all columns assigned before, the lazy columns are excluded.
      * @see #addColumn(org.ujorm.Key)
      */
     @NotNull
@@ -483,7 +577,9 @@ public class Query<UJO extends OrmUjo> implements Iterable<UJO> {
         }
         int order = 1;
         for (MetaColumn mc : MetaTable.COLUMNS.getList(table)) {
-            if (mc.isForeignKey()) {
+            if (mc.isLazy()) {
+                continue;
+            } else if (mc.isForeignKey()) {
                 final boolean unique = fkClass.add(mc.getType());
                 final ColumnWrapper cw = unique
                         ? mc
@@ -16,14 +16,20 @@
 package org.ujorm.orm;
 
 import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.FilterReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +58,7 @@ import org.ujorm.logger.UjoLoggerFactory;
 import org.ujorm.orm.ao.CacheKey;
 import org.ujorm.orm.ao.CachePolicy;
 import org.ujorm.orm.ao.LoadingPolicy;
+import org.ujorm.orm.metaModel.CompiledTable;
 import org.ujorm.orm.metaModel.MetaColumn;
 import org.ujorm.orm.metaModel.MetaDatabase;
 import org.ujorm.orm.metaModel.MetaPKey;
@@ -407,7 +414,7 @@ public class Session implements Closeable {
      */
     private MetaTable modifyParent(final OrmUjo bo) {
         final MetaTable table = handler.findTableModel(bo.getClass());
-        if (MetaParams.INHERITANCE_MODE.of(params)) {
+        if (table.getCompiled().isInheritance()) {
             final OrmUjo parent = table.getParent(bo);
             if (parent != null) {
                 insertOrUpdate(parent);
@@ -486,7 +493,7 @@ public class Session implements Closeable {
 
         // ---------------- PREPARE -------------------------------------
 
-        final boolean ihneritanceMode = MetaParams.INHERITANCE_MODE.of(params);
+        final boolean ihneritanceMode = table.getCompiled().isInheritance();
         for (OrmUjo bo : bos) {
 
             // 1. Update parent
@@ -688,12 +695,47 @@ public class Session implements Closeable {
         return update(bo, criterion, false);
     }
 
+    /** Database Batch UPDATE of the required columns along a criterion, the modification flags are ignored.
+     * The values are read from a template object, which is not attached to any session typically.
+     * <br>Warning: method does affect to parent objects, see the {@link MetaParams#INHERITANCE_MODE} for more information.
+     * @param bo A template object with the values to update
+     * @param criterion A condition of the rows to update
+     * @param keys Direct keys of the columns to update
+     * @return The row count
+     * @since 2.30
+     */
+    @SafeVarargs
+    public final <U extends OrmUjo> int update
+        ( @NotNull final U bo
+        , @NotNull final Criterion<U> criterion
+        , @NotNull final Key<U,?>... keys) throws IllegalUjormException {
+        final List<MetaColumn> columns = new ArrayList<>(keys.length);
+        for (Key<U,?> key : keys) {
+            columns.add(handler.findColumnModel(key, true));
+        }
+        return update(bo, criterion, false, columns);
+    }
+
     /** Database Batch UPDATE of the {@link OrmUjo#readChangedProperties(boolean) modified columns} along a criterion.
      * The method cleans all flags of modified attributes.
      * @see OrmUjo#readChangedProperties(boolean)
      * @return The row count where value -1  means: No changed column to update
      */
     private <U extends OrmUjo> int update(@NotNull final U bo, @NotNull final Criterion<U> criterion, boolean singleObject) {
+        return update(bo, criterion, singleObject, null);
+    }
+
+    /** Database Batch UPDATE of columns along a criterion.
+     * The method cleans all flags of modified attributes and it assigns the current session to the object,
+     * however the explicit columns leave the object (a template) unchanged.
+     * @param columns Columns to update, the {@code null} value means the modified columns.
+     * @return The row count where value -1  means: No changed column to update
+     */
+    private <U extends OrmUjo> int update
+        ( @NotNull final U bo
+        , @NotNull final Criterion<U> criterion
+        , final boolean singleObject
+        , @Nullable final List<MetaColumn> columns) {
         Assert.notNull(bo);
 
         int result = 0;
@@ -707,8 +749,12 @@ public class Session implements Closeable {
                 ;
             table.assertChangeAllowed();
             final MetaDatabase db = table.getDatabase();
-            final List<MetaColumn> changedColumns = getChangedOrmColumns(bo);
-            bo.clearModificationFlags();
+            final List<MetaColumn> changedColumns = columns != null
+                    ? columns
+                    : getChangedOrmColumns(bo);
+            if (columns == null) {
+                bo.clearModificationFlags();
+            }
             if (changedColumns.isEmpty()) {
                 LOGGER.log(UjoLogger.WARN, "No changed column to update {}", bo);
                 return -1;
@@ -723,7 +769,9 @@ public class Session implements Closeable {
                 LOGGER.log(UjoLogger.INFO, "{} {}{}", sql, SQL_VALUES, statement.getAssignedValues());
             }
             result = statement.executeUpdate(); // execute update statement
-            bo.writeSession(this);
+            if (columns == null) {
+                bo.writeSession(this);
+            }
         } catch (RuntimeException | SQLException | IOException | OutOfMemoryError e) {
             rollbackOnly = true;
             MetaDatabase.close(null, statement, null, false);
@@ -763,11 +811,11 @@ public class Session implements Closeable {
         final int result = delete(table, crn);
 
         if (REMOVE_CACHE_ON_DELETE) {
-            removeCache(bo, MetaTable.PK.of(table));
+            removeCache(bo, table.getCompiled().getPrimaryKey());
         }
 
         // Delete parent
-        if (MetaParams.INHERITANCE_MODE.of(params)) {
+        if (table.getCompiled().isInheritance()) {
             final OrmUjo parent = table.getParent(bo);
             if (parent != null) {
                 delete(parent);
@@ -790,12 +838,13 @@ public class Session implements Closeable {
         final T firstBo = bos.get(0);
         final MetaTable table = handler.findTableModel(firstBo.getClass());
         table.assertChangeAllowed();
-        final MetaColumn PK = table.getFirstPK();
+        final CompiledTable compiled = table.getCompiled();
+        final MetaColumn PK = compiled.getFirstPK();
         final List<Object> pKeys = new ArrayList<>(bos.size());
         for (T bo : bos) {
             pKeys.add(PK.getValue(bo));
             if (REMOVE_CACHE_ON_DELETE) {
-                removeCache(bo, MetaTable.PK.of(table));
+                removeCache(bo, compiled.getPrimaryKey());
             }
         }
 
@@ -803,7 +852,7 @@ public class Session implements Closeable {
         final int result = delete(table, crn);
 
         // Delete all parents:
-        if (MetaParams.INHERITANCE_MODE.of(params)) {
+        if (compiled.isInheritance()) {
             final List<OrmUjo> parents = new ArrayList<>(bos.size());
             for (T bo : bos) {
                 final OrmUjo parent = table.getParent(bo);
@@ -909,7 +958,7 @@ public class Session implements Closeable {
     protected Criterion createPkCriterion(OrmUjo bo) {
         Criterion result = null;
         MetaTable ormTable = handler.findTableModel(bo.getClass());
-        MetaPKey ormKey = MetaTable.PK.of(ormTable);
+        MetaPKey ormKey = ormTable.getCompiled().getPrimaryKey();
         List<MetaColumn> keys = MetaPKey.COLUMNS.of(ormKey);
 
         for (MetaColumn ormColumn : keys) {
@@ -981,14 +1030,7 @@ public class Session implements Closeable {
     /** Find column by a table type. */
     @Nullable
     private MetaColumn findOrmColumn(MetaTable table, Class tableType) {
-        for (MetaColumn column : MetaTable.COLUMNS.getList(table)) {
-            if (column.isForeignKey()
-            &&  column.getType()==tableType) {                   // 1
-            //  column.getForeignTable().getType()==tableType) { // 2
-                return column;
-            }
-        }
-        return null;
+        return table.getCompiled().findForeignColumn(tableType);
     }
 
     /** Iterate key of values
@@ -1030,7 +1072,7 @@ public class Session implements Closeable {
         if (result == null) {
             assertOpenSession();
             try {
-                result = database.createConnection();
+                result = createConnection(database);
             } catch (Exception e) {
                 throw new IllegalUjormException("Can't create an connection for " + database, e);
             }
@@ -1039,6 +1081,11 @@ public class Session implements Closeable {
         return result;
     }
 
+    /** Create a new database connection where the autocommit is set to false. */
+    protected Connection createConnection(@NotNull final MetaDatabase database) throws Exception {
+        return database.createConnection();
+    }
+
     /**
      * Get the first Connection where an autocommit is set to false.
      */
@@ -1127,7 +1174,7 @@ public class Session implements Closeable {
             return ujo;
         }
         final MetaTable metaTable = handler.findTableModel(ujo.getClass());
-        final MetaPKey pkeys = MetaTable.PK.of(metaTable);
+        final MetaPKey pkeys = metaTable.getCompiled().getPrimaryKey();
         final boolean fk = ujo instanceof ExtendedOrmUjo;
 
         Criterion<U> criterion = null;
@@ -1168,12 +1215,16 @@ public class Session implements Closeable {
 
         // Copy all key values back to the original object:
         ujo.writeSession(null);
-        for (MetaColumn c : MetaTable.COLUMNS.getList(metaTable)) {
+        for (MetaColumn c : metaTable.getCompiled().getColumns()) {
 
             if (fk && c.isForeignKey()) {
                 // Copy the foreign key only (the workaround for lazy loading):
                 final Key p = c.getKey();
                 ujo.writeValue(p, ((ExtendedOrmUjo)result).readFK(p));
+            } else if (c.isLazy()) {
+                // Copy the lazy value without loading:
+                final Key p = c.getKey();
+                ujo.writeValue(p, result.readValue(p));
             } else if (c.isColumn()) {
                 c.getKey().copy(result, ujo);
             }
@@ -1184,6 +1235,199 @@ public class Session implements Closeable {
         return true;
     }
 
+    /** Load a value of the lazy column by the primary key of the persistent object.
+     * The method is called by the first reading of the lazy key.
+     * @param bo A persistent object with a primary key
+     * @param key A direct key of the column
+     * @throws NoSuchElementException The row is missing in the database.
+     * @see MetaColumn#isLazy()
+     */
+    @Nullable
+    public Object loadLazyValue(@NotNull final OrmUjo bo, @NotNull final Key key) throws NoSuchElementException {
+        assertOpenSession();
+        final OrmUjo result = createColumnQuery(bo, key).uniqueResult();
+        return result.readValue(key);
+    }
+
+    /** Open a binary stream of the column value by the primary key of the persistent object.
+     * The value is read without a full materialization, so the stream is available in the open session only
+     * and it must be closed.
+     * @param bo A persistent object with a primary key
+     * @param key A direct key of a BLOB or BYTES column
+     * @return The {@code null} value is returned for the {@code NULL} column value.
+     * @throws NoSuchElementException The row is missing in the database.
+     */
+    @Nullable
+    public InputStream readStream(@NotNull final OrmUjo bo, @NotNull final Key key) throws NoSuchElementException {
+        final ResultSet rs = openColumn(bo, key);
+        try {
+            final InputStream result = rs.getBinaryStream(1);
+            if (result == null) {
+                closeColumn(rs);
+                return null;
+            }
+            return new FilterInputStream(result) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        closeColumn(rs);
+                    }
+                }
+            };
+        } catch (RuntimeException | SQLException e) {
+            closeColumn(rs);
+            throw new IllegalUjormException("Can't read the column " + key.getFullName(), e);
+        }
+    }
+
+    /** Open a character stream of the column value by the primary key of the persistent object.
+     * The value is read without a full materialization, so the reader is available in the open session only
+     * and it must be closed.
+     * @param bo A persistent object with a primary key
+     * @param key A direct key of a CLOB or text column
+     * @return The {@code null} value is returned for the {@code NULL} column value.
+     * @throws NoSuchElementException The row is missing in the database.
+     */
+    @Nullable
+    public Reader readReader(@NotNull final OrmUjo bo, @NotNull final Key key) throws NoSuchElementException {
+        final ResultSet rs = openColumn(bo, key);
+        try {
+            final Reader result = rs.getCharacterStream(1);
+            if (result == null) {
+                closeColumn(rs);
+                return null;
+            }
+            return new FilterReader(result) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        closeColumn(rs);
+                    }
+                }
+            };
+        } catch (RuntimeException | SQLException e) {
+            closeColumn(rs);
+            throw new IllegalUjormException("Can't read the column " + key.getFullName(), e);
+        }
+    }
+
+    /** Update the column value of the persistent object by a binary stream without a full materialization.
+     * The object value of the column is replaced by a {@link LazyValue}, so the next reading of the key loads the new value.
+     * @param bo A persistent object with a primary key
+     * @param key A direct key of a BLOB or BYTES column
+     * @param value A stream to write, the stream is not closed by the method.
+     * @param length A count of bytes, where a negative value means an unknown length.
+     * @return The row count.
+     */
+    public int writeStream
+        ( @NotNull final OrmUjo bo
+        , @NotNull final Key key
+        , @Nullable final InputStream value
+        , final long length) throws IllegalUjormException {
+        return writeColumn(bo, key, value, length);
+    }
+
+    /** Update the column value of the persistent object by a character stream without a full materialization.
+     * The object value of the column is replaced by a {@link LazyValue}, so the next reading of the key loads the new value.
+     * @param bo A persistent object with a primary key
+     * @param key A direct key of a CLOB or text column
+     * @param value A reader to write, the reader is not closed by the method.
+     * @param length A count of characters, where a negative value means an unknown length.
+     * @return The row count.
+     */
+    public int writeReader
+        ( @NotNull final OrmUjo bo
+        , @NotNull final Key key
+        , @Nullable final Reader value
+        , final long length) throws IllegalUjormException {
+        return writeColumn(bo, key, value, length);
+    }
+
+    /** Create a query of the one column by the primary key of the persistent object */
+    @NotNull
+    private Query<OrmUjo> createColumnQuery(@NotNull final OrmUjo bo, @NotNull final Key key) {
+        final Criterion<OrmUjo> crn = createPkCriterion(bo);
+        return createQuery(crn).setColumns(false, false, key);
+    }
+
+    /** Open a ResultSet of the one column by the primary key of the persistent object,
+     * the cursor is moved to the first row. */
+    @NotNull
+    private ResultSet openColumn(@NotNull final OrmUjo bo, @NotNull final Key key) throws NoSuchElementException {
+        assertOpenSession();
+        final Query<OrmUjo> query = createColumnQuery(bo, key);
+        PreparedStatement statement = null;
+        try {
+            statement = query.getStatement();
+            final ResultSet result = statement.executeQuery();
+            if (!result.next()) {
+                MetaDatabase.close(null, statement, result, true);
+                throw new NoSuchElementException("No row for the query: " + query);
+            }
+            return result;
+        } catch (SQLException e) {
+            MetaDatabase.close(null, statement, null, false);
+            throw new IllegalUjormException(SQL_ILLEGAL + query, e);
+        }
+    }
+
+    /** Close the ResultSet of the column including its statement */
+    private void closeColumn(@NotNull final ResultSet rs) throws IllegalUjormException {
+        try {
+            MetaDatabase.close(null, rs.getStatement(), rs, true);
+        } catch (SQLException e) {
+            throw new IllegalUjormException("Can't close the statement", e);
+        }
+    }
+
+    /** Update the column value by a stream
+     * @param stream An instance of the {@link InputStream} or the {@link Reader} type.
+     */
+    private int writeColumn
+        ( @NotNull final OrmUjo bo
+        , @NotNull final Key key
+        , @Nullable final Closeable stream
+        , final long length) throws IllegalUjormException {
+        assertOpenSession();
+        JdbcStatement statement = null;
+        String sql = null;
+        try {
+            final MetaTable table = handler.findTableModel(bo.getClass());
+            table.assertChangeAllowed();
+            final MetaDatabase db = table.getDatabase();
+            final MetaColumn column = handler.findColumnModel(key, true);
+            final CriterionDecoder decoder = new CriterionDecoder(createPkCriterion(bo), table);
+            sql = db.getDialect().printUpdate(Collections.singletonList(column), decoder, out(64)).toString();
+            statement = getStatement(db, sql, true);
+            if (stream instanceof Reader reader) {
+                statement.assignStream(column, reader, length);
+            } else {
+                statement.assignStream(column, (InputStream) stream, length);
+            }
+            statement.assignValues(decoder);
+
+            if (LOGGER.isLoggable(UjoLogger.INFO)) {
+                LOGGER.log(UjoLogger.INFO, "{} {}{}", sql, SQL_VALUES, statement.getAssignedValues());
+            }
+            final int result = statement.executeUpdate();
+            final Session boSession = bo.readSession();
+            bo.writeSession(null); // Replacing of the value is not a key change
+            bo.writeValue(key, LazyValue.INSTANCE);
+            bo.writeSession(boSession);
+            return result;
+        } catch (RuntimeException | SQLException | IOException | OutOfMemoryError e) {
+            rollbackOnly = true;
+            MetaDatabase.close(null, statement, null, false);
+            throw new IllegalUjormException(SQL_ILLEGAL + sql, e);
+        } finally {
+            MetaDatabase.close(null, statement, null, true);
+        }
+    }
+
     /**
      * Load UJO by a unique id. If the result is not unique, then an exception is throwed.
      * @param relatedProperty Related key
@@ -1221,7 +1465,7 @@ public class Session implements Closeable {
         }
 
         if (cache!=null) {
-            addCache(result, MetaTable.PK.of(tableModel));
+            addCache(result, tableModel.getCompiled().getPrimaryKey());
         }
         return result;
     }
@@ -1267,6 +1511,13 @@ public class Session implements Closeable {
         return closed;
     }
 
+    /** Is it a stateless session, where loaded objects are read-only?
+     * @see StatelessSession
+     */
+    public boolean isStateless() {
+        return false;
+    }
+
     /** Assert the current session os open. */
     private void assertOpenSession() throws IllegalUjormException {
         if (closed) {
@@ -1287,6 +1538,9 @@ public class Session implements Closeable {
 
     /** Remove selected BO from from internal cache */
     private boolean removeCache(OrmUjo bo, MetaPKey pkey) {
+        if (cache == null) {
+            return false;
+        }
         final CacheKey key = CacheKey.newInstance(bo, pkey);
         final OrmUjo result = cache.remove(key);
         return result != null;
@@ -1296,14 +1550,14 @@ public class Session implements Closeable {
     public OrmUjo findCache(Class type, Object pkey) {
         assertOpenSession();
         final CacheKey key = CacheKey.newInstance(type, pkey);
-        return cache.get(key);
+        return cache != null ? cache.get(key) : null;
     }
 
     /** Find object from internal cache */
     public OrmUjo findCache(Class type, Object... pkeys) {
         assertOpenSession();
         final CacheKey key = CacheKey.newInstance(type, pkeys);
-        return cache.get(key);
+        return cache != null ? cache.get(key) : null;
     }
 
     /** Clear the cache. */
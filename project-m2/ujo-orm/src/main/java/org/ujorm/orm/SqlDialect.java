@@ -45,6 +45,8 @@ import org.ujorm.logger.UjoLogger;
 import org.ujorm.logger.UjoLoggerFactory;
 import org.ujorm.orm.ao.CheckReport;
 import org.ujorm.orm.ao.QuoteEnum;
+import org.ujorm.orm.impl.ColumnWrapperImpl;
+import org.ujorm.orm.metaModel.CompiledTable;
 import org.ujorm.orm.metaModel.MetaColumn;
 import org.ujorm.orm.metaModel.MetaDatabase;
 import org.ujorm.orm.metaModel.MetaIndex;
@@ -133,9 +135,14 @@ abstract public class SqlDialect {
         return out;
     }
 
-    /** Print a extended SQL table name by sample: SCHEMA.TABLE */
+    /** Print a extended SQL table name by sample: SCHEMA.TABLE,
+     * the name of a locked table is taken from its compiled view.
+     */
     public Appendable printFullTableName(final MetaTable table, @NotNull final Appendable out) throws IOException {
-        return printFullTableName(table, table.get(MetaTable.QUOTED), out);
+        final CompiledTable compiled = table.findCompiled();
+        return compiled != null && compiled.isPersistent()
+                ? out.append(compiled.getFullName())
+                : printFullTableName(table, table.get(MetaTable.QUOTED), out);
     }
 
     /** Print a extended SQL table name by sample: SCHEMA.TABLE_NAME */
@@ -395,17 +402,14 @@ abstract public class SqlDialect {
             ( @NotNull final OrmUjo bo
             , @NotNull final Appendable out) throws IOException {
 
-        MetaTable table = ormHandler.findTableModel(bo.getClass());
-        StringBuilder values = new StringBuilder();
-
-        out.append("INSERT INTO ");
-        printFullTableName(table, out);
-        out.append(" (");
-
-        printTableColumns(table.getColumns(), values, out);
+        final CompiledTable table = ormHandler.findTableModel(bo.getClass()).getCompiled();
 
-        out.append(") VALUES (")
-           .append(values)
+        out.append("INSERT INTO ")
+           .append(table.getFullName())
+           .append(" (")
+           .append(table.getInsertColumns())
+           .append(") VALUES (")
+           .append(table.getInsertValues())
            .append(')')
            ;
 
@@ -420,14 +424,13 @@ abstract public class SqlDialect {
      */
     public Appendable printInsert(final List<? extends OrmUjo> bos, final int idxFrom, final int idxTo, @NotNull final Appendable out) throws IOException {
 
-        MetaTable table = ormHandler.findTableModel(bos.get(idxFrom).getClass());
-        StringBuilder values = new StringBuilder(32);
+        final CompiledTable table = ormHandler.findTableModel(bos.get(idxFrom).getClass()).getCompiled();
+        final String values = table.getInsertValues();
 
-        out.append("INSERT INTO ");
-        printFullTableName(table, out);
-        out.append(" (");
-
-        printTableColumns(table.getColumns(), values, out);
+        out.append("INSERT INTO ")
+           .append(table.getFullName())
+           .append(" (")
+           .append(table.getInsertColumns());
 
         for (int i=idxFrom; i<idxTo; ++i) {
             out.append(i==idxFrom ? ") VALUES \n(" : "),\n(")
@@ -451,14 +454,13 @@ abstract public class SqlDialect {
             , @NotNull final String fromPhrase
             , @NotNull final Appendable out) throws IOException {
 
-        final MetaTable table = ormHandler.findTableModel(bos.get(idxFrom).getClass());
-        final StringBuilder values = new StringBuilder(32);
+        final CompiledTable table = ormHandler.findTableModel(bos.get(idxFrom).getClass()).getCompiled();
+        final String values = table.getInsertValues();
 
-        out.append("INSERT INTO ");
-        printFullTableName(table, out);
-        out.append(" (");
-
-        printTableColumns(table.getColumns(), values, out);
+        out.append("INSERT INTO ")
+           .append(table.getFullName())
+           .append(" (")
+           .append(table.getInsertColumns());
 
         for (int i=idxFrom; i<idxTo; ++i) {
             out.append(i==idxFrom ? ")\nSELECT " : " UNION ALL\nSELECT ")
@@ -480,6 +482,68 @@ abstract public class SqlDialect {
         return true;
     }
 
+    /** Is supported an array parameter of the operators IN and NOT_IN by the {@code = ANY(?)} phrase?
+     * Default value is false.
+     * @see #isArrayParameter(MetaColumn, Operator)
+     */
+    public boolean isArrayParameterSupported() {
+        return false;
+    }
+
+    /** Is the array parameter used for values of the column and operator?
+     * The array is supported for the operators IN and NOT_IN of a numeric or text column.
+     * @param column A column of the criterion, a foreign key is represented by its related column
+     * @param operator An operator of the criterion
+     */
+    public boolean isArrayParameter(@NotNull final MetaColumn column, @NotNull final Operator operator) {
+        if (!isArrayParameterSupported() || operator != Operator.IN && operator != Operator.NOT_IN) {
+            return false;
+        }
+        final MetaColumn valueColumn = column.isForeignKey()
+                ? column.getForeignColumns().get(0)
+                : column;
+        switch (valueColumn.getTypeCode()) {
+            case TypeService.SHORT:
+            case TypeService.INT:
+            case TypeService.LONG:
+            case TypeService.BIG_DECI:
+            case TypeService.STRING:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /** Returns a SQL type name of the array items for the method {@link Connection#createArrayOf(String, Object[])} */
+    @NotNull
+    public String getArrayTypeName(@NotNull final MetaColumn column) {
+        return getColumnType(column);
+    }
+
+    /** Returns the maximal count of items of the one IN list,
+     * a longer list is split into groups joined by the OR operator (the AND operator for NOT_IN).
+     * The default value is unlimited.
+     */
+    public int getInListLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    /** Returns a count of the SQL parameters for the operators IN and NOT_IN,
+     * where the count of values is rounded up to a power of two, but to the {@link #getInListLimit() limit} at most.
+     * A count of values over the limit is rounded up to a multiple of the limit.
+     * So the count of different SQL statements is reduced, the surplus parameters are filled by the last value.
+     * @param valueCount Count of the values
+     */
+    public int getInParameterCount(final int valueCount) {
+        final int limit = getInListLimit();
+        if (valueCount > limit) {
+            return ((valueCount - 1) / limit + 1) * limit;
+        }
+        return valueCount > 2
+                ? Math.min(Integer.highestOneBit(valueCount - 1) << 1, limit)
+                : valueCount;
+    }
+
     /** Print an SQL UPDATE statement. */
     public Appendable printUpdate
         ( @NotNull final List<MetaColumn> changedColumns
@@ -733,12 +797,36 @@ abstract public class SqlDialect {
             }
             out.append(MessageFormat.format(template, getAliasColumnName(column), getAliasColumnName(col2)));
         } else if (right instanceof Object[] os) {
-            final StringBuilder sb = new StringBuilder(2 * os.length);
-            for (int i = 0; i < os.length; i++) {
+            final Operator operator = crit.getOperator();
+            if (isArrayParameter(column.getModel(), operator)) {
+                final String arrayTemplate = operator == Operator.IN
+                        ? "{0} = ANY({1})"
+                        : "NOT {0} = ANY({1})";
+                out.append(MessageFormat.format(arrayTemplate, getAliasColumnName(column), "?"));
+                return crit;
+            }
+            final boolean inOperator = operator == Operator.IN || operator == Operator.NOT_IN;
+            final int count = inOperator
+                    ? getInParameterCount(os.length)
+                    : os.length;
+            final int groupSize = inOperator
+                    ? Math.min(count, getInListLimit())
+                    : count;
+            final StringBuilder sb = new StringBuilder(2 * groupSize);
+            for (int i = 0; i < groupSize; i++) {
                 sb.append(i > 0 ? ",?" : "?");
             }
             final String f = MessageFormat.format(template, getAliasColumnName(column), sb.toString());
-            out.append(f);
+            if (count > groupSize) {
+                final String separator = operator == Operator.IN ? " OR " : " AND ";
+                out.append('(');
+                for (int i = 0; i < count; i += groupSize) {
+                    out.append(i > 0 ? separator : "").append(f);
+                }
+                out.append(')');
+            } else {
+                out.append(f);
+            }
             return crit;
         } else if (column.getModel().isForeignKey()) {
             printForeignKey(crit, column, template, out);
@@ -1275,7 +1363,8 @@ abstract public class SqlDialect {
     }
 
     /**
-     * Prints database column using its model.
+     * Prints database column using its model,
+     * the original name of a column of the locked table is taken from the compiled view.
      * @param column Column model
      * @param sql Target SQL for printing new quoted name
      * @return SQL with printed quoted name
@@ -1283,7 +1372,15 @@ abstract public class SqlDialect {
     protected final Appendable printColumnName
         ( @NotNull final ColumnWrapper column
         , @NotNull final Appendable sql) throws IOException {
-        return printQuotedName(column.getName(), column.getModel().get(MetaColumn.QUOTED), sql);
+        final MetaColumn model = column.getModel();
+        if (column == model || column.getClass() == ColumnWrapperImpl.class) { // An original column name
+            final CompiledTable compiled = model.getTable().findCompiled();
+            final String name = compiled != null ? compiled.findColumnName(model) : null;
+            if (name != null) {
+                return sql.append(name);
+            }
+        }
+        return printQuotedName(column.getName(), model.get(MetaColumn.QUOTED), sql);
     }
 
     /**
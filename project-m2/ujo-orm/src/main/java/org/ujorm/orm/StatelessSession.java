@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2026-2026 Pavel Ponec
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.ujorm.orm;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.core.IllegalUjormException;
+import org.ujorm.core.enums.OptionEnum;
+import org.ujorm.criterion.Criterion;
+import org.ujorm.orm.ao.CachePolicy;
+import org.ujorm.orm.ao.LoadingPolicy;
+import org.ujorm.orm.metaModel.MetaDatabase;
+
+/**
+ * A lightweight session for bulk reads and reports.
+ * <ul>
+ *    <li>the session has no cache of the loaded objects,</li>
+ *    <li>loaded objects are read-only and no key changes are tracked,</li>
+ *    <li>the lazy loading is disabled, use the fetched columns or an explicit query for relations,</li>
+ *    <li>transactions and savepoints are not supported,</li>
+ *    <li>writes are supported by direct statements only: a multi-row INSERT,
+ *        UPDATE of the {@link #update(OrmUjo, org.ujorm.criterion.Criterion, org.ujorm.Key[]) required columns}
+ *        and DELETE by a criterion.</li>
+ * </ul>
+ * Database connections of the read-only session have the read-only flag and any write statement is rejected.
+ * Methods of the session are not thread safe.
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see OrmHandler#createStatelessSession(boolean)
+ * @see Query#project(Class, org.ujorm.Key[])
+ */
+public class StatelessSession extends Session {
+
+    /** Read-only connections */
+    private final boolean readOnly;
+
+    /** The default constructor */
+    StatelessSession(@NotNull final OrmHandler handler, final boolean readOnly) {
+        super(handler);
+        this.readOnly = readOnly;
+        clearCache(CachePolicy.NO_CACHE);
+        super.setLoadingPolicy(LoadingPolicy.DISABLED);
+    }
+
+    /** Returns the {@code true} value always */
+    @Override
+    public final boolean isStateless() {
+        return true;
+    }
+
+    /** Are the database connections read-only? */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /** Create a connection with the read-only flag by the session */
+    @Override
+    protected Connection createConnection(@NotNull final MetaDatabase database) throws Exception {
+        final Connection result = super.createConnection(database);
+        result.setReadOnly(readOnly);
+        return result;
+    }
+
+    /** The write statement is rejected for the read-only session. */
+    @Override
+    public JdbcStatement getStatement(@NotNull final MetaDatabase database, @NotNull final CharSequence sql, final boolean toModify) throws SQLException {
+        assertWritable(toModify);
+        return super.getStatement(database, sql, toModify);
+    }
+
+    /** The write statement is rejected for the read-only session. */
+    @Override
+    public JdbcStatement getStatementCallable(final MetaDatabase database, final String sql, final boolean toModify) throws SQLException {
+        assertWritable(toModify);
+        return super.getStatementCallable(database, sql, toModify);
+    }
+
+    /** Transactions are not supported */
+    @Override
+    public Transaction beginTransaction() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Transactions are not supported by the stateless session");
+    }
+
+    /** Only the {@link LoadingPolicy#DISABLED} value is supported */
+    @Override
+    public void setLoadingPolicy(@NotNull final LoadingPolicy loadingPolicy) throws IllegalArgumentException {
+        if (loadingPolicy != LoadingPolicy.DISABLED) {
+            throw new IllegalArgumentException("The lazy loading is not supported by the stateless session: " + loadingPolicy);
+        }
+    }
+
+    /** The UPDATE of modified columns is not supported, no changes are tracked. */
+    @Override
+    public int update(@NotNull final OrmUjo bo) throws UnsupportedOperationException {
+        throw newUnsupportedUpdate();
+    }
+
+    /** The UPDATE of modified columns is not supported, no changes are tracked. */
+    @Override
+    public <U extends OrmUjo> int update(@NotNull final U bo, @NotNull final Criterion<U> criterion)
+            throws UnsupportedOperationException {
+        throw newUnsupportedUpdate();
+    }
+
+    /** The UPDATE of modified columns is not supported, no changes are tracked. */
+    @Override
+    public <U extends OrmUjo> int updateSafely
+        ( @NotNull final U bo
+        , @Nullable final U original
+        , @Nullable final OptionEnum... required
+        ) throws UnsupportedOperationException {
+        throw newUnsupportedUpdate();
+    }
+
+    /** Object reloading is not supported */
+    @Override
+    public boolean reload(@NotNull final OrmUjo ujo) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Object reloading is not supported by the stateless session");
+    }
+
+    /** Check the write permission */
+    private void assertWritable(final boolean toModify) throws IllegalUjormException {
+        if (toModify && readOnly) {
+            throw new IllegalUjormException("The write statement is not allowed in the read-only session");
+        }
+    }
+
+    /** Create an exception for an unsupported UPDATE */
+    @NotNull
+    private UnsupportedOperationException newUnsupportedUpdate() {
+        return new UnsupportedOperationException("Use the method update(bo, criterion, keys) for the stateless session");
+    }
+}
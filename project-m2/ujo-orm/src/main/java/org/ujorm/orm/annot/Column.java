@@ -63,5 +63,10 @@ public @interface Column {
     Class<? extends ITypeService> converter() default ITypeService.class;
     /** Quoting policy where default value is the {@code QuoteEnum#BY_CONFIG} */
     QuoteEnum quoted() default QuoteEnum.BY_CONFIG;
+    /** The column is excluded from the default SELECT and its value is loaded by the first reading of the key.
+     * The option is designed for large BLOB, CLOB or BYTES columns, a primary or foreign key can't be lazy.
+     * @see org.ujorm.orm.Session#readStream(org.ujorm.orm.OrmUjo, org.ujorm.Key)
+     */
+    boolean lazy() default false;
 
 }
@@ -52,6 +52,12 @@ public class H2Dialect extends SqlDialect {
         }
     }
 
+    /** The dialect supports an array parameter by the {@code = ANY(?)} phrase */
+    @Override
+    public boolean isArrayParameterSupported() {
+        return true;
+    }
+
     // --- SEQUENCE BEG ---
 
 //    /** Print full sequence name */
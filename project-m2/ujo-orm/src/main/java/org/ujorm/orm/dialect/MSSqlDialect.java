@@ -65,6 +65,15 @@ public class MSSqlDialect extends SqlDialect {
     }
 
 
+    /** The MS SQL limit of 2100 parameters relates to the whole statement, so the IN values are bound without padding,
+     * a padded list could exceed the limit together with other parameters of the statement.
+     * @return The count of values.
+     */
+    @Override
+    public int getInParameterCount(final int valueCount) {
+        return valueCount;
+    }
+
     /** Does the database support a catalog?
      * The feature supports: MySqlDialect and MSSqlDialect.
      * @return The value is  {@code true}.
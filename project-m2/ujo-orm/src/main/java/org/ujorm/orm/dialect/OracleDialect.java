@@ -178,4 +178,16 @@ public class OracleDialect extends PostgreSqlDialect {
         }
     }
 
+    /** The array parameter of the PostgreSQL dialect is not supported */
+    @Override
+    public boolean isArrayParameterSupported() {
+        return false;
+    }
+
+    /** Returns the Oracle limit 1000 items of the IN list */
+    @Override
+    public int getInListLimit() {
+        return 1000;
+    }
+
 }
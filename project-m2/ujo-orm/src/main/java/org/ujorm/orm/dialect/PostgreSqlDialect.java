@@ -136,4 +136,10 @@ public class PostgreSqlDialect extends SqlDialect {
         }
     }
 
+    /** The dialect supports an array parameter by the {@code = ANY(?)} phrase */
+    @Override
+    public boolean isArrayParameterSupported() {
+        return true;
+    }
+
 }
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2026-2026 Pavel Ponec
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.ujorm.orm.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.ujorm.core.IllegalUjormException;
+
+/**
+ * A projection of column values to a record by the canonical constructor,
+ * where the value index is the index of the record component.
+ * A {@code null} value of a primitive component is replaced by its default value.
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see org.ujorm.orm.Query#project(Class, org.ujorm.Key[])
+ */
+public final class RecordProjection<R extends Record> implements Function<Object[], R> {
+
+    /** Record type */
+    @NotNull
+    private final Class<R> type;
+    /** Canonical constructor with an Object array argument */
+    @NotNull
+    private final MethodHandle constructor;
+    /** Default values of primitive components */
+    @NotNull
+    private final Object[] defaults;
+
+    public RecordProjection(@NotNull final Class<R> type) throws IllegalUjormException {
+        final RecordComponent[] components = type.getRecordComponents();
+        final Class<?>[] types = new Class<?>[components.length];
+        this.type = type;
+        this.defaults = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            if (types[i].isPrimitive()) {
+                defaults[i] = Array.get(Array.newInstance(types[i], 1), 0);
+            }
+        }
+        try {
+            final Constructor<R> canonical = type.getDeclaredConstructor(types);
+            canonical.trySetAccessible();
+            this.constructor = MethodHandles.lookup().unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, types.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalUjormException("No canonical constructor of the " + type, e);
+        }
+    }
+
+    /** Returns the count of the record components */
+    public int size() {
+        return defaults.length;
+    }
+
+    /** Returns names of the record components */
+    @NotNull
+    public String[] getComponentNames() {
+        final RecordComponent[] components = type.getRecordComponents();
+        final String[] result = new String[components.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = components[i].getName();
+        }
+        return result;
+    }
+
+    /** Create a new record, where the array values are modified */
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(@NotNull final Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                values[i] = defaults[i];
+            }
+        }
+        try {
+            return (R) (Object) constructor.invokeExact(values);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalUjormException("Can't create the " + type.getSimpleName(), e);
+        }
+    }
+}
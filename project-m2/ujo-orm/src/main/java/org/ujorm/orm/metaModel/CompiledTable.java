@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm.metaModel;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.ujorm.core.IllegalUjormException;
+import org.ujorm.orm.OrmUjo;
+import org.ujorm.orm.SqlDialect;
+
+/**
+ * An immutable compiled view of the table model for a fast access at runtime.
+ * The view contains an array of the columns, the default and lazy columns, the primary key, foreign columns
+ * by their types, the quoted names of the table and columns and the printed SQL fragments of the INSERT statement.
+ * A view of the locked table is created once, see the method {@link MetaTable#getCompiled()}.
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+@Unmodifiable
+public final class CompiledTable {
+
+    /** The table model */
+    @NotNull
+    private final MetaTable table;
+    /** All table columns */
+    @NotNull
+    private final MetaColumn[] columns;
+    /** An unmodifiable list of the table columns */
+    @NotNull
+    private final List<MetaColumn> columnList;
+    /** An unmodifiable list of the columns for the default SELECT, where the lazy columns are excluded */
+    @NotNull
+    private final List<MetaColumn> defaultColumns;
+    /** Lazy columns */
+    @NotNull
+    private final MetaColumn[] lazyColumns;
+    /** The primary key */
+    @NotNull
+    private final MetaPKey pk;
+    /** The first column of the primary key */
+    @Nullable
+    private final MetaColumn firstPK;
+    /** The first foreign column by its type */
+    @NotNull
+    private final Map<Class, MetaColumn> foreignColumns;
+    /** Modify the parent object according the parameter {@link MetaParams#INHERITANCE_MODE} */
+    private final boolean inheritance;
+    /** A default constructor of the entity */
+    @Nullable
+    private final Constructor<? extends OrmUjo> constructor;
+    /** Quoted names of the columns without the foreign keys */
+    @NotNull
+    private final Map<MetaColumn, String> columnNames;
+    /** Full quoted table name */
+    @Nullable
+    private final String fullName;
+    /** Quoted column names for the INSERT statement */
+    @Nullable
+    private final String insertColumns;
+    /** Parameter marks for the INSERT statement */
+    @Nullable
+    private final String insertValues;
+
+    CompiledTable(@NotNull final MetaTable table) {
+        this.table = table;
+        this.columns = MetaTable.COLUMNS.getList(table).toArray(new MetaColumn[0]);
+        this.columnList = Collections.unmodifiableList(Arrays.asList(columns));
+        this.lazyColumns = Arrays.stream(columns)
+                .filter(MetaColumn::isLazy)
+                .toArray(MetaColumn[]::new);
+        this.defaultColumns = lazyColumns.length == 0
+                ? columnList
+                : Collections.unmodifiableList(Arrays.stream(columns)
+                        .filter(c -> !c.isLazy())
+                        .toList());
+        this.pk = MetaTable.PK.of(table);
+        this.firstPK = pk.getCount() > 0 ? pk.getFirstColumn() : null;
+        this.foreignColumns = new HashMap<>();
+        for (MetaColumn column : columns) {
+            if (column.isForeignKey()) {
+                foreignColumns.putIfAbsent(column.getType(), column);
+            }
+        }
+        this.constructor = findConstructor(table.getType());
+
+        final MetaDatabase database = table.getDatabase();
+        this.inheritance = database != null
+                && firstPK != null
+                && firstPK.isForeignKey()
+                && MetaParams.INHERITANCE_MODE.of(database.getParams());
+        if (database != null) try {
+            final SqlDialect dialect = database.getDialect();
+            final StringBuilder name = new StringBuilder(32);
+            final StringBuilder names = new StringBuilder(columns.length * 12);
+            final StringBuilder values = new StringBuilder(columns.length * 3);
+            dialect.printFullTableName(table, name);
+            dialect.printTableColumns(columnList, values, names);
+            this.columnNames = new IdentityHashMap<>(columns.length);
+            for (MetaColumn column : columns) {
+                if (column.isColumn() && !column.isForeignKey()) {
+                    final StringBuilder columnName = new StringBuilder(16);
+                    dialect.printQuotedName(column.getName(), column.get(MetaColumn.QUOTED), columnName);
+                    columnNames.put(column, columnName.toString());
+                }
+            }
+            this.fullName = name.toString();
+            this.insertColumns = names.toString();
+            this.insertValues = values.toString();
+        } catch (IOException e) {
+            throw new IllegalUjormException("Can't compile the table " + MetaTable.ID.of(table), e);
+        } else {
+            this.columnNames = Collections.emptyMap();
+            this.fullName = null;
+            this.insertColumns = null;
+            this.insertValues = null;
+        }
+    }
+
+    /** Returns the table model */
+    @NotNull
+    public MetaTable getTable() {
+        return table;
+    }
+
+    /** Returns an unmodifiable list of all table columns */
+    @NotNull
+    public List<MetaColumn> getColumns() {
+        return columnList;
+    }
+
+    /** Returns an unmodifiable list of columns for the default SELECT, the lazy columns are excluded */
+    @NotNull
+    public List<MetaColumn> getDefaultColumns() {
+        return defaultColumns;
+    }
+
+    /** Returns lazy columns, the result must not be modified
+     * @see MetaColumn#isLazy()
+     */
+    @NotNull
+    public MetaColumn[] getLazyColumns() {
+        return lazyColumns;
+    }
+
+    /** Returns a count of the table columns */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /** Returns a column of the required index */
+    @NotNull
+    public MetaColumn getColumn(final int index) {
+        return columns[index];
+    }
+
+    /** Returns the primary key */
+    @NotNull
+    public MetaPKey getPrimaryKey() {
+        return pk;
+    }
+
+    /** Returns the first column of the primary key */
+    public MetaColumn getFirstPK() {
+        return firstPK;
+    }
+
+    /** Find the first foreign column of the required type.
+     * @return The {@code null} value is returned if no column was found.
+     */
+    @Nullable
+    public MetaColumn findForeignColumn(@NotNull final Class<?> type) {
+        return foreignColumns.get(type);
+    }
+
+    /** Does a change of the object require a change of its parent?
+     * @see MetaParams#INHERITANCE_MODE
+     */
+    public boolean isInheritance() {
+        return inheritance;
+    }
+
+    /** Create a new instance of the entity */
+    @NotNull
+    public OrmUjo createBO() throws ReflectiveOperationException {
+        return constructor != null
+             ? constructor.newInstance()
+             : table.getType().newInstance();
+    }
+
+    /** Returns a full quoted table name in format: SCHEMA.TABLE
+     * @see SqlDialect#printFullTableName(org.ujorm.orm.metaModel.MetaTable, java.lang.Appendable)
+     */
+    @NotNull
+    public String getFullName() {
+        return assertPersistent(fullName);
+    }
+
+    /** Is the table persistent? A non-persistent table has no quoted names. */
+    public boolean isPersistent() {
+        return fullName != null;
+    }
+
+    /** Returns a quoted name of the column.
+     * @return The {@code null} value is returned for a foreign key or a column of another table.
+     */
+    @Nullable
+    public String findColumnName(@NotNull final MetaColumn column) {
+        return columnNames.get(column);
+    }
+
+    /** Returns a comma separated list of quoted column names for the INSERT statement
+     * @see SqlDialect#printTableColumns(java.util.Collection, java.lang.Appendable, java.lang.Appendable)
+     */
+    @NotNull
+    public String getInsertColumns() {
+        return assertPersistent(insertColumns);
+    }
+
+    /** Returns a comma separated list of parameter marks for the INSERT statement */
+    @NotNull
+    public String getInsertValues() {
+        return assertPersistent(insertValues);
+    }
+
+    /** Check the table is persistent */
+    @NotNull
+    private String assertPersistent(@Nullable final String value) throws IllegalUjormException {
+        if (value == null) {
+            throw new IllegalUjormException("The table is not persistent: " + MetaTable.ID.of(table));
+        }
+        return value;
+    }
+
+    /** Find a default constructor */
+    @Nullable
+    private static Constructor<? extends OrmUjo> findConstructor(@NotNull final Class<? extends OrmUjo> type) {
+        try {
+            final Constructor<? extends OrmUjo> result = type.getDeclaredConstructor();
+            result.setAccessible(true);
+            return result;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return table.toString();
+    }
+}
@@ -97,6 +97,8 @@ public final class MetaColumn extends MetaRelation2Many implements ColumnWrapper
     public static final Key<MetaColumn,String> CONSTRAINT_NAME = fa.newKey("constraintName", "");
     /** Convert, save and read application data from/to the database */
     public static final Key<MetaColumn,Class<? extends ITypeService>> CONVERTER = fa.newClassKey("converter", ITypeService.class);
+    /** Load the column value by the first reading of the key, the column is excluded from the default SELECT */
+    public static final Key<MetaColumn,Boolean> LAZY = fa.newKey("lazy", false);
     /** Comment of the database column */
     public static final Key<MetaColumn,String> COMMENT = fa.newKey("comment", Comment.NULL);
 
@@ -137,7 +139,7 @@ public final class MetaColumn extends MetaRelation2Many implements ColumnWrapper
         this.foreignKey = isTypeOf(OrmUjo.class);
         this.isValueWrapper = isTypeOf(ValueWrapper.class);
 
-        Field field = UjoTools.getPropertyField(table.getType(), tableProperty);
+        Field field = param!=null && param.isSnapshot() ? null : UjoTools.getPropertyField(table.getType(), tableProperty);
         Column column = field!=null ? field.getAnnotation(Column.class) : null;
 
         if (param!=null) {
@@ -148,9 +150,11 @@ public final class MetaColumn extends MetaRelation2Many implements ColumnWrapper
             changeDefault(this, DB_TYPE    , DB_TYPE.of(param));
             changeDefault(this, INDEX      , INDEX.of(param));
             changeDefault(this, UNIQUE_INDEX,UNIQUE_INDEX.of(param));
+            changeDefault(this, CONSTRAINT_NAME, CONSTRAINT_NAME.of(param));
             changeDefault(this, COMMENT    , COMMENT.of(param));
             changeDefault(this, CONVERTER  , CONVERTER.of(param));
             changeDefault(this, QUOTED     , QUOTED.of(param));
+            changeDefault(this, LAZY       , LAZY.of(param));
         }
         if (column!=null) {
             changeDefault(this, PRIMARY_KEY, column.pk());
@@ -163,6 +167,7 @@ public final class MetaColumn extends MetaRelation2Many implements ColumnWrapper
             changeDefault(this, CONSTRAINT_NAME, column.constraintName());
             changeDefault(this, CONVERTER  , column.converter());
             changeDefault(this, QUOTED     , column.quoted());
+            changeDefault(this, LAZY       , column.lazy());
         }
 
         final Validator validator = tableProperty.getValidator();
@@ -251,6 +256,12 @@ public final class MetaColumn extends MetaRelation2Many implements ColumnWrapper
         return foreignKey && !MANDATORY.of(this);
     }
 
+    /** Is the column value loaded by the first reading of the key?
+     * A primary key or a foreign key is never lazy. */
+    public boolean isLazy() {
+        return LAZY.of(this) && !foreignKey && !isPrimaryKey();
+    }
+
     /** Has the instance assigned a non empty comment? */
     public boolean isCommented() {
         return !COMMENT.isDefault(this);
@@ -26,6 +26,8 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
@@ -37,6 +39,7 @@ import org.ujorm.UjoAction;
 import org.ujorm.UjoDecorator;
 import org.ujorm.core.IllegalUjormException;
 import org.ujorm.core.KeyFactory;
+import org.ujorm.core.UjoManager;
 import org.ujorm.core.annot.Transient;
 import org.ujorm.core.annot.XmlAttribute;
 import org.ujorm.extensions.StringWrapper;
@@ -57,6 +60,7 @@ import org.ujorm.orm.UjoSequencer;
 import org.ujorm.orm.annot.Db;
 import org.ujorm.orm.ao.Orm2ddlPolicy;
 import org.ujorm.orm.ao.UjoStatement;
+import org.ujorm.orm.utility.OrmTools;
 import org.ujorm.tools.Assert;
 import org.ujorm.tools.Check;
 import static org.ujorm.tools.Check.hasLength;
@@ -150,18 +154,38 @@ final public class MetaDatabase extends AbstractMetaModel implements Comparable<
      * @param param Configuration data from a XML file
      * @param order Database order
      */
-    @SuppressWarnings("LeakingThisInConstructor")
     public MetaDatabase
         ( final OrmHandler ormHandler
         , final UjoDecorator<? extends OrmUjo> databaseConfig
         , final MetaDatabase param
         , final Integer order) {
+        this(ormHandler, databaseConfig, param, order, null);
+    }
+
+    /**
+     * Create a new Database.
+     * @param ormHandler ORM handler
+     * @param databaseConfig Database model
+     * @param param Configuration data from a XML file
+     * @param order Database order
+     * @param executor An optional executor to create the table models in parallel,
+     * the order of the tables is kept.
+     * @since 2.30
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public MetaDatabase
+        ( final OrmHandler ormHandler
+        , final UjoDecorator<? extends OrmUjo> databaseConfig
+        , final MetaDatabase param
+        , final Integer order
+        , @Nullable final ExecutorService executor) {
         this.ormHandler = ormHandler;
         final OrmUjo database = databaseConfig.getDomain();
         ROOT.setValue(this, database);
         ORDER.setValue(this, order);
 
         if (param!=null) {
+            setSnapshot(param.isSnapshot());
             changeDefault(this, SCHEMA  , SCHEMA.of(param));
             changeDefault(this, READ_ONLY, READ_ONLY.of(param));
             changeDefault(this, ORM2DLL_POLICY, ORM2DLL_POLICY.of(param));
@@ -194,22 +218,18 @@ final public class MetaDatabase extends AbstractMetaModel implements Comparable<
         changeDefault(this, ORM2DLL_POLICY, MetaParams.ORM2DLL_POLICY.of(getParams()));
         changeDefault(this, ORM2DLL_POLICY, MetaParams.ORM2DLL_POLICY.getDefault());
 
-        final Set<String> uniqueTableSet = new HashSet<>(128);
+        final List<Future<MetaTable>> tables = new ArrayList<>();
         for (Key tableProperty : databaseConfig.getKeys()) {
             if (tableProperty.isTypeOf(ColumnSet.class)) {
                 continue; // TODO: include a set of tables?
             }
             if (tableProperty instanceof RelationToMany tProperty) {
-                MetaTable par   = param!=null ? param.findTable(tProperty.getName()) : null;
-                MetaTable table = new MetaTable(this, tProperty, par);
-                TABLES.addItem(this, table);
-                ormHandler.addTableModel(table);
-                String fullName = table.getSchema() + "." + table.getName();
-                Assert.isTrue(uniqueTableSet.add(fullName)
-                        , "DB table '{}' doesn’t have a unique name for the {}"
-                        , fullName
-                        , tProperty.getItemType()
-                );
+                final MetaTable par = param!=null ? param.findTable(tProperty.getName()) : null;
+                if (executor != null) {
+                    // Initialize static Keys in the current thread to avoid a deadlock of class initializations:
+                    UjoManager.newInstance(tProperty.getItemType());
+                }
+                tables.add(OrmTools.submit(executor, () -> new MetaTable(this, tProperty, par)));
             }
             else if (tableProperty.isTypeOf(DbProcedure.class)) {
                 Key tProcedure = tableProperty;
@@ -219,6 +239,20 @@ final public class MetaDatabase extends AbstractMetaModel implements Comparable<
                 ormHandler.addProcedureModel(procedure);
             }
         }
+
+        // Merge the table models in the original order:
+        final Set<String> uniqueTableSet = new HashSet<>(128);
+        for (Future<MetaTable> future : tables) {
+            final MetaTable table = OrmTools.getResult(future);
+            TABLES.addItem(this, table);
+            ormHandler.addTableModel(table);
+            String fullName = table.getSchema() + "." + table.getName();
+            Assert.isTrue(uniqueTableSet.add(fullName)
+                    , "DB table '{}' doesn’t have a unique name for the {}"
+                    , fullName
+                    , table.getType()
+            );
+        }
         if (ADD_DB_MODEL) {
             // Add database relations:
             @SuppressWarnings("unchecked")
@@ -15,13 +15,26 @@
  */
 package org.ujorm.orm.metaModel;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.*;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.logging.Level;
 import org.jetbrains.annotations.NotNull;
@@ -63,6 +76,11 @@ public class MetaDbService {
     protected Statement stat = null;
     /** There is a database change */
     protected boolean anyChange = false;
+    /** A required database change was not executed or it was reported by a warning only */
+    protected boolean skippedChange = false;
+    /** Metadata of database schemas for the bulk reading, where the key is a schema identifier */
+    @Nullable
+    private Map<String, SchemaMetadata> bulkMetadata;
 
     /** Create DB */
     public void create(MetaDatabase metaDatabase, Session session) {
@@ -73,9 +91,20 @@ public class MetaDbService {
         final int tableTotalCount = counts[0];
         final int columnTotalCount = counts[1];
         final DbItems news = new DbItems(tableTotalCount, columnTotalCount);
+        final File fingerprintFile = MetaParams.SCHEMA_FINGERPRINT_FILE.of(db.getParams());
 
         try {
             final boolean createSequenceTable = initialize(conn);
+            final String fingerprint = fingerprintFile != null
+                    ? createFingerprint()
+                    : null;
+            if (fingerprint != null
+            &&  !createSequenceTable
+            &&  fingerprint.equals(readFingerprint(fingerprintFile))) {
+                LOGGER.log(INFO, "The DDL model of the database '{}' is unchanged, the check is skipped", db.getId());
+                checkReportKeywords(conn, news);
+                return;
+            }
 
             boolean ddlOnly = false;
             switch (ORM2DLL_POLICY.of(db)) {
@@ -123,6 +152,10 @@ public class MetaDbService {
             }
             // 10. Commit:
             conn.commit();
+            // 11. Save the fingerprint if all differences are applied:
+            if (fingerprint != null && !skippedChange) {
+                saveFingerprint(fingerprintFile, fingerprint);
+            }
 
         } catch (SQLException | IOException | RuntimeException | OutOfMemoryError e) {
             try {
@@ -152,6 +185,9 @@ public class MetaDbService {
         final DatabaseMetaData dbModel = conn.getMetaData();
         final HashMap<String, String> requiredSchemas = new HashMap<>();
         final Boolean isCatalog = db.getDialect().isCatalog();
+        bulkMetadata = MetaParams.METADATA_BULK_READ.of(db.getParams())
+                ? new HashMap<>()
+                : null;
 
         for (MetaTable table : TABLES.getList(db)) {
             if (table.isTable()) {
@@ -192,6 +228,7 @@ public class MetaDbService {
             }
         }
         news.getSchemas().addAll(requiredSchemas.values());
+        bulkMetadata = null;
 
         final boolean result = !news.getTables().isEmpty()
                             || !news.getColumns().isEmpty()
@@ -491,10 +528,12 @@ public class MetaDbService {
             case INHERITED:
                 throw new IllegalUjormException("An internal error due the DDL policy: " + table.getOrm2ddlPolicy());
             case DO_NOTHING:
+                skippedChange = true;
                 return;
             case VALIDATE:
                 validateCase = true;
             case WARNING:
+                skippedChange = true;
                 String msg = "A database validation (caused by the parameter "
                         + MetaTable.ORM2DLL_POLICY
                         + ") have found an inconsistency. "
@@ -556,18 +595,25 @@ public class MetaDbService {
         ) throws SQLException {
 
         final boolean catalog = isCatalog();
-        final Set<String> existingColumns = new HashSet<>(32);
         final String schema = dbIdentifier(MetaTable.SCHEMA.of(table),dbModel);
-        try (ResultSet columns = dbModel.getColumns
-            ( catalog ? schema : null
-            , catalog ? null  : schema
-            , dbIdentifier(MetaTable.NAME.of(table),dbModel)
-            , null // colmn patern
-            )) {
-            while(columns.next()) {
-                existingColumns.add(columns.getString("COLUMN_NAME").toUpperCase());
-                if (DEBUG_MODE && LOGGER.isLoggable(INFO)) {
-                    logColumn(columns);
+        final String tableName = dbIdentifier(MetaTable.NAME.of(table),dbModel);
+        final SchemaMetadata metadata = findSchemaMetadata(dbModel, schema);
+        final Set<String> existingColumns;
+        if (metadata != null) {
+            existingColumns = metadata.getColumns(tableName);
+        } else {
+            existingColumns = new HashSet<>(32);
+            try (ResultSet columns = dbModel.getColumns
+                ( catalog ? schema : null
+                , catalog ? null  : schema
+                , tableName
+                , null // colmn patern
+                )) {
+                while(columns.next()) {
+                    existingColumns.add(columns.getString("COLUMN_NAME").toUpperCase());
+                    if (DEBUG_MODE && LOGGER.isLoggable(INFO)) {
+                        logColumn(columns);
+                    }
                 }
             }
         }
@@ -600,19 +646,26 @@ public class MetaDbService {
                     final boolean catalog = isCatalog();
 
         final String schema = dbIdentifier(MetaTable.SCHEMA.of(table),dbModel);
-        final Set<String> existingIndexes = new HashSet<>();
-
-        try (ResultSet indexes = dbModel.getIndexInfo
-            ( catalog ? schema : null
-            , catalog ? null : schema
-            , dbIdentifier(MetaTable.NAME.of(table),dbModel)
-            , false // unique
-            , false // approximate
-            )) {
-            while(indexes.next()) {
-                final String name = indexes.getString("INDEX_NAME");
-                if (name!=null) {
-                    existingIndexes.add(name.toUpperCase());
+        final String tableName = dbIdentifier(MetaTable.NAME.of(table),dbModel);
+        final SchemaMetadata metadata = findSchemaMetadata(dbModel, schema);
+        final Set<String> existingIndexes;
+
+        if (metadata != null && metadata.isIndexResolved(tableName, table.getIndexCollection().isEmpty())) {
+            existingIndexes = metadata.getIndexes(tableName);
+        } else {
+            existingIndexes = new HashSet<>();
+            try (ResultSet indexes = dbModel.getIndexInfo
+                ( catalog ? schema : null
+                , catalog ? null : schema
+                , tableName
+                , false // unique
+                , false // approximate
+                )) {
+                while(indexes.next()) {
+                    final String name = indexes.getString("INDEX_NAME");
+                    if (name!=null) {
+                        existingIndexes.add(name.toUpperCase());
+                    }
                 }
             }
         }
@@ -626,4 +679,219 @@ public class MetaDbService {
         }
     }
 
+    /** Returns column and index metadata of the whole schema, the result is loaded by one call for each metadata type.
+     * An empty schema means the default schema of the connection.
+     * The {@code null} result means a reading by the table, the bulk reading is disabled or the schema is unknown.
+     * @param dbModel Database metadata
+     * @param tableSchema A native schema identifier of the table
+     */
+    @Nullable
+    private SchemaMetadata findSchemaMetadata(final DatabaseMetaData dbModel, final String tableSchema) throws SQLException {
+        if (bulkMetadata == null) {
+            return null;
+        }
+        SchemaMetadata result = bulkMetadata.get(tableSchema);
+        if (result == null) {
+            final boolean catalog = isCatalog();
+            final String schema = hasLength(tableSchema)
+                    ? tableSchema
+                    : getDefaultSchema(dbModel.getConnection(), catalog);
+            if (!hasLength(schema)) {
+                return null;
+            }
+            final String schemaLabel = catalog ? "TABLE_CAT" : "TABLE_SCHEM";
+            result = new SchemaMetadata();
+            try (ResultSet columns = dbModel.getColumns
+                ( catalog ? schema : null
+                , catalog ? null  : schema
+                , null // table patern
+                , null // colmn patern
+                )) {
+                readNames(columns, schemaLabel, schema, "COLUMN_NAME", result.columns);
+            }
+            final Connection conn = dbModel.getConnection();
+            final Savepoint savepoint = dbModel.supportsSavepoints() && !conn.getAutoCommit()
+                    ? conn.setSavepoint()
+                    : null;
+            try (ResultSet indexes = dbModel.getIndexInfo
+                ( catalog ? schema : null
+                , catalog ? null : schema
+                , null // all tables
+                , false // unique
+                , false // approximate
+                )) {
+                readNames(indexes, schemaLabel, schema, "INDEX_NAME", result.indexes);
+                result.indexesLoaded = true;
+            } catch (SQLException e) {
+                LOGGER.log(DEBUG, "A bulk reading of indexes is not supported for the schema '{}': {}", schema, e.getMessage());
+                if (savepoint != null) {
+                    conn.rollback(savepoint); // The indexes are read by the table
+                }
+            } finally {
+                if (savepoint != null) {
+                    releaseSavepoint(conn, savepoint);
+                }
+            }
+            bulkMetadata.put(tableSchema, result);
+        }
+        return result;
+    }
+
+    /** Returns a default schema (or a catalog) of the connection or the {@code null} value if it is not supported */
+    @Nullable
+    private String getDefaultSchema(final Connection conn, final boolean catalog) {
+        try {
+            return catalog ? conn.getCatalog() : conn.getSchema();
+        } catch (SQLException | RuntimeException | AbstractMethodError e) {
+            LOGGER.log(DEBUG, "A default schema is not available: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** Release the savepoint, an error is logged only */
+    private void releaseSavepoint(final Connection conn, final Savepoint savepoint) {
+        try {
+            conn.releaseSavepoint(savepoint);
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(DEBUG, "Can't release the savepoint: {}", e.getMessage());
+        }
+    }
+
+    /** Read upper case names of the result set grouped by the table name,
+     * where rows of another schema (matched by the schema pattern) are ignored.
+     */
+    private void readNames
+        ( final ResultSet rs
+        , final String schemaLabel
+        , final String schema
+        , final String nameLabel
+        , final Map<String, Set<String>> result) throws SQLException {
+        while (rs.next()) {
+            final String name = rs.getString(nameLabel);
+            if (name != null && schema.equals(rs.getString(schemaLabel))) {
+                result.computeIfAbsent(rs.getString("TABLE_NAME"), t -> new HashSet<>(32))
+                      .add(name.toUpperCase());
+            }
+        }
+    }
+
+    /**
+     * Create a fingerprint (a hash) of the DDL model of the current database.
+     * The model contains a database identifier, JDBC URL and DDL statements of all tables, indexes and foreign keys.
+     * @return A hexadecimal hash.
+     */
+    @NotNull
+    protected String createFingerprint() throws IOException {
+        final StringBuilder out = new StringBuilder(1024);
+        out.append(db.getId()).append('\n')
+           .append(JDBC_URL.of(db)).append('\n')
+           .append(ORM2DLL_POLICY.of(db)).append('\n');
+        for (MetaTable table : TABLES.getList(db)) {
+            if (table.isTable()) {
+                out.append(table.getOrm2ddlPolicy()).append('\n');
+                db.getDialect().printTable(table, out).append('\n');
+                for (MetaIndex index : table.getIndexCollection()) {
+                    db.getDialect().printIndex(index, out).append('\n');
+                }
+                for (MetaColumn column : table.getForeignColumns()) {
+                    db.getDialect().printForeignKey(column, out).append('\n');
+                }
+            }
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(out.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalUjormException("Digest is not supported", e);
+        }
+    }
+
+    /** Read a fingerprint of the current database from the file or returns the {@code null} value if no fingerprint was found. */
+    @Nullable
+    protected String readFingerprint(@NotNull final File file) {
+        synchronized (MetaDbService.class) {
+            return loadFingerprints(file).getProperty(db.getId());
+        }
+    }
+
+    /** Save the fingerprint of the current database to the file. An error is logged only.
+     * The file is replaced by an atomic move of a temporary file, so a reader never gets a partial content.
+     */
+    protected void saveFingerprint(@NotNull final File file, @NotNull final String fingerprint) {
+        synchronized (MetaDbService.class) {
+            final Properties fingerprints = loadFingerprints(file);
+            fingerprints.setProperty(db.getId(), fingerprint);
+            final Path target = file.toPath().toAbsolutePath();
+            Path temp = null;
+            try {
+                temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    fingerprints.store(out, "Fingerprints of the Ujorm database models");
+                }
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(WARN, "Can't save the fingerprint to the file: {}", file, e);
+            } finally {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    /** Delete a temporary file if it exists, an error is ignored */
+    private static void deleteQuietly(@Nullable final Path file) {
+        try {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            // The original exception is more important
+        }
+    }
+
+    /** Load all fingerprints from the file */
+    @NotNull
+    private Properties loadFingerprints(@NotNull final File file) {
+        final Properties result = new Properties();
+        if (file.isFile()) {
+            try (InputStream inp = Files.newInputStream(file.toPath())) {
+                result.load(inp);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(WARN, "Can't read the fingerprint file: {}", file, e);
+            }
+        }
+        return result;
+    }
+
+    /** Column and index names of one database schema where the key is a table name */
+    private static final class SchemaMetadata {
+        /** Upper case column names by a table name */
+        private final Map<String, Set<String>> columns = new HashMap<>(256);
+        /** Upper case index names by a table name */
+        private final Map<String, Set<String>> indexes = new HashMap<>(256);
+        /** Are the indexes loaded? */
+        private boolean indexesLoaded;
+
+        /** Returns column names of the table or an empty set if the table does not exist */
+        Set<String> getColumns(final String table) {
+            return columns.getOrDefault(table, Collections.emptySet());
+        }
+
+        /** Returns index names of the table */
+        Set<String> getIndexes(final String table) {
+            return indexes.getOrDefault(table, Collections.emptySet());
+        }
+
+        /** Is the bulk index result reliable for the table?
+         * A table without loaded indexes is resolved if the table does not exist or no index is required.
+         */
+        boolean isIndexResolved(final String table, final boolean noIndexRequired) {
+            return noIndexRequired
+                || !columns.containsKey(table)
+                || (indexesLoaded && indexes.containsKey(table));
+        }
+    }
 }
@@ -19,9 +19,9 @@ package org.ujorm.orm.metaModel;
 import java.io.File;
 import java.sql.Connection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
@@ -36,6 +36,7 @@ import org.ujorm.orm.FixingTableSequences;
 import org.ujorm.orm.FixingTableSequencesDisabled;
 import org.ujorm.orm.ITypeService;
 import org.ujorm.orm.InitializationBatch;
+import org.ujorm.orm.SqlDialect;
 import org.ujorm.orm.SqlNameProvider;
 import org.ujorm.orm.TypeService;
 import org.ujorm.orm.ao.CachePolicy;
@@ -125,6 +126,8 @@ public final class MetaParams extends AbstractMetaModel {
     public static final Key<MetaParams,CheckReport> QUOTATION_POLICY = f.newKey("checkKeywords", CheckReport.EXCEPTION);
     /** The maximal count of items for the SQL IN operator, default value is 500 items
      * The limit is used inside the method {@link OrmTools#loadLazyValuesAsBatch(java.lang.Iterable, org.ujorm.Key) loadLazyValuesAsBatch(..)}.
+     * The limit is ignored for a dialect with the array parameter support.
+     @see SqlDialect#isArrayParameterSupported()
      @see OrmTools#loadLazyValuesAsBatch(java.lang.Iterable, org.ujorm.Key)
      */
     public static final Key<MetaParams,Integer> MAX_ITEM_COUNT_4_IN = f.newKey("maxItemCountForIN", 500);
@@ -194,6 +197,53 @@ public final class MetaParams extends AbstractMetaModel {
      * @see FixingTableSequencesDisabled */
     public static final Key<MetaParams,Class<? extends FixingTableSequences>> FIXING_TABLE_SEQUENCES = f.newKey("fixingTableSequences", FixingTableSequences.class);
 
+    /** Read the column and index metadata of the whole database schema by one call each
+     * instead of calls for each table. The default value is {@code true}.
+     * @see MetaDbService
+     * @since 2.30
+     */
+    public static final Key<MetaParams,Boolean> METADATA_BULK_READ = f.newKey("metadataBulkRead", true);
+
+    /** A file for saving a fingerprint (a hash) of the DDL model of each database.
+     * If the fingerprint is unchanged since the last successful check, the database structure check is skipped entirely.
+     * If this parameter is null than the fingerprint is not used (a default value).
+     * <br>Note: a database structure modified by an external tool is not detected, delete the file in such case.
+     * @see MetaDbService
+     * @since 2.30
+     */
+    public static final Key<MetaParams,File> SCHEMA_FINGERPRINT_FILE = f.newKey("schemaFingerprintFile");
+
+    /** A file for a binary snapshot of the resolved metamodel.
+     * If the snapshot is valid for the current parameters and database classes, the metamodel is restored
+     * from the file without reading the annotations of keys, otherwise a new snapshot is saved.
+     * The snapshot is ignored in case an external XML configuration is assigned.
+     * If this parameter is null than the snapshot is not used (a default value).
+     * The parameter {@link #METAMODEL_SNAPSHOT_VERSION} is required.
+     * @see MetaSnapshot
+     * @since 2.30
+     */
+    public static final Key<MetaParams,File> METAMODEL_SNAPSHOT_FILE = f.newKey("metamodelSnapshotFile");
+
+    /** A version of the entity classes for the metamodel snapshot, for example a build number.
+     * The entity classes are not inspected on the start, so the value must be changed
+     * for each change of them, otherwise an out-of-date snapshot is restored.
+     * The value is required for the {@link #METAMODEL_SNAPSHOT_FILE} parameter.
+     * @see MetaSnapshot
+     * @since 2.30
+     */
+    public static final Key<MetaParams,String> METAMODEL_SNAPSHOT_VERSION = f.newKey("metamodelSnapshotVersion");
+
+    /** A maximal count of threads to assemble the table models and to check the database structures.
+     * Each database structure is checked by its own session (connection) in case of more databases,
+     * an order of the tables in the metamodel (and in the DDL statements) is kept.
+     * The default value {@code 1} means a sequential loading in the current thread.
+     * <br>Note: the default session is not used for the parallel check,
+     * so an in-memory database needs a delayed closing (for example {@code DB_CLOSE_DELAY=-1} on H2).
+     * @see org.ujorm.orm.OrmHandler#loadDatabase(org.ujorm.UjoDecorator...)
+     * @since 2.30
+     */
+    public static final Key<MetaParams,Integer> LOADING_THREADS = f.newKey("loadingThreads", 1);
+
     /** SQL keyword set (upper case) only for case: QUOTATION_POLICY = QUOTE_ONLY_SQL_KEYWORDS */
     @Transient
     public static final Key<MetaParams,Set<String>> KEYWORD_SET = f.newKey("keywordSet", Collections.EMPTY_SET);
@@ -220,7 +270,7 @@ public final class MetaParams extends AbstractMetaModel {
     public static final Key<MetaParams, Boolean> EXTENTED_INDEX_NAME_STRATEGY = MORE_PARAMS.add(MoreParams.EXTENTED_INDEX_NAME_STRATEGY);
 
     /** The type service cache */
-    private final Map<Class, ITypeService> typeServices = new HashMap<Class, ITypeService>(2);
+    private final Map<Class, ITypeService> typeServices = new ConcurrentHashMap<>(4);
 
     /** Assign an initialization batch */
     private InitializationBatch batch;
@@ -258,7 +308,10 @@ public final class MetaParams extends AbstractMetaModel {
         if (result == null) {
             try {
                 result = converterClass.newInstance();
-                typeServices.put(converterClass, result);
+                final T old = (T) typeServices.putIfAbsent(converterClass, result);
+                if (old != null) {
+                    result = old;
+                }
             } catch (RuntimeException | ReflectiveOperationException e) {
                 return throwInstantiationException(converterClass, e);
             }
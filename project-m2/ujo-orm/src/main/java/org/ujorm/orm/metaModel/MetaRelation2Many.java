@@ -80,7 +80,7 @@ public class MetaRelation2Many extends AbstractMetaModel {
      */
     public MetaRelation2Many(@NotNull final MetaTable table, @NotNull final Key tableKey, @Nullable final MetaRelation2Many param) {
         this.tableAlias = table.getAlias();
-        Field field = UjoTools.getPropertyField(table.getType(), tableKey, false);
+        Field field = param!=null && param.isSnapshot() ? null : UjoTools.getPropertyField(table.getType(), tableKey, false);
         Column column = field!=null ? field.getAnnotation(Column.class) : null;
 
         if (true) {
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm.metaModel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.Key;
+import org.ujorm.ListKey;
+import org.ujorm.UjoDecorator;
+import org.ujorm.core.IllegalUjormException;
+import org.ujorm.core.UjoManager;
+import org.ujorm.logger.UjoLogger;
+import org.ujorm.logger.UjoLoggerFactory;
+import org.ujorm.orm.AbstractMetaModel;
+import org.ujorm.tools.Assert;
+
+/**
+ * A binary snapshot of the resolved metamodel.
+ * The snapshot contains the same data as the XML export by the parameter {@link MetaParams#SAVE_CONFIG_TO_FILE},
+ * it is validated by a fingerprint of the metamodel parameters (including the required
+ * {@link MetaParams#METAMODEL_SNAPSHOT_VERSION version}) and of the database class names.
+ * The entity classes are not inspected, so a new version must be assigned for each change of them.
+ * The connection identity (the JDBC URL, the user and the password) is not stored,
+ * it is resolved from the database class again.
+ * <br>The format: a magic number, a format version, the fingerprint and a tree of the metamodel objects,
+ * where each non-default key value is saved as a pair of the key name and the encoded text value.
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see MetaParams#METAMODEL_SNAPSHOT_FILE
+ */
+public final class MetaSnapshot {
+
+    /** Logger */
+    private static final UjoLogger LOGGER = UjoLoggerFactory.getLogger(MetaSnapshot.class);
+    /** Magic number of the file */
+    private static final int MAGIC = 0x556A4D53;
+    /** Format version */
+    private static final short VERSION = 1;
+    /** Tag of the text value */
+    private static final byte TEXT = 1;
+    /** Tag of the text list */
+    private static final byte TEXT_LIST = 2;
+    /** Tag of the nested model */
+    private static final byte MODEL = 3;
+    /** Tag of the model list */
+    private static final byte MODEL_LIST = 4;
+    /** Tag of the model end */
+    private static final byte END = 0;
+    /** Factories of the restored models */
+    private static final Map<Class<?>, Supplier<AbstractMetaModel>> FACTORIES = Map.of
+            ( MetaDatabase.class, MetaDatabase::new
+            , MetaTable.class, MetaTable::new
+            , MetaColumn.class, MetaColumn::new
+            , MetaRelation2Many.class, MetaRelation2Many::new
+            , MetaProcedure.class, MetaProcedure::new);
+
+    /** Snapshot file */
+    @NotNull
+    private final File file;
+    /** Fingerprint of the current classes and parameters */
+    @NotNull
+    private final String fingerprint;
+
+    /**
+     * Create a snapshot service for the required databases
+     * @param file Snapshot file
+     * @param params Parameters of the metamodel including the required snapshot version
+     * @param databases Database models
+     */
+    public MetaSnapshot(@NotNull final File file, @NotNull final MetaParams params, @NotNull final UjoDecorator<?>... databases) {
+        Assert.hasLength(MetaParams.METAMODEL_SNAPSHOT_VERSION.of(params), "The parameter {} is required",
+                MetaParams.METAMODEL_SNAPSHOT_VERSION.getFullName());
+        this.file = file;
+        this.fingerprint = createFingerprint(params, databases);
+    }
+
+    /** Returns a fingerprint of the current classes and parameters */
+    @NotNull
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /** Restore a configuration from the snapshot file.
+     * @return The {@code null} value is returned if the file is missing or the snapshot is not valid.
+     */
+    @Nullable
+    public MetaRoot read() {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream inp = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (inp.readInt() != MAGIC
+            ||  inp.readShort() != VERSION
+            || !fingerprint.equals(inp.readUTF())) {
+                LOGGER.log(UjoLogger.INFO, "The metamodel snapshot is out of date: {}", file);
+                return null;
+            }
+            final MetaRoot result = new MetaRoot();
+            readModel(inp, result);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(UjoLogger.WARN, "Can't read the metamodel snapshot: {}", file, e);
+            return null;
+        }
+    }
+
+    /** Save the database models to the snapshot file */
+    public void write(@NotNull final MetaRoot root) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(fingerprint);
+            out.writeByte(MODEL_LIST);
+            writeText(out, MetaRoot.DATABASES.getName());
+            writeModels(out, MetaRoot.DATABASES.getList(root));
+            out.writeByte(END);
+        }
+    }
+
+    // --- WRITING ---
+
+    /** Write all persistent non-default values of the model */
+    @SuppressWarnings("unchecked")
+    private void writeModel(@NotNull final DataOutputStream out, @NotNull final AbstractMetaModel model) throws IOException {
+        final UjoManager manager = UjoManager.getInstance();
+        for (Key key : model.readKeys()) {
+            if (manager.isTransient(key)
+            ||  key == MetaDatabase.JDBC_URL
+            ||  key == MetaDatabase.USER
+            ||  key == MetaDatabase.PASSWORD
+            ||  key.isDefault(model)) {
+                continue;
+            }
+            final Object value = key.of(model);
+            if (value instanceof AbstractMetaModel) {
+                out.writeByte(MODEL);
+                writeText(out, key.getName());
+                writeModel(out, (AbstractMetaModel) value);
+            } else if (key instanceof ListKey listKey) {
+                final List<?> list = (List<?>) value;
+                final boolean models = listKey.isItemTypeOf(AbstractMetaModel.class);
+                out.writeByte(models ? MODEL_LIST : TEXT_LIST);
+                writeText(out, key.getName());
+                if (models) {
+                    writeModels(out, (List<AbstractMetaModel>) list);
+                } else {
+                    out.writeInt(list.size());
+                    for (Object item : list) {
+                        writeText(out, manager.encodeValue(item, false));
+                    }
+                }
+            } else {
+                out.writeByte(TEXT);
+                writeText(out, key.getName());
+                writeText(out, manager.encodeValue(value, false));
+            }
+        }
+        out.writeByte(END);
+    }
+
+    /** Write a list of models */
+    private void writeModels(@NotNull final DataOutputStream out, @NotNull final List<? extends AbstractMetaModel> models) throws IOException {
+        out.writeInt(models.size());
+        for (AbstractMetaModel item : models) {
+            writeModel(out, item);
+        }
+    }
+
+    /** Write a text with an unlimited length */
+    private static void writeText(@NotNull final DataOutputStream out, @Nullable final String text) throws IOException {
+        if (text == null) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    // --- READING ---
+
+    /** Read values of the model */
+    @SuppressWarnings("unchecked")
+    private void readModel(@NotNull final DataInputStream inp, @NotNull final AbstractMetaModel model)
+            throws IOException {
+        final UjoManager manager = UjoManager.getInstance();
+        model.setSnapshot(true);
+        for (byte tag = inp.readByte(); tag != END; tag = inp.readByte()) {
+            final Key key = model.readKeys().findDirectKey(readText(inp), true);
+            switch (tag) {
+                case TEXT:
+                    key.setValue(model, manager.decodeValue(key, readText(inp)));
+                    break;
+                case TEXT_LIST:
+                    final ListKey listKey = (ListKey) key;
+                    for (int i = inp.readInt(); i > 0; i--) {
+                        listKey.addItem(model, manager.decodeValue(listKey.getItemType(), readText(inp)));
+                    }
+                    break;
+                case MODEL:
+                    final AbstractMetaModel value = createModel(key.getType());
+                    readModel(inp, value);
+                    key.setValue(model, value);
+                    break;
+                case MODEL_LIST:
+                    final ListKey modelKey = (ListKey) key;
+                    for (int i = inp.readInt(); i > 0; i--) {
+                        final AbstractMetaModel item = createModel(modelKey.getItemType());
+                        readModel(inp, item);
+                        modelKey.addItem(model, item);
+                    }
+                    break;
+                default:
+                    throw new IllegalUjormException("Unsupported tag: " + tag);
+            }
+        }
+    }
+
+    /** Create a new model by its factory */
+    @NotNull
+    private static AbstractMetaModel createModel(@NotNull final Class<?> type) {
+        final Supplier<AbstractMetaModel> factory = FACTORIES.get(type);
+        if (factory == null) {
+            throw new IllegalUjormException("Unsupported model: " + type.getName());
+        }
+        return factory.get();
+    }
+
+    /** Read a text with an unlimited length */
+    @Nullable
+    private static String readText(@NotNull final DataInputStream inp) throws IOException {
+        final int length = inp.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        inp.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // --- FINGERPRINT ---
+
+    /** Create a fingerprint of the parameters and of the database class names */
+    @NotNull
+    private String createFingerprint(@NotNull final MetaParams params, @NotNull final UjoDecorator<?>... databases) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                writeModel(out, params);
+                for (UjoDecorator<?> database : databases) {
+                    writeText(out, database.getDomain().getClass().getName());
+                }
+            }
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(bytes.toByteArray()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalUjormException("Can't create a fingerprint", e);
+        }
+    }
+}
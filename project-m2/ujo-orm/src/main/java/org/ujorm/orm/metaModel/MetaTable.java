@@ -117,6 +117,10 @@ final public class MetaTable extends AbstractMetaModel implements TableWrapper {
     /** Cache of the parameter. */
     private Boolean sequenceSchemaSymbol;
 
+    /** A compiled view of the locked table */
+    @Nullable
+    private volatile CompiledTable compiled;
+
     /** No parameter constructor. */
     public MetaTable() {
         sequencer = null;
@@ -135,10 +139,13 @@ final public class MetaTable extends AbstractMetaModel implements TableWrapper {
         DATABASE.setValue(this, database);
         DB_PROPERTY.setValue(this, dbProperty);
 
-        final Field field = UjoManager.getPropertyField(MetaDatabase.ROOT.of(database), dbProperty);
+        // The annotations are not read for a valid snapshot:
+        final boolean snapshot = parTable != null && parTable.isSnapshot();
+        final Field field = snapshot ? null : UjoManager.getPropertyField(MetaDatabase.ROOT.of(database), dbProperty);
+        final Class<?> itemType = snapshot ? Object.class : dbProperty.getItemType();
         View view1 = field!=null ? field.getAnnotation(View.class) : null;
-        View view2 = dbProperty.getItemType().getAnnotation(View.class);
-        VIEW.setValue(this, view1!=null || view2!=null);
+        View view2 = itemType.getAnnotation(View.class);
+        VIEW.setValue(this, snapshot ? VIEW.of(parTable) : view1!=null || view2!=null);
 
         if (parTable!=null) {
             changeDefault(this, NAME  , NAME.of(parTable));
@@ -166,7 +173,7 @@ final public class MetaTable extends AbstractMetaModel implements TableWrapper {
             if (view2!=null) changeDefault(this, SELECT, view2.select());
         } else {
             Table table1 = field!=null ? field.getAnnotation(Table.class) : null;
-            Table table2 = dbProperty.getItemType().getAnnotation(Table.class);
+            Table table2 = itemType.getAnnotation(Table.class);
             if (table1!=null) changeDefault(this, NAME  , table1.name());
             if (table1!=null) changeDefault(this, NAME  , table1.value());
             if (table1!=null) changeDefault(this, ALIAS , table1.alias());
@@ -196,7 +203,7 @@ final public class MetaTable extends AbstractMetaModel implements TableWrapper {
 
         // Assign Comments:
         Comment comment1 = field!=null ? field.getAnnotation(Comment.class) : null;
-        Comment comment2 = dbProperty.getItemType().getAnnotation(Comment.class);
+        Comment comment2 = itemType.getAnnotation(Comment.class);
         if (comment1!=null) changeDefault(this, COMMENT  , comment1.value());
         if (comment2!=null) changeDefault(this, COMMENT  , comment2.value());
 
@@ -273,7 +280,10 @@ final public class MetaTable extends AbstractMetaModel implements TableWrapper {
 
     /** Returns a new instance or the BO. */
     public OrmUjo createBO() throws ReflectiveOperationException {
-        final OrmUjo result = getType().newInstance();
+        final CompiledTable view = compiled;
+        final OrmUjo result = view != null
+                ? view.createBO()
+                : getType().newInstance();
         return result;
     }
 
@@ -285,7 +295,10 @@ final public class MetaTable extends AbstractMetaModel implements TableWrapper {
 
     /** Returns the first PK */
     public MetaColumn getFirstPK() {
-        return PK.of(this).getFirstColumn();
+        final CompiledTable view = compiled;
+        return view != null
+                ? view.getFirstPK()
+                : PK.of(this).getFirstColumn();
     }
 
     /** Is the instance a database relation model? */
@@ -496,6 +509,35 @@ final public class MetaTable extends AbstractMetaModel implements TableWrapper {
      */
     public void clearReadOnly() {
         super.clearReadOnly(this.getDatabase().getOrmHandler());
+        compiled = null;
+    }
+
+    /** Lock the table and create its compiled view */
+    @Override
+    public void setReadOnly(final boolean recurse) {
+        super.setReadOnly(recurse);
+        if (compiled == null) {
+            compiled = new CompiledTable(this);
+        }
+    }
+
+    /** Returns a compiled view of the table for a fast access at runtime.
+     * The view of the locked table is created once,
+     * a view of the unlocked table is created for each call.
+     * @since 2.30
+     */
+    @NotNull
+    public CompiledTable getCompiled() {
+        final CompiledTable result = compiled;
+        return result != null ? result : new CompiledTable(this);
+    }
+
+    /** Returns a compiled view of the locked table or the {@code null} value if the table is not locked
+     * @since 2.30
+     */
+    @Nullable
+    public CompiledTable findCompiled() {
+        return compiled;
     }
 
     /** Add alias name to the new object */
@@ -0,0 +1,451 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm.utility;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.ujorm.core.IllegalUjormException;
+import org.ujorm.core.UjoManagerCSV;
+import org.ujorm.logger.UjoLogger;
+import org.ujorm.logger.UjoLoggerFactory;
+import org.ujorm.orm.OrmHandler;
+import org.ujorm.orm.OrmUjo;
+import org.ujorm.orm.Session;
+import org.ujorm.orm.metaModel.MetaTable;
+import org.ujorm.tools.Assert;
+import org.ujorm.validator.ValidationError;
+import org.ujorm.validator.ValidationException;
+import org.ujorm.validator.ValidatorUtils;
+
+/**
+ * A pipeline to load CSV rows into a database table.
+ * The stages run concurrently and they are connected by bounded queues of row batches:
+ * <ol>
+ *  <li>a parser reads rows by the {@link UjoManagerCSV#stream(java.io.Reader, java.lang.Object)},</li>
+ *  <li>a validator checks the rows by validators of the keys and it assigns primary keys
+ *      (the sequencer allocates a range of the values by the parameter {@code MetaParams.SEQUENCE_CACHE}),</li>
+ *  <li>one or more writers insert the batches by multirow inserts, each writer uses its own session
+ *      and it commits the transaction after the required count of rows.</li>
+ * </ol>
+ * The checkpoint is a count of leading data rows whose batches are committed,
+ * an interrupted import can be restarted by the method {@link #setCheckpoint(long)}.
+ * The restart is safe for one writer only: more writers can commit a later batch before an earlier one,
+ * so the restart inserts the later batch again (with new primary keys).
+ * For this reason a {@link #setCheckpointListener(LongConsumer) checkpoint listener} forces one writer.
+ * <br>Sample:
+ * <pre class="pre">
+ * CsvBulkLoader&lt;Customer&gt; loader = new CsvBulkLoader&lt;&gt;(handler, UjoManagerCSV.of(Customer.class))
+ *     .setBatchSize(500)
+ *     .setCommitSize(5_000)
+ *     .setWriterCount(2);
+ * CsvBulkLoader.Metrics metrics = loader.load(reader);
+ * </pre>
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+public class CsvBulkLoader<U extends OrmUjo> {
+
+    /** Logger */
+    private static final UjoLogger LOGGER = UjoLoggerFactory.getLogger(CsvBulkLoader.class);
+
+    /** ORM handler */
+    @NotNull
+    private final OrmHandler handler;
+    /** CSV manager */
+    @NotNull
+    private final UjoManagerCSV<U> csv;
+    /** Count of rows in one batch */
+    private int batchSize = 500;
+    /** Minimal count of rows of one transaction */
+    private int commitSize = 5_000;
+    /** Count of the writer threads */
+    private int writerCount = 1;
+    /** Capacity of the queues in batches */
+    private int queueCapacity = 4;
+    /** Count of the leading data rows to skip */
+    private long checkpoint;
+    /** Context of the CSV loading */
+    @Nullable
+    private Object context;
+    /** Handler of invalid rows */
+    @Nullable
+    private BiConsumer<U, List<ValidationError>> rejectHandler;
+    /** Listener of the committed checkpoint */
+    @Nullable
+    private LongConsumer checkpointListener;
+
+    public CsvBulkLoader(@NotNull final OrmHandler handler, @NotNull final UjoManagerCSV<U> csv) {
+        this.handler = Assert.notNull(handler, "handler");
+        this.csv = Assert.notNull(csv, "csv");
+    }
+
+    /** Count of rows in one batch, the default value is 500 */
+    public CsvBulkLoader<U> setBatchSize(final int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize");
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /** Minimal count of rows of one transaction of each writer, the default value is 5000 */
+    public CsvBulkLoader<U> setCommitSize(final int commitSize) {
+        Assert.isTrue(commitSize > 0, "commitSize");
+        this.commitSize = commitSize;
+        return this;
+    }
+
+    /** Count of the writer threads, the default value is 1.
+     * A {@link #setCheckpointListener(LongConsumer) checkpoint listener} forces one writer.
+     */
+    public CsvBulkLoader<U> setWriterCount(final int writerCount) {
+        Assert.isTrue(writerCount > 0, "writerCount");
+        this.writerCount = writerCount;
+        return this;
+    }
+
+    /** Capacity of each queue in batches, a full queue blocks the previous stage. The default value is 4. */
+    public CsvBulkLoader<U> setQueueCapacity(final int queueCapacity) {
+        Assert.isTrue(queueCapacity > 0, "queueCapacity");
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /** Count of the leading data rows (without the header) to skip, the default value is zero.
+     * Use the value of the {@link Metrics#getCheckpoint()} to restart a failed import.
+     */
+    public CsvBulkLoader<U> setCheckpoint(final long checkpoint) {
+        Assert.isTrue(checkpoint >= 0, "checkpoint");
+        this.checkpoint = checkpoint;
+        return this;
+    }
+
+    /** Context of the CSV loading */
+    public CsvBulkLoader<U> setContext(@Nullable final Object context) {
+        this.context = context;
+        return this;
+    }
+
+    /** A handler of invalid rows, the invalid rows are skipped.
+     * If the handler is missing, an invalid row throws the {@link ValidationException}.
+     */
+    public CsvBulkLoader<U> setRejectHandler(@Nullable final BiConsumer<U, List<ValidationError>> rejectHandler) {
+        this.rejectHandler = rejectHandler;
+        return this;
+    }
+
+    /** A listener of the committed checkpoint, see the method {@link #setCheckpoint(long)}.
+     * The listener forces one writer to make the restart safe.
+     */
+    public CsvBulkLoader<U> setCheckpointListener(@Nullable final LongConsumer checkpointListener) {
+        this.checkpointListener = checkpointListener;
+        return this;
+    }
+
+    /** Load all rows of the reader into the database.
+     * @param reader CSV data, the reader is not closed
+     * @return Metrics of the import
+     * @throws IllegalUjormException The exception contains the last committed checkpoint
+     */
+    @NotNull
+    public Metrics load(@NotNull final Reader reader) throws IllegalUjormException {
+        return new Pipeline(reader).run();
+    }
+
+    /** A batch of rows */
+    private record Batch<U>(long number, long lastRow, @NotNull List<U> rows) {
+        /** Is it the end of the queue? */
+        boolean isEnd() {
+            return number < 0;
+        }
+    }
+
+    /** A state of one import */
+    private final class Pipeline {
+        /** CSV data */
+        @NotNull
+        private final Reader reader;
+        /** Metrics of the import */
+        @NotNull
+        private final Metrics metrics = new Metrics(checkpoint);
+        /** The end of the queue */
+        @NotNull
+        private final Batch<U> end = new Batch<>(-1L, -1L, List.of());
+        /** Parsed rows */
+        @NotNull
+        private final BlockingQueue<Batch<U>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        /** Validated rows */
+        @NotNull
+        private final BlockingQueue<Batch<U>> validated = new ArrayBlockingQueue<>(queueCapacity);
+        /** The last row of committed batches by the batch number */
+        @NotNull
+        private final TreeMap<Long, Long> committed = new TreeMap<>();
+        /** The first failure */
+        @NotNull
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        /** Stage threads */
+        @NotNull
+        private final ExecutorService executor;
+        /** Count of the writers */
+        private final int writers = checkpointListener != null ? 1 : writerCount;
+        /** Number of the next batch to move the checkpoint */
+        private long nextCommitted;
+
+        Pipeline(@NotNull final Reader reader) {
+            final AtomicInteger counter = new AtomicInteger();
+            this.reader = reader;
+            this.executor = Executors.newFixedThreadPool(2 + writers, task -> {
+                final Thread result = new Thread(task, "ujorm-bulk-" + counter.incrementAndGet());
+                result.setDaemon(true);
+                return result;
+            });
+        }
+
+        /** Run all stages and wait for their end */
+        @NotNull
+        Metrics run() throws IllegalUjormException {
+            submit(this::parse);
+            submit(this::validate);
+            for (int i = 0; i < writers; i++) {
+                submit(this::write);
+            }
+            executor.shutdown();
+            try {
+                while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    LOGGER.log(UjoLogger.DEBUG, "{}", metrics);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+                executor.shutdownNow();
+            }
+            metrics.finish();
+            final Throwable e = failure.get();
+            if (e != null) {
+                throw new IllegalUjormException("The bulk load failed, the last checkpoint is: "
+                        + metrics.getCheckpoint()
+                        + (writers > 1 ? ", some next batches can be committed too" : ""), e);
+            }
+            LOGGER.log(UjoLogger.INFO, "{}", metrics);
+            return metrics;
+        }
+
+        /** Submit a stage */
+        private void submit(@NotNull final Stage stage) {
+            executor.execute(() -> {
+                try {
+                    stage.run();
+                } catch (Throwable e) {
+                    fail(e);
+                }
+            });
+        }
+
+        /** Save the first failure and stop all stages */
+        private void fail(@NotNull final Throwable e) {
+            if (failure.compareAndSet(null, e)) {
+                executor.shutdownNow();
+            }
+        }
+
+        /** Parse rows of the CSV reader */
+        private void parse() throws InterruptedException {
+            final Iterator<U> rows = csv.stream(reader, context).iterator();
+            long rowNumber = 0L;
+            long batchNumber = 0L;
+            List<U> items = new ArrayList<>(batchSize);
+            while (rows.hasNext()) {
+                final U row = rows.next();
+                if (++rowNumber <= checkpoint) {
+                    continue;
+                }
+                items.add(row);
+                metrics.parsedRows.incrementAndGet();
+                if (items.size() >= batchSize) {
+                    parsed.put(new Batch<>(batchNumber++, rowNumber, items));
+                    items = new ArrayList<>(batchSize);
+                }
+            }
+            if (!items.isEmpty()) {
+                parsed.put(new Batch<>(batchNumber, rowNumber, items));
+            }
+            parsed.put(end);
+        }
+
+        /** Validate rows and assign their primary keys */
+        private void validate() throws InterruptedException {
+            final MetaTable table = handler.findTableModel(csv.getUjoClass());
+            try (Session session = handler.createSession()) {
+                for (Batch<U> batch = parsed.take(); !batch.isEnd(); batch = parsed.take()) {
+                    final List<U> rows = new ArrayList<>(batch.rows().size());
+                    for (U row : batch.rows()) {
+                        final List<ValidationError> errors = ValidatorUtils.validate(row);
+                        if (errors.isEmpty()) {
+                            table.assignPrimaryKey(row, session);
+                            rows.add(row);
+                        } else if (rejectHandler != null) {
+                            metrics.rejectedRows.incrementAndGet();
+                            rejectHandler.accept(row, errors);
+                        } else {
+                            throw new ValidationException(errors.get(0), null);
+                        }
+                    }
+                    validated.put(new Batch<>(batch.number(), batch.lastRow(), rows));
+                }
+            }
+            for (int i = 0; i < writers; i++) {
+                validated.put(end);
+            }
+        }
+
+        /** Insert batches to the database */
+        private void write() throws InterruptedException {
+            final List<Batch<U>> pending = new ArrayList<>();
+            int pendingRows = 0;
+            try (Session session = handler.createSession()) {
+                for (Batch<U> batch = validated.take(); !batch.isEnd(); batch = validated.take()) {
+                    session.insert(batch.rows());
+                    pending.add(batch);
+                    pendingRows += batch.rows().size();
+                    if (pendingRows >= commitSize) {
+                        commit(session, pending);
+                        pendingRows = 0;
+                    }
+                }
+                commit(session, pending);
+            }
+        }
+
+        /** Commit the session and move the checkpoint */
+        private void commit(@NotNull final Session session, @NotNull final List<Batch<U>> pending) {
+            session.commit();
+            metrics.commits.incrementAndGet();
+            synchronized (committed) {
+                for (Batch<U> batch : pending) {
+                    metrics.writtenRows.addAndGet(batch.rows().size());
+                    committed.put(batch.number(), batch.lastRow());
+                }
+                Long lastRow = null;
+                for (Long row; (row = committed.remove(nextCommitted)) != null; nextCommitted++) {
+                    lastRow = row;
+                }
+                if (lastRow != null) {
+                    metrics.checkpoint.set(lastRow);
+                    if (checkpointListener != null) {
+                        checkpointListener.accept(lastRow);
+                    }
+                }
+            }
+            pending.clear();
+            LOGGER.log(UjoLogger.DEBUG, "{}", metrics);
+        }
+    }
+
+    /** A stage of the pipeline */
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws Exception;
+    }
+
+    /** Throughput metrics of the import, the values are updated at runtime */
+    public static final class Metrics {
+        /** Count of parsed rows */
+        private final AtomicLong parsedRows = new AtomicLong();
+        /** Count of rejected rows */
+        private final AtomicLong rejectedRows = new AtomicLong();
+        /** Count of committed rows */
+        private final AtomicLong writtenRows = new AtomicLong();
+        /** Count of commits */
+        private final AtomicLong commits = new AtomicLong();
+        /** Count of leading committed data rows */
+        private final AtomicLong checkpoint;
+        /** Start time */
+        private final long startNanos = System.nanoTime();
+        /** End time or zero */
+        private volatile long endNanos;
+
+        Metrics(final long checkpoint) {
+            this.checkpoint = new AtomicLong(checkpoint);
+        }
+
+        /** Stop the time measurement */
+        void finish() {
+            endNanos = System.nanoTime();
+        }
+
+        /** Returns a count of parsed rows without the skipped ones */
+        public long getParsedRows() {
+            return parsedRows.get();
+        }
+
+        /** Returns a count of rows rejected by validators */
+        public long getRejectedRows() {
+            return rejectedRows.get();
+        }
+
+        /** Returns a count of committed rows */
+        public long getWrittenRows() {
+            return writtenRows.get();
+        }
+
+        /** Returns a count of commits */
+        public long getCommits() {
+            return commits.get();
+        }
+
+        /** Returns a count of leading data rows whose batches are committed */
+        public long getCheckpoint() {
+            return checkpoint.get();
+        }
+
+        /** Returns the elapsed time in milliseconds */
+        public long getElapsedMillis() {
+            final long end = endNanos;
+            return TimeUnit.NANOSECONDS.toMillis((end != 0L ? end : System.nanoTime()) - startNanos);
+        }
+
+        /** Returns a count of committed rows per second */
+        public long getRowsPerSecond() {
+            return getWrittenRows() * 1000L / Math.max(1L, getElapsedMillis());
+        }
+
+        @Override
+        public String toString() {
+            return "CsvBulkLoader"
+                    + "{parsed=" + getParsedRows()
+                    + ", rejected=" + getRejectedRows()
+                    + ", written=" + getWrittenRows()
+                    + ", commits=" + getCommits()
+                    + ", checkpoint=" + getCheckpoint()
+                    + ", rowsPerSecond=" + getRowsPerSecond()
+                    + ", millis=" + getElapsedMillis()
+                    + '}';
+        }
+    }
+}
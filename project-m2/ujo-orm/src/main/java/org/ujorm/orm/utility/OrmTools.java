@@ -27,7 +27,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import javax.sql.rowset.serial.SerialBlob;
 import javax.sql.rowset.serial.SerialClob;
 import org.ujorm.CompositeKey;
@@ -36,6 +42,7 @@ import org.ujorm.KeyList;
 import org.ujorm.Ujo;
 import org.ujorm.core.IllegalUjormException;
 import org.ujorm.criterion.Criterion;
+import org.ujorm.criterion.Operator;
 import org.ujorm.orm.ExtendedOrmUjo;
 import org.ujorm.orm.ForeignKey;
 import org.ujorm.orm.OrmUjo;
@@ -72,7 +79,8 @@ final public class OrmTools {
     }
 
     /**
-     * Create a new Blob
+     * Create a new Blob, where the stream is buffered in the memory.
+     * For large values use rather the {@link Session#writeStream(OrmUjo, org.ujorm.Key, InputStream, long)}.
      * @param inputStream
      */
     public static SerialBlob createBlob(InputStream inputStream) {
@@ -150,7 +158,8 @@ final public class OrmTools {
     }
 
     /**
-     * Create a new Clob.
+     * Create a new Clob, where the reader is buffered in the memory.
+     * For large values use rather the {@link Session#writeReader(OrmUjo, org.ujorm.Key, Reader, long)}.
      */
     public static SerialClob createClob(Reader reader) {
         try {
@@ -302,8 +311,10 @@ final public class OrmTools {
         final MetaColumn column = session.getHandler().findColumnModel(key, true);
         final MetaColumn pkColumn = column.getForeignColumns().get(0);
         final Query<OrmUjo> query = session.createQuery(pkColumn.getTable().getType());
-        final int limit = session.getParameters().get(MetaParams.MAX_ITEM_COUNT_4_IN);
         final int count = map.size();
+        final int limit = pkColumn.getTable().getDatabase().getDialect().isArrayParameter(pkColumn, Operator.IN)
+                ? Math.max(count, 1) // The one array parameter
+                : session.getParameters().get(MetaParams.MAX_ITEM_COUNT_4_IN);
         final List<Object> idList = new ArrayList<>(Math.min(limit, count));
         final Iterator<Object> keys = map.keySet().iterator();
 
@@ -384,4 +395,37 @@ final public class OrmTools {
         }
         return result;
     }
+
+    /** Submit the task to the executor, or run it in the current thread if no executor is available.
+     * @since 2.30
+     */
+    @NotNull
+    public static <T> Future<T> submit(@Nullable final ExecutorService executor, @NotNull final Callable<T> task) {
+        if (executor != null) {
+            return executor.submit(task);
+        }
+        final FutureTask<T> result = new FutureTask<>(task);
+        result.run();
+        return result;
+    }
+
+    /** Wait for a result of the task. A runtime exception of the task is thrown unwrapped.
+     * @since 2.30
+     */
+    public static <T> T getResult(@NotNull final Future<T> future) throws IllegalUjormException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalUjormException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalUjormException("The task was interrupted", e);
+        }
+    }
 }
@@ -17,6 +17,8 @@ package org.ujorm.orm;
 
 import java.awt.Color;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.ujorm.Key;
 import org.ujorm.criterion.*;
@@ -248,6 +250,55 @@ public class FetchTest extends org.junit.jupiter.api.Assertions {
         session.close();
     }
 
+    /** Test the projection of columns to arrays and records */
+    @Test
+    public void testProjection() {
+        createOrders(2);
+        Session session = getHandler().createSession();
+
+        // ------ ARRAY PROJECTION ------
+
+        List<Object[]> rows;
+        try (Stream<Object[]> stream = session.createQuery(XItem.class)
+                .orderBy(XItem.ID)
+                .stream(XItem.NOTE, XItem.ORDER, XItem.$ORDER_NOTE)) {
+            rows = stream.toList();
+        }
+        assertEquals(6, rows.size());
+        assertEquals(3, rows.get(0).length);
+        assertEquals("0-1", rows.get(0)[0]);
+        assertInstanceOf(Long.class, rows.get(0)[1]);
+        assertEquals("Note_0", rows.get(0)[2]);
+        assertEquals("Note_1", rows.get(5)[2]);
+
+        // ------ RECORD PROJECTION BY KEYS ------
+
+        List<ItemRow> items = session.createQuery(Criterion.where(XItem.NOTE, "1-2"))
+                .project(ItemRow.class, XItem.ID, XItem.NOTE, XItem.$CUST_FIRSTNAME)
+                .toList();
+        assertEquals(1, items.size());
+        assertTrue(items.get(0).id() > 0L);
+        assertEquals("1-2", items.get(0).note());
+        assertEquals("Lucy", items.get(0).firstName());
+
+        // ------ RECORD PROJECTION BY NAMES ------
+
+        List<CustomerRow> customers = session.createQuery(XCustomer.class)
+                .orderBy(XCustomer.LASTNAME)
+                .project(CustomerRow.class)
+                .toList();
+        assertEquals(2, customers.size());
+        assertEquals(new CustomerRow("Lucy", "Smith0", UnsignedShort.of(65_000), 0L), customers.get(0));
+
+        session.close();
+    }
+
+    /** A record of an item */
+    public record ItemRow(long id, String note, String firstName) {}
+
+    /** A record of a customer, where a primitive component gets a default value for the null */
+    public record CustomerRow(String firstname, String lastname, UnsignedShort pin, long superior) {}
+
     // ---------- TOOLS -----------------------
 
     protected OrmHandler getHandler() {
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ujorm.orm.bo.XDatabase;
+import org.ujorm.orm.bo.XOrder;
+import org.ujorm.orm.metaModel.MetaDatabase;
+import org.ujorm.orm.metaModel.MetaParams;
+import org.ujorm.orm.metaModel.MetaTable;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the OrmHandler
+ * @author Pavel Ponec
+ */
+public class OrmHandlerTest {
+
+    /** The parallel loading must create the same metamodel as the sequential one */
+    @Test
+    public void testParallelLoading() {
+        final OrmHandler handler1 = createHandler(1);
+        final OrmHandler handler2 = createHandler(4);
+
+        assertEquals(getDatabaseConfig(handler1), getDatabaseConfig(handler2));
+        assertEquals(2, handler2.getDatabases().size());
+        assertTrue(handler2.isReadOnly());
+
+        final List<MetaTable> tables1 = MetaDatabase.TABLES.getList(handler1.getDatabases().get(0));
+        final List<MetaTable> tables2 = MetaDatabase.TABLES.getList(handler2.getDatabases().get(0));
+        assertEquals(tables1.size(), tables2.size());
+        for (int i = 0; i < tables1.size(); i++) {
+            assertEquals(tables1.get(i).getFullName(), tables2.get(i).getFullName());
+        }
+        assertSame(handler2.findTableModel(XOrder.class), handler2.findColumnModel(XOrder.ID).getTable());
+
+        try (Session session = handler2.createSession()) {
+            assertNotNull(session.createQuery(XOrder.ID.forAll()).getCount());
+        }
+    }
+
+    /** Returns the XML configuration of databases without parameters */
+    private static String getDatabaseConfig(final OrmHandler handler) {
+        final String result = handler.getConfig();
+        return result.substring(result.indexOf("<body>"), result.indexOf("<parameters>"));
+    }
+
+    /** Create a new ORM handler with two databases */
+    @SuppressWarnings("unchecked")
+    private static OrmHandler createHandler(final int threads) {
+        final MetaParams params = new MetaParams();
+        params.set(MetaParams.LOADING_THREADS, threads);
+        params.set(MetaParams.LOG_METAMODEL_INFO, false);
+
+        final OrmHandler result = new OrmHandler();
+        result.config(params);
+        result.loadDatabase(new Class[]
+                { XDatabase.class
+                , org.ujorm.orm.inheritance.sample.Database.class});
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ujorm.core.IllegalUjormException;
+import org.ujorm.criterion.Criterion;
+import org.ujorm.orm.ao.LoadingPolicy;
+import org.ujorm.orm.bo.XCustomer;
+import org.ujorm.orm.bo.XDatabase;
+import org.ujorm.orm.bo.XItem;
+import org.ujorm.orm.bo.XOrder;
+import org.ujorm.orm.metaModel.MetaParams;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the StatelessSession
+ * @author Pavel Ponec
+ */
+public class StatelessSessionTest {
+
+    /** Main Handler */
+    private static OrmHandler handler;
+
+    /** Test the read-only session */
+    @Test
+    public void testReadOnlySession() {
+        createOrder("R");
+        try (StatelessSession session = getHandler().createStatelessSession()) {
+            final List<XItem> items = session.createQuery(XItem.NOTE.whereIn("R-1", "R-2"))
+                    .orderBy(XItem.ID)
+                    .list();
+            assertEquals(2, items.size());
+            final XItem item = items.get(0);
+            assertEquals("R-1", item.getNote());
+            assertSame(session, item.readSession());
+            assertNull(session.findCache(XItem.class, item.getId()));
+            assertThrows(IllegalUjormException.class, () -> item.setNote("X"));
+            assertThrows(IllegalUjormException.class, item::getOrder);
+            assertEquals(0, item.readChangedProperties(false).length);
+
+            assertTrue(session.isReadOnly());
+            assertThrows(UnsupportedOperationException.class, session::beginTransaction);
+            assertThrows(UnsupportedOperationException.class, () -> session.update(item));
+            assertThrows(IllegalArgumentException.class, () -> session.setLoadingPolicy(LoadingPolicy.ALLOWED_ANYWHERE));
+            assertThrows(IllegalUjormException.class, () -> session.delete(XItem.NOTE.whereEq("R-1")));
+        }
+    }
+
+    /** Test direct writes of the stateless session */
+    @Test
+    public void testWritableSession() {
+        createOrder("W");
+        try (StatelessSession session = getHandler().createStatelessSession(false)) {
+            final XOrder order = session.createQuery(XOrder.NOTE.whereEq("Note_W")).uniqueResult();
+            final XItem item1 = new XItem();
+            item1.setNote("W-4");
+            item1.setOrder(order);
+            final XItem item2 = new XItem();
+            item2.setNote("W-5");
+            item2.setOrder(order);
+            session.insert(Arrays.asList(item1, item2));
+            assertThrows(IllegalUjormException.class, () -> item1.setNote("X"));
+
+            final XItem template = new XItem();
+            template.setUsrId(7);
+            final int updated = session.update(template, XItem.NOTE.whereIn("W-4", "W-5"), XItem.USER_ID);
+            assertEquals(2, updated);
+            assertNull(template.readSession());
+            template.setUsrId(8);
+            final int deleted = session.delete(XItem.NOTE.whereEq("W-1"));
+            assertEquals(1, deleted);
+            session.commit();
+        }
+        try (Session session = getHandler().createSession()) {
+            final Criterion<XItem> crn = XItem.ORDER.add(XOrder.NOTE).whereEq("Note_W");
+            assertEquals(4L, session.createQuery(crn).getCount());
+            assertEquals(2L, session.createQuery(crn.and(XItem.USER_ID.whereEq(7))).getCount());
+
+            final XItem template = new XItem();
+            template.setUsrId(9);
+            assertEquals(2, session.update(template, XItem.NOTE.whereIn("W-4", "W-5"), XItem.USER_ID));
+            assertNull(template.readSession());
+            session.rollback();
+        }
+    }
+
+    // ---------- TOOLS -----------------------
+
+    protected OrmHandler getHandler() {
+        if (handler == null) {
+            final MetaParams params = new MetaParams();
+            params.set(MetaParams.AUTO_CLOSING_DEFAULT_SESSION, false); // For in-memory database only
+            handler = new OrmHandler();
+            handler.config(params);
+            handler.loadDatabase(XDatabase.class);
+        }
+        return handler;
+    }
+
+    /** Create an order with three items by a common session */
+    protected void createOrder(final String name) {
+        try (Session session = getHandler().createSession()) {
+            final XCustomer customer = new XCustomer();
+            customer.set(XCustomer.FIRSTNAME, "Lucy");
+            customer.set(XCustomer.LASTNAME, "Smith" + name);
+            customer.set(XCustomer.CREATED, new Date());
+
+            final XOrder order = new XOrder();
+            order.set(XOrder.CREATED, new Date());
+            order.set(XOrder.NOTE, "Note_" + name);
+            order.set(XOrder.CUSTOMER, customer);
+
+            session.insert(customer);
+            session.insert(order);
+            for (int i = 1; i <= 3; i++) {
+                final XItem item = new XItem();
+                item.setNote(name + "-" + i);
+                item.setOrder(order);
+                session.insert(item);
+            }
+            session.commit();
+        }
+    }
+}
@@ -17,9 +17,11 @@ package org.ujorm.orm.dialect;
 
 import java.io.IOException;
 import java.util.Date;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
 import org.ujorm.criterion.Criterion;
+import org.ujorm.criterion.ValueCriterion;
 import org.ujorm.orm.*;
 import org.ujorm.orm.bo.*;
 import org.ujorm.orm.metaModel.MetaTable;
@@ -84,6 +86,57 @@ public class CriterionDialectTest extends org.junit.jupiter.api.Assertions {
                 + "AND  (x_ord_order.NOTE=? OR x_ord_order.ID IS NOT NULL AND  (x_ord_order.ID<? OR x_ord_order.ID>?) )", result);
     }
 
+    /** Test the array parameter and completed parameters of the IN operator */
+    @Test
+    public void testInCriterion() throws IOException {
+        final Session session = new OrmHandler(XDatabase.class).createSession();
+        session.delete(XItem.ID.forAll());
+        session.delete(XOrder.ID.forAll());
+        for (long id = 1L; id <= 3L; id++) {
+            XOrder order = new XOrder();
+            order.setId(id);
+            order.setNote("test" + id);
+            order.setCreated(new Date());
+            session.insert(order);
+        }
+        session.commit();
+        //
+        Criterion<XOrder> crn = XOrder.ID.whereIn(1L, 3L, 5L);
+        assertEquals(2L, session.createQuery(crn).getCount());
+        assertEquals("WHERE x_ord_order.ID = ANY(?)", getWhere(session.createQuery(crn)));
+        //
+        crn = XOrder.ID.whereNotIn(1L, 3L, 5L);
+        assertEquals(1L, session.createQuery(crn).getCount());
+        assertEquals("WHERE NOT x_ord_order.ID = ANY(?)", getWhere(session.createQuery(crn)));
+        //
+        crn = XOrder.NOTE.whereIn("test1", "test2", "test3", "test4", "test5");
+        assertEquals(3L, session.createQuery(crn).getCount());
+        //
+        crn = XOrder.STATE.whereIn(XOrder.State.ACTIVE, XOrder.State.DELETED, XOrder.State.ACTIVE);
+        assertEquals(3L, session.createQuery(crn).getCount());
+        assertEquals("WHERE x_ord_order.state IN (?,?,?,?)", getWhere(session.createQuery(crn)));
+        //
+        final SqlDialect dialect = session.getHandler().getDatabases().get(0).getDialect();
+        assertEquals(1, dialect.getInParameterCount(1));
+        assertEquals(2, dialect.getInParameterCount(2));
+        assertEquals(4, dialect.getInParameterCount(3));
+        assertEquals(512, dialect.getInParameterCount(500));
+        assertEquals(1000, new OracleDialect().getInParameterCount(600));
+        assertEquals(2000, new OracleDialect().getInParameterCount(1001));
+        assertEquals(3, new MSSqlDialect().getInParameterCount(3));
+        assertEquals(2099, new MSSqlDialect().getInParameterCount(2099));
+        //
+        final OracleDialect oracle = new OracleDialect();
+        oracle.setHandler(session.getHandler());
+        final Long[] ids = LongStream.rangeClosed(1L, 1001L).boxed().toArray(Long[]::new);
+        final StringBuilder sql = new StringBuilder();
+        oracle.printCriterion((ValueCriterion) XOrder.ID.whereIn(ids), sql);
+        assertTrue(sql.toString().startsWith("(x_ord_order.ID IN (?,"), sql::toString);
+        assertEquals(2, sql.toString().split(" OR ").length);
+        assertEquals(2000, sql.chars().filter(c -> c == '?').count());
+        session.close();
+    }
+
     // -----------------------------------------------------
 
     /** Returns SQL Statement */
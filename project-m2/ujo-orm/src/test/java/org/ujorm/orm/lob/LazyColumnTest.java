@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ujorm.orm.lob;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ujorm.criterion.Criterion;
+import org.ujorm.orm.LazyValue;
+import org.ujorm.orm.OrmHandler;
+import org.ujorm.orm.Query;
+import org.ujorm.orm.Session;
+import org.ujorm.orm.ao.LoadingPolicy;
+import org.ujorm.orm.metaModel.MetaParams;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the lazy columns and the LOB streams
+ * @author Pavel Ponec
+ */
+public class LazyColumnTest {
+
+    /** Main Handler */
+    private static OrmHandler handler;
+
+    /** Lazy columns are excluded from the default SELECT and loaded by the first reading of the key */
+    @Test
+    public void testLazyColumn() {
+        try (Session session = getHandler().createSession()) {
+            createDocument(session, 1L, "Lazy");
+
+            final Query<XDocument> query = session.createQuery(Criterion.where(XDocument.ID, 1L));
+            final String sql = query.getSqlStatement(true);
+            assertFalse(sql.contains("content"), sql);
+            assertFalse(sql.contains("text"), sql);
+
+            final List<XDocument> documents = query.list();
+            assertEquals(1, documents.size());
+            final XDocument document = documents.get(0);
+            assertSame(LazyValue.INSTANCE, document.readValue(XDocument.CONTENT));
+            assertFalse(document.toString().contains(LazyValue.INSTANCE.toString()));
+            assertEquals("Lazy", document.get(XDocument.NAME));
+            assertArrayEquals("Binary-Lazy".getBytes(UTF_8), document.get(XDocument.CONTENT));
+            assertEquals("Text-Lazy", document.get(XDocument.TEXT));
+            assertEquals(0, document.readChangedProperties(false).length);
+
+            final XDocument explicit = session.createQuery(Criterion.where(XDocument.ID, 1L))
+                    .setColumns(true, XDocument.TEXT)
+                    .uniqueResult();
+            assertEquals("Text-Lazy", explicit.readValue(XDocument.TEXT));
+            assertSame(LazyValue.INSTANCE, explicit.readValue(XDocument.CONTENT));
+            session.rollback();
+        }
+    }
+
+    /** LOB values are read and written by streams */
+    @Test
+    public void testStreams() throws Exception {
+        try (Session session = getHandler().createSession()) {
+            final XDocument document = createDocument(session, 2L, "Stream");
+            final byte[] content = "Binary-Stream-2".getBytes(UTF_8);
+
+            assertEquals(1, session.writeStream(document, XDocument.CONTENT, new ByteArrayInputStream(content), content.length));
+            assertEquals(1, session.writeReader(document, XDocument.TEXT, new StringReader("Text-Stream-2"), -1L));
+            assertSame(LazyValue.INSTANCE, document.readValue(XDocument.CONTENT));
+            assertArrayEquals(content, document.get(XDocument.CONTENT));
+
+            try (InputStream stream = session.readStream(document, XDocument.CONTENT)) {
+                assertArrayEquals(content, stream.readAllBytes());
+            }
+            try (Reader reader = session.readReader(document, XDocument.TEXT)) {
+                final char[] buffer = new char[64];
+                final int length = reader.read(buffer);
+                assertEquals("Text-Stream-2", new String(buffer, 0, length));
+            }
+
+            session.writeStream(document, XDocument.CONTENT, null, 0L);
+            assertNull(session.readStream(document, XDocument.CONTENT));
+            assertNull(document.get(XDocument.CONTENT));
+            session.rollback();
+        }
+    }
+
+    /** A lazy value is loaded on the closed session by a temporary session */
+    @Test
+    public void testClosedSession() {
+        try (Session session = getHandler().createSession()) {
+            createDocument(session, 3L, "Closed");
+            session.commit();
+        }
+        final XDocument document;
+        try (Session session = getHandler().createSession()) {
+            session.setLoadingPolicy(LoadingPolicy.ALLOWED_ANYWHERE_WITH_STACKTRACE);
+            document = session.load(XDocument.class, 3L);
+        }
+        assertSame(LazyValue.INSTANCE, document.readValue(XDocument.TEXT));
+        assertEquals("Text-Closed", document.get(XDocument.TEXT));
+    }
+
+    /** Create and save a new document */
+    private XDocument createDocument(final Session session, final Long id, final String name) {
+        final XDocument result = new XDocument();
+        result.set(XDocument.ID, id);
+        result.set(XDocument.NAME, name);
+        result.set(XDocument.CONTENT, ("Binary-" + name).getBytes(UTF_8));
+        result.set(XDocument.TEXT, "Text-" + name);
+        session.save(result);
+        return result;
+    }
+
+    /** Returns the handler */
+    private static OrmHandler getHandler() {
+        if (handler == null) {
+            final MetaParams params = new MetaParams();
+            params.set(MetaParams.AUTO_CLOSING_DEFAULT_SESSION, false); // For in-memory database only
+            handler = new OrmHandler();
+            handler.config(params);
+            handler.loadDatabase(LobDatabase.class);
+        }
+        return handler;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *  Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ujorm.orm.lob;
+
+import org.ujorm.implementation.orm.OrmTable;
+import org.ujorm.implementation.orm.RelationToMany;
+import org.ujorm.orm.annot.Db;
+import org.ujorm.orm.annot.Table;
+import org.ujorm.orm.dialect.H2Dialect;
+
+/**
+ * A database for the lazy column tests
+ * @hidden
+ */
+@Db(schema="lob", dialect=H2Dialect.class, user="sa", password="", jdbcUrl="jdbc:h2:mem:lob;DB_CLOSE_DELAY=-1")
+public class LobDatabase extends OrmTable<LobDatabase> {
+
+    /** Documents */
+    @Table("lob_document")
+    public static final RelationToMany<LobDatabase, XDocument> DOCUMENTS = newRelation();
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ujorm.orm.lob;
+
+import org.ujorm.Key;
+import org.ujorm.implementation.orm.OrmTable;
+import org.ujorm.orm.DbType;
+import org.ujorm.orm.annot.Column;
+
+/**
+ * A document with large lazy columns
+ * @hidden
+ */
+public class XDocument extends OrmTable<XDocument> {
+
+    /** Unique key */
+    @Column(pk = true)
+    public static final Key<XDocument, Long> ID = newKey();
+    /** Name of the document */
+    @Column(length = 64)
+    public static final Key<XDocument, String> NAME = newKey();
+    /** Binary content */
+    @Column(type = DbType.BLOB, lazy = true)
+    public static final Key<XDocument, byte[]> CONTENT = newKey();
+    /** Text content */
+    @Column(type = DbType.CLOB, lazy = true)
+    public static final Key<XDocument, String> TEXT = newKey();
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm.metaModel;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.ujorm.orm.OrmHandler;
+import org.ujorm.orm.SqlDialect;
+import org.ujorm.orm.bo.XCustomer;
+import org.ujorm.orm.bo.XDatabase;
+import org.ujorm.orm.bo.XItem;
+import org.ujorm.orm.bo.XOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the compiled table view
+ * @author Pavel Ponec
+ */
+public class CompiledTableTest {
+
+    /** The compiled view must be the same as the table model */
+    @Test
+    public void testCompiledTable() throws IOException, ReflectiveOperationException {
+        final OrmHandler handler = new OrmHandler(XDatabase.class);
+        final MetaTable table = handler.findTableModel(XOrder.class);
+        final CompiledTable compiled = table.getCompiled();
+
+        assertSame(compiled, table.getCompiled());
+        assertEquals(MetaTable.COLUMNS.getList(table), compiled.getColumns());
+        assertEquals(compiled.getColumns().size(), compiled.getColumnCount());
+        assertSame(MetaTable.PK.of(table), compiled.getPrimaryKey());
+        assertSame(handler.findColumnModel(XOrder.ID), compiled.getFirstPK());
+        assertSame(handler.findColumnModel(XOrder.CUSTOMER), compiled.findForeignColumn(XCustomer.class));
+        assertNull(compiled.findForeignColumn(XItem.class));
+        assertFalse(compiled.isInheritance());
+        assertTrue(compiled.createBO() instanceof XOrder);
+
+        final SqlDialect dialect = table.getDatabase().getDialect();
+        final StringBuilder names = new StringBuilder();
+        final StringBuilder values = new StringBuilder();
+        dialect.printTableColumns(table.getColumns(), values, names);
+        assertEquals(dialect.printFullTableName(table, new StringBuilder()).toString(), compiled.getFullName());
+        assertEquals(names.toString(), compiled.getInsertColumns());
+        assertEquals(values.toString(), compiled.getInsertValues());
+        assertSame(compiled, table.findCompiled());
+        assertTrue(compiled.isPersistent());
+        final MetaColumn note = handler.findColumnModel(XOrder.NOTE);
+        assertEquals(dialect.printQuotedName(note.getName(), note.get(MetaColumn.QUOTED), new StringBuilder()).toString()
+                , compiled.findColumnName(note));
+        assertNull(compiled.findColumnName(handler.findColumnModel(XOrder.CUSTOMER)));
+        assertNull(compiled.findColumnName(handler.findColumnModel(XItem.ID)));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm.metaModel;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ujorm.Key;
+import org.ujorm.implementation.orm.OrmTable;
+import org.ujorm.implementation.orm.RelationToMany;
+import org.ujorm.orm.OrmHandler;
+import org.ujorm.orm.annot.Column;
+import org.ujorm.orm.annot.Db;
+import org.ujorm.orm.annot.Table;
+import org.ujorm.orm.ao.Orm2ddlPolicy;
+import org.ujorm.orm.dialect.H2Dialect;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the database structure check
+ * @author Pavel Ponec
+ */
+public class MetaDbServiceTest {
+
+    /** A bulk metadata reading must find all existing columns and indexes */
+    @Test
+    public void testBulkRead() {
+        createHandler(Orm2ddlPolicy.CREATE_OR_UPDATE_DDL, null);
+        createHandler(Orm2ddlPolicy.VALIDATE, null); // No change is expected
+    }
+
+    /** A bulk metadata reading of the default schema */
+    @Test
+    public void testDefaultSchema() {
+        createHandler(Orm2ddlPolicy.CREATE_OR_UPDATE_DDL, null, DefaultDatabase.class);
+        createHandler(Orm2ddlPolicy.VALIDATE, null, DefaultDatabase.class); // No change is expected
+    }
+
+    /** An unchanged fingerprint skips the database check */
+    @Test
+    public void testFingerprint(@TempDir File dir) {
+        final File file = new File(dir, "fingerprint.properties");
+        CountingService.COUNTER.set(0);
+
+        createHandler(Orm2ddlPolicy.CREATE_OR_UPDATE_DDL, file);
+        assertTrue(file.isFile());
+        assertEquals(1, CountingService.COUNTER.get());
+
+        createHandler(Orm2ddlPolicy.CREATE_OR_UPDATE_DDL, file);
+        assertEquals(1, CountingService.COUNTER.get());
+
+        createHandler(Orm2ddlPolicy.VALIDATE, file); // A different model
+        assertEquals(2, CountingService.COUNTER.get());
+    }
+
+    /** A fingerprint is not saved while a database difference is reported by a warning */
+    @Test
+    public void testFingerprintWarning(@TempDir File dir) {
+        final File file = new File(dir, "fingerprint.properties");
+        createHandler(Orm2ddlPolicy.CREATE_OR_UPDATE_DDL, null, WarningDatabase.class);
+        CountingService.COUNTER.set(0);
+
+        createHandler(Orm2ddlPolicy.WARNING, file, WarningDatabase2.class); // A new table
+        assertFalse(file.isFile());
+        assertEquals(1, CountingService.COUNTER.get());
+
+        createHandler(Orm2ddlPolicy.WARNING, file, WarningDatabase2.class);
+        assertTrue(file.isFile());
+        assertEquals(2, CountingService.COUNTER.get());
+
+        createHandler(Orm2ddlPolicy.WARNING, file, WarningDatabase2.class);
+        assertEquals(2, CountingService.COUNTER.get());
+    }
+
+    /** Create a new ORM handler */
+    private static OrmHandler createHandler(final Orm2ddlPolicy policy, final File fingerprintFile) {
+        return createHandler(policy, fingerprintFile, ServiceDatabase.class);
+    }
+
+    /** Create a new ORM handler */
+    private static OrmHandler createHandler(final Orm2ddlPolicy policy, final File fingerprintFile, final Class<? extends OrmTable> database) {
+        final MetaParams params = new MetaParams();
+        params.set(MetaParams.AUTO_CLOSING_DEFAULT_SESSION, false);
+        params.set(MetaParams.ORM2DLL_POLICY, policy);
+        params.set(MetaParams.SCHEMA_FINGERPRINT_FILE, fingerprintFile);
+        params.set(MetaParams.META_DB_SERVICE, CountingService.class);
+
+        final OrmHandler result = new OrmHandler();
+        result.config(params);
+        result.loadDatabase(database);
+        return result;
+    }
+
+    /** A service counting the model checks */
+    public static class CountingService extends MetaDbService {
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Override
+        protected boolean isModelChanged(final Connection conn, final DbItems news) throws SQLException {
+            COUNTER.incrementAndGet();
+            return super.isModelChanged(conn, news);
+        }
+    }
+
+    @Db(schema = "service_test", dialect = H2Dialect.class, user = "sa", password = "", jdbcUrl = "jdbc:h2:mem:service_test;DB_CLOSE_DELAY=-1")
+    public static class ServiceDatabase extends OrmTable<ServiceDatabase> {
+
+        @Table(name = "service_item")
+        public static final RelationToMany<ServiceDatabase, ServiceItem> ITEM = newRelation();
+        @Table(name = "service_note")
+        public static final RelationToMany<ServiceDatabase, ServiceNote> NOTE = newRelation();
+    }
+
+    @Db(schema = "service_test", dialect = H2Dialect.class, user = "sa", password = "", jdbcUrl = "jdbc:h2:mem:service_warning;DB_CLOSE_DELAY=-1")
+    public static class WarningDatabase extends OrmTable<WarningDatabase> {
+
+        @Table(name = "service_item")
+        public static final RelationToMany<WarningDatabase, ServiceItem> ITEM = newRelation();
+    }
+
+    @Db(schema = "service_test", dialect = H2Dialect.class, user = "sa", password = "", jdbcUrl = "jdbc:h2:mem:service_warning;DB_CLOSE_DELAY=-1")
+    public static class WarningDatabase2 extends OrmTable<WarningDatabase2> {
+
+        @Table(name = "service_item")
+        public static final RelationToMany<WarningDatabase2, ServiceItem> ITEM = newRelation();
+        @Table(name = "service_note")
+        public static final RelationToMany<WarningDatabase2, ServiceNote> NOTE = newRelation();
+    }
+
+    @Db(dialect = H2Dialect.class, user = "sa", password = "", jdbcUrl = "jdbc:h2:mem:service_default;DB_CLOSE_DELAY=-1")
+    public static class DefaultDatabase extends OrmTable<DefaultDatabase> {
+
+        @Table(name = "service_item")
+        public static final RelationToMany<DefaultDatabase, ServiceItem> ITEM = newRelation();
+        @Table(name = "service_note")
+        public static final RelationToMany<DefaultDatabase, ServiceNote> NOTE = newRelation();
+    }
+
+    public static class ServiceItem extends OrmTable<ServiceItem> {
+
+        @Column(name = "id", pk = true)
+        public static final Key<ServiceItem, Integer> ID = newKey();
+        @Column(name = "code", uniqueIndex = "idx_service_code")
+        public static final Key<ServiceItem, String> CODE = newKey();
+        @Column(name = "name", index = "idx_service_name")
+        public static final Key<ServiceItem, String> NAME = newKey();
+    }
+
+    public static class ServiceNote extends OrmTable<ServiceNote> {
+
+        @Column(name = "id", pk = true)
+        public static final Key<ServiceNote, Integer> ID = newKey();
+        @Column(name = "text")
+        public static final Key<ServiceNote, String> TEXT = newKey();
+        @Column(name = "item_id")
+        public static final Key<ServiceNote, ServiceItem> ITEM = newKey();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm.metaModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ujorm.extensions.NativeUjoDecorator;
+import org.ujorm.orm.OrmHandler;
+import org.ujorm.orm.bo.XDatabase;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the metamodel snapshot
+ * @author Pavel Ponec
+ */
+public class MetaSnapshotTest {
+
+    /** The restored metamodel must be the same as the original one */
+    @Test
+    public void testRestore(@TempDir File dir) {
+        final File file = new File(dir, "metamodel.bin");
+
+        final OrmHandler handler1 = createHandler(file, "");
+        assertTrue(file.isFile());
+        final OrmHandler handler2 = createHandler(file, "");
+
+        assertFalse(handler1.getDatabases().get(0).isSnapshot());
+        assertTrue(handler2.getDatabases().get(0).isSnapshot());
+        assertEquals(handler1.getConfig(), handler2.getConfig());
+    }
+
+    /** A snapshot of different parameters is not valid */
+    @Test
+    public void testFingerprint(@TempDir File dir) {
+        final File file = new File(dir, "metamodel.bin");
+        createHandler(file, "");
+
+        final MetaRoot root = new MetaSnapshot(file, createParams(file, ""), NativeUjoDecorator.of(XDatabase.class)).read();
+        assertNotNull(root);
+        assertTrue(root.getDatabase().isSnapshot());
+        assertNull(new MetaSnapshot(file, createParams(file, "_x"), NativeUjoDecorator.of(XDatabase.class)).read());
+
+        final MetaParams params = createParams(file, "");
+        params.set(MetaParams.METAMODEL_SNAPSHOT_VERSION, "2");
+        assertNull(new MetaSnapshot(file, params, NativeUjoDecorator.of(XDatabase.class)).read());
+        params.set(MetaParams.METAMODEL_SNAPSHOT_VERSION, null);
+        assertThrows(IllegalArgumentException.class, () -> new MetaSnapshot(file, params, NativeUjoDecorator.of(XDatabase.class)));
+    }
+
+    /** The snapshot must not contain the connection identity */
+    @Test
+    public void testConnectionIdentity(@TempDir File dir) throws IOException {
+        final File file = new File(dir, "metamodel.bin");
+        final OrmHandler handler1 = createHandler(file, "");
+        final MetaDatabase database1 = handler1.getDatabases().get(0);
+        final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.ISO_8859_1);
+        assertFalse(content.contains(MetaDatabase.JDBC_URL.of(database1)));
+        assertFalse(content.contains(MetaDatabase.USER.getName()));
+
+        final MetaRoot root = new MetaSnapshot(file, createParams(file, ""), NativeUjoDecorator.of(XDatabase.class)).read();
+        assertNotNull(root);
+        assertTrue(MetaDatabase.JDBC_URL.isDefault(root.getDatabase()));
+        assertTrue(MetaDatabase.USER.isDefault(root.getDatabase()));
+
+        final MetaDatabase database2 = createHandler(file, "").getDatabases().get(0);
+        assertEquals(MetaDatabase.JDBC_URL.of(database1), MetaDatabase.JDBC_URL.of(database2));
+        assertEquals(MetaDatabase.USER.of(database1), MetaDatabase.USER.of(database2));
+    }
+
+    /** Create new parameters */
+    private static MetaParams createParams(final File snapshotFile, final String aliasSuffix) {
+        final MetaParams result = new MetaParams();
+        result.set(MetaParams.AUTO_CLOSING_DEFAULT_SESSION, false);
+        result.set(MetaParams.METAMODEL_SNAPSHOT_FILE, snapshotFile);
+        result.set(MetaParams.METAMODEL_SNAPSHOT_VERSION, "1");
+        result.set(MetaParams.TABLE_ALIAS_SUFFIX, aliasSuffix);
+        return result;
+    }
+
+    /** Create a new ORM handler */
+    private static OrmHandler createHandler(final File snapshotFile, final String aliasSuffix) {
+        final OrmHandler result = new OrmHandler();
+        result.config(createParams(snapshotFile, aliasSuffix));
+        result.loadDatabase(XDatabase.class);
+        return result;
+    }
+}
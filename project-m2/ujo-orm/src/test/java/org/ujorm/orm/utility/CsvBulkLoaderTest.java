@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.orm.utility;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ujorm.Key;
+import org.ujorm.core.IllegalUjormException;
+import org.ujorm.core.KeyFactory;
+import org.ujorm.core.UjoManagerCSV;
+import org.ujorm.criterion.Operator;
+import org.ujorm.implementation.orm.OrmTable;
+import org.ujorm.implementation.orm.RelationToMany;
+import org.ujorm.orm.OrmHandler;
+import org.ujorm.orm.Session;
+import org.ujorm.orm.annot.Column;
+import org.ujorm.orm.annot.Db;
+import org.ujorm.orm.bo.XCustomer;
+import org.ujorm.orm.bo.XDatabase;
+import org.ujorm.orm.dialect.H2Dialect;
+import org.ujorm.validator.ValidationException;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ujorm.Validator.Build.*;
+
+/**
+ * Tests of the CSV bulk loader
+ * @author Pavel Ponec
+ */
+public class CsvBulkLoaderTest {
+
+    private static final OrmHandler HANDLER = new OrmHandler(XDatabase.class);
+    private static final OrmHandler BULK_HANDLER = new OrmHandler(BulkDatabase.class);
+
+    /** Load all rows by two writers */
+    @Test
+    public void testLoad() {
+        final String lastName = "Bulk-" + System.nanoTime();
+        final List<Long> checkpoints = new ArrayList<>();
+        final CsvBulkLoader.Metrics metrics = createLoader()
+                .setWriterCount(2)
+                .setCheckpointListener(checkpoints::add)
+                .load(createCsv(lastName, 100));
+
+        assertEquals(100L, metrics.getParsedRows());
+        assertEquals(100L, metrics.getWrittenRows());
+        assertEquals(100L, metrics.getCheckpoint());
+        assertEquals(0L, metrics.getRejectedRows());
+        assertTrue(metrics.getCommits() >= 5L);
+        assertEquals(100L, checkpoints.get(checkpoints.size() - 1));
+        assertEquals(100L, getCount(lastName));
+    }
+
+    /** Restart the loading from a checkpoint */
+    @Test
+    public void testCheckpoint() {
+        final String lastName = "Bulk-" + System.nanoTime();
+        final CsvBulkLoader.Metrics metrics = createLoader()
+                .setCheckpoint(60L)
+                .load(createCsv(lastName, 100));
+
+        assertEquals(40L, metrics.getWrittenRows());
+        assertEquals(100L, metrics.getCheckpoint());
+        assertEquals(40L, getCount(lastName));
+    }
+
+    /** Invalid rows are passed to the reject handler */
+    @Test
+    public void testRejectHandler() {
+        final String prefix = "R" + System.nanoTime();
+        final List<String> rejected = new ArrayList<>();
+        final CsvBulkLoader.Metrics metrics = createBulkLoader()
+                .setRejectHandler((row, errors) -> {
+                    assertFalse(errors.isEmpty());
+                    rejected.add(BulkItem.CODE.of(row));
+                })
+                .load(createBulkCsv(prefix, 30, 10, 20));
+
+        assertEquals(30L, metrics.getParsedRows());
+        assertEquals(2L, metrics.getRejectedRows());
+        assertEquals(28L, metrics.getWrittenRows());
+        assertEquals(30L, metrics.getCheckpoint());
+        assertEquals(List.of("x" + prefix + "-10", "x" + prefix + "-20"), rejected);
+        assertEquals(28L, getBulkCount(prefix));
+    }
+
+    /** An invalid row without the reject handler stops the import */
+    @Test
+    public void testValidationException() {
+        final String prefix = "V" + System.nanoTime();
+        final List<Long> checkpoints = new ArrayList<>();
+        final IllegalUjormException e = assertThrows(IllegalUjormException.class, () -> createBulkLoader()
+                .setCheckpointListener(checkpoints::add)
+                .load(createBulkCsv(prefix, 100, 90)));
+
+        assertInstanceOf(ValidationException.class, e.getCause());
+        final long checkpoint = checkpoints.isEmpty() ? 0L : checkpoints.get(checkpoints.size() - 1);
+        assertTrue(checkpoint < 90L);
+        assertTrue(e.getMessage().contains("checkpoint is: " + checkpoint), e.getMessage());
+        assertEquals(checkpoint, getBulkCount(prefix));
+    }
+
+    /** A failed writer rolls back its pending batches and it reports the last checkpoint */
+    @Test
+    public void testWriterFailure() {
+        final String prefix = "W" + System.nanoTime();
+        final List<Long> checkpoints = new ArrayList<>();
+        final StringBuilder csv = new StringBuilder("code\n");
+        for (int i = 1; i <= 100; i++) {
+            csv.append(prefix).append('-').append(i == 50 ? 1 : i).append('\n'); // A duplicate code
+        }
+        final IllegalUjormException e = assertThrows(IllegalUjormException.class, () -> createBulkLoader()
+                .setWriterCount(2)
+                .setCheckpointListener(checkpoints::add)
+                .load(new StringReader(csv.toString())));
+
+        assertFalse(checkpoints.isEmpty());
+        final long checkpoint = checkpoints.get(checkpoints.size() - 1);
+        assertTrue(checkpoint < 50L);
+        assertTrue(e.getMessage().contains("checkpoint is: " + checkpoint), e.getMessage());
+        assertEquals(checkpoint, getBulkCount(prefix));
+    }
+
+    /** Create a new loader */
+    private CsvBulkLoader<XCustomer> createLoader() {
+        final UjoManagerCSV<XCustomer> csv = UjoManagerCSV.of(XCustomer.class, XCustomer.FIRSTNAME, XCustomer.LASTNAME);
+        return new CsvBulkLoader<>(HANDLER, csv)
+                .setBatchSize(7)
+                .setCommitSize(20)
+                .setQueueCapacity(2);
+    }
+
+    /** Create a new loader of the bulk items */
+    private CsvBulkLoader<BulkItem> createBulkLoader() {
+        return new CsvBulkLoader<>(BULK_HANDLER, UjoManagerCSV.of(BulkItem.class, BulkItem.CODE))
+                .setBatchSize(7)
+                .setCommitSize(20)
+                .setQueueCapacity(2);
+    }
+
+    /** Create a CSV content of the bulk items including the invalid rows */
+    private StringReader createBulkCsv(final String prefix, final int rows, final int... invalidRows) {
+        final StringBuilder result = new StringBuilder("code\n");
+        for (int i = 1; i <= rows; i++) {
+            final int row = i;
+            final boolean invalid = Arrays.stream(invalidRows).anyMatch(r -> r == row);
+            result.append(invalid ? "x" : "").append(prefix).append('-').append(i).append('\n');
+        }
+        return new StringReader(result.toString());
+    }
+
+    /** Create a CSV content */
+    private StringReader createCsv(final String lastName, final int rows) {
+        final StringBuilder result = new StringBuilder("firstname;lastname\n");
+        for (int i = 1; i <= rows; i++) {
+            result.append("First-").append(i).append(';').append(lastName).append('\n');
+        }
+        return new StringReader(result.toString());
+    }
+
+    /** Returns a count of the customers */
+    private long getCount(final String lastName) {
+        try (Session session = HANDLER.createSession()) {
+            return session.createQuery(XCustomer.LASTNAME.whereEq(lastName)).getCount();
+        }
+    }
+
+    /** Returns a count of the bulk items */
+    private long getBulkCount(final String prefix) {
+        try (Session session = BULK_HANDLER.createSession()) {
+            return session.createQuery(BulkItem.CODE.where(Operator.STARTS, prefix + "-")).getCount();
+        }
+    }
+
+    @Db(schema = "bulk_test", dialect = H2Dialect.class, user = "sa", password = "", jdbcUrl = "jdbc:h2:mem:bulk_test;DB_CLOSE_DELAY=-1")
+    public static class BulkDatabase extends OrmTable<BulkDatabase> {
+
+        public static final RelationToMany<BulkDatabase, BulkItem> ITEM = newRelation();
+    }
+
+    public static class BulkItem extends OrmTable<BulkItem> {
+        private static final KeyFactory<BulkItem> f = newCamelFactory(BulkItem.class);
+
+        @Column(pk = true)
+        public static final Key<BulkItem, Long> ID = f.newKey();
+        @Column(uniqueIndex = "idx_bulk_code")
+        public static final Key<BulkItem, String> CODE = f.newKey(regexp("[A-Z].*"));
+
+        static {
+            f.lock();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A typed reader of one column of the ResultSet, the reader is resolved once for a value type.
+ * The wrapper types return the {@code null} value for the SQL {@code NULL},
+ * the primitive types return a default value.
+ * <h4>Usage</h4>
+ * <pre class="pre">
+ *     ColumnReader&lt;Integer&gt; reader = ColumnReader.of(Integer.class);
+ *     Integer value = reader.read(resultSet, 1);
+ * </pre>
+ *
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+@FunctionalInterface
+public interface ColumnReader<T> {
+
+    /** Read a value of the column */
+    @Nullable
+    T read(@NotNull ResultSet rs, int column) throws SQLException;
+
+    /** Returns a typed reader of the value type */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    static <T> ColumnReader<T> of(@NotNull final Class<T> type) {
+        if (type.isPrimitive()) {
+            if (type == int.class) return (rs, i) -> (T) (Integer) rs.getInt(i);
+            if (type == long.class) return (rs, i) -> (T) (Long) rs.getLong(i);
+            if (type == double.class) return (rs, i) -> (T) (Double) rs.getDouble(i);
+            if (type == boolean.class) return (rs, i) -> (T) (Boolean) rs.getBoolean(i);
+            if (type == short.class) return (rs, i) -> (T) (Short) rs.getShort(i);
+            if (type == byte.class) return (rs, i) -> (T) (Byte) rs.getByte(i);
+            if (type == float.class) return (rs, i) -> (T) (Float) rs.getFloat(i);
+            if (type == char.class) return (rs, i) -> {
+                final String value = rs.getString(i);
+                return (T) (Character) (value != null && !value.isEmpty() ? value.charAt(0) : '\0');
+            };
+        }
+        if (type == String.class) {
+            return (rs, i) -> (T) rs.getString(i);
+        }
+        if (type == Integer.class) {
+            return (rs, i) -> {
+                final int value = rs.getInt(i);
+                return rs.wasNull() ? null : (T) (Integer) value;
+            };
+        }
+        if (type == Long.class) {
+            return (rs, i) -> {
+                final long value = rs.getLong(i);
+                return rs.wasNull() ? null : (T) (Long) value;
+            };
+        }
+        if (type == Double.class) {
+            return (rs, i) -> {
+                final double value = rs.getDouble(i);
+                return rs.wasNull() ? null : (T) (Double) value;
+            };
+        }
+        if (type == Boolean.class) {
+            return (rs, i) -> {
+                final boolean value = rs.getBoolean(i);
+                return rs.wasNull() ? null : (T) (Boolean) value;
+            };
+        }
+        if (type == Short.class) {
+            return (rs, i) -> {
+                final short value = rs.getShort(i);
+                return rs.wasNull() ? null : (T) (Short) value;
+            };
+        }
+        if (type == Byte.class) {
+            return (rs, i) -> {
+                final byte value = rs.getByte(i);
+                return rs.wasNull() ? null : (T) (Byte) value;
+            };
+        }
+        if (type == Float.class) {
+            return (rs, i) -> {
+                final float value = rs.getFloat(i);
+                return rs.wasNull() ? null : (T) (Float) value;
+            };
+        }
+        if (type == BigDecimal.class) {
+            return (rs, i) -> (T) rs.getBigDecimal(i);
+        }
+        if (type == byte[].class) {
+            return (rs, i) -> (T) rs.getBytes(i);
+        }
+        if (type == java.sql.Timestamp.class || type == java.util.Date.class) {
+            return (rs, i) -> (T) rs.getTimestamp(i);
+        }
+        if (type == java.sql.Date.class) {
+            return (rs, i) -> (T) rs.getDate(i);
+        }
+        if (type.isEnum()) {
+            final Map<String, T> items = new HashMap<>();
+            for (T item : type.getEnumConstants()) {
+                items.put(((Enum<?>) item).name(), item);
+            }
+            return (rs, i) -> {
+                final String name = rs.getString(i);
+                final T result = name != null ? items.get(name) : null;
+                if (result == null && name != null) {
+                    throw new IllegalArgumentException("No item '" + name + "' in the " + type);
+                }
+                return result;
+            };
+        }
+        return (rs, i) -> rs.getObject(i, type);
+    }
+}
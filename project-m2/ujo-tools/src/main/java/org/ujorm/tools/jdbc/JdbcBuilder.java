@@ -376,6 +376,15 @@ public class JdbcBuilder implements Serializable {
         return result;
     }
 
+    /** Create a new result list of records mapped by column labels
+     * @see RowMapper
+     * @since 2.30
+     */
+    @NotNull
+    public <R extends Record> List<R> executeSelect(@NotNull final Connection connection, @NotNull final Class<R> recordType) throws SQLException {
+        return executeSelect(connection, RowMapper.ofRecord(getSql(), recordType));
+    }
+
     /** Create statement and call {@link PreparedStatement#executeUpdate()} .
      * Supported SQL statements are: INSERT, UPDATE, DELETE .
      */
@@ -392,7 +401,7 @@ public class JdbcBuilder implements Serializable {
     public <T> T uniqueValue(@NotNull Class<T> resultType, @NotNull final Connection connection) {
         try (PreparedStatement ps = prepareStatement(connection); ResultSet rs = ps.executeQuery()) {
             if (rs.next()) {
-                final T result = rs.getObject(1, resultType);
+                final T result = ColumnReader.of(resultType).read(rs, 1);
                 if (rs.next()) {
                     throw new NoSuchElementException(getSql());
                 }
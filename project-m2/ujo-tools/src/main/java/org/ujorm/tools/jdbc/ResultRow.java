@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.jdbc;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable snapshot of one row of the ResultSet, the object can be processed in any thread.
+ * Values of the LOB columns are copied to a {@code String} or {@code byte[]} type.
+ * Column indexes start with the number 1 as in the ResultSet.
+ *
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see RowPipeline
+ */
+public final class ResultRow {
+
+    /** Shared column labels */
+    @NotNull
+    private final Columns columns;
+    /** Values of the row */
+    @NotNull
+    private final Object[] values;
+
+    private ResultRow(@NotNull final Columns columns, @NotNull final Object[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /** Returns the count of columns */
+    public int size() {
+        return values.length;
+    }
+
+    /** Returns a column label, the first index is 1 */
+    @NotNull
+    public String getLabel(final int column) {
+        return columns.labels[column - 1];
+    }
+
+    /** Returns a value of the column, the first index is 1 */
+    @Nullable
+    public Object get(final int column) {
+        return values[column - 1];
+    }
+
+    /** Returns a value of the case-insensitive column label */
+    @Nullable
+    public Object get(@NotNull final String label) throws IllegalArgumentException {
+        return values[columns.indexOf(label)];
+    }
+
+    /** Returns a typed value of the column, the first index is 1 */
+    @Nullable
+    public <T> T get(final int column, @NotNull final Class<T> type) throws ClassCastException {
+        return type.cast(get(column));
+    }
+
+    /** Returns a typed value of the case-insensitive column label */
+    @Nullable
+    public <T> T get(@NotNull final String label, @NotNull final Class<T> type) throws ClassCastException {
+        return type.cast(get(label));
+    }
+
+    /** Returns a text value of the column label */
+    @Nullable
+    public String getString(@NotNull final String label) {
+        final Object result = get(label);
+        return result != null ? result.toString() : null;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder(values.length << 4).append('{');
+        for (int i = 0; i < values.length; i++) {
+            result.append(i > 0 ? ", " : "")
+                  .append(columns.labels[i])
+                  .append('=')
+                  .append(values[i]);
+        }
+        return result.append('}').toString();
+    }
+
+    /** Create a snapshot factory for rows of the ResultSet.
+     * The factory must be used for the one ResultSet only. */
+    @NotNull
+    public static SqlFunction<ResultSet, ResultRow> factory() {
+        return new SqlFunction<>() {
+            /** Labels are resolved by the first row */
+            private Columns columns;
+
+            @Override
+            public ResultRow applyRs(@NotNull final ResultSet rs) throws SQLException {
+                if (columns == null) {
+                    columns = new Columns(rs.getMetaData());
+                }
+                return of(rs, columns);
+            }
+        };
+    }
+
+    /** Create a snapshot of the current row */
+    @NotNull
+    static ResultRow of(@NotNull final ResultSet rs, @NotNull final Columns columns) throws SQLException {
+        final Object[] values = new Object[columns.labels.length];
+        for (int i = 0; i < values.length; i++) {
+            final Object value = rs.getObject(i + 1);
+            if (value instanceof Clob clob) {
+                values[i] = clob.getSubString(1L, (int) clob.length());
+            } else if (value instanceof Blob blob) {
+                values[i] = blob.getBytes(1L, (int) blob.length());
+            } else {
+                values[i] = value;
+            }
+        }
+        return new ResultRow(columns, values);
+    }
+
+    /** Column labels shared by all rows of one ResultSet */
+    static final class Columns {
+        @NotNull
+        private final String[] labels;
+        @NotNull
+        private final Map<String, Integer> indexes;
+
+        Columns(@NotNull final ResultSetMetaData metaData) throws SQLException {
+            this.labels = new String[metaData.getColumnCount()];
+            this.indexes = new HashMap<>(labels.length << 1);
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = metaData.getColumnLabel(i + 1);
+                indexes.putIfAbsent(labels[i].toUpperCase(Locale.ENGLISH), i);
+            }
+        }
+
+        /** Returns a zero-based index of the column label */
+        int indexOf(@NotNull final String label) throws IllegalArgumentException {
+            final Integer result = indexes.get(label.toUpperCase(Locale.ENGLISH));
+            if (result == null) {
+                throw new IllegalArgumentException("No column: " + label);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A row mapper to an object by column labels of the ResultSet.
+ * Column indexes and typed readers are resolved by the first row of the ResultSet,
+ * the next rows are mapped without any metadata lookup.
+ * A column label is compared without underscores and case-insensitive to a property path,
+ * so the label {@code user_name} is mapped to the property {@code name} of a nested object {@code user}.
+ * <h4>Usage</h4>
+ * <pre class="pre">
+ *     List&lt;Employee&gt; employees = builder.sql("SELECT id, name, boss_id, boss_name FROM employee")
+ *         .streamMap(RowMapper.ofRecord(Employee.class))
+ *         .toList();
+ * </pre>
+ * A new instance is required for each SQL statement, or use the instance cached by the SQL
+ * by the method {@link #ofRecord(String, Class)}.
+ *
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+public abstract class RowMapper<T> implements SqlFunction<ResultSet, T> {
+
+    /** The maximal count of cached mappers */
+    protected static final int CACHE_LIMIT = 1024;
+    /** Mappers cached by the SQL and a target type */
+    private static final Map<CacheKey, RowMapper<?>> MAPPERS = new ConcurrentHashMap<>();
+
+    /** A target type */
+    @NotNull
+    protected final Class<T> type;
+    /** A row function compiled for the first ResultSet */
+    @Nullable
+    private volatile SqlFunction<ResultSet, T> compiled;
+
+    protected RowMapper(@NotNull final Class<T> type) {
+        this.type = type;
+    }
+
+    /** Returns the target type */
+    @NotNull
+    public Class<T> getType() {
+        return type;
+    }
+
+    /** Map the current row of the ResultSet */
+    @Override
+    public final T applyRs(@NotNull final ResultSet rs) throws SQLException {
+        SqlFunction<ResultSet, T> result = compiled;
+        if (result == null) {
+            compiled = result = compile(columnIndexes(rs.getMetaData()));
+        }
+        return result.applyRs(rs);
+    }
+
+    /**
+     * Compile a row function for the columns of the ResultSet.
+     * @param columns Column indexes by a normalized label, see the {@link #normalize(CharSequence)} method.
+     */
+    @NotNull
+    protected abstract SqlFunction<ResultSet, T> compile(@NotNull Map<String, Integer> columns) throws SQLException;
+
+    /** Returns a normalized name of a column label or a property path,
+     * where underscores are removed and the result is in lower case. */
+    @NotNull
+    public static String normalize(@NotNull final CharSequence name) {
+        final StringBuilder result = new StringBuilder(name.length());
+        for (int i = 0, max = name.length(); i < max; i++) {
+            final char c = name.charAt(i);
+            if (c != '_') {
+                result.append(c);
+            }
+        }
+        return result.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    /** Is there a column with the label prefix of the normalized property path?
+     * The test stops a recursion of the nested objects. */
+    protected static boolean hasPrefix(@NotNull final Map<String, Integer> columns, @NotNull final String path) {
+        final String prefix = normalize(path);
+        for (String label : columns.keySet()) {
+            if (label.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns column indexes by a normalized label, the first column wins */
+    @NotNull
+    protected static Map<String, Integer> columnIndexes(@NotNull final ResultSetMetaData metaData) throws SQLException {
+        final int count = metaData.getColumnCount();
+        final Map<String, Integer> result = new HashMap<>(count << 1);
+        for (int i = 1; i <= count; i++) {
+            result.putIfAbsent(normalize(metaData.getColumnLabel(i)), i);
+        }
+        return result;
+    }
+
+    /** Returns a mapper cached by the SQL statement and the target type */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    protected static <T, M extends RowMapper<T>> M cached(
+            @NotNull final String sql,
+            @NotNull final Class<T> type,
+            @NotNull final Supplier<M> factory) {
+        final CacheKey key = new CacheKey(sql, type);
+        M result = (M) MAPPERS.get(key);
+        if (result == null) {
+            result = factory.get();
+            if (MAPPERS.size() < CACHE_LIMIT) {
+                final M old = (M) MAPPERS.putIfAbsent(key, result);
+                if (old != null) {
+                    result = old;
+                }
+            }
+        }
+        return result;
+    }
+
+    // --- STATIC FACTORIES ---
+
+    /** Create a new mapper of the record type */
+    @NotNull
+    public static <R extends Record> RowMapper<R> ofRecord(@NotNull final Class<R> recordType) {
+        return new RecordMapper<>(recordType);
+    }
+
+    /** Returns a mapper of the record type cached by the SQL statement */
+    @NotNull
+    public static <R extends Record> RowMapper<R> ofRecord(@NotNull final String sql, @NotNull final Class<R> recordType) {
+        return cached(sql, recordType, () -> new RecordMapper<>(recordType));
+    }
+
+    /** A key of the mapper cache */
+    private record CacheKey(@NotNull String sql, @NotNull Class<?> type) {}
+
+    /** A mapper of records, where a record component type of a record is mapped as a nested object. */
+    static final class RecordMapper<R extends Record> extends RowMapper<R> {
+
+        RecordMapper(@NotNull final Class<R> type) {
+            super(type);
+        }
+
+        @NotNull
+        @Override
+        protected SqlFunction<ResultSet, R> compile(@NotNull final Map<String, Integer> columns) {
+            return compile(type, "", columns, false);
+        }
+
+        /** Compile a record constructor where the result is {@code null} for a nested record without any column */
+        @Nullable
+        private static <R> RowFunction<R> compile(
+                @NotNull final Class<R> type,
+                @NotNull final String prefix,
+                @NotNull final Map<String, Integer> columns,
+                final boolean nested) {
+            final RecordComponent[] components = type.getRecordComponents();
+            final Class<?>[] types = new Class<?>[components.length];
+            final SqlFunction<ResultSet, ?>[] readers = new SqlFunction[components.length];
+            final Object[] defaults = new Object[components.length];
+            boolean found = false;
+            for (int i = 0; i < components.length; i++) {
+                final Class<?> componentType = components[i].getType();
+                final String path = prefix + components[i].getName();
+                types[i] = componentType;
+                if (componentType.isRecord()) {
+                    readers[i] = hasPrefix(columns, path)
+                            ? compile(componentType, path, columns, true)
+                            : null;
+                } else {
+                    final Integer index = columns.get(normalize(path));
+                    if (index != null) {
+                        final ColumnReader<?> reader = ColumnReader.of(wrapperType(componentType));
+                        final int column = index;
+                        readers[i] = rs -> reader.read(rs, column);
+                    }
+                    if (componentType.isPrimitive()) {
+                        defaults[i] = Array.get(Array.newInstance(componentType, 1), 0);
+                    }
+                }
+                found |= readers[i] != null;
+                if (readers[i] == null) {
+                    readers[i] = rs -> null;
+                }
+            }
+            return found || !nested
+                    ? new RowFunction<>(constructor(type, types), readers, defaults, nested)
+                    : null;
+        }
+
+        /** Returns a canonical constructor with an Object array argument */
+        @NotNull
+        private static MethodHandle constructor(@NotNull final Class<?> type, @NotNull final Class<?>[] types) {
+            try {
+                final Constructor<?> constructor = type.getDeclaredConstructor(types);
+                constructor.trySetAccessible();
+                return MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, types.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("No canonical constructor of the " + type, e);
+            }
+        }
+
+        /** Returns a wrapper type of a primitive type */
+        @NotNull
+        private static Class<?> wrapperType(@NotNull final Class<?> type) {
+            return type.isPrimitive()
+                    ? MethodType.methodType(type).wrap().returnType()
+                    : type;
+        }
+    }
+
+    /** A compiled row function of a record constructor */
+    private static final class RowFunction<R> implements SqlFunction<ResultSet, R> {
+        @NotNull
+        private final MethodHandle constructor;
+        @NotNull
+        private final SqlFunction<ResultSet, ?>[] readers;
+        @NotNull
+        private final Object[] defaults;
+        /** Returns the {@code null} value if all values are {@code null} */
+        private final boolean nullable;
+
+        RowFunction(
+                @NotNull final MethodHandle constructor,
+                @NotNull final SqlFunction<ResultSet, ?>[] readers,
+                @NotNull final Object[] defaults,
+                final boolean nullable) {
+            this.constructor = constructor;
+            this.readers = readers;
+            this.defaults = defaults;
+            this.nullable = nullable;
+        }
+
+        @Nullable
+        @Override
+        @SuppressWarnings("unchecked")
+        public R applyRs(@NotNull final ResultSet rs) throws SQLException {
+            final Object[] args = new Object[readers.length];
+            boolean empty = true;
+            for (int i = 0; i < args.length; i++) {
+                final Object value = readers[i].applyRs(rs);
+                if (value != null) {
+                    args[i] = value;
+                    empty = false;
+                } else {
+                    args[i] = defaults[i];
+                }
+            }
+            if (empty && nullable) {
+                return null;
+            }
+            try {
+                return (R) (Object) constructor.invokeExact(args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+import org.ujorm.tools.Assert;
+
+/**
+ * A pipeline to map rows of a ResultSet in parallel.
+ * Rows are read by the consuming thread, each row is copied to an immutable {@link ResultRow} object,
+ * and the batches of rows are mapped by an executor.
+ * The reader never reads more than {@code maxPendingBatches} batches before they are consumed,
+ * so a slow consumer stops the reading of the ResultSet (a backpressure).
+ * The result can keep the order of rows, or it can return batches in the order of their completion.
+ * <h4>Usage</h4>
+ * <pre class="pre">
+ *     List&lt;Hash&gt; hashes = RowPipeline.of(executor)
+ *         .batchSize(500)
+ *         .map(new RowIterator(ps).toStream(), row -&gt; Hash.of(row.getString("content")))
+ *         .toList();
+ * </pre>
+ * The result stream must be closed if it is not fully consumed.
+ *
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see org.ujorm.tools.sql.SqlParamBuilder#streamMap(RowPipeline, Function)
+ */
+public final class RowPipeline {
+
+    /** A default count of rows in one batch */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** An executor of batches */
+    @NotNull
+    private final Executor executor;
+    /** Count of rows in one batch */
+    private final int batchSize;
+    /** Maximal count of batches read but not consumed yet */
+    private final int maxPendingBatches;
+    /** Keep the order of rows */
+    private final boolean ordered;
+
+    public RowPipeline(
+            @NotNull final Executor executor,
+            final int batchSize,
+            final int maxPendingBatches,
+            final boolean ordered) {
+        Assert.isTrue(batchSize > 0, "Batch size must be positive");
+        Assert.isTrue(maxPendingBatches > 0, "Count of pending batches must be positive");
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxPendingBatches = maxPendingBatches;
+        this.ordered = ordered;
+    }
+
+    /** Create a new pipeline with a different batch size */
+    @NotNull
+    public RowPipeline batchSize(final int batchSize) {
+        return new RowPipeline(executor, batchSize, maxPendingBatches, ordered);
+    }
+
+    /** Create a new pipeline with a different limit of pending batches */
+    @NotNull
+    public RowPipeline maxPendingBatches(final int maxPendingBatches) {
+        return new RowPipeline(executor, batchSize, maxPendingBatches, ordered);
+    }
+
+    /** Create a new pipeline with ordered or unordered results */
+    @NotNull
+    public RowPipeline ordered(final boolean ordered) {
+        return new RowPipeline(executor, batchSize, maxPendingBatches, ordered);
+    }
+
+    /**
+     * Map rows of the source in parallel. Closing the result stream closes the source stream.
+     * @param rows A sequential stream sharing one mutable ResultSet
+     * @param mapper A thread-safe mapper of row snapshots
+     * @return A sequential stream of mapped values
+     */
+    @NotNull
+    public <R> Stream<R> map(
+            @NotNull final Stream<ResultSet> rows,
+            @NotNull final Function<ResultRow, ? extends R> mapper) {
+        final Output<R> output = new Output<>(rows.iterator(), mapper);
+        final int characteristics = ordered ? Spliterator.ORDERED : 0;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(output, characteristics), false)
+                .onClose(output::cancel)
+                .onClose(rows::close);
+    }
+
+    @Override
+    public String toString() {
+        return "RowPipeline{batchSize=" + batchSize
+                + ", maxPendingBatches=" + maxPendingBatches
+                + ", ordered=" + ordered + '}';
+    }
+
+    /** An iterator of mapped values */
+    private final class Output<R> implements Iterator<R> {
+        @NotNull
+        private final Iterator<ResultSet> source;
+        @NotNull
+        private final Function<ResultRow, ? extends R> mapper;
+        /** Pending batches in the order of rows */
+        private final ArrayDeque<CompletableFuture<List<R>>> submitted = new ArrayDeque<>();
+        /** Completed batches of an unordered pipeline */
+        private final BlockingQueue<CompletableFuture<List<R>>> completed = new LinkedBlockingQueue<>();
+        /** Column labels of the ResultSet */
+        private ResultRow.Columns columns;
+        /** Values of the current batch */
+        private Iterator<R> current = Collections.emptyIterator();
+        /** Count of submitted batches, which were not taken */
+        private int pending;
+        /** Has the source any next row? */
+        private boolean sourceReady = true;
+
+        Output(@NotNull final Iterator<ResultSet> source, @NotNull final Function<ResultRow, ? extends R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                submitBatches();
+                if (pending == 0) {
+                    return false;
+                }
+                current = takeBatch().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public R next() {
+            if (hasNext()) {
+                return current.next();
+            }
+            throw new NoSuchElementException();
+        }
+
+        /** Read and submit batches up to the limit of pending batches */
+        private void submitBatches() {
+            while (sourceReady && pending < maxPendingBatches) {
+                final List<ResultRow> batch = new ArrayList<>(batchSize);
+                try {
+                    while (batch.size() < batchSize && (sourceReady = source.hasNext())) {
+                        final ResultSet rs = source.next();
+                        if (columns == null) {
+                            columns = new ResultRow.Columns(rs.getMetaData());
+                        }
+                        batch.add(ResultRow.of(rs, columns));
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                if (!batch.isEmpty()) {
+                    final CompletableFuture<List<R>> future = CompletableFuture.supplyAsync(() -> map(batch), executor);
+                    submitted.add(future);
+                    if (!ordered) {
+                        future.whenComplete((values, e) -> completed.add(future));
+                    }
+                    pending++;
+                }
+            }
+        }
+
+        /** Map one batch */
+        @NotNull
+        private List<R> map(@NotNull final List<ResultRow> batch) {
+            final List<R> result = new ArrayList<>(batch.size());
+            for (ResultRow row : batch) {
+                result.add(mapper.apply(row));
+            }
+            return result;
+        }
+
+        /** Wait for the next batch */
+        @NotNull
+        private List<R> takeBatch() {
+            try {
+                final CompletableFuture<List<R>> future = ordered ? submitted.poll() : completed.take();
+                if (!ordered) {
+                    submitted.remove(future);
+                }
+                pending--;
+                return future.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new IllegalStateException(e);
+            } catch (CompletionException e) {
+                cancel();
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        /** Cancel all pending batches */
+        void cancel() {
+            submitted.forEach(future -> future.cancel(false));
+            submitted.clear();
+            completed.clear();
+            sourceReady = false;
+            pending = 0;
+        }
+    }
+
+    // --- STATIC FACTORIES ---
+
+    /** Create an ordered pipeline for the executor,
+     * where the limit of pending batches is a double count of processors */
+    @NotNull
+    public static RowPipeline of(@NotNull final Executor executor) {
+        final int limit = Runtime.getRuntime().availableProcessors() << 1;
+        return new RowPipeline(executor, DEFAULT_BATCH_SIZE, limit, true);
+    }
+
+    /** Create an ordered pipeline for the common pool */
+    @NotNull
+    public static RowPipeline of() {
+        return of(ForkJoinPool.commonPool());
+    }
+}
@@ -16,10 +16,14 @@
 package org.ujorm.tools.msg;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Formatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -58,6 +62,13 @@ import org.ujorm.tools.common.ObjectUtils;
  *  assertEquals(expResult, result);
  * </pre>
  *
+ * A template used repeatedly can be compiled to an immutable {@link MessageTemplate}:
+ *
+ * <pre class="pre">
+ *  MessageTemplate template = service.compile("The ${TYPE} framework ${NAME}.");
+ *  String result = service.format(template, args, null);
+ * </pre>
+ *
  * @author Pavel Ponec
  * @since 1.53
  * @see MessageArg
@@ -65,6 +76,12 @@ import org.ujorm.tools.common.ObjectUtils;
 @Unmodifiable
 public class MessageService {
 
+    /** The maximal count of cached templates */
+    protected static final int TEMPLATE_CACHE_LIMIT = 1024;
+
+    /** Shared compiled templates of the default tags */
+    private static final Map<String, MessageTemplate> DEFAULT_TEMPLATES = new ConcurrentHashMap<>();
+
     /** Two-character mark ("${") to introducing a template argument. */
     protected final String begTag ;
     /** The mark ("}") to finishing a template argument. */
@@ -74,6 +91,10 @@ public class MessageService {
     @NotNull
     protected final Locale defaultLocale;
 
+    /** Compiled templates */
+    @NotNull
+    private final Map<String, MessageTemplate> templates;
+
     /** Create new instance with the {@code Locale.ENGLISH} */
     public MessageService() {
         this(MessageArg.PARAM_BEG, MessageArg.PARAM_END, Locale.ENGLISH);
@@ -86,6 +107,11 @@ public class MessageService {
         this.begTag = Assert.hasLength(begTag, "begTag");
         this.endTag = endTag;
         this.defaultLocale = Assert.notNull(defaultLocale, "defaultLocale");
+        this.templates = MessageArg.PARAM_BEG.equals(begTag)
+                && MessageArg.PARAM_END == endTag
+                && getClass() == MessageService.class // A subclass can override the createTemplate()
+                ? DEFAULT_TEMPLATES
+                : new ConcurrentHashMap<>();
     }
 
     /** Create a map from man pairs key-value
@@ -233,33 +259,121 @@ public class MessageService {
     ) throws IOException  {
         if (msg == null || args == null) {
             writer.append(String.valueOf(msg));
+        } else {
+            format(compile(msg), args, locale, writer);
         }
-        final int max = msg.length();
-        int i, last = 0;
-        while ((i = msg.indexOf(begTag, last)) >= 0) {
-            final int end = msg.indexOf(endTag, i);
-            final String expr = msg.substring(i + begTag.length(), end);
-            final int formatIndex = expr.indexOf(',');
-            final String key = expr.substring(0, formatIndex >= 0 ? formatIndex : expr.length());
-            final Object value = args.get(key);
+    }
+
+    /**
+     * Format a compiled template message using named variables.
+     * @param template A compiled template, see the {@link #compile(String)} method.
+     * @param args Key-value map arguments where arguments type of {@link Supplier} ares supported.
+     * @param locale The target locale for an argument format, the {@code null} locale will be replaced by the {@code defaultLocale}.
+     * @return The result message
+     * @since 2.30
+     */
+    @NotNull
+    public final String format(
+            @NotNull final MessageTemplate template,
+            @NotNull final Map<String, ?> args,
+            @Nullable final Locale locale) {
+        final StringBuilder result = new StringBuilder(template.length);
+        try {
+            format(template, args, locale, result);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Format a compiled template message using named variables.
+     * A single {@link Formatter} is created for all formatted arguments of the message.
+     * @param template A compiled template, see the {@link #compile(String)} method.
+     * @param args Key-value map arguments where arguments type of {@link Supplier} ares supported.
+     * @param locale The target locale for an argument format, the {@code null} locale will be replaced by the {@code defaultLocale}.
+     * @param writer A required writer.
+     * @since 2.30
+     */
+    public final void format(
+            @NotNull final MessageTemplate template,
+            @NotNull final Map<String, ?> args,
+            @Nullable final Locale locale,
+            @NotNull final Appendable writer
+    ) throws IOException {
+        final String[] segments = template.segments;
+        final MessageTemplate.Slot[] slots = template.slots;
+        Formatter formatter = null;
+        for (int i = 0; i < slots.length; i++) {
+            writer.append(segments[i]);
+            final MessageTemplate.Slot slot = slots[i];
+            final Object value = args.get(slot.key);
             final Object val = value instanceof Supplier
                 ? ((Supplier)value).get()
                 : value;
-            if (val != null) {
-                writer.append(msg, last, i);
-                if (formatIndex > 0) {
-                    new Formatter(writer, locale != null ? locale : defaultLocale).format
-                          ( expr.substring(1 + formatIndex)
-                          , val, val, val, val, val, val); // Simplify Date format
-                } else {
-                    writeValue(val, writer, locale);
-                }
+            if (val == null) {
+                writer.append(slot.code);
+            } else if (slot.format == null) {
+                writeValue(val, writer, locale);
             } else {
-                writer.append(msg, last, end + 1);
+                if (formatter == null) {
+                    formatter = new Formatter(writer, locale != null ? locale : defaultLocale);
+                }
+                final Object[] params = new Object[slot.paramCount];
+                Arrays.fill(params, val); // Simplify Date format
+                formatter.format(slot.format, params);
+            }
+        }
+        writer.append(segments[slots.length]);
+    }
+
+    /**
+     * Compile a template message to an immutable object with literal segments and argument slots.
+     * Templates are cached up to the {@link #TEMPLATE_CACHE_LIMIT} count, next templates are compiled on each call.
+     * Each variable must be surrounded by two marks "${" and "}",
+     * an unterminated variable is a literal text.
+     * @param msg Template message, see the simple example:
+     * <pre class="pre">"The input date ${KEY,%s} must be less than: ${DATE,%F}"</pre>
+     * @return A compiled template
+     * @since 2.30
+     */
+    @NotNull
+    public MessageTemplate compile(@NotNull final String msg) {
+        MessageTemplate result = templates.get(msg);
+        if (result == null) {
+            result = createTemplate(msg);
+            if (templates.size() < TEMPLATE_CACHE_LIMIT) {
+                final MessageTemplate old = templates.putIfAbsent(msg, result);
+                if (old != null) {
+                    result = old;
+                }
             }
+        }
+        return result;
+    }
+
+    /** Create a new compiled template */
+    @NotNull
+    protected MessageTemplate createTemplate(@NotNull final String msg) {
+        final List<String> segments = new ArrayList<>();
+        final List<MessageTemplate.Slot> slots = new ArrayList<>();
+        int i, end, last = 0;
+        while ((i = msg.indexOf(begTag, last)) >= 0
+           && (end = msg.indexOf(endTag, i)) >= 0) {
+            final String expr = msg.substring(i + begTag.length(), end);
+            final int formatIndex = expr.indexOf(',');
+            final String key = expr.substring(0, formatIndex >= 0 ? formatIndex : expr.length());
+            final String format = formatIndex > 0 ? expr.substring(1 + formatIndex) : null;
+            segments.add(msg.substring(last, i));
+            slots.add(new MessageTemplate.Slot(key, format, msg.substring(i, end + 1)));
             last = end + 1;
         }
-        writer.append(msg, last, max);
+        segments.add(msg.substring(last));
+        final int max = msg.length();
+        return new MessageTemplate
+                ( segments.toArray(new String[segments.size()])
+                , slots.toArray(new MessageTemplate.Slot[slots.size()])
+                , Math.max(32, max + (max >> 1)));
     }
 
      /** Convert value.
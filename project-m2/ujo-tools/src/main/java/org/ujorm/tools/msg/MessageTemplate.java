@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.msg;
+
+import java.util.Formatter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * An immutable message template compiled by the {@link MessageService}.
+ * The template contains literal segments and argument slots with a parsed format,
+ * so the rendering does not scan the template text again.
+ * The template does not depend on the service instance, it can be rendered by any service with the same tags:
+ * <pre class="pre">
+ *  MessageTemplate template = service.compile("The ${TYPE} framework ${NAME}.");
+ *  service.format(template, service.map("TYPE", "ORM", "NAME", "Ujorm"), null, writer);
+ * </pre>
+ * @author Pavel Ponec
+ * @since 2.30
+ * @see MessageService#compile(String)
+ */
+@Unmodifiable
+public final class MessageTemplate {
+
+    /** Literal segments where the last one follows the last slot */
+    @NotNull
+    final String[] segments;
+    /** Argument slots, where the slot {@code i} follows the segment {@code i} */
+    @NotNull
+    final Slot[] slots;
+    /** Estimated length of the result */
+    final int length;
+
+    MessageTemplate(@NotNull final String[] segments, @NotNull final Slot[] slots, final int length) {
+        this.segments = segments;
+        this.slots = slots;
+        this.length = length;
+    }
+
+    /** Count of the argument slots */
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    /** Returns the original template */
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            result.append(segments[i]).append(slots[i].code);
+        }
+        return result.append(segments[slots.length]).toString();
+    }
+
+    /** An argument slot of the template */
+    static final class Slot {
+        /** Key of the argument */
+        @NotNull
+        final String key;
+        /** An optional format of the {@link Formatter} */
+        @Nullable
+        final String format;
+        /** Count of the format parameters */
+        final int paramCount;
+        /** The original code of the slot for an undefined value */
+        @NotNull
+        final String code;
+
+        Slot(@NotNull final String key, @Nullable final String format, @NotNull final String code) {
+            this.key = key;
+            this.format = format;
+            this.paramCount = format != null ? countParams(format) : 0;
+            this.code = code;
+        }
+
+        /** Count the format parameters where a relative index is not counted
+         * and an explicit index (e.g. {@code %2$s}) requires all parameters up to the index */
+        private static int countParams(@NotNull final String format) {
+            int result = 0;
+            int maxIndex = 0;
+            for (int i = format.indexOf('%'); i >= 0; i = format.indexOf('%', i + 1)) {
+                final char next = i + 1 < format.length() ? format.charAt(i + 1) : '%';
+                if (next == '%' || next == 'n') {
+                    ++i;
+                } else if (next != '<') {
+                    int j = i + 1;
+                    while (j < format.length() && Character.isDigit(format.charAt(j))) {
+                        ++j;
+                    }
+                    if (j > i + 1 && j < format.length() && format.charAt(j) == '$') {
+                        maxIndex = Math.max(maxIndex, Integer.parseInt(format.substring(i + 1, j)));
+                    } else {
+                        ++result;
+                    }
+                }
+            }
+            return Math.max(Math.max(result, maxIndex), 1);
+        }
+    }
+}
@@ -16,6 +16,10 @@
 package org.ujorm.tools.msg;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -45,6 +49,11 @@ public class MsgFormatter {
     protected static final String DEFAULT_MARK = "{}";
     /** Separator of unmarked arguments '{}' was changed to a single space from release 1.91 */
     protected static final char SEPARATOR = ' ';
+    /** The maximal count of cached templates */
+    protected static final int TEMPLATE_CACHE_LIMIT = 1024;
+
+    /** Literal segments of the templates with the default mark */
+    private static final Map<String, String[]> TEMPLATES = new ConcurrentHashMap<>();
 
     /** The parameter mark in the template. */
     private final String mark;
@@ -86,30 +95,52 @@ public class MsgFormatter {
             ? (Object[]) argumentValues[0] // Convert a single argument type of array
             : argumentValues;
 
+        final String[] segments = compile(template);
         final int max = template.length();
         final Appendable out = writer != null ? writer : new StringBuilder(Math.max(32, max + (max >> 1)));
-        int last = 0;
+        final int marks = Math.min(arguments.length, segments.length - 1);
 
-        for (final Object arg : arguments) {
-            final int i = template.indexOf(mark, last);
-            if (i >= last) {
-                out.append(template, last, i);
-                last = i + mark.length();
-                writeValue(arg, out, true);
-            } else {
-                if (last < max) {
-                    out.append(template, last, max);
-                    last = max;
-                }
-                writeValue(arg, out, false);
-            }
+        out.append(segments[0]);
+        for (int i = 0; i < marks; i++) {
+            writeValue(arguments[i], out, true);
+            out.append(segments[i + 1]);
+        }
+        for (int i = marks + 1; i < segments.length; i++) {
+            out.append(mark).append(segments[i]);
         }
-        if (last < max) {
-            out.append(template, last, max);
+        for (int i = marks; i < arguments.length; i++) {
+            writeValue(arguments[i], out, false);
         }
         return writer != null ? "" : out.toString();
     }
 
+    /**
+     * Split the template to literal segments by the mark.
+     * The segments of templates with the default mark are cached.
+     * @param template A message template
+     * @return Literal segments, where the count of the marks is less by one.
+     * @since 2.30
+     */
+    @NotNull
+    protected String[] compile(@NotNull final String template) {
+        final boolean cached = DEFAULT_MARK.equals(mark);
+        String[] result = cached ? TEMPLATES.get(template) : null;
+        if (result == null) {
+            final List<String> segments = new ArrayList<>();
+            int i, last = 0;
+            while ((i = template.indexOf(mark, last)) >= 0) {
+                segments.add(template.substring(last, i));
+                last = i + mark.length();
+            }
+            segments.add(template.substring(last));
+            result = segments.toArray(new String[segments.size()]);
+            if (cached && TEMPLATES.size() < TEMPLATE_CACHE_LIMIT) {
+                TEMPLATES.putIfAbsent(template, result);
+            }
+        }
+        return result;
+    }
+
     /**
      * Format the message from Object array
      * @param templateAndArguments The first item is a template where parameters are located by {@code "{}"}
@@ -18,6 +18,10 @@ package org.ujorm.tools.sql;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.ujorm.tools.Assert;
+import org.ujorm.tools.jdbc.ResultRow;
+import org.ujorm.tools.jdbc.RowMapper;
+import org.ujorm.tools.jdbc.RowPipeline;
 import org.ujorm.tools.jdbc.SqlConsumer;
 import org.ujorm.tools.jdbc.SqlFunction;
 
@@ -27,7 +31,9 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Matcher;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -55,6 +61,15 @@ import java.util.stream.StreamSupport;
         .toList();
  * }
  * </pre>
+ * A batch of rows is executed by the method {@link #executeBatch(Iterable, int, BiConsumer, SqlFunction)},
+ * see the sample:
+ * <pre>
+ * var result = builder.sql("INSERT INTO employee (name, code) VALUES (:name, :code)")
+ *        .executeBatch(employees, 500, (b, e) -&gt; b
+ *             .bind("name", e.name())
+ *             .bind("code", e.code()),
+ *        rs -&gt; rs.getInt(1));
+ * </pre>
  * Licence: Apache License, Version 2.0
  * Original source: <a href="https://github.com/pponec/PPScriptsForJava/blob/development/src/main/java/net/ponec/script/SqlExecutor.java">GitHub</a>
  * @author Pavel Ponec, https://github.com/pponec
@@ -64,6 +79,10 @@ public class SqlParamBuilder implements AutoCloseable {
 
     /** SQL parameter mark type of {@code :param} */
     static final Pattern SQL_MARK = Pattern.compile(":(\\w+)");
+    /** The maximal count of cached SQL templates */
+    static final int TEMPLATE_CACHE_LIMIT = 1024;
+    /** Parsed SQL templates */
+    private static final Map<String, SqlTemplate> TEMPLATES = new ConcurrentHashMap<>();
 
     @NotNull
     private final Connection dbConnection;
@@ -75,6 +94,17 @@ public class SqlParamBuilder implements AutoCloseable {
     private PreparedStatement preparedStatement = null;
     @Nullable
     private ResultSet resultSet = null;
+    /** Counts of the values for each parameter mark of the prepared statement */
+    @Nullable
+    private int[] preparedArities = null;
+    /** Count of rows added to the batch of the prepared statement */
+    private int batchCount = 0;
+    /** The result of the running batch */
+    @Nullable
+    private BatchCollector batchCollector = null;
+    /** A mapper of generated keys of the running batch */
+    @Nullable
+    private SqlFunction<ResultSet, ?> batchKeyMapper = null;
 
     public SqlParamBuilder(@NotNull Connection dbConnection) {
         this.dbConnection = dbConnection;
@@ -240,6 +270,20 @@ public class SqlParamBuilder implements AutoCloseable {
         return stream(executeSelect()).map(mapper);
     }
 
+    /** Executes the query and returns a Stream of records mapped by column labels.
+     * The mapper is cached by the SQL template, see the {@link RowMapper} for more information. */
+    @NotNull
+    public <R extends Record> Stream<R> streamMap(@NotNull Class<R> recordType) {
+        return streamMap(RowMapper.ofRecord(sqlTemplate(), recordType));
+    }
+
+    /** Executes the query and maps immutable snapshots of rows in parallel by the pipeline.
+     * The ResultSet is read by the consuming thread, see the {@link RowPipeline} for more information. */
+    @NotNull
+    public <R> Stream<R> streamMap(@NotNull RowPipeline pipeline, @NotNull Function<ResultRow, ? extends R> mapper) {
+        return pipeline.map(stream(executeSelect()), mapper);
+    }
+
     /** Closes the PreparedStatement and any active ResultSet.
      * The database connection remains open. */
     @Override
@@ -250,30 +294,139 @@ public class SqlParamBuilder implements AutoCloseable {
         } finally {
             resultSet = null;
             preparedStatement = null;
+            preparedArities = null;
+            batchCount = 0;
             params.clear();
         }
     }
 
-    /** Builds or reuses a PreparedStatement and binds current parameters. */
+    /** Builds or reuses a PreparedStatement and binds current parameters.
+     * The statement is reused if the counts of the parameter values are not changed,
+     * otherwise the pending batch is executed and the statement is closed. */
     @NotNull
     public PreparedStatement prepareStatement(int autoGeneratedKeys) {
         try {
-            final var sqlValues = new ArrayList<ParamValue>(params.size());
-            final var sql = buildSql(sqlValues, false);
+            final var template = parsedTemplate();
+            final var keys = template.keys();
+            final var values = new ParamValue[keys.length];
+            final var arities = new int[keys.length];
+            Set<String> missingKeys = null;
+            for (int i = 0; i < keys.length; i++) {
+                values[i] = params.get(keys[i]);
+                if (values[i] != null) {
+                    arities[i] = values[i].values.length;
+                } else {
+                    (missingKeys != null ? missingKeys : (missingKeys = new HashSet<>())).add(keys[i]);
+                }
+            }
+            if (missingKeys != null) {
+                throw sqlException(null, "Missing SQL parameter: " + missingKeys);
+            }
+            if (preparedStatement != null && !Arrays.equals(arities, preparedArities)) {
+                flushBatch();
+                closeStatement();
+            }
             final var result = preparedStatement != null
                     ? preparedStatement
-                    : dbConnection.prepareStatement(sql, autoGeneratedKeys);
-            for (int i = 0, max = sqlValues.size(); i < max; i++) {
-                var sqlValue = sqlValues.get(i);
-                result.setObject(i + 1, sqlValue.first(), sqlValue.jdbcType);
+                    : dbConnection.prepareStatement(template.toSql(arities), autoGeneratedKeys);
+            for (int i = 0, position = 0; i < values.length; i++) {
+                final var param = values[i];
+                for (Object value : param.values) {
+                    result.setObject(++position, value, param.jdbcType);
+                }
             }
             preparedStatement = result;
+            preparedArities = arities;
             return result;
         } catch (SQLException e) {
             throw sqlException(e);
         }
     }
 
+    /**
+     * Binds named parameters for each row by the binder and executes the statement in batches.
+     * Parameters bound for a previous row are kept if the binder does not replace them.
+     * @param rows Source rows
+     * @param batchSize The count of rows sent to the database in one round trip.
+     * @param binder Binds parameters of one row to this builder.
+     * @return Update counts of all rows
+     */
+    @NotNull
+    public <T> int[] executeBatch(
+            @NotNull final Iterable<? extends T> rows,
+            final int batchSize,
+            @NotNull final BiConsumer<SqlParamBuilder, ? super T> binder) {
+        return executeBatch(rows, batchSize, binder, null).updateCounts();
+    }
+
+    /**
+     * Binds named parameters for each row by the binder and executes the statement in batches.
+     * Parameters bound for a previous row are kept if the binder does not replace them.
+     * If the counts of the parameter values are changed, the pending rows are executed before a new statement is prepared.
+     * @param rows Source rows
+     * @param batchSize The count of rows sent to the database in one round trip.
+     * @param binder Binds parameters of one row to this builder.
+     * @param keyMapper An optional mapper of the generated keys, for example: {@code rs -> rs.getInt(1)}.
+     * @return Update counts and the generated keys of all rows
+     */
+    @NotNull
+    public <T, K> BatchResult<K> executeBatch(
+            @NotNull final Iterable<? extends T> rows,
+            final int batchSize,
+            @NotNull final BiConsumer<SqlParamBuilder, ? super T> binder,
+            @Nullable final SqlFunction<ResultSet, ? extends K> keyMapper) {
+        Assert.isTrue(batchSize > 0, "The batch size must be positive: {}", batchSize);
+        final var autoGeneratedKeys = keyMapper != null
+                ? Statement.RETURN_GENERATED_KEYS
+                : Statement.NO_GENERATED_KEYS;
+        final var result = new BatchCollector();
+        batchCollector = result;
+        batchKeyMapper = keyMapper;
+        try {
+            closeStatement(); // The statement is prepared for the required generated keys
+            for (T row : rows) {
+                binder.accept(this, row);
+                prepareStatement(autoGeneratedKeys).addBatch();
+                if (++batchCount >= batchSize) {
+                    flushBatch();
+                }
+            }
+            flushBatch();
+        } catch (SQLException e) {
+            throw sqlException(e);
+        } finally {
+            batchCount = 0;
+            batchCollector = null;
+            batchKeyMapper = null;
+        }
+        return result.toResult();
+    }
+
+    /** Closes the PreparedStatement and any active ResultSet, the parameters are kept. */
+    private void closeStatement() throws SQLException {
+        try (var ps = preparedStatement) {
+            switchResultSet(null);
+        } finally {
+            preparedStatement = null;
+            preparedArities = null;
+        }
+    }
+
+    /** Executes rows of the running batch and collects update counts with the generated keys. */
+    private void flushBatch() throws SQLException {
+        if (batchCount > 0 && preparedStatement != null && batchCollector != null) {
+            batchCount = 0;
+            batchCollector.addCounts(preparedStatement.executeBatch());
+            if (batchKeyMapper != null) {
+                try (var rs = preparedStatement.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        batchCollector.generatedKeys.add(batchKeyMapper.applyRs(rs));
+                    }
+                }
+            }
+        }
+    }
+
     /** Returns the ResultSet containing generated keys from the last insert. */
     @Nullable
     protected ResultSet generatedKeysRs() {
@@ -308,31 +461,46 @@ public class SqlParamBuilder implements AutoCloseable {
 
     @NotNull
     protected String buildSql(List<ParamValue> sqlValues, boolean toLog) {
-        final var result = new StringBuffer(256);
-        final var matcher = SQL_MARK.matcher(sqlTemplate);
+        final var template = parsedTemplate();
+        final var segments = template.segments();
+        final var keys = template.keys();
+        final var result = new StringBuilder(256);
         final var missingKeys = new HashSet<>();
-        while (matcher.find()) {
-            final var key = matcher.group(1);
-            final var param = params.get(key);
+        for (int k = 0; k < keys.length; k++) {
+            result.append(segments[k]);
+            final var param = params.get(keys[k]);
             if (param != null) {
-                matcher.appendReplacement(result, "");
                 for (int i = 0; i < param.values.length; i++) {
                     if (i > 0) result.append(',');
                     result.append(toLog ? "[" + param.values[i] + "]" : "?");
                     sqlValues.add(i == 0 ? param : new ParamValue(param.jdbcType, param.values[i]));
                 }
             } else {
-                matcher.appendReplacement(result, Matcher.quoteReplacement(matcher.group()));
-                missingKeys.add(key);
+                result.append(':').append(keys[k]);
+                missingKeys.add(keys[k]);
             }
         }
         if (!toLog && !missingKeys.isEmpty()) {
             throw sqlException(null, "Missing SQL parameter: " + missingKeys);
         }
-        matcher.appendTail(result);
+        result.append(segments[keys.length]);
         return result.toString();
     }
 
+    /** Returns a parsed SQL template from a shared cache */
+    @NotNull
+    protected SqlTemplate parsedTemplate() {
+        final var template = String.valueOf(sqlTemplate);
+        var result = TEMPLATES.get(template);
+        if (result == null) {
+            result = SqlTemplate.of(template);
+            if (TEMPLATES.size() < TEMPLATE_CACHE_LIMIT) {
+                TEMPLATES.putIfAbsent(template, result);
+            }
+        }
+        return result;
+    }
+
     @NotNull
     public String sqlTemplate() {
         return sqlTemplate;
@@ -349,6 +517,73 @@ public class SqlParamBuilder implements AutoCloseable {
         }
     }
 
+    /** A parsed SQL template, where the parameter mark {@code keys[i]} follows the text {@code segments[i]}. */
+    protected record SqlTemplate(String[] segments, String[] keys) {
+
+        /** Parse the SQL template */
+        static SqlTemplate of(@NotNull final String sqlTemplate) {
+            final var segments = new ArrayList<String>();
+            final var keys = new ArrayList<String>();
+            final var matcher = SQL_MARK.matcher(sqlTemplate);
+            int last = 0;
+            while (matcher.find()) {
+                segments.add(sqlTemplate.substring(last, matcher.start()));
+                keys.add(matcher.group(1));
+                last = matcher.end();
+            }
+            segments.add(sqlTemplate.substring(last));
+            return new SqlTemplate(segments.toArray(new String[0]), keys.toArray(new String[0]));
+        }
+
+        /** Build a SQL statement where the mark {@code keys[i]} is replaced by {@code arities[i]} question marks. */
+        String toSql(final int[] arities) {
+            final var result = new StringBuilder(segments[0].length() * (segments.length + 1));
+            for (int i = 0; i < keys.length; i++) {
+                result.append(segments[i]);
+                for (int j = 0; j < arities[i]; j++) {
+                    if (j > 0) result.append(',');
+                    result.append('?');
+                }
+            }
+            return result.append(segments[keys.length]).toString();
+        }
+    }
+
+    /** Result of a batch execution
+     * @param updateCounts Update counts of all rows
+     * @param generatedKeys Generated keys, if the key mapper was available
+     */
+    public record BatchResult<K>(int[] updateCounts, List<K> generatedKeys) {
+
+        /** Returns the sum of the update counts, where unknown counts are ignored */
+        public long totalCount() {
+            long result = 0L;
+            for (int count : updateCounts) {
+                if (count > 0) result += count;
+            }
+            return result;
+        }
+    }
+
+    /** A mutable collector of a batch result */
+    private static final class BatchCollector {
+        private int[] counts = new int[64];
+        private int size = 0;
+        private final List<Object> generatedKeys = new ArrayList<>();
+
+        void addCounts(final int[] values) {
+            if (size + values.length > counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(counts.length << 1, size + values.length));
+            }
+            System.arraycopy(values, 0, counts, size, values.length);
+            size += values.length;
+        }
+
+        <K> BatchResult<K> toResult() {
+            return new BatchResult<>(Arrays.copyOf(counts, size), (List<K>) generatedKeys);
+        }
+    }
+
     @NotNull
     @Override
     public String toString() {
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ujorm.tools.sql.SqlParamBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the RowMapper
+ * @author Pavel Ponec
+ */
+public class RowMapperTest extends AbstractJdbcConnector {
+
+    private static final String SQL = String.join("\n"
+            , "SELECT e.id, e.name, e.created, e.salary, e.state"
+            , ", b.id AS boss_id, b.name AS boss_name"
+            , "FROM rm_employee e"
+            , "LEFT JOIN rm_employee b ON b.id = e.boss_id"
+            , "WHERE e.id >= :id"
+            , "ORDER BY e.id");
+
+    /** Test mapping of records with a nested record */
+    @Test
+    public void testRecordMapper() throws Exception {
+        try (Connection dbConnection = createDbConnection();
+             SqlParamBuilder builder = new SqlParamBuilder(dbConnection)) {
+            createTable(builder);
+
+            List<Employee> employees = builder.sql(SQL)
+                    .bind("id", 1)
+                    .streamMap(Employee.class)
+                    .toList();
+            assertEquals(3, employees.size());
+            assertEquals(new Employee(1, "Anna", LocalDate.parse("2020-01-01"), new BigDecimal("10.50"), State.ACTIVE, 0, null), employees.get(0));
+            assertEquals(new Employee(2, "Bob", null, null, null, 0, new Boss(1L, "Anna")), employees.get(1));
+            assertEquals(new Boss(2L, "Bob"), employees.get(2).boss());
+            assertSame(RowMapper.ofRecord(SQL, Employee.class), RowMapper.ofRecord(SQL, Employee.class));
+        }
+    }
+
+    /** Test the typed unique value */
+    @Test
+    public void testColumnReader() throws Exception {
+        try (Connection dbConnection = createDbConnection();
+             SqlParamBuilder builder = new SqlParamBuilder(dbConnection)) {
+            createTable(builder);
+            State state = builder.sql("SELECT state FROM rm_employee WHERE id = 1")
+                    .streamMap(rs -> ColumnReader.of(State.class).read(rs, 1))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(State.ACTIVE, state);
+            List<Integer> bossIds = builder.sql("SELECT boss_id FROM rm_employee WHERE id <= 2 ORDER BY id")
+                    .streamMap(rs -> ColumnReader.of(Integer.class).read(rs, 1))
+                    .toList();
+            assertEquals(Arrays.asList(null, 1), bossIds);
+        }
+    }
+
+    private void createTable(SqlParamBuilder builder) {
+        builder.sql("CREATE TABLE rm_employee"
+                , "( id INTEGER PRIMARY KEY"
+                , ", name VARCHAR(64)"
+                , ", created DATE"
+                , ", salary DECIMAL(9,2)"
+                , ", state VARCHAR(16)"
+                , ", boss_id INTEGER"
+                , ")").execute();
+        builder.sql("INSERT INTO rm_employee VALUES"
+                , "(1, 'Anna', DATE '2020-01-01', 10.50, 'ACTIVE', NULL),"
+                , "(2, 'Bob', NULL, NULL, NULL, 1),"
+                , "(3, 'Cyril', NULL, NULL, NULL, 2)").execute();
+    }
+
+    public enum State { ACTIVE, PASSIVE }
+
+    /** A nested record */
+    public record Boss(Long id, String name) {}
+
+    /** A target record where the component {@code level} has no column */
+    public record Employee(int id, String name, LocalDate created, BigDecimal salary, State state, int level, Boss boss) {}
+}
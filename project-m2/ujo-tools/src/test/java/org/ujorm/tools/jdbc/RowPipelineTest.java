@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.jdbc;
+
+import java.sql.Connection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.ujorm.tools.sql.SqlParamBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the RowPipeline
+ * @author Pavel Ponec
+ */
+public class RowPipelineTest extends AbstractJdbcConnector {
+
+    private static final String SQL = "SELECT x AS id, 'T' || x AS name FROM SYSTEM_RANGE(1, :max) ORDER BY x";
+    private static final int ROW_COUNT = 1000;
+
+    /** Test the order of mapped rows */
+    @Test
+    public void testOrdered() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (Connection dbConnection = createDbConnection();
+             SqlParamBuilder builder = new SqlParamBuilder(dbConnection)) {
+            final RowPipeline pipeline = RowPipeline.of(executor).batchSize(64);
+            final List<String> result = builder.sql(SQL)
+                    .bind("max", ROW_COUNT)
+                    .streamMap(pipeline, row -> row.get("ID") + ":" + row.getString("name"))
+                    .toList();
+            final List<String> expected = LongStream.rangeClosed(1, ROW_COUNT)
+                    .mapToObj(i -> i + ":T" + i)
+                    .toList();
+            assertEquals(expected, result);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Test unordered mapped rows */
+    @Test
+    public void testUnordered() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (Connection dbConnection = createDbConnection();
+             SqlParamBuilder builder = new SqlParamBuilder(dbConnection)) {
+            final RowPipeline pipeline = RowPipeline.of(executor).batchSize(10).ordered(false);
+            final List<Long> result = builder.sql(SQL)
+                    .bind("max", ROW_COUNT)
+                    .streamMap(pipeline, row -> row.get(1, Long.class))
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertEquals(ROW_COUNT, result.size());
+            assertEquals(1L, result.get(0));
+            assertEquals((long) ROW_COUNT, result.get(ROW_COUNT - 1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** The reader must not read more rows than the limit of pending batches */
+    @Test
+    public void testBackpressure() throws Exception {
+        final int batchSize = 10;
+        final int maxPending = 3;
+        final AtomicInteger readCount = new AtomicInteger();
+        try (Connection dbConnection = createDbConnection();
+             SqlParamBuilder builder = new SqlParamBuilder(dbConnection)) {
+            final RowPipeline pipeline = new RowPipeline(Runnable::run, batchSize, maxPending, true);
+            try (Stream<Long> stream = pipeline.map(builder.sql(SQL)
+                    .bind("max", ROW_COUNT)
+                    .streamMap(rs -> rs)
+                    .peek(rs -> readCount.incrementAndGet())
+                    , row -> row.get(1, Long.class))) {
+                final Iterator<Long> iterator = stream.iterator();
+                assertEquals(1L, iterator.next());
+                assertEquals(batchSize * maxPending, readCount.get());
+                for (int i = 2; i <= batchSize; i++) {
+                    assertEquals(i, iterator.next());
+                }
+                assertEquals(batchSize * maxPending, readCount.get());
+                assertEquals(batchSize + 1L, iterator.next());
+                assertEquals(batchSize * (maxPending + 1), readCount.get());
+            }
+        }
+    }
+
+    /** An exception of the mapper is thrown by the consumer */
+    @Test
+    public void testException() throws Exception {
+        try (Connection dbConnection = createDbConnection();
+             SqlParamBuilder builder = new SqlParamBuilder(dbConnection)) {
+            final RowPipeline pipeline = RowPipeline.of().batchSize(7);
+            final Stream<Object> stream = builder.sql(SQL)
+                    .bind("max", ROW_COUNT)
+                    .streamMap(pipeline, row -> {
+                        if (row.get(1, Long.class) == 100L) {
+                            throw new IllegalArgumentException("Wrong row: " + row);
+                        }
+                        return row;
+                    });
+            final IllegalArgumentException e = assertThrows(IllegalArgumentException.class, stream::count);
+            assertEquals("Wrong row: {ID=100, NAME=T100}", e.getMessage());
+            stream.close();
+        }
+    }
+}
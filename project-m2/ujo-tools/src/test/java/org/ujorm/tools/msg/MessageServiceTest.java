@@ -239,6 +239,53 @@ public class MessageServiceTest {
         assertEquals(expResult, result2);
     }
 
+    /** Test of a compiled template */
+    @Test
+    public void testCompile() throws Exception {
+        MessageService service = new MessageService();
+        MessageTemplate template = service.compile("Price ${NUMBER,%.2f} ${TEXT} at ${DATE,%tF %tT} for ${ID}, ${UNKNOWN");
+        assertSame(template, service.compile(template.toString()));
+        assertEquals(4, template.getSlotCount());
+        assertEquals("Price ${NUMBER,%.2f} ${TEXT} at ${DATE,%tF %tT} for ${ID}, ${UNKNOWN", template.toString());
+
+        Map<String, Object> args = service.map
+                ( NUMBER, new BigDecimal("1.234")
+                , TEXT, (java.util.function.Supplier<String>) () -> "CZK"
+                , DATE, getCalendar().getTime());
+        String expResult = "Price 1.23 CZK at 2016-05-04 03:02:01 for ${ID}, ${UNKNOWN";
+        assertEquals(expResult, service.format(template, args, Locale.ENGLISH));
+
+        StringBuilder writer = new StringBuilder();
+        service.format(template, args, Locale.ENGLISH, writer);
+        assertEquals(expResult, writer.toString());
+
+        template = service.compile("${TEXT,%3$s-%1$s} ${DATE,%1$tF %<tT}");
+        assertEquals("CZK-CZK 2016-05-04 03:02:01", service.format(template, args, Locale.ENGLISH));
+    }
+
+    /** Test of the bounded cache of compiled templates */
+    @Test
+    public void testTemplateCache() {
+        MessageService service = new MessageService("#{", '}', Locale.ENGLISH);
+        MessageTemplate first = service.compile("#{A}");
+        for (int i = 1; i < MessageService.TEMPLATE_CACHE_LIMIT; i++) {
+            service.compile("#{A" + i + "}");
+        }
+        assertSame(first, service.compile("#{A}"));
+        MessageTemplate next = service.compile("#{B}"); // The full cache
+        assertNotSame(next, service.compile("#{B}"));
+        assertEquals(next.toString(), service.compile("#{B}").toString());
+    }
+
+    /** A subclass does not share the cache of the default tags */
+    @Test
+    public void testSubclassCache() {
+        String msg = "Subclass ${ID}";
+        MessageTemplate template = new MessageService().compile(msg);
+        assertSame(template, new MessageService().compile(msg));
+        assertNotSame(template, new MessageService() {}.compile(msg));
+    }
+
     /** Test of format method, of class MessageService. */
     @Test
     public void testEquals() {
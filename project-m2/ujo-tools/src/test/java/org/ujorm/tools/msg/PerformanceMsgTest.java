@@ -114,6 +114,15 @@ public class PerformanceMsgTest {
         }
         result.put(MessageService.class, beg.until(LocalDateTime.now(), ChronoUnit.MILLIS));
 
+        MessageService service = new MessageService();
+        MessageTemplate compiled = service.compile(temp4ate);
+        beg = LocalDateTime.now();
+        for (int i = 0; i < MAX_COUNT; i++) {
+            String msg = service.format(compiled, mapArgs, null);
+            if (msg != null) { continue; }
+        }
+        result.put(MessageTemplate.class, beg.until(LocalDateTime.now(), ChronoUnit.MILLIS));
+
         System.out.println(PREFIX + "MAX_COUNT\t: " + MAX_COUNT + SUFFIX);
         for (Class formatter : result.keySet()) {
             System.out.println(buildResult(formatter, result));
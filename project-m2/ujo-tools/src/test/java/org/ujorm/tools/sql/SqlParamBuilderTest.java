@@ -27,7 +27,9 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -215,6 +217,44 @@ public class SqlParamBuilderTest extends AbstractJdbcConnector {
         Assertions.assertEquals(1, employees.size());
     }
 
+    @Test
+    public void testBatch() throws Exception {
+        try (Connection dbConnection = createDbConnection();
+             SqlParamBuilder builder = new SqlParamBuilder(dbConnection)) {
+            builder.sql("CREATE TABLE batch_item",
+                            "( id INTEGER PRIMARY KEY AUTO_INCREMENT",
+                            ", code VARCHAR(8)",
+                            ", created DATE NOT NULL",
+                            ")")
+                    .execute();
+
+            var rows = IntStream.range(0, 250).boxed().toList();
+            var result = builder.sql("INSERT INTO batch_item (code, created) VALUES (:code, :created)")
+                    .executeBatch(rows, 100, (b, i) -> b
+                            .bind("code", "C" + i)
+                            .bind("created", someDate.plusDays(i)),
+                            rs -> rs.getInt(1));
+            assertEquals(250, result.updateCounts().length);
+            assertEquals(250L, result.totalCount());
+            assertEquals(250, result.generatedKeys().size());
+            assertEquals(1, result.generatedKeys().get(0));
+            assertEquals(250, result.generatedKeys().get(249));
+
+            var idLists = List.of(new Integer[]{1}, new Integer[]{2, 3}, new Integer[]{4, 5}, new Integer[]{6});
+            var counts = builder.sql("UPDATE batch_item SET code = :code WHERE id IN (:ids)")
+                    .bind("code", "X")
+                    .executeBatch(idLists, 10, (b, ids) -> b.bind("ids", ids));
+            assertArrayEquals(new int[]{1, 2, 2, 1}, counts);
+
+            var count = builder.sql("SELECT COUNT(*) FROM batch_item WHERE code = :code")
+                    .bind("code", "X")
+                    .streamMap(rs -> rs.getInt(1))
+                    .findFirst()
+                    .orElse(0);
+            assertEquals(6, count);
+        }
+    }
+
     @Test
     public void loggingSql() throws SQLException {
         final Connection dbConnection = Mockito.mock(Connection.class);
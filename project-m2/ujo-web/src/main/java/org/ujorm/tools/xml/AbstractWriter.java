@@ -17,6 +17,7 @@
 package org.ujorm.tools.xml;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Method;
 import java.nio.charset.Charset;
 import org.jetbrains.annotations.NotNull;
@@ -70,6 +71,13 @@ public abstract class AbstractWriter {
     /** Common formatter */
     public static final MsgFormatter FORMATTER = new MsgFormatter(){};
 
+    /** Entities of the XML text by the character code, the {@code null} item means a character without escaping */
+    private static final String[] TEXT_ENTITIES = createEntities(false);
+    /** Entities of the XML attribute value by the character code, the {@code null} item means a character without escaping */
+    private static final String[] ATTRIBUTE_ENTITIES = createEntities(true);
+    /** An entity of the narrow non-breaking space */
+    private static final String NARROW_NBSP_ENTITY = XML_AMPERSAND + "#" + (int) NARROW_NBSP + ";";
+
     /** Output */
     @NotNull
     protected final Appendable out;
@@ -89,6 +97,14 @@ public abstract class AbstractWriter {
     @NotNull
     private final Formatter formatter;
 
+    /** The output of the StringBuilder type or the {@code null} value */
+    @Nullable
+    private final StringBuilder outBuilder;
+
+    /** The output of the Writer type or the {@code null} value */
+    @Nullable
+    private final Writer outWriter;
+
 
     @NotNull
     private final Appendable writerEscaped = new Appendable() {
@@ -127,6 +143,8 @@ public abstract class AbstractWriter {
         this.formatter = config.getFormatter();
         this.newLine = config.getNewLine().toString();
         this.indentationEnabled = Check.hasLength(config.getIndentation());
+        this.outBuilder = out instanceof StringBuilder ? (StringBuilder) out : null;
+        this.outWriter = out instanceof Writer ? (Writer) out : null;
     }
 
     /** Write escaped value to the output
@@ -137,13 +155,37 @@ public abstract class AbstractWriter {
         write(text, 0, text.length(), attribute);
     }
 
-    /** Write escaped value to the output
+    /** Write escaped value to the output, the unescaped ranges of the text are written at once
      * @param text A value to write
      * @param attribute Write an attribute value
      */
     void write(@NotNull final CharSequence text, final int from, final int max, final boolean attribute) throws IOException {
+        final String[] entities = attribute ? ATTRIBUTE_ENTITIES : TEXT_ENTITIES;
+        int start = from;
         for (int i = from; i < max; i++) {
-            write(text.charAt(i), attribute);
+            final char c = text.charAt(i);
+            final String entity = c < entities.length
+                    ? entities[c]
+                    : c == NARROW_NBSP ? NARROW_NBSP_ENTITY : null;
+            if (entity != null) {
+                writeRange(text, start, i);
+                out.append(entity);
+                start = i + 1;
+            }
+        }
+        writeRange(text, start, max);
+    }
+
+    /** Write a range of the text without escaping */
+    private void writeRange(@NotNull final CharSequence text, final int start, final int end) throws IOException {
+        if (start < end) {
+            if (outBuilder != null) {
+                outBuilder.append(text, start, end);
+            } else if (outWriter != null && text instanceof String) {
+                outWriter.write((String) text, start, end - start);
+            } else {
+                out.append(text, start, end);
+            }
         }
     }
 
@@ -154,48 +196,14 @@ public abstract class AbstractWriter {
      * @throws IOException
      */
     private void write(final char c, final boolean attribute) throws IOException {
-        switch (c) {
-            case XML_LT:
-                out.append(XML_AMPERSAND + "lt;");
-                break;
-            case XML_GT:
-                out.append(XML_AMPERSAND + "gt;");
-                break;
-            case XML_AMPERSAND:
-                out.append(XML_AMPERSAND + "amp;");
-                break;
-            case XML_2QUOT:
-                if (attribute) {
-                    out.append(XML_AMPERSAND + "quot;");
-                } else {
-                    out.append(c);
-                }
-                break;
-            case XML_APOSTROPHE:
-                if (true) {
-                    out.append(c);
-                } else {
-                    out.append(XML_AMPERSAND + "apos;");
-                }
-                break;
-            case SPACE:
-                out.append(c);
-                break;
-            case NBSP:
-                out.append(XML_AMPERSAND + "#160;");
-                break;
-            case NARROW_NBSP:
-                out.append(XML_AMPERSAND + "#8239;");
-                break;
-            default: {
-                if (c > 32) {
-                    out.append(c);
-                } else {
-                    out.append(XML_AMPERSAND + "#");
-                    out.append(Integer.toString(c));
-                    out.append(";");
-                }
-            }
+        final String[] entities = attribute ? ATTRIBUTE_ENTITIES : TEXT_ENTITIES;
+        final String entity = c < entities.length
+                ? entities[c]
+                : c == NARROW_NBSP ? NARROW_NBSP_ENTITY : null;
+        if (entity != null) {
+            out.append(entity);
+        } else {
+            out.append(c);
         }
     }
 
@@ -252,16 +260,47 @@ public abstract class AbstractWriter {
 
     // ---- STATIC METHOD(s) ---
 
+    /** Create a table of entities for characters to the NBSP including.
+     * Control characters are written as numeric entities, an apostrophe and a space are not escaped.
+     * @param attribute Create a table for an attribute value
+     */
+    @NotNull
+    private static String[] createEntities(final boolean attribute) {
+        final String[] result = new String[NBSP + 1];
+        for (int c = 0; c < SPACE; c++) {
+            result[c] = XML_AMPERSAND + "#" + c + ";";
+        }
+        result[XML_LT] = XML_AMPERSAND + "lt;";
+        result[XML_GT] = XML_AMPERSAND + "gt;";
+        result[XML_AMPERSAND] = XML_AMPERSAND + "amp;";
+        result[NBSP] = XML_AMPERSAND + "#" + (int) NBSP + ";";
+        if (attribute) {
+            result[XML_2QUOT] = XML_AMPERSAND + "quot;";
+        }
+        return result;
+    }
+
     /** Assign a no-cache and an Edge compatibility mode and returns a writer from HttpServletResponse */
     @NotNull
     public static Appendable createWriter(
             @NotNull final Object httpServletResponse,
             @NotNull final Charset charset,
             final boolean noCache
+    ) throws ReflectiveOperationException {
+        initResponse(httpServletResponse, charset, noCache);
+        final Method getWriter = httpServletResponse.getClass().getMethod("getWriter");
+        final Appendable writer = (Appendable) getWriter.invoke(httpServletResponse);
+        return writer;
+    }
+
+    /** Assign a charset, a content type and optionally a no-cache and an Edge compatibility mode to the HttpServletResponse */
+    static void initResponse(
+            @NotNull final Object httpServletResponse,
+            @NotNull final Charset charset,
+            final boolean noCache
     ) throws ReflectiveOperationException {
         final Method setEncoding = httpServletResponse.getClass().getMethod("setCharacterEncoding", String.class);
         final Method setHeader = httpServletResponse.getClass().getMethod("setHeader", String.class, String.class);
-        final Method getWriter = httpServletResponse.getClass().getMethod("getWriter");
         setEncoding.invoke(httpServletResponse, charset.toString());
         setHeader.invoke(httpServletResponse, "Content-Type", "text/html; charset=" + charset);
         if (noCache) {
@@ -270,8 +309,6 @@ public abstract class AbstractWriter {
             setHeader.invoke(httpServletResponse, "Expires", "0"); // Proxies
             setHeader.invoke(httpServletResponse, "X-UA-Compatible", "IE=edge"); // Proxies
         }
-        final Appendable writer = (Appendable) getWriter.invoke(httpServletResponse);
-        return writer;
     }
 
 //    IT IS A WRONG IDEA:
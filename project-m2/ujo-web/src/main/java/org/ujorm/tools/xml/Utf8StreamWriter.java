@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.xml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A writer encoding characters to the UTF-8 directly into a byte buffer of an OutputStream.
+ * The full buffer is written to the stream and the stream is flushed after the required count
+ * of bytes, so a large document reaches the client early. An optional GZIP compression is streamed
+ * with a synchronized flush. The buffers are shared by a pool without thread-local variables,
+ * so the writer is friendly to virtual threads.
+ * <br>Sample:
+ * <pre class="pre">
+ * try (Utf8StreamWriter writer = Utf8StreamWriter.ofServlet(response, true, true)) {
+ *     try (HtmlElement html = HtmlElement.of(writer, config)) {
+ *         html.getBody().addHeading("Hello!");
+ *     }
+ * }
+ * </pre>
+ * The instance is not thread safe.
+ * @author Pavel Ponec
+ * @since 2.30
+ */
+public class Utf8StreamWriter extends Writer {
+
+    /** A size of the pooled buffer */
+    public static final int BUFFER_SIZE = 8 * 1024;
+    /** The default count of bytes to flush the output stream */
+    public static final int FLUSH_THRESHOLD = 32 * 1024;
+    /** A maximal count of pooled buffers */
+    private static final int POOL_LIMIT = 64;
+    /** A replacement of an unpaired surrogate character */
+    private static final byte REPLACEMENT = '?';
+
+    /** Released buffers */
+    private static final Queue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+    /** A count of the pooled buffers */
+    private static final AtomicInteger POOL_SIZE = new AtomicInteger();
+
+    /** The target stream */
+    @NotNull
+    private final OutputStream out;
+    /** A count of bytes to flush the output stream */
+    private final int flushThreshold;
+    /** The current buffer or the {@code null} value after closing */
+    @Nullable
+    private byte[] buffer;
+    /** A position in the buffer */
+    private int position;
+    /** A count of bytes written since the last flush */
+    private int unflushed;
+    /** A high surrogate waiting for its low surrogate or zero */
+    private char highSurrogate;
+
+    /**
+     * Create a writer with the default flush threshold.
+     * @param out The target stream
+     * @param gzip Compress the output by GZIP
+     */
+    public Utf8StreamWriter(@NotNull final OutputStream out, final boolean gzip) throws IOException {
+        this(out, gzip, FLUSH_THRESHOLD);
+    }
+
+    /**
+     * Create a writer
+     * @param out The target stream
+     * @param gzip Compress the output by GZIP
+     * @param flushThreshold A count of bytes (before compression) to flush the output stream
+     */
+    public Utf8StreamWriter(@NotNull final OutputStream out, final boolean gzip, final int flushThreshold) throws IOException {
+        this.out = gzip ? new GZIPOutputStream(out, BUFFER_SIZE, true) : out;
+        this.flushThreshold = flushThreshold;
+        this.buffer = acquire();
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        final byte[] buf = getBuffer();
+        if (c < 0x80 && highSurrogate == 0 && position < buf.length) {
+            buf[position++] = (byte) c;
+        } else {
+            encode((char) c);
+        }
+    }
+
+    @Override
+    public void write(@NotNull final char[] chars, final int off, final int len) throws IOException {
+        final byte[] buf = getBuffer();
+        for (int i = off, end = off + len; i < end; i++) {
+            final char c = chars[i];
+            if (c < 0x80 && highSurrogate == 0 && position < buf.length) {
+                buf[position++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    @Override
+    public void write(@NotNull final String text, final int off, final int len) throws IOException {
+        write((CharSequence) text, off, off + len);
+    }
+
+    @Override
+    public Utf8StreamWriter append(@Nullable final CharSequence text) throws IOException {
+        final CharSequence value = text != null ? text : "null";
+        write(value, 0, value.length());
+        return this;
+    }
+
+    @Override
+    public Utf8StreamWriter append(@Nullable final CharSequence text, final int start, final int end) throws IOException {
+        write(text != null ? text : "null", start, end);
+        return this;
+    }
+
+    @Override
+    public Utf8StreamWriter append(final char c) throws IOException {
+        write(c);
+        return this;
+    }
+
+    /** Write a range of the text */
+    private void write(@NotNull final CharSequence text, final int start, final int end) throws IOException {
+        final byte[] buf = getBuffer();
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80 && highSurrogate == 0 && position < buf.length) {
+                buf[position++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    /** Encode one character including the surrogate pairs */
+    private void encode(final char c) throws IOException {
+        final byte[] buf = getBuffer();
+        if (position + 4 > buf.length) {
+            drain();
+        }
+        if (highSurrogate != 0) {
+            final char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(high, c);
+                buf[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            buf[position++] = REPLACEMENT;
+            encode(c);
+        } else if (c < 0x80) {
+            buf[position++] = (byte) c;
+        } else if (c < 0x800) {
+            buf[position++] = (byte) (0xC0 | (c >> 6));
+            buf[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buf[position++] = REPLACEMENT;
+        } else {
+            buf[position++] = (byte) (0xE0 | (c >> 12));
+            buf[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buf[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /** Write the buffer to the stream and flush the stream after the threshold */
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            unflushed += position;
+            position = 0;
+        }
+        if (unflushed >= flushThreshold) {
+            out.flush();
+            unflushed = 0;
+        }
+    }
+
+    /** Write the buffer and flush the stream */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+        unflushed = 0;
+    }
+
+    /** Write an unpaired surrogate, flush the buffer, finish the compression,
+     * close the stream and release the buffer to the pool.
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                encode((char) REPLACEMENT);
+            }
+            flush();
+            out.close();
+        } finally {
+            release(buffer);
+            buffer = null;
+        }
+    }
+
+    /** Returns the current buffer */
+    @NotNull
+    private byte[] getBuffer() throws IOException {
+        final byte[] result = buffer;
+        if (result == null) {
+            throw new IOException("The writer is closed");
+        }
+        if (position == result.length) {
+            drain();
+        }
+        return result;
+    }
+
+    // ---- STATIC METHOD(s) ---
+
+    /** Get a buffer from the pool or create a new one */
+    @NotNull
+    private static byte[] acquire() {
+        final byte[] result = POOL.poll();
+        if (result != null) {
+            POOL_SIZE.decrementAndGet();
+            return result;
+        }
+        return new byte[BUFFER_SIZE];
+    }
+
+    /** Return the buffer to the pool */
+    private static void release(@NotNull final byte[] buffer) {
+        if (POOL_SIZE.incrementAndGet() <= POOL_LIMIT) {
+            POOL.offer(buffer);
+        } else {
+            POOL_SIZE.decrementAndGet();
+        }
+    }
+
+    /**
+     * Assign the UTF-8 charset, headers and returns a writer to the output stream of the HttpServletResponse.
+     * The GZIP compression assigns the header {@code Content-Encoding}, check the header
+     * {@code Accept-Encoding} of the request before.
+     * @param httpServletResponse The response
+     * @param noCache Assign headers to disable a cache
+     * @param gzip Compress the output by GZIP
+     */
+    @NotNull
+    public static Utf8StreamWriter ofServlet(
+            @NotNull final Object httpServletResponse,
+            final boolean noCache,
+            final boolean gzip
+    ) throws IOException {
+        try {
+            AbstractWriter.initResponse(httpServletResponse, UTF_8, noCache);
+            if (gzip) {
+                final Method setHeader = httpServletResponse.getClass().getMethod("setHeader", String.class, String.class);
+                setHeader.invoke(httpServletResponse, "Content-Encoding", "gzip");
+            }
+            final Method getOutputStream = httpServletResponse.getClass().getMethod("getOutputStream");
+            return new Utf8StreamWriter((OutputStream) getOutputStream.invoke(httpServletResponse), gzip);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Response must be type of HttpServletResponse", e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.xml;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ujorm.tools.xml.config.XmlConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests and a benchmark of the text escaping of the AbstractWriter
+ * @author Pavel Ponec
+ */
+public class AbstractWriterBenchmarkTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractWriterBenchmarkTest.class);
+
+    private static final boolean RUN_BENCHMARK = false;
+
+    /** The escaping must be the same as the original escaping of single characters */
+    @Test
+    public void testWrite() throws IOException {
+        final StringBuilder text = new StringBuilder("Tom & Jerry <b>\"quoted\"</b> it's");
+        for (char c = 0; c < 400; c++) {
+            text.append(c);
+        }
+        text.append(AbstractWriter.NARROW_NBSP).append("end");
+
+        for (boolean attribute : new boolean[]{false, true}) {
+            final String expected = escapeByChar(text, attribute);
+            assertEquals(expected, escape(new StringBuilder(), text.toString(), attribute));
+            assertEquals(expected, escape(new StringBuilder(), text, attribute));
+            assertEquals(expected, escape(new StringWriter(), text.toString(), attribute));
+            assertEquals(expected, escape(new StringWriter(), text, attribute));
+            assertEquals(expected, escape(new AppendableWrapper(), text.toString(), attribute));
+        }
+        assertEquals("a&lt;b", escape(new StringBuilder(), "a<b", false));
+        assertEquals("", escape(new StringBuilder(), "", true));
+    }
+
+    /** Compare the escaping with the original one on a page content */
+    @Test
+    public void runBenchmark() throws IOException {
+        final int loops = RUN_BENCHMARK ? 20_000 : 2;
+        final String page = createPageContent();
+        final StringBuilder out = new StringBuilder(page.length() * 2);
+        final AbstractWriter writer = new AbstractWriter(out, XmlConfig.ofDefault()) {};
+
+        for (int warming = RUN_BENCHMARK ? 2 : 1; warming > 0; warming--) {
+            long start = System.nanoTime();
+            for (int i = 0; i < loops; i++) {
+                out.setLength(0);
+                escapeByChar(page, false, out);
+            }
+            final long original = System.nanoTime() - start;
+            final String expected = out.toString();
+
+            start = System.nanoTime();
+            for (int i = 0; i < loops; i++) {
+                out.setLength(0);
+                writer.write(page, false);
+            }
+            final long current = System.nanoTime() - start;
+            assertEquals(expected, out.toString());
+            LOGGER.info("Escaping of {} chars: original {} ms, current {} ms"
+                    , page.length(), original / 1_000_000, current / 1_000_000);
+        }
+    }
+
+    /** Escape the text by the AbstractWriter */
+    private static String escape(final Appendable out, final CharSequence text, final boolean attribute) throws IOException {
+        new AbstractWriter(out, XmlConfig.ofDefault()) {}.write(text, attribute);
+        return out.toString();
+    }
+
+    /** The original escaping of single characters */
+    private static String escapeByChar(final CharSequence text, final boolean attribute) {
+        final StringBuilder result = new StringBuilder();
+        escapeByChar(text, attribute, result);
+        return result.toString();
+    }
+
+    /** The original escaping of single characters */
+    private static void escapeByChar(final CharSequence text, final boolean attribute, final StringBuilder out) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append(attribute ? "&quot;" : "\"");
+                case AbstractWriter.NBSP -> out.append("&#160;");
+                case AbstractWriter.NARROW_NBSP -> out.append("&#8239;");
+                default -> {
+                    if (c >= ' ') {
+                        out.append(c);
+                    } else {
+                        out.append("&#").append((int) c).append(';');
+                    }
+                }
+            }
+        }
+    }
+
+    /** Create a content of a typical HTML page */
+    private static String createPageContent() {
+        final StringBuilder result = new StringBuilder(64_000);
+        for (int i = 0; i < 500; i++) {
+            result.append("Product ").append(i)
+                  .append(": Příliš žluťoučký kůň úpěl ďábelské ódy, price ")
+                  .append(i * 10).append(AbstractWriter.NBSP).append("CZK")
+                  .append(" & free delivery for orders > 1000 \"today\".");
+        }
+        return result.toString();
+    }
+
+    /** An appendable without a fast path */
+    private static final class AppendableWrapper implements Appendable {
+        private final StringBuilder out = new StringBuilder();
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            out.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            out.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            out.append(c);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+}
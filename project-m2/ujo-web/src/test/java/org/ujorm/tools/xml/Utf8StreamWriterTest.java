@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec, https://github.com/pponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.tools.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.ujorm.tools.web.AbstractHtmlElement;
+import org.ujorm.tools.xml.config.HtmlConfig;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests and a benchmark of the Utf8StreamWriter
+ * @author Pavel Ponec
+ */
+public class Utf8StreamWriterTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Utf8StreamWriterTest.class);
+
+    private static final boolean RUN_BENCHMARK = false;
+
+    /** The encoding must be the same as the encoding of the String */
+    @Test
+    public void testWrite() throws IOException {
+        final String text = createText();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Utf8StreamWriter writer = new Utf8StreamWriter(out, false, 100)) {
+            writer.append(text, 0, 10);
+            writer.write(text.toCharArray(), 10, 20);
+            writer.write(text, 30, text.length() - 30);
+            writer.append(new StringBuilder("\uD83D")).append('\uDE00');
+        }
+        assertArrayEquals((text + "😀").getBytes(UTF_8), out.toByteArray());
+
+        final Utf8StreamWriter closed = new Utf8StreamWriter(out, false);
+        closed.close();
+        assertThrows(IOException.class, () -> closed.write('x'));
+    }
+
+    /** Unpaired surrogates are replaced */
+    @Test
+    public void testSurrogates() throws IOException {
+        final String text = "a\uD83Db\uDE00c\uD83D";
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Utf8StreamWriter writer = new Utf8StreamWriter(out, false)) {
+            writer.append(text);
+        }
+        assertEquals("a?b?c?", out.toString(UTF_8));
+    }
+
+    /** Test of the GZIP compression */
+    @Test
+    public void testGzip() throws IOException {
+        final String text = createText();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Utf8StreamWriter writer = new Utf8StreamWriter(out, true)) {
+            writer.append(text);
+        }
+        try (GZIPInputStream inp = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(text, new String(inp.readAllBytes(), UTF_8));
+        }
+    }
+
+    /** Test of the servlet response */
+    @Test
+    public void testOfServlet() throws IOException {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        try (Utf8StreamWriter writer = Utf8StreamWriter.ofServlet(response, true, false)) {
+            printPage(writer, 3);
+        }
+        assertEquals("UTF-8", response.getCharacterEncoding());
+        assertEquals("no-cache, no-store, must-revalidate", response.getHeader("Cache-Control"));
+        assertEquals(printPage(new StringBuilder(), 3).toString(), response.getContentAsString());
+
+        final MockHttpServletResponse response2 = new MockHttpServletResponse();
+        try (Utf8StreamWriter writer = Utf8StreamWriter.ofServlet(response2, false, true)) {
+            printPage(writer, 3);
+        }
+        assertEquals("gzip", response2.getHeader("Content-Encoding"));
+    }
+
+    /** Compare the writer with a servlet-like PrintWriter */
+    @Test
+    public void runBenchmark() throws IOException {
+        final int rows = RUN_BENCHMARK ? 20_000 : 10;
+        final int loops = RUN_BENCHMARK ? 20 : 1;
+
+        for (int warming = RUN_BENCHMARK ? 2 : 1; warming > 0; warming--) {
+            long start = System.nanoTime();
+            for (int i = 0; i < loops; i++) {
+                try (Writer writer = new PrintWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), UTF_8))) {
+                    printPage(writer, rows);
+                }
+            }
+            final long printWriter = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < loops; i++) {
+                try (Writer writer = new Utf8StreamWriter(OutputStream.nullOutputStream(), false)) {
+                    printPage(writer, rows);
+                }
+            }
+            final long utf8Writer = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < loops; i++) {
+                try (Writer writer = new Utf8StreamWriter(OutputStream.nullOutputStream(), true)) {
+                    printPage(writer, rows);
+                }
+            }
+            final long gzipWriter = System.nanoTime() - start;
+            LOGGER.info("Page of {} rows: PrintWriter {} ms, Utf8StreamWriter {} ms, GZIP {} ms"
+                    , rows, printWriter / 1_000_000, utf8Writer / 1_000_000, gzipWriter / 1_000_000);
+        }
+    }
+
+    /** Print a table like the samples/servlet benchmark of stocks */
+    private static <T extends Appendable> T printPage(final T writer, final int rows) {
+        final HtmlConfig config = HtmlConfig.ofDefault().setTitle("Stock Prices");
+        try (var html = AbstractHtmlElement.of(writer, config)) {
+            try (var body = html.getBody()) {
+                body.addHeading("Stock Prices");
+                var table = body.addTable();
+                for (int i = 0; i < rows; i++) {
+                    var row = table.addElement("tr").setAttribute("class", i % 2 == 0 ? "odd" : "even");
+                    row.addElement("td").addText(i + 1);
+                    row.addElement("td").addElement("a").setAttribute("href", "/stocks/ABC" + i).addText("ABC" + i);
+                    row.addElement("td").addText("Příliš žluťoučký kůň & Co. <Ltd>");
+                    row.addElement("td").addElement("strong").addText(123.45 + i);
+                    row.addElement("td").setAttribute("class", i % 3 == 0 ? "minus" : null).addText(-1.5);
+                }
+            }
+        }
+        return writer;
+    }
+
+    /** Create a text over more buffers */
+    private static String createText() {
+        final StringBuilder result = new StringBuilder();
+        for (int i = 0; result.length() < 3 * Utf8StreamWriter.BUFFER_SIZE; i++) {
+            result.append(i).append(" ASCII, Příliš žluťoučký kůň, € 😀; ");
+        }
+        return result.toString();
+    }
+}
@@ -24,6 +24,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.ujorm.tools.web.AbstractHtmlElement;
 import org.ujorm.tools.web.Html;
+import org.ujorm.tools.web.HtmlElement;
 import org.ujorm.tools.xml.config.HtmlConfig;
 import org.ujorm.ujoservlet.benchmark.Stock;
 import org.ujorm.ujoservlet.benchmark.StockService;
@@ -42,7 +43,7 @@ public class UjoElementBenchmarkStock extends HttpServlet {
      */
     public static final String URL_PATTERN = "/ujoElementBenchmarkStock";
 
-    private static final HtmlConfig CONFIG = HtmlConfig.ofDefault().setTitle("Stock Prices");
+    protected static final HtmlConfig CONFIG = HtmlConfig.ofDefault().setTitle("Stock Prices");
 
     /**
      * Inline CSS
@@ -77,62 +78,66 @@ public class UjoElementBenchmarkStock extends HttpServlet {
      * <style type="text/css">...
      */
     public void stock(HttpServletResponse output) throws IOException, IllegalArgumentException {
-
         try (var html = AbstractHtmlElement.ofServlet(output, CONFIG)) {
-            try (var head = html.getHead()) {
-                head.addElement(Html.META)
-                        .setAttribute("http-equiv", "Content-Type")
-                        .setAttribute(Html.A_CONTENT, "text/html; charset=UTF-8");
-                head.addElement(Html.META)
-                        .setAttribute("http-equiv", "Content-Style-Type")
-                        .setAttribute(Html.A_CONTENT, "text/css");
-                head.addElement(Html.META)
-                        .setAttribute("Content-Script-Type", "text/javascript")
-                        .setAttribute(Html.A_CONTENT, "text/javascript");
-                head.addElement(Html.LINK)
-                        .setAttribute(Html.A_REL, "shortcut icon")
-                        .setAttribute(Html.A_CONTENT, "/images/favicon.ico");
-                head.addElement(Html.LINK)
-                        .setAttribute(Html.A_REL, "stylesheet")
-                        .setAttribute(Html.A_HREF, "benchmark.css")
-                        .setAttribute(Html.A_MEDIA, "all");
-                head.addElement(Html.SCRIPT)
-                        .setAttribute(Html.A_TYPE, "text/javascript")
-                        .setAttribute(Html.A_SRC, "/js/util.js");
-                head.addElement(Html.STYLE)
-                        .setAttribute(Html.A_TYPE, "text/css")
-                        .addRawText(STOCKS_CSS);
-            }
-            try (var body = html.getBody()) {
-                body.addElement(Html.H1).addText("Stock Prices");
-                var table = body.addElement(Html.TABLE);
+            printStock(html);
+        }
+    }
+
+    /** Print the stock page to the HTML element */
+    protected void printStock(HtmlElement html) {
+        try (var head = html.getHead()) {
+            head.addElement(Html.META)
+                    .setAttribute("http-equiv", "Content-Type")
+                    .setAttribute(Html.A_CONTENT, "text/html; charset=UTF-8");
+            head.addElement(Html.META)
+                    .setAttribute("http-equiv", "Content-Style-Type")
+                    .setAttribute(Html.A_CONTENT, "text/css");
+            head.addElement(Html.META)
+                    .setAttribute("Content-Script-Type", "text/javascript")
+                    .setAttribute(Html.A_CONTENT, "text/javascript");
+            head.addElement(Html.LINK)
+                    .setAttribute(Html.A_REL, "shortcut icon")
+                    .setAttribute(Html.A_CONTENT, "/images/favicon.ico");
+            head.addElement(Html.LINK)
+                    .setAttribute(Html.A_REL, "stylesheet")
+                    .setAttribute(Html.A_HREF, "benchmark.css")
+                    .setAttribute(Html.A_MEDIA, "all");
+            head.addElement(Html.SCRIPT)
+                    .setAttribute(Html.A_TYPE, "text/javascript")
+                    .setAttribute(Html.A_SRC, "/js/util.js");
+            head.addElement(Html.STYLE)
+                    .setAttribute(Html.A_TYPE, "text/css")
+                    .addRawText(STOCKS_CSS);
+        }
+        try (var body = html.getBody()) {
+            body.addElement(Html.H1).addText("Stock Prices");
+            var table = body.addElement(Html.TABLE);
+            {
+                var thead = table.addElement(Html.THEAD);
                 {
-                    var thead = table.addElement(Html.THEAD);
-                    {
-                        thead.addElement(Html.TH).addText("#");
-                        thead.addElement(Html.TH).addText("symbol");
-                        thead.addElement(Html.TH).addText("name");
-                        thead.addElement(Html.TH).addText("price");
-                        thead.addElement(Html.TH).addText("change");
-                        thead.addElement(Html.TH).addText("ratio");
-                    }
+                    thead.addElement(Html.TH).addText("#");
+                    thead.addElement(Html.TH).addText("symbol");
+                    thead.addElement(Html.TH).addText("name");
+                    thead.addElement(Html.TH).addText("price");
+                    thead.addElement(Html.TH).addText("change");
+                    thead.addElement(Html.TH).addText("ratio");
+                }
 
-                    final var stocks = dummyItems();
-                    for (int itemIndex = 0, max = stocks.size(); itemIndex < max; itemIndex++) {
-                        var stock = stocks.get(itemIndex);
-                        var row = table.addElement(Html.TR).setAttribute(Html.A_CLASS, itemIndex % 2 == 0 ? "odd" : "even");
-                        {
-                            row.addElement(Html.TD).addText(String.valueOf(itemIndex + 1));
-                            row.addElement(Html.TD).addElement(Html.A).setAttribute(Html.A_HREF, "/stocks/" + stock.getSymbol())
-                                    .addText(stock.getSymbol());
-                            row.addElement(Html.TD).addElement(Html.A).setAttribute(Html.A_HREF, stock.getUrl())
-                                    .addText(stock.getName());
-                            row.addElement(Html.TD).addElement("strong").addText(String.valueOf(stock.getPrice()));
-                            row.addElement(Html.TD).setAttribute(Html.A_CLASS, stock.getChange() < 0 ? "minus" : null)
-                                    .addText(String.valueOf(stock.getChange()));
-                            row.addElement(Html.TD).setAttribute(Html.A_CLASS, stock.getRatio() < 0 ? "minus" : null)
-                                    .addText(String.valueOf(stock.getRatio()));
-                        }
+                final var stocks = dummyItems();
+                for (int itemIndex = 0, max = stocks.size(); itemIndex < max; itemIndex++) {
+                    var stock = stocks.get(itemIndex);
+                    var row = table.addElement(Html.TR).setAttribute(Html.A_CLASS, itemIndex % 2 == 0 ? "odd" : "even");
+                    {
+                        row.addElement(Html.TD).addText(String.valueOf(itemIndex + 1));
+                        row.addElement(Html.TD).addElement(Html.A).setAttribute(Html.A_HREF, "/stocks/" + stock.getSymbol())
+                                .addText(stock.getSymbol());
+                        row.addElement(Html.TD).addElement(Html.A).setAttribute(Html.A_HREF, stock.getUrl())
+                                .addText(stock.getName());
+                        row.addElement(Html.TD).addElement("strong").addText(String.valueOf(stock.getPrice()));
+                        row.addElement(Html.TD).setAttribute(Html.A_CLASS, stock.getChange() < 0 ? "minus" : null)
+                                .addText(String.valueOf(stock.getChange()));
+                        row.addElement(Html.TD).setAttribute(Html.A_CLASS, stock.getRatio() < 0 ? "minus" : null)
+                                .addText(String.valueOf(stock.getRatio()));
                     }
                 }
             }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-2026 Pavel Ponec
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ujorm.ujoservlet.benchmark.element;
+
+import java.io.IOException;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.ujorm.tools.web.HtmlElement;
+import org.ujorm.tools.xml.Utf8StreamWriter;
+
+/**
+ * The same page as the {@link UjoElementBenchmarkStock}, but the HTML is encoded
+ * by the Utf8StreamWriter directly to the output stream of the response.
+ * The GZIP compression is used if the client accepts it.
+ * Compare the servlet with the {@code Dom4jBenchmarkStock} one.
+ *
+ * @author Pavel Ponec
+ */
+@WebServlet(UjoElementBufferedBenchmarkStock.URL_PATTERN)
+public class UjoElementBufferedBenchmarkStock extends UjoElementBenchmarkStock {
+
+    /**
+     * URL pattern
+     */
+    public static final String URL_PATTERN = "/ujoElementBufferedBenchmarkStock";
+
+    /**
+     * Handles the HTTP <code>GET</code> method.
+     *
+     * @param input servlet request
+     * @param output servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doGet(HttpServletRequest input, HttpServletResponse output) throws ServletException, IOException {
+        final String encoding = input.getHeader("Accept-Encoding");
+        final boolean gzip = encoding != null && encoding.contains("gzip");
+        try (var writer = Utf8StreamWriter.ofServlet(output, false, gzip);
+             var html = HtmlElement.of(writer, CONFIG)) {
+            printStock(html);
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+}